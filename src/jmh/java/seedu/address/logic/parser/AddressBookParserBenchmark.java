@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand(String)} for a typical input of every command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "addContact n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29 t/customer "
+                + "nts/Prefers window seats",
+        "addTrip n/Paris 2025 acc/Hotel 81 i/Eat baguettes d/12/6/2025 c/John Doe c/Jane Doe "
+                + "nts/Customer prefers window seat",
+        "editContact 1 p/91234567 e/johndoe@example.com",
+        "editTrip 1 acc/Grand Hyatt d/13/6/2025",
+        "deleteContact 1",
+        "deleteTrip 1",
+        "find alex david charlotte",
+        "listContact customer",
+        "listTrip 1/1/2025",
+        "clear",
+        "help",
+        "exit",
+        "metrics"
+    })
+    private String commandText;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures adding {@code inserts} contacts to an address book that already holds {@code existing} contacts, and
+ * having the UI follow: one by one, with one change per contact; one by one inside {@link AddressBook#batch}, with a
+ * single change; and with {@link AddressBook#addPersons}, which also checks for duplicates by hashing instead of
+ * scanning the list for each contact.
+ *
+ * The contact list is observed the way the UI observes it, through the {@code FilteredList} that
+ * {@code ModelManager} gives to the contact list panel. A {@code ListView} cannot be created without starting the
+ * JavaFX toolkit, so a listener stands in for it: like {@code ListViewSkin}, it does a fixed amount of work per change,
+ * reading the new item count and marking the layout as needing another pass.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AddressBookBatchBenchmark {
+
+    @Param({"10000"})
+    private int inserts;
+
+    @Param({"0", "10000"})
+    private int existing;
+
+    private List<Contact> contacts;
+    private AddressBook addressBook;
+    // Held here because a FilteredList only listens weakly to its source
+    private FilteredList<Contact> filteredContacts;
+    private int itemCount;
+    private int layoutPasses;
+
+    /**
+     * Generates the contacts already in the address book, followed by those to add.
+     */
+    @Setup(Level.Trial)
+    public void generateContacts() {
+        contacts = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED)
+                .generateContacts(existing + inserts);
+    }
+
+    /**
+     * Creates the address book and the list that the UI observes, anew for every invocation as each one fills them.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.setPersons(contacts.subList(0, existing));
+        filteredContacts = new FilteredList<>(addressBook.getPersonList(), Model.PREDICATE_SHOW_ALL_PERSONS);
+        layoutPasses = 0;
+        filteredContacts.addListener((ListChangeListener<Contact>) change -> {
+            itemCount = filteredContacts.size();
+            layoutPasses++;
+        });
+    }
+
+    /**
+     * Adds the contacts one by one, so the UI sees one change per contact.
+     */
+    @Benchmark
+    public int addOneByOne() {
+        for (Contact contact : contacts.subList(existing, existing + inserts)) {
+            addressBook.addPerson(contact);
+        }
+        return itemCount + layoutPasses;
+    }
+
+    /**
+     * Adds the contacts one by one inside a batch, so the UI sees a single change.
+     */
+    @Benchmark
+    public int addInBatch() {
+        addressBook.batch(() -> {
+            for (Contact contact : contacts.subList(existing, existing + inserts)) {
+                addressBook.addPerson(contact);
+            }
+        });
+        return itemCount + layoutPasses;
+    }
+
+    /**
+     * Adds the contacts all at once, so the UI sees a single change.
+     */
+    @Benchmark
+    public int addPersons() {
+        addressBook.addPersons(contacts.subList(existing, existing + inserts));
+        return itemCount + layoutPasses;
+    }
+}
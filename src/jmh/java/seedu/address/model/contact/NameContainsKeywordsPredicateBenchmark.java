@@ -0,0 +1,52 @@
+package seedu.address.model.contact;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures filtering a list of contacts with {@link NameContainsKeywordsPredicate}, as {@code find} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"alex", "alex david charlotte roy"})
+    private String keywords;
+
+    private List<Contact> contacts;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contacts = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).generateContacts(size);
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList(keywords.split(" ")));
+    }
+
+    @Benchmark
+    public long filter() {
+        return contacts.stream().filter(predicate).count();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.contact;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures the basic operations of {@link UniquePersonList} as the list grows.
+ * Lookups use a contact that is not in the list, which is the worst case for the linear scans.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Contact> contacts;
+    private UniquePersonList uniquePersonList;
+    private Contact existing;
+    private Contact absent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contacts = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED).generateContacts(size + 1);
+        absent = contacts.remove(size);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(contacts);
+        existing = contacts.get(size / 2);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return uniquePersonList.contains(absent);
+    }
+
+    /**
+     * Adds a new contact and removes it again so that the list keeps its size between invocations.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        uniquePersonList.add(absent);
+        uniquePersonList.remove(absent);
+    }
+
+    /**
+     * Replaces a contact in the middle of the list and then restores it.
+     */
+    @Benchmark
+    public void setPerson() {
+        uniquePersonList.setPerson(existing, absent);
+        uniquePersonList.setPerson(absent, existing);
+    }
+
+    @Benchmark
+    public void setPersons() {
+        uniquePersonList.setPersons(contacts);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.trip;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures constructing a {@link TripDate}, which validates and parses its input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TripDateBenchmark {
+
+    @Param({"12/6/2025", "31/12/2099"})
+    private String date;
+
+    @Benchmark
+    public TripDate construct() {
+        return new TripDate(date);
+    }
+
+    @Benchmark
+    public boolean isValidTripDate_invalid() {
+        return TripDate.isValidTripDate("30/2/2025");
+    }
+}
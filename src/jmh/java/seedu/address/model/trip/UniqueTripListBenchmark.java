@@ -0,0 +1,78 @@
+package seedu.address.model.trip;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures the basic operations of {@link UniqueTripList} as the list grows.
+ * Lookups use a trip that is not in the list, which is the worst case for the linear scans.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueTripListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Trip> trips;
+    private UniqueTripList uniqueTripList;
+    private Trip existing;
+    private Trip absent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        trips = generator.generateTrips(size + 1, generator.generateContacts(1000));
+        absent = trips.remove(size);
+        uniqueTripList = new UniqueTripList();
+        uniqueTripList.setTrips(trips);
+        existing = trips.get(size / 2);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return uniqueTripList.contains(absent);
+    }
+
+    /**
+     * Adds a new trip and removes it again so that the list keeps its size between invocations.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        uniqueTripList.add(absent);
+        uniqueTripList.remove(absent);
+    }
+
+    /**
+     * Replaces a trip in the middle of the list and then restores it.
+     */
+    @Benchmark
+    public void setTrip() {
+        uniqueTripList.setTrip(existing, absent);
+        uniqueTripList.setTrip(absent, existing);
+    }
+
+    @Benchmark
+    public void setTrips() {
+        uniqueTripList.setTrips(trips);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures saving and loading the data files at each {@code dataCompressionLevel}, where 0 is plain JSON. Saving
+ * always writes the file, as a save does when the book has changed. The size of each file is printed when it is
+ * first written, since that is what costs time on a slow or network drive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataCompressionBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"0", "1", "6", "9"})
+    private int level;
+
+    private final JsonContactCodec contactCodec = new JsonContactCodec();
+    private final JsonTripCodec tripCodec = new JsonTripCodec();
+    private Path folder;
+    private Path addressBookFile;
+    private Path tripBookFile;
+    private List<Contact> contacts;
+    private List<Trip> trips;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        ReadOnlyAddressBook addressBook = generator.generateAddressBook(size);
+        contacts = addressBook.getPersonList();
+        trips = generator.generateTripBook(size, addressBook).getTripList();
+        folder = Files.createTempDirectory("compression");
+        addressBookFile = folder.resolve("addressbook.json");
+        tripBookFile = folder.resolve("tripbook.json");
+        saveAddressBook();
+        saveTripBook();
+        System.out.printf("%n%d contacts and trips at level %d: addressbook.json %,d bytes, tripbook.json %,d bytes%n",
+                size, level, Files.size(addressBookFile), Files.size(tripBookFile));
+    }
+
+    /**
+     * Deletes the files written by the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(addressBookFile);
+        Files.deleteIfExists(tripBookFile);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Path saveAddressBook() throws Exception {
+        return Files.write(addressBookFile, DataCompression.compress(contactCodec.writeList(contacts), level));
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> loadAddressBook() throws Exception {
+        return new JsonAddressBookStorage(addressBookFile).readAddressBook();
+    }
+
+    @Benchmark
+    public Path saveTripBook() throws Exception {
+        return Files.write(tripBookFile, DataCompression.compress(tripCodec.writeList(trips), level));
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyTripBook> loadTripBook() throws Exception {
+        return new JsonTripBookStorage(tripBookFile).readTripBook();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures converting whole address and trip books to and from JSON with the streaming {@link JsonCodec}s, on the
+ * same books as {@link JsonUtilBenchmark} so that the two can be compared. Serialization includes encoding to UTF-8
+ * and deserialization includes the conversion to model types, as done when the app saves and loads its data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private final JsonContactCodec contactCodec = new JsonContactCodec();
+    private final JsonTripCodec tripCodec = new JsonTripCodec();
+    private ReadOnlyAddressBook addressBook;
+    private ReadOnlyTripBook tripBook;
+    private byte[] contactsJson;
+    private byte[] tripsJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        addressBook = generator.generateAddressBook(size);
+        tripBook = generator.generateTripBook(size, addressBook);
+        contactsJson = contactCodec.writeList(addressBook.getPersonList());
+        tripsJson = tripCodec.writeList(tripBook.getTripList());
+    }
+
+    @Benchmark
+    public byte[] serializeAddressBook() throws Exception {
+        return contactCodec.writeList(addressBook.getPersonList());
+    }
+
+    @Benchmark
+    public AddressBook deserializeAddressBook() throws Exception {
+        return JsonSerializableAddressBook.toModelType(contactCodec.readList(new ByteArrayInputStream(contactsJson)));
+    }
+
+    @Benchmark
+    public byte[] serializeTripBook() throws Exception {
+        return tripCodec.writeList(tripBook.getTripList());
+    }
+
+    @Benchmark
+    public TripBook deserializeTripBook() throws Exception {
+        return JsonSerializableTripBook.toModelType(tripCodec.readList(new ByteArrayInputStream(tripsJson)));
+    }
+}
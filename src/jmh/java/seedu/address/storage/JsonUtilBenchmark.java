@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures converting whole address and trip books to and from JSON with {@link JsonUtil}.
+ * Deserialization includes the conversion back to model types, as done when the app loads its data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ReadOnlyAddressBook addressBook;
+    private ReadOnlyTripBook tripBook;
+    private String addressBookJson;
+    private String tripBookJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED);
+        addressBook = generator.generateAddressBook(size);
+        tripBook = generator.generateTripBook(size, addressBook);
+        addressBookJson = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        tripBookJson = JsonUtil.toJsonString(new JsonSerializableTripBook(tripBook));
+    }
+
+    @Benchmark
+    public String serializeAddressBook() throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+
+    @Benchmark
+    public AddressBook deserializeAddressBook() throws Exception {
+        return JsonUtil.fromJsonString(addressBookJson, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    @Benchmark
+    public String serializeTripBook() throws Exception {
+        return JsonUtil.toJsonString(new JsonSerializableTripBook(tripBook));
+    }
+
+    @Benchmark
+    public TripBook deserializeTripBook() throws Exception {
+        return JsonUtil.fromJsonString(tripBookJson, JsonSerializableTripBook.class).toModelType();
+    }
+}
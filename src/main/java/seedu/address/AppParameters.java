@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private boolean isCdsTraining;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,18 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns true if this launch is a training run for a class data sharing archive, which runs a fixed set of
+     * commands and then exits.
+     */
+    public boolean isCdsTraining() {
+        return isCdsTraining;
+    }
+
+    public void setCdsTraining(boolean isCdsTraining) {
+        this.isCdsTraining = isCdsTraining;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +53,7 @@ public class AppParameters {
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setCdsTraining(Boolean.parseBoolean(namedParameters.get("cdsTraining")));
 
         return appParameters;
     }
@@ -56,18 +70,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && isCdsTraining == otherAppParameters.isCdsTraining;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, isCdsTraining);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("isCdsTraining", isCdsTraining)
                 .toString();
     }
 }
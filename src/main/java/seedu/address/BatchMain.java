@@ -0,0 +1,145 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.batch.BatchRunner;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * The entry point for running a script of commands without the GUI, e.g. to import thousands of contacts and trips.
+ *
+ * The commands run against the same data files as the app, found through the same config and preferences files.
+ * Unlike the app, a data file that cannot be read is never replaced: the script is not run at all.
+ * The outcome of every command is printed as it runs, followed by a summary of the throughput.
+ */
+public class BatchMain {
+
+    public static final String MESSAGE_USAGE = "Usage: BatchMain [--script FILE] [--config FILE] "
+            + "[--save-every COUNT] [--stop-on-error]\n"
+            + "Runs the commands in FILE, one per line, or those read from standard input if FILE is - or not given. "
+            + "Blank lines and lines starting with " + BatchRunner.COMMENT_PREFIX + " are skipped. "
+            + "The data is saved every COUNT successful commands, and at the end.";
+
+    public static final String MESSAGE_LOAD_FAILURE =
+            "Could not read %1$s or the preferences and data files it names, so no commands were run: %2$s";
+
+    /**
+     * Runs the script and exits with status 0 if every command succeeded, 1 if any command or save failed, and 2 if
+     * the script could not be run at all. Run with {@code --help} to see the options.
+     */
+    public static void main(String[] args) throws IOException {
+        PrintWriter output = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        int status = run(args, output);
+        output.flush();
+        System.exit(status);
+    }
+
+    /**
+     * Runs the script for the given command line arguments, writing to {@code output}, and returns the exit status.
+     */
+    static int run(String[] args, PrintWriter output) throws IOException {
+        Path scriptPath = null;
+        Path configPath = Config.DEFAULT_CONFIG_FILE;
+        int saveInterval = 0;
+        boolean isStopOnError = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--stop-on-error")) {
+                isStopOnError = true;
+                continue;
+            }
+            if (option.equals("--help") || i + 1 == args.length) {
+                output.println(MESSAGE_USAGE);
+                return 2;
+            }
+            String value = args[++i];
+            switch (option) {
+            case "--script":
+                scriptPath = value.equals("-") ? null : Paths.get(value);
+                break;
+            case "--config":
+                configPath = Paths.get(value);
+                break;
+            case "--save-every":
+                try {
+                    saveInterval = Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    output.println(MESSAGE_USAGE);
+                    return 2;
+                }
+                break;
+            default:
+                output.println(MESSAGE_USAGE);
+                return 2;
+            }
+        }
+        if (saveInterval < 0) {
+            output.println(MESSAGE_USAGE);
+            return 2;
+        }
+
+        LogicManager logic;
+        try {
+            logic = createLogic(configPath);
+        } catch (DataLoadingException e) {
+            output.println(String.format(MESSAGE_LOAD_FAILURE, configPath, e.getMessage()));
+            return 2;
+        }
+
+        BatchRunner.Result result;
+        try (BufferedReader script = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            result = new BatchRunner(logic, saveInterval, isStopOnError).run(script, output);
+        }
+        output.println(result.formatSummary());
+        return result.isSuccessful() ? 0 : 1;
+    }
+
+    /**
+     * Returns a {@code LogicManager} over the data files named by the config file at {@code configPath} and the
+     * preferences file it names. Missing files are treated as empty, but unreadable ones are not.
+     */
+    private static LogicManager createLogic(Path configPath) throws DataLoadingException {
+        Config config = ConfigUtil.readConfig(configPath).orElseGet(Config::new);
+        // Logging every command would slow down large scripts, and the outcome of each is printed anyway
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        Storage storage = StorageManager.create(config, userPrefsStorage, userPrefs);
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+        ReadOnlyTripBook tripBook = storage.readTripBook().orElseGet(TripBook::new);
+
+        CommandMetrics commandMetrics = new CommandMetrics();
+        commandMetrics.setSlowCommandThresholdMillis(config.getSlowCommandThresholdMillis());
+        return new LogicManager(new ModelManager(addressBook, tripBook, userPrefs), storage, commandMetrics);
+    }
+}
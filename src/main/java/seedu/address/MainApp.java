@@ -2,33 +2,41 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimeline;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.export.ExportTask;
+import seedu.address.logic.metrics.MetricsCenter;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTripBook;
-import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TripBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.DataLoadingUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonTripBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
-import seedu.address.storage.TripBookStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -41,6 +49,28 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 3, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final AtomicInteger LOADER_THREAD_COUNT = new AtomicInteger();
+    private static final long EXPORT_TIMEOUT_SECONDS = 30;
+    /** How many months before the current one the trips shown before the rest of the trip book loads go back. */
+    private static final int RECENT_TRIP_MONTHS = 3;
+
+    /**
+     * Run by a class data sharing training launch, to load the classes a typical session needs. Ends with exit.
+     */
+    private static final List<String> CDS_TRAINING_COMMANDS = List.of(
+            "listContact",
+            "find alex",
+            "addContact n/Training Run p/91234567 e/training@example.com a/Blk 1 Training Street t/customer",
+            "editContact 1 p/98765432",
+            "listTrip",
+            "addTrip n/Training Trip acc/Grand Hyatt Tokyo i/Day 1 City walking tour d/1/1/2030 nts/Training run",
+            "editTrip 1 acc/Marriott Seoul",
+            "listTrip 1/1/2030",
+            "deleteTrip 999",
+            "deleteContact 1",
+            "metrics",
+            "help",
+            "exit");
 
     protected Ui ui;
     protected Logic logic;
@@ -48,37 +78,84 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private StartupTimeline startupTimeline;
+    private final CompletableFuture<Void> uiStarted = new CompletableFuture<>();
+    private final CompletableFuture<Void> dataLoaded = new CompletableFuture<>();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
+        startupTimeline = new StartupTimeline();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = startupTimeline.call("config", () -> initConfig(appParameters.getConfigPath()));
         initLogging(config);
+        MetricsCenter.init(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        TripBookStorage tripBookStorage = new JsonTripBookStorage(userPrefs.getTripBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, tripBookStorage);
+        UserPrefs userPrefs = startupTimeline.call("preferences", () -> initPrefs(userPrefsStorage));
+        storage = StorageManager.create(config, userPrefsStorage, userPrefs);
 
-        model = initModelManager(storage, userPrefs);
+        // The books load in parallel with each other and with the UI, which JavaFX starts once init returns. The
+        // recent trips are read on their own as well, if the storage can, to be shown while the rest loads.
+        ExecutorService loadingExecutor = Executors.newFixedThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "data-loader-" + LOADER_THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        YearMonth recentMonth = YearMonth.now().minusMonths(RECENT_TRIP_MONTHS);
+        CompletableFuture<Optional<ReadOnlyTripBook>> recentTripData = CompletableFuture.supplyAsync(() ->
+                startupTimeline.call("load recent trips", () -> DataLoadingUtil.loadTripsSince(storage, recentMonth)),
+                loadingExecutor);
+        CompletableFuture<ReadOnlyAddressBook> initialData = CompletableFuture.supplyAsync(() ->
+                startupTimeline.call("load address book", () -> DataLoadingUtil.loadAddressBook(storage)),
+                loadingExecutor);
+        CompletableFuture<ReadOnlyTripBook> initialTripData = CompletableFuture.supplyAsync(() ->
+                startupTimeline.call("load trip book", () -> DataLoadingUtil.loadTripBook(storage)),
+                loadingExecutor);
+        loadingExecutor.shutdown();
 
+        // Starts empty, and is filled by the UI's first task on the command thread, before any command runs
+        model = new ModelManager(new AddressBook(), new TripBook(), userPrefs);
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        Runnable recentTripLoader = () -> showRecentTrips(recentTripData.join(), initialTripData);
+        Runnable dataLoader = () -> fillModel(initialData.join(), initialTripData.join());
+        ui = new UiManager(logic, List.of(recentTripLoader, dataLoader));
+        CompletableFuture.allOf(uiStarted, dataLoaded).thenRun(() -> {
+            logger.info(startupTimeline.format());
+            if (appParameters.isCdsTraining()) {
+                logger.info("Running class data sharing training commands");
+                Platform.runLater(() -> ui.runCommands(CDS_TRAINING_COMMANDS));
+            }
+        });
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Puts {@code recentTripData} in the model's empty trip book to be shown while the rest of the trip book loads,
+     * unless there is none or the whole trip book has already loaded as {@code initialTripData}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        ReadOnlyAddressBook initialData = DataLoadingUtil.loadAddressBook(storage);
-        ReadOnlyTripBook initialTripData = DataLoadingUtil.loadTripBook(storage);
-        return new ModelManager(initialData, initialTripData, userPrefs);
+    private void showRecentTrips(Optional<ReadOnlyTripBook> recentTripData,
+            CompletableFuture<ReadOnlyTripBook> initialTripData) {
+        if (recentTripData.isPresent() && !initialTripData.isDone()) {
+            startupTimeline.run("show recent trips", () -> model.setTripBook(recentTripData.get()));
+        }
+    }
+
+    /**
+     * Replaces the model's empty books with {@code initialData} and {@code initialTripData}. <br>
+     * The data from the sample books will have been loaded instead if {@code storage}'s books are not found,
+     * or empty books if errors occur when reading {@code storage}'s books.
+     */
+    private void fillModel(ReadOnlyAddressBook initialData, ReadOnlyTripBook initialTripData) {
+        startupTimeline.run("fill model", () -> {
+            model.setAddressBook(initialData);
+            model.setTripBook(initialTripData);
+            model.clearHistory();
+        });
+        MetricsCenter.saveTraceSnapshot(model.getAddressBook(), model.getTripBook());
+        dataLoaded.complete(null);
     }
 
     private void initLogging(Config config) {
@@ -115,7 +192,8 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
+        //Update config file in case it was missing to begin with or there are new/unused fields.
+        //The file is only written if its content differs.
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
         } catch (IOException e) {
@@ -146,7 +224,8 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        //Update prefs file in case it was missing to begin with or there are new/unused fields.
+        //The file is only written if its content differs.
         try {
             storage.saveUserPrefs(initializedPrefs);
         } catch (IOException e) {
@@ -159,16 +238,26 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
-        ui.start(primaryStage);
+        startupTimeline.run("start UI", () -> ui.start(primaryStage));
+        uiStarted.complete(null);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        ui.stop();
+        try {
+            if (!ExportTask.awaitAll(EXPORT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Stopped before the exports in progress finished");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        MetricsCenter.stop();
     }
 }
@@ -17,6 +17,12 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long slowCommandThresholdMillis = 500;
+    private Path metricsFilePath = null;
+    private Path traceFilePath = null;
+    private boolean binarySnapshotEnabled = false;
+    private int dataCompressionLevel = 0;
+    private boolean tripPartitioningEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +40,68 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSlowCommandThresholdMillis() {
+        return slowCommandThresholdMillis;
+    }
+
+    public void setSlowCommandThresholdMillis(long slowCommandThresholdMillis) {
+        this.slowCommandThresholdMillis = slowCommandThresholdMillis;
+    }
+
+    /**
+     * Returns the file that command metrics are written to on exit, or null if they should not be written.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public Path getTraceFilePath() {
+        return traceFilePath;
+    }
+
+    public void setTraceFilePath(Path traceFilePath) {
+        this.traceFilePath = traceFilePath;
+    }
+
+    /**
+     * Returns true if the data files should be kept with a binary snapshot next to them, which loads faster.
+     */
+    public boolean isBinarySnapshotEnabled() {
+        return binarySnapshotEnabled;
+    }
+
+    public void setBinarySnapshotEnabled(boolean binarySnapshotEnabled) {
+        this.binarySnapshotEnabled = binarySnapshotEnabled;
+    }
+
+    /**
+     * Returns the level, from 1 (fastest) to 9 (smallest), at which the data files are compressed, or 0 if they
+     * should be stored as plain JSON.
+     */
+    public int getDataCompressionLevel() {
+        return dataCompressionLevel;
+    }
+
+    public void setDataCompressionLevel(int dataCompressionLevel) {
+        this.dataCompressionLevel = dataCompressionLevel;
+    }
+
+    /**
+     * Returns true if the trips should be stored in a file for each month, so that saving a change to the trips
+     * rewrites only the months it touched.
+     */
+    public boolean isTripPartitioningEnabled() {
+        return tripPartitioningEnabled;
+    }
+
+    public void setTripPartitioningEnabled(boolean tripPartitioningEnabled) {
+        this.tripPartitioningEnabled = tripPartitioningEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +115,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && slowCommandThresholdMillis == otherConfig.slowCommandThresholdMillis
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && Objects.equals(traceFilePath, otherConfig.traceFilePath)
+                && binarySnapshotEnabled == otherConfig.binarySnapshotEnabled
+                && dataCompressionLevel == otherConfig.dataCompressionLevel
+                && tripPartitioningEnabled == otherConfig.tripPartitioningEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, slowCommandThresholdMillis, metricsFilePath,
+                traceFilePath, binarySnapshotEnabled, dataCompressionLevel, tripPartitioningEnabled);
     }
 
     @Override
@@ -60,6 +135,12 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("slowCommandThresholdMillis", slowCommandThresholdMillis)
+                .add("metricsFilePath", metricsFilePath)
+                .add("traceFilePath", traceFilePath)
+                .add("binarySnapshotEnabled", binarySnapshotEnabled)
+                .add("dataCompressionLevel", dataCompressionLevel)
+                .add("tripPartitioningEnabled", tripPartitioningEnabled)
                 .toString();
     }
 
@@ -0,0 +1,127 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records when each stage of the application's startup began and ended, and on which thread, so that stages running
+ * in parallel can be told apart from stages waiting on each other. Stages may be recorded from any thread.
+ */
+public class StartupTimeline {
+
+    private final long startNanos;
+    private final List<Stage> stages = new ArrayList<>();
+
+    /**
+     * Creates a timeline whose times are measured from now.
+     */
+    public StartupTimeline() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs {@code work} on the current thread, recording it as the stage {@code stageName}, and returns its result.
+     * The stage is recorded even if {@code work} throws.
+     */
+    public <T> T call(String stageName, Supplier<T> work) {
+        requireNonNull(stageName);
+        requireNonNull(work);
+        long stageStartNanos = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            add(new Stage(stageName, Thread.currentThread().getName(),
+                    stageStartNanos - startNanos, System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * Runs {@code work} on the current thread, recording it as the stage {@code stageName}.
+     * The stage is recorded even if {@code work} throws.
+     */
+    public void run(String stageName, Runnable work) {
+        requireNonNull(work);
+        call(stageName, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private synchronized void add(Stage stage) {
+        stages.add(stage);
+    }
+
+    /**
+     * Returns the stages recorded so far, in the order they began.
+     */
+    public synchronized List<Stage> getStages() {
+        List<Stage> sortedStages = new ArrayList<>(stages);
+        sortedStages.sort(Comparator.comparingLong(Stage::getStartNanos));
+        return sortedStages;
+    }
+
+    /**
+     * Returns the recorded stages as a table, one stage per line, for logging.
+     */
+    public String format() {
+        List<Stage> sortedStages = getStages();
+        int nameWidth = sortedStages.stream().mapToInt(stage -> stage.getName().length()).max().orElse(0);
+
+        StringBuilder builder = new StringBuilder("Startup timeline (ms since startup began):");
+        long endNanos = 0;
+        for (Stage stage : sortedStages) {
+            builder.append(String.format("%n  %-" + nameWidth + "s %8.1f -> %8.1f  %8.1f  [%s]", stage.getName(),
+                    toMillis(stage.getStartNanos()), toMillis(stage.getEndNanos()),
+                    toMillis(stage.getDurationNanos()), stage.getThreadName()));
+            endNanos = Math.max(endNanos, stage.getEndNanos());
+        }
+        builder.append(String.format("%nStartup took %.1f ms", toMillis(endNanos)));
+        return builder.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * One stage of startup. Times are measured from the start of the timeline.
+     */
+    public static class Stage {
+        private final String name;
+        private final String threadName;
+        private final long startNanos;
+        private final long endNanos;
+
+        private Stage(String name, String threadName, long startNanos, long endNanos) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        public long getDurationNanos() {
+            return endNanos - startNanos;
+        }
+    }
+}
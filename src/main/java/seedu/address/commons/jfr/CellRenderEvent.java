@@ -0,0 +1,33 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the update of a single list cell in the UI.
+ */
+@Name("seedu.address.CellRender")
+@Label("List Cell Render")
+@Category({"TravelHub", "UI"})
+@Description("Update of a single list cell in the contact or trip list")
+@StackTrace(false)
+public class CellRenderEvent extends Event {
+
+    @Label("List")
+    private String list;
+
+    @Label("Index")
+    private int index;
+
+    public void setList(String list) {
+        this.list = list;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+}
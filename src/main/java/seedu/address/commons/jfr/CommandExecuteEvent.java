@@ -0,0 +1,26 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the execution of a parsed {@code Command} against the model.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"TravelHub", "Logic"})
+@Description("Execution of a parsed command against the model")
+@StackTrace(false)
+public class CommandExecuteEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the parsing of a user command into a {@code Command}.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"TravelHub", "Logic"})
+@Description("Parsing of a user command")
+@StackTrace(false)
+public class CommandParseEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the loading of an address book or trip book at startup.
+ */
+@Name("seedu.address.DataLoad")
+@Label("Data Load")
+@Category({"TravelHub", "Storage"})
+@Description("Loading of an address book or trip book at startup")
+@StackTrace(false)
+public class DataLoadEvent extends Event {
+
+    @Label("Book")
+    private String book;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Record Count")
+    private int recordCount;
+
+    public void setBook(String book) {
+        this.book = book;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+}
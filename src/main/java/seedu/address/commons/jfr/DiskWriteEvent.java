@@ -0,0 +1,43 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering a write of a data file to disk, or the check that found the write unnecessary.
+ */
+@Name("seedu.address.DiskWrite")
+@Label("Disk Write")
+@Category({"TravelHub", "Storage"})
+@Description("Write of a data file to disk")
+@StackTrace(false)
+public class DiskWriteEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytes;
+
+    @Label("Skipped")
+    @Description("The file already held the same content, so nothing was written")
+    private boolean isSkipped;
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setSkipped(boolean isSkipped) {
+        this.isSkipped = isSkipped;
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the conversion of an address book or trip book into its file format.
+ */
+@Name("seedu.address.Serialize")
+@Label("Book Serialization")
+@Category({"TravelHub", "Storage"})
+@Description("Conversion of an address book or trip book into its file format")
+@StackTrace(false)
+public class SerializeEvent extends Event {
+
+    @Label("Book")
+    private String book;
+
+    @Label("Record Count")
+    private int recordCount;
+
+    @Label("Serialized Size")
+    @DataAmount
+    private long size;
+
+    public void setBook(String book) {
+        this.book = book;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time, so a file of any size can be read in constant memory.
+ *
+ * Fields may be quoted with {@code "}, in which case they can hold commas, line breaks and quotes, written as
+ * {@code ""}. Records end with {@code \n}, {@code \r\n} or {@code \r}. A byte order mark at the start is skipped.
+ * Quotes in the middle of an unquoted field are kept as they are, and a quoted field that is never closed runs to
+ * the end of the input.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int END = -1;
+
+    private final Reader source;
+    private int nextChar;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+
+    /**
+     * Creates a reader of the records in {@code source}. {@code source} should be buffered, as it is read one
+     * character at a time.
+     */
+    public CsvReader(Reader source) throws IOException {
+        requireNonNull(source);
+        this.source = source;
+        nextChar = source.read();
+        if (nextChar == BYTE_ORDER_MARK) {
+            nextChar = source.read();
+        }
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * A blank line is returned as a record of one empty field.
+     */
+    public List<String> readRecord() throws IOException {
+        if (nextChar == END) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        boolean isFieldStart = true;
+        while (nextChar != END) {
+            char c = (char) nextChar;
+            advance();
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    appendCounting(field, c);
+                } else if (nextChar == QUOTE) {
+                    field.append(QUOTE);
+                    advance();
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE && isFieldStart) {
+                isQuoted = true;
+                isFieldStart = false;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                isFieldStart = true;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && nextChar == '\n') {
+                    advance();
+                }
+                lineNumber++;
+                break;
+            } else {
+                field.append(c);
+                isFieldStart = false;
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns the line of the input, counting from 1, that the record last returned by {@link #readRecord()}
+     * starts on. Records with quoted line breaks span several lines.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private void advance() throws IOException {
+        nextChar = source.read();
+    }
+
+    /**
+     * Appends {@code c}, a character inside a quoted field, to {@code field}, counting the line breaks in it.
+     */
+    private void appendCounting(StringBuilder field, char c) {
+        if (c == '\n' || (c == '\r' && nextChar != '\n')) {
+            lineNumber++;
+        }
+        field.append(c);
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes comma-separated values one record at a time, in the form read by {@link CsvReader}.
+ *
+ * Fields are quoted only if they need to be: if they hold a comma, a quote or a line break, or start or end with
+ * a space.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer destination;
+
+    /**
+     * Creates a writer of records to {@code destination}, which should be buffered.
+     */
+    public CsvWriter(Writer destination) {
+        requireNonNull(destination);
+        this.destination = destination;
+    }
+
+    /**
+     * Writes {@code fields} as one record.
+     */
+    public void writeRecord(List<String> fields) throws IOException {
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                destination.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        destination.write(LINE_SEPARATOR);
+    }
+
+    private void writeField(String field) throws IOException {
+        if (!needsQuotes(field)) {
+            destination.write(field);
+            return;
+        }
+        destination.write('"');
+        destination.write(field.replace("\"", "\"\""));
+        destination.write('"');
+    }
+
+    private static boolean needsQuotes(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return field.charAt(0) == ' ' || field.charAt(field.length() - 1) == ' ';
+    }
+
+    @Override
+    public void flush() throws IOException {
+        destination.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        destination.close();
+    }
+}
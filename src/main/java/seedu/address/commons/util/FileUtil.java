@@ -5,6 +5,9 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+
+import seedu.address.commons.jfr.DiskWriteEvent;
 
 /**
  * Writes and reads files
@@ -77,7 +80,55 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        DiskWriteEvent writeEvent = new DiskWriteEvent();
+        writeEvent.begin();
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        commit(writeEvent, file, bytes.length, false);
+    }
+
+    /**
+     * Writes given string to a file, unless the file already holds exactly that string.
+     * Will create the file if it does not exist yet.
+     * Comparing is cheaper than writing: the file is only read if its size matches, and reads need no sync to disk.
+     *
+     * @return true if the file was written, false if it was left untouched.
+     */
+    public static boolean writeToFileIfChanged(Path file, String content) throws IOException {
+        return writeToFileIfChanged(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Similar to {@link #writeToFileIfChanged(Path, String)}, for content that is already encoded.
+     */
+    public static boolean writeToFileIfChanged(Path file, byte[] bytes) throws IOException {
+        DiskWriteEvent writeEvent = new DiskWriteEvent();
+        writeEvent.begin();
+        boolean isUnchanged = hasContent(file, bytes);
+        if (!isUnchanged) {
+            Files.write(file, bytes);
+        }
+        commit(writeEvent, file, isUnchanged ? 0 : bytes.length, isUnchanged);
+        return !isUnchanged;
+    }
+
+    /**
+     * Returns true if {@code file} exists and holds exactly {@code bytes}.
+     */
+    private static boolean hasContent(Path file, byte[] bytes) throws IOException {
+        if (!isFileExists(file) || Files.size(file) != bytes.length) {
+            return false;
+        }
+        return Arrays.equals(Files.readAllBytes(file), bytes);
+    }
+
+    private static void commit(DiskWriteEvent writeEvent, Path file, long bytesWritten, boolean isSkipped) {
+        if (writeEvent.shouldCommit()) {
+            writeEvent.setPath(file.toString());
+            writeEvent.setBytes(bytesWritten);
+            writeEvent.setSkipped(isSkipped);
+            writeEvent.commit();
+        }
     }
 
 }
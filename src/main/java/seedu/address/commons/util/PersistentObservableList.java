@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by a {@link PersistentList}. It can be changed and observed like any other
+ * observable list. In addition, {@link #getSnapshot()} returns its current contents in O(1) time, and
+ * {@link #restore} puts a snapshot back, notifying listeners of a single replacement. {@link #batch} makes any
+ * number of changes and notifies listeners of them as a single change.
+ *
+ * A snapshot is never affected by later changes to the list, and shares most of its memory with the list, so
+ * keeping many snapshots of a large list is cheap.
+ */
+public class PersistentObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentList<E> contents = PersistentList.empty();
+
+    /**
+     * Returns the current contents of this list. Takes O(1) time.
+     */
+    public PersistentList<E> getSnapshot() {
+        return contents;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}. Takes O(1) time, plus whatever the listeners do with
+     * the change. Does nothing if {@code snapshot} is already the contents of this list.
+     */
+    public void restore(PersistentList<E> snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot == contents) {
+            return;
+        }
+
+        beginChange();
+        PersistentList<E> removed = contents;
+        contents = snapshot;
+        if (!removed.isEmpty() || !snapshot.isEmpty()) {
+            nextReplace(0, snapshot.size(), removed);
+        }
+        endChange();
+    }
+
+    /**
+     * Runs {@code changes}, which may change this list any number of times, and notifies listeners of all of them as
+     * a single compound change once it returns. Batches may be nested, in which case listeners are notified when the
+     * outermost one returns.
+     *
+     * If {@code changes} throws, the list is put back as it was before the batch and the exception is rethrown.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        PersistentList<E> before = contents;
+        beginChange();
+        try {
+            changes.run();
+        } catch (RuntimeException | Error e) {
+            restore(before);
+            throw e;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with {@code elements} in O(n) time, as a single change.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        restore(PersistentList.of(elements));
+        return true;
+    }
+
+    @Override
+    public E get(int index) {
+        return contents.get(index);
+    }
+
+    @Override
+    public int size() {
+        return contents.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        contents = contents.plus(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E previous = contents.get(index);
+        contents = contents.with(index, element);
+        return previous;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E removed = contents.get(index);
+        contents = contents.minus(index);
+        return removed;
+    }
+}
@@ -3,16 +3,24 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommandExecuteEvent;
+import seedu.address.commons.jfr.CommandParseEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandPhase;
+import seedu.address.logic.metrics.CommandTimer;
+import seedu.address.logic.metrics.MetricsCenter;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.trace.TraceRecorder;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.contact.Contact;
@@ -33,29 +41,104 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+    private final TraceRecorder traceRecorder;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, MetricsCenter.getCommandMetrics(), MetricsCenter.getTraceRecorder());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that records command timings into {@code commandMetrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics commandMetrics) {
+        this(model, storage, commandMetrics, TraceRecorder.disabled());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that records command timings into {@code commandMetrics} and every command into {@code traceRecorder}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics commandMetrics, TraceRecorder traceRecorder) {
         this.model = model;
         this.storage = storage;
+        this.commandMetrics = commandMetrics;
+        this.traceRecorder = traceRecorder;
         addressBookParser = new AddressBookParser();
         logger.info("LogicManager initialized with model and storage");
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, true);
+    }
+
+    private CommandResult execute(String commandText, boolean shouldSave) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Instant issuedAt = Instant.now();
+        CommandTimer timer = CommandTimer.start();
+        String commandWord = CommandMetrics.UNPARSEABLE_COMMAND_WORD;
+        boolean isSuccessful = false;
+        String feedback = null;
+        try {
+            CommandParseEvent parseEvent = new CommandParseEvent();
+            parseEvent.begin();
+            Command command = addressBookParser.parseCommand(commandText);
+            commandWord = AddressBookParser.getCommandWord(commandText);
+            timer.mark(CommandPhase.PARSE);
+            if (parseEvent.shouldCommit()) {
+                parseEvent.setCommandWord(commandWord);
+                parseEvent.commit();
+            }
+
+            CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+            executeEvent.begin();
+            CommandResult commandResult = command.execute(model);
+            model.commit(commandText.trim());
+            timer.mark(CommandPhase.EXECUTE);
+            if (executeEvent.shouldCommit()) {
+                executeEvent.setCommandWord(commandWord);
+                executeEvent.commit();
+            }
+
+            if (shouldSave) {
+                saveData();
+            }
+            timer.mark(CommandPhase.SAVE);
+            logger.info("Command executed successfully: " + command.getClass().getSimpleName());
 
+            isSuccessful = true;
+            feedback = commandResult.getFeedbackToUser();
+            return commandResult;
+        } catch (CommandException | ParseException e) {
+            feedback = e.getMessage();
+            throw e;
+        } finally {
+            commandMetrics.record(commandWord, commandText, timer, isSuccessful);
+            traceRecorder.record(issuedAt, commandText, timer, isSuccessful, feedback);
+        }
+    }
+
+    /**
+     * Executes the command like {@link #execute(String)}, but does not save the data afterwards.
+     * The caller saves with {@link #saveData()} once it has run a batch of commands.
+     */
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
+        return execute(commandText, false);
+    }
+
+    /**
+     * Saves the address book and trip book in {@code model} to {@code storage}.
+     */
+    public void saveData() throws CommandException {
         try {
             storage.saveAddressBook(model.getAddressBook());
             storage.saveTripBook(model.getTripBook());
-            logger.info("Command executed successfully: " + command.getClass().getSimpleName());
         } catch (AccessDeniedException e) {
             logger.warning("Command execution failed: " + e.getMessage());
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
@@ -63,8 +146,6 @@ public class LogicManager implements Logic {
             logger.warning("Command execution failed: " + ioe.getMessage());
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
     }
 
     @Override
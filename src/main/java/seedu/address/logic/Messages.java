@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -22,6 +23,9 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
+    /** How many names {@link #formatNames(List)} shows before summarising the rest. */
+    public static final int MAX_NAMES_SHOWN = 10;
+
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
@@ -34,6 +38,18 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Formats {@code names} as a comma-separated list for display to the user, showing at most
+     * {@link #MAX_NAMES_SHOWN} of them followed by how many more there are.
+     */
+    public static String formatNames(List<?> names) {
+        String shownNames = names.stream().limit(MAX_NAMES_SHOWN).map(Object::toString)
+                .collect(Collectors.joining(", "));
+        return names.size() <= MAX_NAMES_SHOWN
+                ? shownNames
+                : shownNames + " and " + (names.size() - MAX_NAMES_SHOWN) + " more";
+    }
+
     /**
      * Formats the {@code contact} for display to the user.
      */
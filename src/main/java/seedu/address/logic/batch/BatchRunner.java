@@ -0,0 +1,239 @@
+package seedu.address.logic.batch;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.export.ExportTask;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands, one per line, through a {@code LogicManager} without the GUI.
+ *
+ * Unlike commands entered in the GUI, the commands do not save the data one by one. The data is saved once every
+ * {@code saveInterval} successful commands, and once more at the end of the script, so a script of thousands of
+ * commands costs a handful of saves rather than thousands. Exports started by the script carry on in the background
+ * while the commands after them run, and the script finishes once they are done.
+ */
+public class BatchRunner {
+
+    /** Lines starting with this are comments and are skipped, like blank lines. */
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_SUCCESS = "%1$d ok: %2$s";
+    public static final String MESSAGE_FAILURE = "%1$d error: %2$s";
+    public static final String MESSAGE_SAVE_FAILURE = "Stopped after line %1$d, the data could not be saved: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final LogicManager logic;
+    private final int saveInterval;
+    private final boolean isStopOnError;
+
+    /**
+     * Creates a runner that saves after every {@code saveInterval} successful commands, or only at the end of the
+     * script if {@code saveInterval} is 0. If {@code isStopOnError} is true, the script stops at the first command
+     * that fails.
+     */
+    public BatchRunner(LogicManager logic, int saveInterval, boolean isStopOnError) {
+        requireNonNull(logic);
+        checkArgument(saveInterval >= 0, "The save interval cannot be negative");
+        this.logic = logic;
+        this.saveInterval = saveInterval;
+        this.isStopOnError = isStopOnError;
+    }
+
+    /**
+     * Runs the commands in {@code script} in order, writing the outcome of each to {@code output} as it goes.
+     * Stops early at an {@code exit} command, at a failed save, or at a failed command if asked to. A command that
+     * throws an unexpected exception or error counts as failed, like any other, and the commands that succeeded are
+     * still saved at the end.
+     */
+    public Result run(BufferedReader script, PrintWriter output) throws IOException {
+        long startNanos = System.nanoTime();
+        int lineNumber = 0;
+        int succeededCount = 0;
+        int failedCount = 0;
+        int saveCount = 0;
+        int unsavedCount = 0;
+        boolean isSaveFailed = false;
+        Map<Integer, ExportTask> exports = new LinkedHashMap<>();
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            CommandResult commandResult;
+            try {
+                commandResult = logic.executeWithoutSaving(commandText);
+            } catch (Throwable e) {
+                // Includes unexpected exceptions and errors, such as a failed assertion, which would otherwise end
+                // the script without saving the commands that succeeded before it
+                if (!(e instanceof CommandException || e instanceof ParseException)) {
+                    logger.severe("Unexpected error while executing line " + lineNumber + ": " + commandText + "\n"
+                            + StringUtil.getDetails(e));
+                }
+                failedCount++;
+                // Errors such as a failed assertion may have no message
+                report(output, String.format(MESSAGE_FAILURE, lineNumber,
+                        Objects.toString(e.getMessage(), e.toString())));
+                if (isStopOnError) {
+                    break;
+                }
+                continue;
+            }
+            succeededCount++;
+            unsavedCount++;
+            report(output, String.format(MESSAGE_SUCCESS, lineNumber, commandResult.getFeedbackToUser()));
+            int commandLineNumber = lineNumber;
+            commandResult.getExportTask().ifPresent(task -> exports.put(commandLineNumber, task));
+
+            if (saveInterval > 0 && unsavedCount >= saveInterval) {
+                if (!save(lineNumber, output)) {
+                    isSaveFailed = true;
+                    break;
+                }
+                saveCount++;
+                unsavedCount = 0;
+            }
+            if (commandResult.isExit()) {
+                break;
+            }
+        }
+
+        if (!isSaveFailed && unsavedCount > 0) {
+            if (save(lineNumber, output)) {
+                saveCount++;
+            } else {
+                isSaveFailed = true;
+            }
+        }
+        int failedExportCount = awaitExports(exports, output);
+        succeededCount -= failedExportCount;
+        failedCount += failedExportCount;
+        return new Result(succeededCount, failedCount, saveCount, isSaveFailed, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Waits for {@code exports}, the exports started on each line, to finish, writing the outcome of each to
+     * {@code output}. Returns the number that failed.
+     */
+    private static int awaitExports(Map<Integer, ExportTask> exports, PrintWriter output) {
+        int failedCount = 0;
+        for (Map.Entry<Integer, ExportTask> export : exports.entrySet()) {
+            try {
+                String message = export.getValue().getCompletion().join();
+                report(output, String.format(MESSAGE_SUCCESS, export.getKey(), message));
+            } catch (CompletionException e) {
+                failedCount++;
+                report(output, String.format(MESSAGE_FAILURE, export.getKey(), e.getCause().getMessage()));
+            }
+        }
+        return failedCount;
+    }
+
+    /**
+     * Saves the data, reporting a failure to {@code output}. Returns true if the data was saved.
+     */
+    private boolean save(int lineNumber, PrintWriter output) {
+        try {
+            logic.saveData();
+            return true;
+        } catch (CommandException e) {
+            report(output, String.format(MESSAGE_SAVE_FAILURE, lineNumber, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Writes {@code message} to {@code output} as a line of its own, and flushes it, so that the outcome of each
+     * line can be followed as the script runs and is not lost if the runner is killed.
+     */
+    private static void report(PrintWriter output, String message) {
+        output.println(message);
+        output.flush();
+    }
+
+    /**
+     * The outcome of running a script.
+     */
+    public static class Result {
+        private final int succeededCount;
+        private final int failedCount;
+        private final int saveCount;
+        private final boolean isSaveFailed;
+        private final long elapsedNanos;
+
+        /**
+         * Creates a result for a script that took {@code elapsedNanos} to run.
+         */
+        public Result(int succeededCount, int failedCount, int saveCount, boolean isSaveFailed, long elapsedNanos) {
+            this.succeededCount = succeededCount;
+            this.failedCount = failedCount;
+            this.saveCount = saveCount;
+            this.isSaveFailed = isSaveFailed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getSucceededCount() {
+            return succeededCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        public boolean isSaveFailed() {
+            return isSaveFailed;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands run per second, whether they succeeded or not.
+         */
+        public double getThroughput() {
+            int commandCount = succeededCount + failedCount;
+            return elapsedNanos == 0 ? 0 : commandCount / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        /**
+         * Returns true if every command succeeded and the data was saved.
+         */
+        public boolean isSuccessful() {
+            return failedCount == 0 && !isSaveFailed;
+        }
+
+        /**
+         * Returns a one-line summary of the counts and throughput.
+         */
+        public String formatSummary() {
+            return String.format("Ran %d command(s) in %.2fs (%.1f commands/s): %d succeeded, %d failed, %d save(s)",
+                    succeededCount + failedCount, elapsedNanos / 1_000_000_000.0, getThroughput(), succeededCount,
+                    failedCount, saveCount);
+        }
+    }
+}
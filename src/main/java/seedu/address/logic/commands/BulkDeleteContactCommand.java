@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactMatchesFilterPredicate;
+
+/**
+ * Deletes every contact in the address book that matches a filter, in a single change.
+ */
+public class BulkDeleteContactCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d contacts: %2$s";
+    public static final String MESSAGE_NO_MATCH = "No contacts match the filter.";
+
+    private final ContactMatchesFilterPredicate predicate;
+
+    /**
+     * @param predicate that the contacts to delete match
+     */
+    public BulkDeleteContactCommand(ContactMatchesFilterPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Contact> deletedContacts = model.deleteContacts(predicate);
+
+        if (deletedContacts.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCH);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, deletedContacts.size(),
+                Messages.formatNames(deletedContacts.stream().map(Contact::getName).toList())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteContactCommand)) {
+            return false;
+        }
+
+        BulkDeleteContactCommand otherCommand = (BulkDeleteContactCommand) other;
+        return predicate.equals(otherCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.TripMatchesFilterPredicate;
+
+/**
+ * Deletes every trip in the trip book that matches a filter, in a single change.
+ */
+public class BulkDeleteTripCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d trips: %2$s";
+    public static final String MESSAGE_NO_MATCH = "No trips match the filter.";
+
+    private final TripMatchesFilterPredicate predicate;
+
+    /**
+     * @param predicate that the trips to delete match
+     */
+    public BulkDeleteTripCommand(TripMatchesFilterPredicate predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Trip> deletedTrips = model.deleteTrips(predicate);
+
+        if (deletedTrips.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCH);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, deletedTrips.size(),
+                Messages.formatNames(deletedTrips.stream().map(Trip::getName).toList())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteTripCommand)) {
+            return false;
+        }
+
+        BulkDeleteTripCommand otherCommand = (BulkDeleteTripCommand) other;
+        return predicate.equals(otherCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
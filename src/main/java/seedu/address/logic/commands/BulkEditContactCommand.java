@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditContactCommand.EditPersonDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactMatchesFilterPredicate;
+import seedu.address.model.contact.exceptions.DuplicatePersonException;
+
+/**
+ * Edits the details of every contact in the address book that matches a filter, in a single change.
+ */
+public class BulkEditContactCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d contacts: %2$s";
+    public static final String MESSAGE_NO_MATCH = "No contacts match the filter.";
+    public static final String MESSAGE_DUPLICATE_PERSONS =
+            "Nothing was edited, as the edited contacts would duplicate each other or another contact.";
+
+    private final ContactMatchesFilterPredicate predicate;
+    private final EditPersonDescriptor editPersonDescriptor;
+
+    /**
+     * @param predicate that the contacts to edit match
+     * @param editPersonDescriptor details to edit each contact with
+     */
+    public BulkEditContactCommand(ContactMatchesFilterPredicate predicate, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(predicate);
+        requireNonNull(editPersonDescriptor);
+
+        this.predicate = predicate;
+        this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Contact> editedContacts;
+        try {
+            editedContacts = model.editContacts(predicate,
+                    contact -> EditContactCommand.createEditedPerson(contact, editPersonDescriptor));
+        } catch (DuplicatePersonException e) {
+            throw new CommandException(MESSAGE_DUPLICATE_PERSONS, e);
+        }
+
+        if (editedContacts.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCH);
+        }
+
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, editedContacts.size(),
+                Messages.formatNames(editedContacts.stream().map(Contact::getName).toList())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEditContactCommand)) {
+            return false;
+        }
+
+        BulkEditContactCommand otherCommand = (BulkEditContactCommand) other;
+        return predicate.equals(otherCommand.predicate)
+                && editPersonDescriptor.equals(otherCommand.editPersonDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("editPersonDescriptor", editPersonDescriptor)
+                .toString();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TRIPS;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditTripCommand.EditTripDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.TripMatchesFilterPredicate;
+import seedu.address.model.trip.exceptions.DuplicateTripException;
+
+/**
+ * Edits the details of every trip in the trip book that matches a filter, in a single change.
+ */
+public class BulkEditTripCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d trips: %2$s";
+    public static final String MESSAGE_NO_MATCH = "No trips match the filter.";
+    public static final String MESSAGE_DUPLICATE_TRIPS =
+            "Nothing was edited, as the edited trips would duplicate each other or another trip.";
+
+    private final TripMatchesFilterPredicate predicate;
+    private final EditTripDescriptor editTripDescriptor;
+
+    /**
+     * @param predicate that the trips to edit match
+     * @param editTripDescriptor details to edit each trip with
+     */
+    public BulkEditTripCommand(TripMatchesFilterPredicate predicate, EditTripDescriptor editTripDescriptor) {
+        requireNonNull(predicate);
+        requireNonNull(editTripDescriptor);
+
+        this.predicate = predicate;
+        this.editTripDescriptor = new EditTripDescriptor(editTripDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Trip> editedTrips;
+        try {
+            editedTrips = model.editTrips(predicate,
+                    trip -> EditTripCommand.createEditedTrip(trip, editTripDescriptor));
+        } catch (DuplicateTripException e) {
+            throw new CommandException(MESSAGE_DUPLICATE_TRIPS, e);
+        }
+
+        if (editedTrips.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_MATCH);
+        }
+
+        model.updateFilteredTripList(PREDICATE_SHOW_ALL_TRIPS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, editedTrips.size(),
+                Messages.formatNames(editedTrips.stream().map(Trip::getName).toList())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEditTripCommand)) {
+            return false;
+        }
+
+        BulkEditTripCommand otherCommand = (BulkEditTripCommand) other;
+        return predicate.equals(otherCommand.predicate)
+                && editTripDescriptor.equals(otherCommand.editTripDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .add("editTripDescriptor", editTripDescriptor)
+                .toString();
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.export.ExportTask;
 
 /**
  * Represents the result of a command execution.
@@ -25,16 +27,28 @@ public class CommandResult {
     /** The text to display in the confirmation dialog. */
     private final String confirmationText;
 
+    /** An export the command started in the background, whose progress can be shown to the user. */
+    private final ExportTask exportTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit,
-                           boolean showConfirmation, String confirmationText) {
+                           boolean showConfirmation, String confirmationText, ExportTask exportTask) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.showConfirmation = showConfirmation;
         this.confirmationText = confirmationText;
+        this.exportTask = exportTask;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified fields, and no export.
+     */
+    public CommandResult(String feedbackToUser, boolean showHelp, boolean exit,
+                           boolean showConfirmation, String confirmationText) {
+        this(feedbackToUser, showHelp, exit, showConfirmation, confirmationText, null);
     }
 
     /**
@@ -52,6 +66,13 @@ public class CommandResult {
         this(feedbackToUser, false, false, showConfirmation, confirmationText);
     }
 
+    /**
+     * Constructs a {@code CommandResult} for a command that started {@code exportTask} in the background.
+     */
+    public CommandResult(String feedbackToUser, ExportTask exportTask) {
+        this(feedbackToUser, false, false, false, null, requireNonNull(exportTask));
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -72,6 +93,10 @@ public class CommandResult {
         return confirmationText;
     }
 
+    public Optional<ExportTask> getExportTask() {
+        return Optional.ofNullable(exportTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -88,12 +113,13 @@ public class CommandResult {
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
                 && showConfirmation == otherCommandResult.showConfirmation
-                && Objects.equals(confirmationText, otherCommandResult.confirmationText);
+                && Objects.equals(confirmationText, otherCommandResult.confirmationText)
+                && Objects.equals(exportTask, otherCommandResult.exportTask);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, showConfirmation, confirmationText);
+        return Objects.hash(feedbackToUser, showHelp, exit, showConfirmation, confirmationText, exportTask);
     }
 
     @Override
@@ -104,6 +130,7 @@ public class CommandResult {
                 .add("exit", exit)
                 .add("showConfirmation", showConfirmation)
                 .add("confirmationText", confirmationText)
+                .add("exportTask", exportTask)
                 .toString();
     }
 
@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_TAG;
 
 import java.util.List;
 
@@ -19,9 +21,12 @@ public class DeleteContactCommand extends Command {
     public static final String COMMAND_WORD = "deleteContact";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the contact identified by the index number used in the displayed contact list.\n"
+            + ": Deletes the contact identified by the index number used in the displayed contact list, "
+            + "or every contact that matches a filter.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "or: [" + PREFIX_FILTER_NAME + "NAME_KEYWORDS] [" + PREFIX_FILTER_TAG + "TAG] (at least one)\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILTER_TAG + "service";
 
     public static final String MESSAGE_DELETE_CONTACT_SUCCESS = "Deleted Contact: %1$s";
 
@@ -1,6 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
 import java.util.List;
 
@@ -19,9 +22,13 @@ public class DeleteTripCommand extends Command {
     public static final String COMMAND_WORD = "deleteTrip";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the trip identified by the index number used in the displayed trip list.\n"
+            + ": Deletes the trip identified by the index number used in the displayed trip list, "
+            + "or every trip that matches a filter.\n"
             + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "or: [" + PREFIX_FILTER_NAME + "NAME_KEYWORDS] [" + PREFIX_FROM_DATE + "DATE] [" + PREFIX_TO_DATE
+            + "DATE] (at least one)\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TO_DATE + "31/12/2024";
 
     public static final String MESSAGE_DELETE_TRIP_SUCCESS = "Deleted Trip: %1$s";
 
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
@@ -38,7 +40,8 @@ public class EditContactCommand extends Command {
     public static final String COMMAND_WORD = "editContact";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the contact identified "
-            + "by the index number used in the displayed contact list. "
+            + "by the index number used in the displayed contact list, or of every contact that matches a filter "
+            + "of [" + PREFIX_FILTER_NAME + "NAME_KEYWORDS] [" + PREFIX_FILTER_TAG + "TAG] given in place of INDEX. "
             + "Existing values will be overwritten by the input values.\n"
             + "Parameters: INDEX (must be a positive integer) "
             + "[" + PREFIX_NAME + "NAME] "
@@ -95,7 +98,7 @@ public class EditContactCommand extends Command {
      * Creates and returns a {@code Contact} with the details of {@code contactToEdit}
      * edited with {@code editPersonDescriptor}.
      */
-    private static Contact createEditedPerson(Contact contactToEdit, EditPersonDescriptor editPersonDescriptor) {
+    static Contact createEditedPerson(Contact contactToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert contactToEdit != null;
 
         Name updatedName = editPersonDescriptor.getName().orElse(contactToEdit.getName());
@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ACCOMMODATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ITINERARY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TRIPS;
 
 import java.util.Collections;
@@ -38,7 +41,9 @@ public class EditTripCommand extends Command {
     public static final String COMMAND_WORD = "editTrip";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the trip identified "
-            + "by the index number used in the displayed trip list. "
+            + "by the index number used in the displayed trip list, or of every trip that matches a filter "
+            + "of [" + PREFIX_FILTER_NAME + "NAME_KEYWORDS] [" + PREFIX_FROM_DATE + "DATE] [" + PREFIX_TO_DATE
+            + "DATE] given in place of INDEX. "
             + "Existing values will be overwritten by the input values.\n"
             + "Parameters: INDEX (must be a positive integer) "
             + PREFIX_NAME + "NAME "
@@ -100,7 +105,7 @@ public class EditTripCommand extends Command {
      * Creates and returns a {@code Trip} with the details of {@code tripToEdit}
      * edited with {@code editTripDescriptor}.
      */
-    private static Trip createEditedTrip(Trip tripToEdit, EditTripDescriptor editTripDescriptor) {
+    static Trip createEditedTrip(Trip tripToEdit, EditTripDescriptor editTripDescriptor) {
         assert tripToEdit != null;
 
         TripName updatedName = editTripDescriptor.getName().orElse(tripToEdit.getName());
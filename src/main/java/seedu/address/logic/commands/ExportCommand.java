@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.logic.export.ExportTask;
+import seedu.address.model.Model;
+
+/**
+ * Exports the items of type {@code T} in the filtered list to a file. The list is exported as it is when the
+ * command runs, on a background thread, so the commands that follow do not wait for the export to finish and do
+ * not change what is exported.
+ */
+public abstract class ExportCommand<T> extends Command {
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d %2$s to %3$s in the background. "
+            + "Its progress is shown in the status bar.";
+    public static final String MESSAGE_EMPTY_LIST = "There are no %1$s in the list to export.";
+    public static final String MESSAGE_IS_DIRECTORY = "%1$s is a folder. Give the path of a file to export to.";
+
+    private final Path file;
+
+    /**
+     * @param file to export the items to
+     */
+    protected ExportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    /**
+     * Returns the format to write the items to {@code file} in.
+     */
+    protected abstract ExportFormat<T> getFormat(Path file);
+
+    /**
+     * Returns the number of items in the filtered list of {@code model}.
+     */
+    protected abstract int getFilteredCount(Model model);
+
+    /**
+     * Returns the items in the filtered list of {@code model} as they are now.
+     */
+    protected abstract Iterable<T> getFilteredSnapshot(Model model);
+
+    /**
+     * Returns the name of several items, for the messages shown to the user.
+     */
+    protected abstract String getItemsName();
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (Files.isDirectory(file)) {
+            throw new CommandException(String.format(MESSAGE_IS_DIRECTORY, file));
+        }
+        int count = getFilteredCount(model);
+        if (count == 0) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_LIST, getItemsName()));
+        }
+
+        ExportTask task = ExportTask.start(getFilteredSnapshot(model), count, getFormat(file), file, getItemsName());
+        return new CommandResult(String.format(MESSAGE_STARTED, count, getItemsName(), file), task);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // handles nulls, and tells apart the kinds of items exported
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        ExportCommand<?> otherCommand = (ExportCommand<?>) other;
+        return file.equals(otherCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
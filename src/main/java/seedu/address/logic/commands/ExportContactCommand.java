@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.csv.ContactCsvFormat;
+import seedu.address.logic.export.CsvExportFormat;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+
+/**
+ * Exports the contacts in the filtered list to a file of comma-separated values.
+ */
+public class ExportContactCommand extends ExportCommand<Contact> {
+
+    public static final String COMMAND_WORD = "exportContact";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the contacts in the displayed list to a "
+            + "CSV file, in the form read by importContact. An existing file is replaced.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/customers.csv";
+
+    /**
+     * @param file to export the contacts to
+     */
+    public ExportContactCommand(Path file) {
+        super(file);
+    }
+
+    @Override
+    protected ExportFormat<Contact> getFormat(Path file) {
+        return new CsvExportFormat<>(new ContactCsvFormat());
+    }
+
+    @Override
+    protected int getFilteredCount(Model model) {
+        return model.getFilteredPersonList().size();
+    }
+
+    @Override
+    protected Iterable<Contact> getFilteredSnapshot(Model model) {
+        return model.getFilteredPersonSnapshot();
+    }
+
+    @Override
+    protected String getItemsName() {
+        return "contacts";
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import seedu.address.logic.csv.TripCsvFormat;
+import seedu.address.logic.export.CsvExportFormat;
+import seedu.address.logic.export.ExportFormat;
+import seedu.address.logic.export.TripCalendarFormat;
+import seedu.address.model.Model;
+import seedu.address.model.trip.Trip;
+
+/**
+ * Exports the trips in the filtered list to a file of comma-separated values, or to an iCalendar file if the file
+ * name ends in {@code .ics}.
+ */
+public class ExportTripCommand extends ExportCommand<Trip> {
+
+    public static final String COMMAND_WORD = "exportTrip";
+
+    /** The extension of the files that trips are exported to as a calendar. */
+    public static final String CALENDAR_EXTENSION = ".ics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the trips in the displayed list to a "
+            + "CSV file, in the form read by importTrip, or to a calendar if the file name ends in "
+            + CALENDAR_EXTENSION + ". An existing file is replaced.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/trips.ics";
+
+    /**
+     * @param file to export the trips to
+     */
+    public ExportTripCommand(Path file) {
+        super(file);
+    }
+
+    @Override
+    protected ExportFormat<Trip> getFormat(Path file) {
+        if (file.getFileName().toString().toLowerCase().endsWith(CALENDAR_EXTENSION)) {
+            return new TripCalendarFormat(Instant.now());
+        }
+        return new CsvExportFormat<>(new TripCsvFormat());
+    }
+
+    @Override
+    protected int getFilteredCount(Model model) {
+        return model.getFilteredTripList().size();
+    }
+
+    @Override
+    protected Iterable<Trip> getFilteredSnapshot(Model model) {
+        return model.getFilteredTripSnapshot();
+    }
+
+    @Override
+    protected String getItemsName() {
+        return "trips";
+    }
+}
@@ -17,15 +17,23 @@ public class HelpCommand extends Command {
             + "- addTrip: Adds a new trip with name, accommodation,"
             + " itinerary, date, optional customer names and optional note\n"
             + "- clear: Clear all contacts and trips\n"
-            + "- deleteContact: Removes a contact at a specified index\n"
-            + "- deleteTrip: Removes a trip at a specified index\n"
-            + "- editContact: Edits a contact at a specified index\n"
-            + "- editTrip: Edits a trip at a specified index\n"
+            + "- deleteContact: Removes a contact at a specified index, or every contact matching a filter\n"
+            + "- deleteTrip: Removes a trip at a specified index, or every trip matching a filter\n"
+            + "- editContact: Edits a contact at a specified index, or every contact matching a filter\n"
+            + "- editTrip: Edits a trip at a specified index, or every trip matching a filter\n"
             + "- exit: Exits the program\n"
+            + "- exportContact: Exports the displayed contacts to a CSV file\n"
+            + "- exportTrip: Exports the displayed trips to a CSV or calendar (.ics) file\n"
             + "- find: Find contacts whose names contain any of the given keywords \n"
             + "- help: Shows program usage instructions\n"
+            + "- importContact: Imports contacts from a CSV file\n"
+            + "- importTrip: Imports trips from a CSV file\n"
             + "- listContact: Lists all contacts [can specify tag type]\n"
-            + "- listTrip: Lists all trips ";
+            + "- listTrip: Lists all trips\n"
+            + "- metrics: Shows how long each command has taken so far\n"
+            + "- redo: Redoes the last command undone\n"
+            + "- undo: Undoes the last command that changed contacts or trips\n"
+            + "Separate commands with && to run them together: if one fails, none of them take effect.";
 
     @Override
     public CommandResult execute(Model model) {
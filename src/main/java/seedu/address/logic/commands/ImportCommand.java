@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Imports items of type {@code T} from a file of comma-separated values, adding them to the model in a single
+ * change. Rows that are invalid or duplicates are left out and written, with the reason, to a rejects file next to
+ * the imported file. Nothing is added if the file cannot be read.
+ */
+public abstract class ImportCommand<T> extends Command {
+
+    /** Replaces the {@code .csv} extension of the imported file to name its rejects file. */
+    public static final String REJECTS_SUFFIX = ".rejects.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$s from %3$s.";
+    public static final String MESSAGE_REJECTED = " %1$d rows were rejected; see %2$s for the reasons.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at %1$s.";
+    public static final String MESSAGE_INVALID_FILE = "Nothing was imported from %1$s. %2$s";
+    public static final String MESSAGE_READ_FAILURE = "Nothing was imported, as %1$s could not be read: %2$s";
+
+    private static final String CSV_EXTENSION = ".csv";
+
+    private final Path file;
+
+    /**
+     * @param file to import the items from
+     */
+    protected ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    /**
+     * Returns the file that the rows rejected when importing {@code file} are written to.
+     */
+    public static Path getRejectsFile(Path file) {
+        String fileName = file.getFileName().toString();
+        if (fileName.toLowerCase().endsWith(CSV_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - CSV_EXTENSION.length());
+        }
+        return file.resolveSibling(fileName + REJECTS_SUFFIX);
+    }
+
+    /**
+     * Returns an importer of items into the book of {@code model}.
+     */
+    protected abstract CsvImporter<T> createImporter(Model model);
+
+    /**
+     * Adds {@code items}, which are unique and not in the book yet, to {@code model} in a single change.
+     */
+    protected abstract void addAll(Model model, List<T> items);
+
+    /**
+     * Returns the name of several items, for the message shown to the user.
+     */
+    protected abstract String getItemsName();
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!FileUtil.isFileExists(file)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file));
+        }
+
+        Path rejectsFile = getRejectsFile(file);
+        CsvImporter.Result<T> result;
+        try {
+            result = createImporter(model).importFrom(file, rejectsFile);
+        } catch (ParseException pe) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, file, pe.getMessage()), pe);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, file, ioe.getMessage()), ioe);
+        }
+
+        addAll(model, result.getImported());
+        String feedback = String.format(MESSAGE_SUCCESS, result.getImported().size(), getItemsName(), file);
+        if (result.getRejectedCount() > 0) {
+            feedback += String.format(MESSAGE_REJECTED, result.getRejectedCount(), rejectsFile);
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // handles nulls, and tells apart the kinds of items imported
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        ImportCommand<?> otherCommand = (ImportCommand<?>) other;
+        return file.equals(otherCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
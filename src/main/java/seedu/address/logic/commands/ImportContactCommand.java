@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.logic.csv.ContactCsvFormat;
+import seedu.address.logic.csv.CsvFormat;
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.model.Model;
+import seedu.address.model.contact.Contact;
+
+/**
+ * Imports contacts from a file of comma-separated values into the address book.
+ */
+public class ImportContactCommand extends ImportCommand<Contact> {
+
+    public static final String COMMAND_WORD = "importContact";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports contacts from a CSV file. "
+            + "The first line of the file must be the header: " + String.join(",", ContactCsvFormat.HEADER)
+            + ". Separate several tags with '" + CsvFormat.VALUE_SEPARATOR + "'. Rows that are invalid or duplicates "
+            + "are not imported, but written to a file ending in " + REJECTS_SUFFIX + " along with the reason.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/customers.csv";
+
+    /**
+     * @param file to import the contacts from
+     */
+    public ImportContactCommand(Path file) {
+        super(file);
+    }
+
+    @Override
+    protected CsvImporter<Contact> createImporter(Model model) {
+        return new CsvImporter<>(new ContactCsvFormat(), model.getAddressBook().getPersonList());
+    }
+
+    @Override
+    protected void addAll(Model model, List<Contact> contacts) {
+        model.addContacts(contacts);
+    }
+
+    @Override
+    protected String getItemsName() {
+        return "contacts";
+    }
+}
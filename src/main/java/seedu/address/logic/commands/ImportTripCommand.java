@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.logic.csv.CsvFormat;
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.logic.csv.TripCsvFormat;
+import seedu.address.model.Model;
+import seedu.address.model.trip.Trip;
+
+/**
+ * Imports trips from a file of comma-separated values into the trip book.
+ */
+public class ImportTripCommand extends ImportCommand<Trip> {
+
+    public static final String COMMAND_WORD = "importTrip";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports trips from a CSV file. "
+            + "The first line of the file must be the header: " + String.join(",", TripCsvFormat.HEADER)
+            + ". Separate several customers with '" + CsvFormat.VALUE_SEPARATOR + "'. Rows that are invalid or "
+            + "duplicates are not imported, but written to a file ending in " + REJECTS_SUFFIX
+            + " along with the reason.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/trips.csv";
+
+    /**
+     * @param file to import the trips from
+     */
+    public ImportTripCommand(Path file) {
+        super(file);
+    }
+
+    @Override
+    protected CsvImporter<Trip> createImporter(Model model) {
+        return new CsvImporter<>(new TripCsvFormat(), model.getTripBook().getTripList());
+    }
+
+    @Override
+    protected void addAll(Model model, List<Trip> trips) {
+        model.addTrips(trips);
+    }
+
+    @Override
+    protected String getItemsName() {
+        return "trips";
+    }
+}
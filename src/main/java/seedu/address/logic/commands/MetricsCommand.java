@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.MetricsCenter;
+import seedu.address.model.Model;
+
+/**
+ * Shows latency and throughput statistics of the commands executed so far.
+ */
+public class MetricsCommand extends Command {
+
+    public static final String COMMAND_WORD = "metrics";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each command has taken so far.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics commandMetrics;
+
+    public MetricsCommand() {
+        this(MetricsCenter.getCommandMetrics());
+    }
+
+    public MetricsCommand(CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(commandMetrics.getSummary());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MetricsCommand)) {
+            return false;
+        }
+
+        MetricsCommand otherMetricsCommand = (MetricsCommand) other;
+        return commandMetrics == otherMetricsCommand.commandMetrics;
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs several commands, entered on one line separated by {@link #SEPARATOR}, as a single command.
+ *
+ * The commands change the model in order. If any of them fails, the changes made by the ones before it are rolled
+ * back, so either all of the commands take effect or none of them do. Being a single command, the sequence is
+ * saved once and undone as a whole.
+ */
+public class SequenceCommand extends Command {
+
+    public static final String SEPARATOR = "&&";
+
+    /** The command word that sequences are recorded under in metrics and traces. It cannot be typed. */
+    public static final String COMMAND_WORD = "sequence";
+
+    public static final String MESSAGE_FAILURE = "Nothing was changed, as command %1$d of %2$d failed: %3$s";
+    public static final String MESSAGE_CONFIRMATION_NOT_ALLOWED =
+            "It asks for confirmation, which cannot be given in the middle of a sequence.";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a sequence that runs {@code commands} in order. There must be at least two commands.
+     */
+    public SequenceCommand(List<Command> commands) {
+        requireNonNull(commands);
+        checkArgument(commands.size() >= 2, "A sequence must have at least two commands");
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> feedback = new ArrayList<>();
+        boolean isShowHelp = false;
+        boolean isExit = false;
+        boolean isCompleted = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                CommandResult result = executeAt(i, model);
+                feedback.add(result.getFeedbackToUser());
+                isShowHelp |= result.isShowHelp();
+                isExit |= result.isExit();
+            }
+            isCompleted = true;
+        } finally {
+            if (!isCompleted) {
+                model.rollback();
+            }
+        }
+        return new CommandResult(String.join("\n", feedback), isShowHelp, isExit, false, null);
+    }
+
+    /**
+     * Executes the command at {@code index}, naming its position in the sequence if it fails.
+     */
+    private CommandResult executeAt(int index, Model model) throws CommandException {
+        CommandResult result;
+        try {
+            result = commands.get(index).execute(model);
+        } catch (CommandException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, index + 1, commands.size(), e.getMessage()), e);
+        }
+        if (result.isShowConfirmation()) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, index + 1, commands.size(),
+                    MESSAGE_CONFIRMATION_NOT_ALLOWED));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SequenceCommand)) {
+            return false;
+        }
+
+        SequenceCommand otherSequenceCommand = (SequenceCommand) other;
+        return commands.equals(otherSequenceCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
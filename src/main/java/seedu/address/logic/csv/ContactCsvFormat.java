@@ -0,0 +1,48 @@
+package seedu.address.logic.csv;
+
+import java.util.List;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Note;
+
+/**
+ * Reads and writes contacts as records of comma-separated values, with the same rules as {@code addContact}.
+ * Tags are separated by {@link CsvFormat#VALUE_SEPARATOR}, and the tags and note can be left empty.
+ */
+public class ContactCsvFormat implements CsvFormat<Contact> {
+
+    public static final List<String> HEADER = List.of("name", "phone", "email", "address", "tags", "note");
+
+    @Override
+    public List<String> getHeader() {
+        return HEADER;
+    }
+
+    @Override
+    public Contact parseRecord(List<String> fields) throws ParseException {
+        assert fields.size() == HEADER.size() : "A record must have a value for each field";
+        return new Contact(ParserUtil.parseName(fields.get(0)),
+                ParserUtil.parsePhone(fields.get(1)),
+                ParserUtil.parseEmail(fields.get(2)),
+                ParserUtil.parseAddress(fields.get(3)),
+                ParserUtil.parseTags(CsvFormat.splitValues(fields.get(4))),
+                new Note(fields.get(5)));
+    }
+
+    @Override
+    public List<String> toRecord(Contact contact) {
+        return List.of(contact.getName().fullName,
+                contact.getPhone().value,
+                contact.getEmail().value,
+                contact.getAddress().value,
+                CsvFormat.joinValues(contact.getTags().stream().map(tag -> tag.tagName)),
+                contact.getNote().getNote());
+    }
+
+    @Override
+    public String getIdentityKey(Contact contact) {
+        return contact.getIdentityKey();
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.csv;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Describes how items of type {@code T} are read from and written as records of comma-separated values.
+ * A record written by {@link #toRecord(Object)} reads back as the same item.
+ */
+public interface CsvFormat<T> {
+
+    /** Separates the values of a field that can hold several, such as the tags of a contact. */
+    String VALUE_SEPARATOR = ";";
+
+    /**
+     * Returns the names of the fields of a record, in order. A file of records starts with them.
+     */
+    List<String> getHeader();
+
+    /**
+     * Parses {@code fields}, which has one value for each name in the header, into an item.
+     *
+     * @throws ParseException if any of the values is invalid
+     */
+    T parseRecord(List<String> fields) throws ParseException;
+
+    /**
+     * Returns the values of the fields of {@code item}, in the order of the header.
+     */
+    List<String> toRecord(T item);
+
+    /**
+     * Returns the key that identifies {@code item}. Items with the same key cannot be in the same book.
+     */
+    String getIdentityKey(T item);
+
+    /**
+     * Joins {@code values} into one field with {@link #VALUE_SEPARATOR}, sorted so that the same values always make
+     * the same field.
+     */
+    static String joinValues(Stream<String> values) {
+        return values.sorted().collect(Collectors.joining(VALUE_SEPARATOR));
+    }
+
+    /**
+     * Splits {@code field} into its values at {@link #VALUE_SEPARATOR}, leaving out blank values.
+     */
+    static List<String> splitValues(String field) {
+        return Arrays.stream(field.split(VALUE_SEPARATOR))
+                .filter(value -> !value.isBlank())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.address.logic.csv;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Imports items from a file of comma-separated values that starts with the header of a {@code CsvFormat}.
+ *
+ * The file is streamed in chunks of {@link #CHUNK_SIZE} rows, so only the imported items are held in memory, not
+ * the rows themselves. The rows of a chunk are parsed in parallel. A row is rejected if it is invalid, or if its
+ * item has the same identity key as an item already in the book or on an earlier row of the file; the keys are kept
+ * in hash tables, so checking a row takes the same time however large the book and the file are. Rejected rows are
+ * written to a rejects file along with the reason, and the imported items are returned to be added all at once.
+ */
+public class CsvImporter<T> {
+
+    /** The number of rows read into memory and parsed together. */
+    public static final int CHUNK_SIZE = 4096;
+
+    /** The fields that the rejects file has before the fields of the rejected row. */
+    public static final List<String> REJECTS_HEADER = List.of("line", "reason");
+
+    public static final String MESSAGE_EMPTY_FILE = "The file is empty. Its first line must be the header: %1$s";
+    public static final String MESSAGE_WRONG_HEADER = "The first line of the file must be the header: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_DUPLICATE_IN_BOOK = "The same item is already in the book.";
+    public static final String MESSAGE_DUPLICATE_IN_FILE = "The same item is already on line %1$d.";
+
+    private final CsvFormat<T> format;
+    private final Set<String> existingKeys = new HashSet<>();
+
+    /**
+     * Creates an importer of items in {@code format} into a book that holds {@code existingItems}.
+     */
+    public CsvImporter(CsvFormat<T> format, Collection<? extends T> existingItems) {
+        requireAllNonNull(format, existingItems);
+        this.format = format;
+        for (T item : existingItems) {
+            existingKeys.add(format.getIdentityKey(item));
+        }
+    }
+
+    /**
+     * Reads the items in {@code source}, writing the rows that are rejected to {@code rejectsFile}. The rejects file
+     * is only written if a row is rejected, and any left by an earlier import is deleted first. Blank lines are
+     * skipped.
+     *
+     * @throws ParseException if the file does not start with the header of the format
+     */
+    public Result<T> importFrom(Path source, Path rejectsFile) throws IOException, ParseException {
+        requireAllNonNull(source, rejectsFile);
+        Map<String, Integer> importedKeyLines = new HashMap<>();
+        List<T> imported = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(source, StandardCharsets.UTF_8));
+                RejectsWriter rejects = new RejectsWriter(rejectsFile, format.getHeader())) {
+            checkHeader(reader.readRecord());
+
+            List<Row<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> fields;
+            while ((fields = reader.readRecord()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                chunk.add(new Row<>(reader.getRecordLineNumber(), fields));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, importedKeyLines, imported, rejects);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, importedKeyLines, imported, rejects);
+            return new Result<>(imported, rejects.getCount());
+        }
+    }
+
+    private void checkHeader(List<String> header) throws ParseException {
+        String expected = String.join(",", format.getHeader());
+        if (header == null) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_FILE, expected));
+        }
+        String actual = header.stream().map(String::trim).collect(Collectors.joining(","));
+        if (!actual.equalsIgnoreCase(expected)) {
+            throw new ParseException(String.format(MESSAGE_WRONG_HEADER, expected));
+        }
+    }
+
+    /**
+     * Parses the rows of {@code chunk} in parallel, then goes through them in order, adding the items of the rows
+     * that are not duplicates to {@code imported} and writing the rest to {@code rejects}.
+     */
+    private void importChunk(List<Row<T>> chunk, Map<String, Integer> importedKeyLines, List<T> imported,
+            RejectsWriter rejects) throws IOException {
+        chunk.parallelStream().forEach(this::parse);
+
+        for (Row<T> row : chunk) {
+            if (row.item == null) {
+                rejects.write(row, row.reason);
+                continue;
+            }
+
+            String key = format.getIdentityKey(row.item);
+            if (existingKeys.contains(key)) {
+                rejects.write(row, MESSAGE_DUPLICATE_IN_BOOK);
+                continue;
+            }
+            Integer firstLine = importedKeyLines.putIfAbsent(key, row.lineNumber);
+            if (firstLine != null) {
+                rejects.write(row, String.format(MESSAGE_DUPLICATE_IN_FILE, firstLine));
+                continue;
+            }
+            imported.add(row.item);
+        }
+    }
+
+    /**
+     * Parses the fields of {@code row} into its item, or sets the reason it is rejected.
+     */
+    private void parse(Row<T> row) {
+        int fieldCount = format.getHeader().size();
+        if (row.fields.size() != fieldCount) {
+            row.reason = String.format(MESSAGE_WRONG_FIELD_COUNT, fieldCount, row.fields.size());
+            return;
+        }
+        try {
+            row.item = format.parseRecord(row.fields);
+        } catch (ParseException pe) {
+            row.reason = pe.getMessage();
+        }
+    }
+
+    /**
+     * A row of the file, and the item parsed from it or the reason it cannot be parsed.
+     */
+    private static class Row<T> {
+        private final int lineNumber;
+        private final List<String> fields;
+        private T item;
+        private String reason;
+
+        Row(int lineNumber, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * Writes rejected rows to a file, which is deleted when the writer is created and only created again when the
+     * first row is written. Reasons are written on one line, so that each rejected row stays one row when the file
+     * is opened in a spreadsheet.
+     */
+    private static class RejectsWriter implements Closeable {
+        private final Path file;
+        private final List<String> header;
+        private CsvWriter writer;
+        private int count;
+
+        RejectsWriter(Path file, List<String> rowHeader) throws IOException {
+            Files.deleteIfExists(file);
+            this.file = file;
+            this.header = new ArrayList<>(REJECTS_HEADER);
+            this.header.addAll(rowHeader);
+        }
+
+        void write(Row<?> row, String reason) throws IOException {
+            if (writer == null) {
+                FileUtil.createParentDirsOfFile(file);
+                writer = new CsvWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+                writer.writeRecord(header);
+            }
+            List<String> record = new ArrayList<>();
+            record.add(Integer.toString(row.lineNumber));
+            record.add(reason.replaceAll("\\s*\\R\\s*", " "));
+            record.addAll(row.fields);
+            writer.writeRecord(record);
+            count++;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * The outcome of importing a file.
+     */
+    public static class Result<T> {
+        private final List<T> imported;
+        private final int rejectedCount;
+
+        /**
+         * Creates a result in which {@code imported} are the items to add and {@code rejectedCount} rows were
+         * rejected.
+         */
+        public Result(List<T> imported, int rejectedCount) {
+            requireNonNull(imported);
+            this.imported = imported;
+            this.rejectedCount = rejectedCount;
+        }
+
+        public List<T> getImported() {
+            return imported;
+        }
+
+        public int getRejectedCount() {
+            return rejectedCount;
+        }
+    }
+}
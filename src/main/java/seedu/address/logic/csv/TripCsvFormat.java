@@ -0,0 +1,56 @@
+package seedu.address.logic.csv;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contact.Name;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.TripDate;
+
+/**
+ * Reads and writes trips as records of comma-separated values, with the same rules as {@code addTrip}.
+ * Customer names are separated by {@link CsvFormat#VALUE_SEPARATOR}, and the customers and note can be left empty.
+ */
+public class TripCsvFormat implements CsvFormat<Trip> {
+
+    public static final List<String> HEADER =
+            List.of("name", "accommodation", "itinerary", "date", "customers", "note");
+
+    @Override
+    public List<String> getHeader() {
+        return HEADER;
+    }
+
+    @Override
+    public Trip parseRecord(List<String> fields) throws ParseException {
+        assert fields.size() == HEADER.size() : "A record must have a value for each field";
+        Set<Name> customerNames = new HashSet<>();
+        for (String customerName : CsvFormat.splitValues(fields.get(4))) {
+            customerNames.add(ParserUtil.parseName(customerName));
+        }
+        return new Trip(ParserUtil.parseTripName(fields.get(0)),
+                ParserUtil.parseAccommodation(fields.get(1)),
+                ParserUtil.parseItinerary(fields.get(2)),
+                ParserUtil.parseTripDate(fields.get(3)),
+                customerNames,
+                ParserUtil.parseNote(fields.get(5)));
+    }
+
+    @Override
+    public List<String> toRecord(Trip trip) {
+        return List.of(trip.getName().name,
+                trip.getAccommodation().accommodation,
+                trip.getItinerary().itinerary,
+                trip.getDate().date.format(TripDate.DATE_FORMATTER),
+                CsvFormat.joinValues(trip.getCustomerNames().stream().map(name -> name.fullName)),
+                trip.getNote().note);
+    }
+
+    @Override
+    public String getIdentityKey(Trip trip) {
+        return trip.getIdentityKey();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.logic.csv.CsvFormat;
+
+/**
+ * Writes items as comma-separated values in a {@code CsvFormat}, starting with its header, so that the file can be
+ * imported again.
+ */
+public class CsvExportFormat<T> implements ExportFormat<T> {
+
+    private final CsvFormat<T> format;
+
+    /**
+     * Creates an export format that writes items as records of {@code format}.
+     */
+    public CsvExportFormat(CsvFormat<T> format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public void writeStart(Writer out) throws IOException {
+        new CsvWriter(out).writeRecord(format.getHeader());
+    }
+
+    @Override
+    public void writeItem(Writer out, T item) throws IOException {
+        new CsvWriter(out).writeRecord(format.toRecord(item));
+    }
+
+    @Override
+    public void writeEnd(Writer out) {
+        // A file of comma-separated values ends with its last record
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.logic.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Describes how items of type {@code T} are written to a file, one after another, so that they can be streamed
+ * without holding the whole file in memory.
+ */
+public interface ExportFormat<T> {
+
+    /**
+     * Writes what comes before the first item, such as a header.
+     */
+    void writeStart(Writer out) throws IOException;
+
+    /**
+     * Writes {@code item}.
+     */
+    void writeItem(Writer out, T item) throws IOException;
+
+    /**
+     * Writes what comes after the last item.
+     */
+    void writeEnd(Writer out) throws IOException;
+}
@@ -0,0 +1,201 @@
+package seedu.address.logic.export;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Writes items to a file on a background thread, reporting how far it has got, so that exporting a large book does
+ * not hold up the commands that follow.
+ *
+ * Exports run one at a time, in the order they are started, on a single thread. Items are written through a
+ * buffered writer as they are read from their source, so an export takes the same memory however many items there
+ * are. They are first written to a temporary file next to the destination, which replaces the destination once
+ * every item is written, so the destination never holds a partial export.
+ */
+public class ExportTask {
+
+    /** The number of items written between progress reports. */
+    public static final int PROGRESS_INTERVAL = 10_000;
+
+    public static final String MESSAGE_PROGRESS = "Exporting %1$s to %2$s: %3$d of %4$d written (%5$d%%)";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s.";
+    public static final String MESSAGE_FAILURE = "Could not export %1$s to %2$s: %3$s";
+
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final Logger logger = LogsCenter.getLogger(ExportTask.class);
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The exports run in order, so this completes after all of them
+    private static CompletableFuture<String> lastCompletion = CompletableFuture.completedFuture(null);
+
+    private final Path file;
+    private final int totalCount;
+    private final String itemsName;
+    private final CompletableFuture<String> completion = new CompletableFuture<>();
+    private volatile int writtenCount;
+    private volatile Runnable progressListener = () -> { };
+
+    private ExportTask(Path file, int totalCount, String itemsName) {
+        this.file = file;
+        this.totalCount = totalCount;
+        this.itemsName = itemsName;
+    }
+
+    /**
+     * Starts writing {@code items}, of which there are {@code totalCount}, to {@code file} in {@code format}, after
+     * the exports already started. {@code items} is read on the export thread, so later changes to its source
+     * must not affect it.
+     *
+     * @param itemsName the name of several items, for the progress shown to the user
+     */
+    public static synchronized <T> ExportTask start(Iterable<T> items, int totalCount, ExportFormat<T> format,
+            Path file, String itemsName) {
+        requireAllNonNull(items, format, file, itemsName);
+        ExportTask task = new ExportTask(file, totalCount, itemsName);
+        executor.execute(() -> task.run(items, format));
+        lastCompletion = task.completion;
+        return task;
+    }
+
+    /**
+     * Waits for the exports started so far to finish.
+     */
+    public static void awaitAll() throws InterruptedException {
+        try {
+            getLastCompletion().get();
+        } catch (ExecutionException e) {
+            // The export failed, which its own completion reports
+        }
+    }
+
+    /**
+     * Waits at most {@code timeout} for the exports started so far to finish.
+     *
+     * @return true if they have all finished
+     */
+    public static boolean awaitAll(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            getLastCompletion().get(timeout, unit);
+        } catch (ExecutionException e) {
+            // The export failed, which its own completion reports
+        } catch (TimeoutException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private static synchronized CompletableFuture<String> getLastCompletion() {
+        return lastCompletion;
+    }
+
+    private <T> void run(Iterable<T> items, ExportFormat<T> format) {
+        Path partialFile = file.resolveSibling(file.getFileName() + PARTIAL_SUFFIX);
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(partialFile),
+                    StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                format.writeStart(out);
+                int count = 0;
+                for (T item : items) {
+                    format.writeItem(out, item);
+                    count++;
+                    if (count % PROGRESS_INTERVAL == 0) {
+                        writtenCount = count;
+                        progressListener.run();
+                    }
+                }
+                writtenCount = count;
+                format.writeEnd(out);
+            }
+            replace(partialFile, file);
+            logger.info("Exported " + writtenCount + " " + itemsName + " to " + file);
+            completion.complete(String.format(MESSAGE_SUCCESS, writtenCount, itemsName, file));
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Could not export " + itemsName + " to " + file + ": " + e);
+            deleteQuietly(partialFile);
+            completion.completeExceptionally(
+                    new IOException(String.format(MESSAGE_FAILURE, itemsName, file, e.getMessage()), e));
+        }
+    }
+
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Could not delete " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Sets {@code listener} to be run on the export thread every {@link #PROGRESS_INTERVAL} items written.
+     */
+    public void setProgressListener(Runnable listener) {
+        requireNonNull(listener);
+        progressListener = listener;
+    }
+
+    /**
+     * Returns a future completed with a message for the user once every item is written, or completed
+     * exceptionally with an {@code IOException} if the file cannot be written.
+     */
+    public CompletableFuture<String> getCompletion() {
+        return completion;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of items written so far, as of the last progress report.
+     */
+    public int getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * Returns a message telling the user how far the export has got.
+     */
+    public String formatProgress() {
+        int written = writtenCount;
+        int percent = totalCount == 0 ? 100 : (int) (100L * written / totalCount);
+        return String.format(MESSAGE_PROGRESS, itemsName, file, written, totalCount, percent);
+    }
+}
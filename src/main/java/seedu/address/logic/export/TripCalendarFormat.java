@@ -0,0 +1,153 @@
+package seedu.address.logic.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import seedu.address.model.trip.Trip;
+
+/**
+ * Writes trips as an iCalendar (RFC 5545) file that calendar apps can import, with each trip an all-day event on
+ * its {@code TripDate}. The accommodation is the location of the event, and the itinerary, customers and note make
+ * up its description.
+ *
+ * Each event is identified by the trip's name, so importing a later export of the same trip updates the event
+ * rather than adding another.
+ */
+public class TripCalendarFormat implements ExportFormat<Trip> {
+
+    public static final String PRODUCT_ID = "-//TravelHub//Trips//EN";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String UID_DOMAIN = "@travelhub";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final String timestamp;
+
+    /**
+     * Creates a format that marks every event as created at {@code timestamp}.
+     */
+    public TripCalendarFormat(Instant timestamp) {
+        requireNonNull(timestamp);
+        this.timestamp = TIMESTAMP_FORMATTER.format(timestamp);
+    }
+
+    @Override
+    public void writeStart(Writer out) throws IOException {
+        writeLine(out, "BEGIN:VCALENDAR");
+        writeLine(out, "VERSION:2.0");
+        writeLine(out, "PRODID:" + PRODUCT_ID);
+        writeLine(out, "CALSCALE:GREGORIAN");
+    }
+
+    @Override
+    public void writeItem(Writer out, Trip trip) throws IOException {
+        LocalDate date = trip.getDate().date;
+        writeLine(out, "BEGIN:VEVENT");
+        writeLine(out, "UID:" + UUID.nameUUIDFromBytes(trip.getIdentityKey().getBytes(StandardCharsets.UTF_8))
+                + UID_DOMAIN);
+        writeLine(out, "DTSTAMP:" + timestamp);
+        writeLine(out, "DTSTART;VALUE=DATE:" + date.format(DateTimeFormatter.BASIC_ISO_DATE));
+        writeLine(out, "DTEND;VALUE=DATE:" + date.plusDays(1).format(DateTimeFormatter.BASIC_ISO_DATE));
+        writeLine(out, "SUMMARY:" + escape(trip.getName().name));
+        writeLine(out, "LOCATION:" + escape(trip.getAccommodation().accommodation));
+        writeLine(out, "DESCRIPTION:" + escape(describe(trip)));
+        writeLine(out, "END:VEVENT");
+    }
+
+    @Override
+    public void writeEnd(Writer out) throws IOException {
+        writeLine(out, "END:VCALENDAR");
+    }
+
+    /**
+     * Returns the description of the event for {@code trip}, one detail per line.
+     */
+    private static String describe(Trip trip) {
+        List<String> details = new ArrayList<>();
+        details.add("Itinerary: " + trip.getItinerary().itinerary);
+        if (!trip.getCustomerNames().isEmpty()) {
+            details.add("Customers: " + trip.getCustomerNames().stream()
+                    .map(name -> name.fullName).sorted().collect(Collectors.joining(", ")));
+        }
+        if (!trip.getNote().note.isEmpty()) {
+            details.add("Note: " + trip.getNote().note);
+        }
+        return String.join("\n", details);
+    }
+
+    /**
+     * Escapes the characters that have a meaning in iCalendar text values.
+     */
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ';':
+            case ',':
+                escaped.append('\\').append(c);
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Writes {@code line}, folded onto continuation lines that start with a space wherever it would exceed
+     * {@link #MAX_LINE_OCTETS} bytes of UTF-8.
+     */
+    private static void writeLine(Writer out, String line) throws IOException {
+        if (line.length() * 3 <= MAX_LINE_OCTETS) {
+            out.write(line);
+            out.write(LINE_SEPARATOR);
+            return;
+        }
+
+        int lineOctets = 0;
+        int start = 0;
+        for (int i = 0; i < line.length(); i += Character.charCount(line.codePointAt(i))) {
+            int octets = utf8Length(line.codePointAt(i));
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                out.write(line, start, i - start);
+                out.write(LINE_SEPARATOR);
+                out.write(' ');
+                start = i;
+                lineOctets = 1;
+            }
+            lineOctets += octets;
+        }
+        out.write(line, start, line.length() - start);
+        out.write(LINE_SEPARATOR);
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.logic.loadtest;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import seedu.address.logic.commands.AddContactCommand;
+import seedu.address.logic.commands.AddTripCommand;
+import seedu.address.logic.commands.DeleteContactCommand;
+import seedu.address.logic.commands.DeleteTripCommand;
+import seedu.address.logic.commands.EditContactCommand;
+import seedu.address.logic.commands.EditTripCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListContactCommand;
+import seedu.address.logic.commands.ListTripCommand;
+import seedu.address.model.Model;
+
+/**
+ * A weighted mix of commands for the load test.
+ * Each call to {@link #nextCommand(Model)} picks a command word by weight and builds a valid command for it,
+ * using the current sizes of the filtered lists in the model for indexes.
+ */
+public class CommandMix {
+
+    public static final String DEFAULT_MIX = "addContact=10,addTrip=10,editContact=10,editTrip=10,"
+            + "deleteContact=5,deleteTrip=5,find=30,listTrip=15,listContact=5";
+
+    public static final String MESSAGE_INVALID_MIX = "Command mix should be comma-separated COMMAND_WORD=WEIGHT "
+            + "pairs with positive weights, where COMMAND_WORD is one of: %s";
+
+    private static final List<String> SUPPORTED_COMMAND_WORDS = List.of(AddContactCommand.COMMAND_WORD,
+            AddTripCommand.COMMAND_WORD, EditContactCommand.COMMAND_WORD, EditTripCommand.COMMAND_WORD,
+            DeleteContactCommand.COMMAND_WORD, DeleteTripCommand.COMMAND_WORD, FindCommand.COMMAND_WORD,
+            ListContactCommand.COMMAND_WORD, ListTripCommand.COMMAND_WORD);
+
+    private static final String[] FIND_KEYWORDS = {"alex", "siti", "tan", "wei", "priya", "lim", "daniel", "hotel"};
+    private static final String[] ACCOMMODATIONS = {"Hotel 81 Geylang", "Grand Hyatt Tokyo", "Marriott Seoul"};
+
+    private final Map<String, Integer> weights;
+    private final int totalWeight;
+    private final Random random;
+    private int addedCount;
+
+    /**
+     * Creates a mix with the given weight per command word, picking commands with a generator seeded by {@code seed}.
+     */
+    public CommandMix(Map<String, Integer> weights, long seed) {
+        requireNonNull(weights);
+        checkArgument(isValidMix(weights), String.format(MESSAGE_INVALID_MIX, SUPPORTED_COMMAND_WORDS));
+        this.weights = Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Parses a mix given as {@code COMMAND_WORD=WEIGHT} pairs separated by commas, e.g. {@code find=3,addTrip=1}.
+     *
+     * @throws IllegalArgumentException if {@code mix} is not in that format.
+     */
+    public static CommandMix parse(String mix, long seed) {
+        requireNonNull(mix);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_MIX, SUPPORTED_COMMAND_WORDS));
+            }
+            try {
+                weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_MIX, SUPPORTED_COMMAND_WORDS), e);
+            }
+        }
+        return new CommandMix(weights, seed);
+    }
+
+    private static boolean isValidMix(Map<String, Integer> weights) {
+        return !weights.isEmpty()
+                && SUPPORTED_COMMAND_WORDS.containsAll(weights.keySet())
+                && weights.values().stream().allMatch(weight -> weight != null && weight > 0);
+    }
+
+    public Map<String, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * Returns the text of the next command to run against {@code model}.
+     */
+    public String nextCommand(Model model) {
+        requireNonNull(model);
+        String commandWord = nextCommandWord();
+        switch (commandWord) {
+        case AddContactCommand.COMMAND_WORD:
+            addedCount++;
+            return commandWord + " n/Load Test " + addedCount + " p/9" + String.format("%07d", addedCount)
+                    + " e/loadtest" + addedCount + "@example.com a/Blk " + addedCount + " Load Test Street t/customer";
+        case AddTripCommand.COMMAND_WORD:
+            addedCount++;
+            return commandWord + " n/Load Test Trip " + addedCount + " acc/" + pick(ACCOMMODATIONS)
+                    + " i/Day 1 City walking tour d/" + randomDate() + " nts/Added by the load test";
+        case EditContactCommand.COMMAND_WORD:
+            return commandWord + " " + randomIndex(model.getFilteredPersonList().size())
+                    + " p/8" + String.format("%07d", random.nextInt(10_000_000));
+        case EditTripCommand.COMMAND_WORD:
+            return commandWord + " " + randomIndex(model.getFilteredTripList().size()) + " acc/" + pick(ACCOMMODATIONS);
+        case DeleteContactCommand.COMMAND_WORD:
+            return commandWord + " " + randomIndex(model.getFilteredPersonList().size());
+        case DeleteTripCommand.COMMAND_WORD:
+            return commandWord + " " + randomIndex(model.getFilteredTripList().size());
+        case FindCommand.COMMAND_WORD:
+            return commandWord + " " + pick(FIND_KEYWORDS) + " " + pick(FIND_KEYWORDS);
+        case ListTripCommand.COMMAND_WORD:
+            return random.nextBoolean() ? commandWord : commandWord + " " + randomDate();
+        case ListContactCommand.COMMAND_WORD:
+            return commandWord;
+        default:
+            throw new AssertionError("Unsupported command word in mix: " + commandWord);
+        }
+    }
+
+    private String nextCommandWord() {
+        int target = random.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("Weights do not add up to the total weight");
+    }
+
+    /**
+     * Returns a one-based index into a list of {@code size} elements, or 1 if the list is empty.
+     */
+    private int randomIndex(int size) {
+        return 1 + random.nextInt(Math.max(1, size));
+    }
+
+    private String randomDate() {
+        return (1 + random.nextInt(28)) + "/" + (1 + random.nextInt(12)) + "/" + (2015 + random.nextInt(16));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
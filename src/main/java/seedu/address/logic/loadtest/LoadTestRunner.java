@@ -0,0 +1,313 @@
+package seedu.address.logic.loadtest;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.LatencyHistogram;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Runs a weighted mix of commands through a real {@code LogicManager}, {@code ModelManager} and
+ * {@code StorageManager} without the GUI, and reports latency and throughput for each book size.
+ *
+ * Unlike the JMH benchmarks, every command pays the full cost seen by a user: parsing, execution, updating the
+ * filtered lists and saving both books to disk.
+ */
+public class LoadTestRunner {
+
+    public static final String MESSAGE_USAGE = "Usage: LoadTestRunner [--sizes N1,N2,...] [--commands COUNT] "
+            + "[--rate COMMANDS_PER_SECOND] [--mix WORD=WEIGHT,...] [--seed SEED] [--budget-ms MILLIS] "
+            + "[--report FILE]";
+
+    public static final List<Integer> DEFAULT_BOOK_SIZES = List.of(1000, 5000, 20000);
+    public static final int DEFAULT_COMMAND_COUNT = 500;
+    public static final long DEFAULT_BUDGET_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(LoadTestRunner.class);
+
+    private final String mix;
+    private final long seed;
+    private final int commandCount;
+    private final double targetRate;
+    private final Path workingDirectory;
+
+    /**
+     * Creates a runner that issues {@code commandCount} commands from {@code mix} per book size.
+     *
+     * @param targetRate commands per second to issue, or 0 to issue each command as soon as the previous one is done.
+     * @param workingDirectory directory in which the data files of each run are created.
+     */
+    public LoadTestRunner(String mix, long seed, int commandCount, double targetRate, Path workingDirectory) {
+        requireNonNull(mix);
+        requireNonNull(workingDirectory);
+        checkArgument(commandCount > 0, "Number of commands must be positive");
+        checkArgument(targetRate >= 0, "Target rate must not be negative");
+        CommandMix.parse(mix, seed);
+        this.mix = mix;
+        this.seed = seed;
+        this.commandCount = commandCount;
+        this.targetRate = targetRate;
+        this.workingDirectory = workingDirectory;
+    }
+
+    /**
+     * Runs the command mix against a fresh address book of {@code bookSize} contacts and trip book of
+     * {@code bookSize} trips, both generated from the seed of this runner.
+     */
+    public Result run(int bookSize) throws IOException {
+        checkArgument(bookSize >= 0, "Book size must not be negative");
+        Path dataDirectory = Files.createTempDirectory(workingDirectory, "loadtest-" + bookSize + "-");
+        try {
+            return run(bookSize, dataDirectory);
+        } finally {
+            deleteRecursively(dataDirectory);
+        }
+    }
+
+    private Result run(int bookSize, Path dataDirectory) throws IOException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        ReadOnlyAddressBook addressBook = generator.generateAddressBook(bookSize);
+        ReadOnlyTripBook tripBook = generator.generateTripBook(bookSize, addressBook);
+
+        Storage storage = new StorageManager(new JsonAddressBookStorage(dataDirectory.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(dataDirectory.resolve("preferences.json")),
+                new JsonTripBookStorage(dataDirectory.resolve("tripbook.json")));
+        storage.saveAddressBook(addressBook);
+        storage.saveTripBook(tripBook);
+
+        Model model = new ModelManager(addressBook, tripBook, new UserPrefs());
+        CommandMetrics commandMetrics = new CommandMetrics();
+        // The report covers slow commands, so there is no need to also log each of them
+        commandMetrics.setSlowCommandThresholdMillis(Long.MAX_VALUE);
+        Logic logic = new LogicManager(model, storage, commandMetrics);
+        CommandMix commandMix = CommandMix.parse(mix, seed);
+
+        LatencyHistogram latency = new LatencyHistogram();
+        int failedCount = 0;
+        long intervalNanos = targetRate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / targetRate) : 0;
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < commandCount; i++) {
+            long commandStartNanos = System.nanoTime();
+            if (intervalNanos > 0) {
+                // Measure from when the command should have been issued, so that a slow command also counts
+                // against the commands queued up behind it.
+                commandStartNanos = startNanos + i * intervalNanos;
+                waitUntil(commandStartNanos);
+            }
+            String commandText = commandMix.nextCommand(model);
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+            }
+            latency.record(System.nanoTime() - commandStartNanos);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return new Result(bookSize, commandCount, failedCount, elapsedNanos, latency, commandMetrics);
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remainingNanos;
+        while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warning("Could not delete load test data in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns a table with one row per result, followed by the per-command breakdown of each result.
+     * Rows whose p99 latency is above {@code budgetMillis} are marked as over budget.
+     */
+    public static String formatReport(List<Result> results, long budgetMillis) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%10s %9s %7s %12s %10s %10s %10s%n",
+                "book size", "commands", "failed", "throughput", "p50", "p99", "max"));
+        for (Result result : results) {
+            LatencyHistogram latency = result.getLatency();
+            long p99Nanos = latency.getValueAtPercentile(99);
+            report.append(String.format("%10d %9d %7d %10.1f/s %10s %10s %10s%s%n",
+                    result.getBookSize(), result.getCommandCount(), result.getFailedCount(), result.getThroughput(),
+                    formatMillis(latency.getValueAtPercentile(50)), formatMillis(p99Nanos),
+                    formatMillis(latency.getMax()),
+                    p99Nanos > TimeUnit.MILLISECONDS.toNanos(budgetMillis) ? "  OVER BUDGET" : ""));
+        }
+        for (Result result : results) {
+            report.append(String.format("%nBook size %d%n", result.getBookSize()))
+                    .append(result.getCommandMetrics().getSummary())
+                    .append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Runs the load test for each book size and prints the report. Run with {@code --help} to see the options.
+     */
+    public static void main(String[] args) throws IOException {
+        List<Integer> bookSizes = DEFAULT_BOOK_SIZES;
+        int commandCount = DEFAULT_COMMAND_COUNT;
+        double targetRate = 0;
+        String mix = CommandMix.DEFAULT_MIX;
+        long seed = SyntheticDataGenerator.DEFAULT_SEED;
+        long budgetMillis = DEFAULT_BUDGET_MILLIS;
+        Path reportFilePath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help") || i + 1 == args.length) {
+                System.out.println(MESSAGE_USAGE);
+                return;
+            }
+            String value = args[++i];
+            switch (option) {
+            case "--sizes":
+                bookSizes = new ArrayList<>();
+                for (String size : value.split(",")) {
+                    bookSizes.add(Integer.parseInt(size.trim()));
+                }
+                break;
+            case "--commands":
+                commandCount = Integer.parseInt(value);
+                break;
+            case "--rate":
+                targetRate = Double.parseDouble(value);
+                break;
+            case "--mix":
+                mix = value;
+                break;
+            case "--seed":
+                seed = Long.parseLong(value);
+                break;
+            case "--budget-ms":
+                budgetMillis = Long.parseLong(value);
+                break;
+            case "--report":
+                reportFilePath = Paths.get(value);
+                break;
+            default:
+                System.out.println(MESSAGE_USAGE);
+                return;
+            }
+        }
+
+        // Logging every command would dominate the measurements
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        Path workingDirectory = Files.createTempDirectory("travelhub-loadtest");
+        LoadTestRunner runner = new LoadTestRunner(mix, seed, commandCount, targetRate, workingDirectory);
+        List<Result> results = new ArrayList<>();
+        for (int bookSize : bookSizes) {
+            System.out.println("Running " + commandCount + " commands against a book size of " + bookSize + "...");
+            results.add(runner.run(bookSize));
+        }
+        deleteRecursively(workingDirectory);
+
+        String report = formatReport(results, budgetMillis);
+        System.out.println();
+        System.out.print(report);
+        if (reportFilePath != null) {
+            FileUtil.createIfMissing(reportFilePath);
+            FileUtil.writeToFile(reportFilePath, report);
+        }
+    }
+
+    /**
+     * The outcome of running the command mix against one book size.
+     */
+    public static class Result {
+        private final int bookSize;
+        private final int commandCount;
+        private final int failedCount;
+        private final long elapsedNanos;
+        private final LatencyHistogram latency;
+        private final CommandMetrics commandMetrics;
+
+        /**
+         * Creates a result. {@code latency} holds the end-to-end latency of every command in nanoseconds.
+         */
+        public Result(int bookSize, int commandCount, int failedCount, long elapsedNanos, LatencyHistogram latency,
+                      CommandMetrics commandMetrics) {
+            this.bookSize = bookSize;
+            this.commandCount = commandCount;
+            this.failedCount = failedCount;
+            this.elapsedNanos = elapsedNanos;
+            this.latency = latency;
+            this.commandMetrics = commandMetrics;
+        }
+
+        public int getBookSize() {
+            return bookSize;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands completed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public CommandMetrics getCommandMetrics() {
+            return commandMetrics;
+        }
+    }
+}
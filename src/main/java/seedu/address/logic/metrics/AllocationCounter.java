@@ -0,0 +1,49 @@
+package seedu.address.logic.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the number of bytes allocated by the current thread from the HotSpot-specific
+ * {@code com.sun.management.ThreadMXBean}.
+ */
+public class AllocationCounter {
+
+    /** Returned by {@link #getCurrentThreadAllocatedBytes()} when allocation counting is unavailable. */
+    public static final long UNSUPPORTED = -1;
+
+    private static final com.sun.management.ThreadMXBean threadMxBean = findThreadMxBean();
+
+    /**
+     * Returns true if the running JVM can report per-thread allocations.
+     */
+    public static boolean isSupported() {
+        return threadMxBean != null;
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the current thread so far,
+     * or {@link #UNSUPPORTED} if the JVM cannot report it.
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        if (threadMxBean == null) {
+            return UNSUPPORTED;
+        }
+        return threadMxBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean findThreadMxBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        if (!sunBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!sunBean.isThreadAllocatedMemoryEnabled()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return sunBean;
+    }
+}
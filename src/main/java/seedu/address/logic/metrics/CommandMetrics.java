@@ -0,0 +1,217 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Collects latency, throughput and allocation statistics of executed commands, grouped by command word.
+ * Each {@link CommandPhase} and the end-to-end latency are kept in separate {@link LatencyHistogram}s, and so are
+ * the bytes allocated in them. Commands slower than the configured threshold are logged individually.
+ */
+public class CommandMetrics {
+
+    public static final long DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS = 500;
+
+    /** Command word under which commands that could not be parsed are recorded. */
+    public static final String UNPARSEABLE_COMMAND_WORD = "(unparseable)";
+
+    public static final String MESSAGE_NO_COMMANDS_RECORDED = "No commands have been recorded yet.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+
+    private final Map<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private volatile long slowCommandThresholdNanos =
+            TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS);
+
+    /**
+     * Sets the end-to-end latency above which a command is logged as slow.
+     */
+    public void setSlowCommandThresholdMillis(long thresholdMillis) {
+        checkArgument(thresholdMillis >= 0, "Slow command threshold cannot be negative");
+        slowCommandThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    public long getSlowCommandThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowCommandThresholdNanos);
+    }
+
+    /**
+     * Records the phase timings measured by {@code timer} for a command with the given {@code commandWord}.
+     *
+     * @param commandText the full command as entered by the user, used in the slow command log.
+     * @param isSuccessful whether the command completed without throwing.
+     */
+    public void record(String commandWord, String commandText, CommandTimer timer, boolean isSuccessful) {
+        requireNonNull(commandWord);
+        requireNonNull(commandText);
+        requireNonNull(timer);
+
+        CommandStats stats = statsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandStats());
+        for (CommandPhase phase : CommandPhase.values()) {
+            if (timer.hasCompleted(phase)) {
+                stats.phaseLatencies.get(phase).record(timer.getPhaseNanos(phase));
+                if (timer.isTrackingAllocations()) {
+                    stats.phaseAllocations.get(phase).record(timer.getPhaseAllocatedBytes(phase));
+                }
+            }
+        }
+        stats.totalLatency.record(timer.getTotalNanos());
+        if (timer.isTrackingAllocations()) {
+            stats.totalAllocation.record(timer.getTotalAllocatedBytes());
+        }
+        if (!isSuccessful) {
+            stats.failures.incrementAndGet();
+        }
+
+        if (timer.getTotalNanos() > slowCommandThresholdNanos) {
+            logger.warning("Slow command [" + commandText + "] took " + formatNanos(timer.getTotalNanos())
+                    + " and allocated " + formatBytes(timer.getTotalAllocatedBytes())
+                    + " (" + formatPhases(timer) + ")");
+        }
+    }
+
+    /**
+     * Returns the number of commands recorded under {@code commandWord}.
+     */
+    public long getCount(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? 0 : stats.totalLatency.getCount();
+    }
+
+    /**
+     * Returns the end-to-end latency histogram of {@code commandWord}, or an empty one if it was never recorded.
+     */
+    public LatencyHistogram getTotalLatency(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? new LatencyHistogram() : stats.totalLatency;
+    }
+
+    /**
+     * Returns the latency histogram of {@code phase} for {@code commandWord},
+     * or an empty one if it was never recorded.
+     */
+    public LatencyHistogram getPhaseLatency(String commandWord, CommandPhase phase) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? new LatencyHistogram() : stats.phaseLatencies.get(phase);
+    }
+
+    /**
+     * Returns the histogram of bytes allocated during {@code phase} of {@code commandWord},
+     * or an empty one if it was never recorded.
+     */
+    public LatencyHistogram getPhaseAllocation(String commandWord, CommandPhase phase) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? new LatencyHistogram() : stats.phaseAllocations.get(phase);
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public void clear() {
+        statsByCommandWord.clear();
+    }
+
+    /**
+     * Returns a human-readable summary of the recorded statistics, one block per command word.
+     */
+    public String getSummary() {
+        Map<String, CommandStats> sortedStats = new TreeMap<>(statsByCommandWord);
+        if (sortedStats.isEmpty()) {
+            return MESSAGE_NO_COMMANDS_RECORDED;
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        long totalCount = sortedStats.values().stream().mapToLong(stats -> stats.totalLatency.getCount()).sum();
+
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%d command(s) in %.1fs (%.2f/s)", totalCount, elapsedSeconds,
+                totalCount / elapsedSeconds));
+        sortedStats.forEach((commandWord, stats) -> {
+            LatencyHistogram total = stats.totalLatency;
+            builder.append(String.format("%n%s: count=%d failed=%d rate=%.2f/s total[%s]%s", commandWord,
+                    total.getCount(), stats.failures.get(), total.getCount() / elapsedSeconds,
+                    formatHistogram(total), formatAllocation(stats.totalAllocation)));
+            for (CommandPhase phase : CommandPhase.values()) {
+                LatencyHistogram phaseLatency = stats.phaseLatencies.get(phase);
+                if (phaseLatency.getCount() > 0) {
+                    builder.append(String.format("%n    %s[%s]%s", phase.getDisplayName(),
+                            formatHistogram(phaseLatency), formatAllocation(stats.phaseAllocations.get(phase))));
+                }
+            }
+        });
+        return builder.toString();
+    }
+
+    private static String formatHistogram(LatencyHistogram histogram) {
+        return "p50=" + formatNanos(histogram.getValueAtPercentile(50))
+                + " p90=" + formatNanos(histogram.getValueAtPercentile(90))
+                + " p99=" + formatNanos(histogram.getValueAtPercentile(99))
+                + " max=" + formatNanos(histogram.getMax());
+    }
+
+    private static String formatAllocation(LatencyHistogram allocation) {
+        if (allocation.getCount() == 0) {
+            return "";
+        }
+        return " alloc[mean=" + formatBytes((long) allocation.getMean())
+                + " p99=" + formatBytes(allocation.getValueAtPercentile(99))
+                + " max=" + formatBytes(allocation.getMax()) + "]";
+    }
+
+    private static String formatPhases(CommandTimer timer) {
+        StringBuilder builder = new StringBuilder();
+        for (CommandPhase phase : CommandPhase.values()) {
+            if (timer.hasCompleted(phase)) {
+                if (builder.length() > 0) {
+                    builder.append(", ");
+                }
+                builder.append(phase.getDisplayName()).append(' ').append(formatNanos(timer.getPhaseNanos(phase)))
+                        .append('/').append(formatBytes(timer.getPhaseAllocatedBytes(phase)));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.2fms", nanos / 1e6);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + "B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1fKB", bytes / 1024.0);
+        }
+        return String.format("%.1fMB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * Statistics of a single command word.
+     */
+    private static class CommandStats {
+        private final Map<CommandPhase, LatencyHistogram> phaseLatencies = new EnumMap<>(CommandPhase.class);
+        private final Map<CommandPhase, LatencyHistogram> phaseAllocations = new EnumMap<>(CommandPhase.class);
+        private final LatencyHistogram totalLatency = new LatencyHistogram();
+        private final LatencyHistogram totalAllocation = new LatencyHistogram();
+        private final AtomicLong failures = new AtomicLong();
+
+        CommandStats() {
+            for (CommandPhase phase : CommandPhase.values()) {
+                phaseLatencies.put(phase, new LatencyHistogram());
+                phaseAllocations.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.logic.metrics;
+
+/**
+ * The stages a user command goes through inside {@code LogicManager#execute(String)}.
+ */
+public enum CommandPhase {
+    PARSE("parse"),
+    EXECUTE("execute"),
+    SAVE("save");
+
+    private final String displayName;
+
+    CommandPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures how long a single command spends in each {@link CommandPhase}, and how many bytes it allocates there.
+ * A timer is started when a command is received and marked at the end of every phase; it is not thread-safe
+ * and is meant to be confined to the thread executing the command.
+ */
+public class CommandTimer {
+
+    private final long startNanos;
+    private final long startAllocatedBytes;
+    private final long[] phaseNanos = new long[CommandPhase.values().length];
+    private final long[] phaseAllocatedBytes = new long[CommandPhase.values().length];
+    private final boolean[] isPhaseCompleted = new boolean[CommandPhase.values().length];
+    private long lastMarkNanos;
+    private long lastMarkAllocatedBytes;
+
+    private CommandTimer(long startNanos, long startAllocatedBytes) {
+        this.startNanos = startNanos;
+        this.startAllocatedBytes = startAllocatedBytes;
+        this.lastMarkNanos = startNanos;
+        this.lastMarkAllocatedBytes = startAllocatedBytes;
+    }
+
+    /**
+     * Returns a timer that starts counting from now.
+     */
+    public static CommandTimer start() {
+        return new CommandTimer(System.nanoTime(), AllocationCounter.getCurrentThreadAllocatedBytes());
+    }
+
+    /**
+     * Attributes the time elapsed and the bytes allocated since the previous mark (or the start) to {@code phase}.
+     */
+    public void mark(CommandPhase phase) {
+        requireNonNull(phase);
+        long now = System.nanoTime();
+        phaseNanos[phase.ordinal()] += now - lastMarkNanos;
+        lastMarkNanos = now;
+
+        if (isTrackingAllocations()) {
+            long allocatedBytes = AllocationCounter.getCurrentThreadAllocatedBytes();
+            phaseAllocatedBytes[phase.ordinal()] += allocatedBytes - lastMarkAllocatedBytes;
+            lastMarkAllocatedBytes = allocatedBytes;
+        }
+        isPhaseCompleted[phase.ordinal()] = true;
+    }
+
+    /**
+     * Returns true if {@link #mark(CommandPhase)} has been called for {@code phase}.
+     */
+    public boolean hasCompleted(CommandPhase phase) {
+        return isPhaseCompleted[phase.ordinal()];
+    }
+
+    /**
+     * Returns true if allocated bytes are being measured on this JVM.
+     */
+    public boolean isTrackingAllocations() {
+        return startAllocatedBytes != AllocationCounter.UNSUPPORTED;
+    }
+
+    public long getPhaseNanos(CommandPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the bytes allocated by the executing thread during {@code phase},
+     * or 0 if allocations are not being tracked.
+     */
+    public long getPhaseAllocatedBytes(CommandPhase phase) {
+        return phaseAllocatedBytes[phase.ordinal()];
+    }
+
+    /**
+     * Returns the time elapsed between the start of the timer and the latest mark.
+     */
+    public long getTotalNanos() {
+        return lastMarkNanos - startNanos;
+    }
+
+    /**
+     * Returns the bytes allocated between the start of the timer and the latest mark,
+     * or 0 if allocations are not being tracked.
+     */
+    public long getTotalAllocatedBytes() {
+        return isTrackingAllocations() ? lastMarkAllocatedBytes - startAllocatedBytes : 0;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.trace.TraceRecorder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+
+/**
+ * Holds the application-wide {@link CommandMetrics} and {@link TraceRecorder} and configures them from {@link Config}.
+ * The metrics can be written to the file given by {@link Config#getMetricsFilePath()} when the app exits, and
+ * commands are traced to the file given by {@link Config#getTraceFilePath()}.
+ */
+public class MetricsCenter {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final CommandMetrics commandMetrics = new CommandMetrics();
+    private static Path metricsFilePath;
+    private static TraceRecorder traceRecorder = TraceRecorder.disabled();
+
+    /**
+     * Applies the metrics settings in {@code config}.
+     */
+    public static void init(Config config) {
+        requireNonNull(config);
+        commandMetrics.setSlowCommandThresholdMillis(config.getSlowCommandThresholdMillis());
+        metricsFilePath = config.getMetricsFilePath();
+        logger.info("Commands slower than " + config.getSlowCommandThresholdMillis() + "ms will be logged");
+
+        traceRecorder.close();
+        traceRecorder = TraceRecorder.disabled();
+        if (config.getTraceFilePath() != null) {
+            try {
+                traceRecorder = TraceRecorder.open(config.getTraceFilePath());
+            } catch (IOException e) {
+                logger.warning("Failed to open trace file, commands will not be recorded : "
+                        + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    public static CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    public static TraceRecorder getTraceRecorder() {
+        return traceRecorder;
+    }
+
+    /**
+     * Saves the data that the trace starts from. Does nothing if commands are not being traced.
+     */
+    public static void saveTraceSnapshot(ReadOnlyAddressBook addressBook, ReadOnlyTripBook tripBook) {
+        try {
+            traceRecorder.saveSnapshot(addressBook, tripBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save the data the trace starts from, recording stopped : "
+                    + StringUtil.getDetails(e));
+            traceRecorder.close();
+        }
+    }
+
+    /**
+     * Writes the metrics summary to the configured metrics file and stops tracing commands.
+     */
+    public static void stop() {
+        dump();
+        traceRecorder.close();
+    }
+
+    /**
+     * Writes the metrics summary to the configured metrics file. Does nothing if no file is configured.
+     */
+    public static void dump() {
+        if (metricsFilePath == null) {
+            return;
+        }
+
+        try {
+            FileUtil.createIfMissing(metricsFilePath);
+            FileUtil.writeToFile(metricsFilePath, commandMetrics.getSummary() + System.lineSeparator());
+            logger.info("Command metrics written to " + metricsFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to write command metrics : " + StringUtil.getDetails(e));
+        }
+    }
+}
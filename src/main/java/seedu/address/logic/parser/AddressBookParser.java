@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -17,10 +19,19 @@ import seedu.address.logic.commands.DeleteTripCommand;
 import seedu.address.logic.commands.EditContactCommand;
 import seedu.address.logic.commands.EditTripCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportContactCommand;
+import seedu.address.logic.commands.ExportTripCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportContactCommand;
+import seedu.address.logic.commands.ImportTripCommand;
 import seedu.address.logic.commands.ListContactCommand;
 import seedu.address.logic.commands.ListTripCommand;
+import seedu.address.logic.commands.MetricsCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SequenceCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -28,6 +39,14 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    public static final String MESSAGE_EMPTY_COMMAND_IN_SEQUENCE =
+            "Every " + SequenceCommand.SEPARATOR + " must have a command on both sides.";
+    public static final String MESSAGE_HISTORY_COMMAND_IN_SEQUENCE =
+            UndoCommand.COMMAND_WORD + " and " + RedoCommand.COMMAND_WORD + " cannot be part of a sequence.";
+    public static final String MESSAGE_EXPORT_COMMAND_IN_SEQUENCE = ExportContactCommand.COMMAND_WORD + " and "
+            + ExportTripCommand.COMMAND_WORD + " cannot be part of a sequence, as the export would go ahead even if "
+            + "a later command failed.";
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -42,6 +61,10 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        if (userInput.contains(SequenceCommand.SEPARATOR)) {
+            return parseSequence(userInput);
+        }
+
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -96,9 +119,75 @@ public class AddressBookParser {
         case DeleteTripCommand.COMMAND_WORD:
             return new DeleteTripCommandParser().parse(arguments);
 
+        case ImportContactCommand.COMMAND_WORD:
+            return new ImportContactCommandParser().parse(arguments);
+
+        case ImportTripCommand.COMMAND_WORD:
+            return new ImportTripCommandParser().parse(arguments);
+
+        case ExportContactCommand.COMMAND_WORD:
+            return new ExportContactCommandParser().parse(arguments);
+
+        case ExportTripCommand.COMMAND_WORD:
+            return new ExportTripCommandParser().parse(arguments);
+
+        case MetricsCommand.COMMAND_WORD:
+            return new MetricsCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
+
+    /**
+     * Parses user input made of several commands separated by {@code SequenceCommand.SEPARATOR} into a
+     * {@code SequenceCommand} that runs them in order.
+     *
+     * @throws ParseException if any of the commands is blank, does not conform the expected format, or is a command
+     *     that moves through the undo history or exports
+     */
+    private SequenceCommand parseSequence(String userInput) throws ParseException {
+        String[] commandTexts = userInput.split(Pattern.quote(SequenceCommand.SEPARATOR), -1);
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < commandTexts.length; i++) {
+            if (commandTexts[i].isBlank()) {
+                throw new ParseException(MESSAGE_EMPTY_COMMAND_IN_SEQUENCE);
+            }
+
+            Command command;
+            try {
+                command = parseCommand(commandTexts[i]);
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(SequenceCommand.MESSAGE_FAILURE, i + 1, commandTexts.length,
+                        pe.getMessage()), pe);
+            }
+            if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                throw new ParseException(MESSAGE_HISTORY_COMMAND_IN_SEQUENCE);
+            }
+            if (command instanceof ExportCommand) {
+                throw new ParseException(MESSAGE_EXPORT_COMMAND_IN_SEQUENCE);
+            }
+            commands.add(command);
+        }
+        return new SequenceCommand(commands);
+    }
+
+    /**
+     * Returns the command word of {@code userInput}, or an empty string if {@code userInput} is blank.
+     * A sequence of commands is reported as {@code SequenceCommand.COMMAND_WORD}.
+     */
+    public static String getCommandWord(String userInput) {
+        if (userInput.contains(SequenceCommand.SEPARATOR)) {
+            return SequenceCommand.COMMAND_WORD;
+        }
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        return matcher.matches() ? matcher.group("commandWord") : "";
+    }
 }
@@ -20,4 +20,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_ITINERARY = new Prefix("i/");
     public static final Prefix PREFIX_CUSTOMER_NAME = new Prefix("c/");
     public static final Prefix PREFIX_DATE = new Prefix("d/");
+
+    /* Bulk filter prefix definitions */
+    public static final Prefix PREFIX_FILTER_NAME = new Prefix("fn/");
+    public static final Prefix PREFIX_FILTER_TAG = new Prefix("ft/");
+    public static final Prefix PREFIX_FROM_DATE = new Prefix("from/");
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
 }
@@ -2,22 +2,36 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_TAG;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkDeleteContactCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteContactCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new DeleteContactCommand object
+ * Parses input arguments and creates a new DeleteContactCommand object, or a BulkDeleteContactCommand object if
+ * they give a filter instead of an index.
  */
-public class DeleteContactCommandParser implements Parser<DeleteContactCommand> {
+public class DeleteContactCommandParser implements Parser<Command> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the DeleteCommand
-     * and returns a DeleteCommand object for execution.
+     * Parses the given {@code String} of arguments in the context of the DeleteContactCommand
+     * and returns a DeleteContactCommand or BulkDeleteContactCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public DeleteContactCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILTER_NAME, PREFIX_FILTER_TAG);
+        if (ParserUtil.hasContactFilter(argMultimap)) {
+            if (!argMultimap.getPreamble().isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteContactCommand.MESSAGE_USAGE));
+            }
+            return new BulkDeleteContactCommand(ParserUtil.parseContactFilter(argMultimap));
+        }
+
         try {
             Index index = ParserUtil.parseContactIndex(args);
             return new DeleteContactCommand(index);
@@ -2,22 +2,35 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_TRIP_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkDeleteTripCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteTripCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new DeleteTripCommand object
+ * Parses input arguments and creates a new DeleteTripCommand object, or a BulkDeleteTripCommand object if
+ * they give a filter instead of an index.
  */
-public class DeleteTripCommandParser implements Parser<DeleteTripCommand> {
+public class DeleteTripCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteTripCommand
-     * and returns a DeleteTripCommand object for execution.
+     * and returns a DeleteTripCommand or BulkDeleteTripCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public DeleteTripCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FILTER_NAME, PREFIX_FROM_DATE, PREFIX_TO_DATE);
+        // As in editTrip, a filter is only looked for without an index
+        if (argMultimap.getPreamble().isEmpty() && ParserUtil.hasTripFilter(argMultimap)) {
+            return new BulkDeleteTripCommand(ParserUtil.parseTripFilter(argMultimap));
+        }
+
         try {
             Index index = ParserUtil.parseTripIndex(args);
             return new DeleteTripCommand(index);
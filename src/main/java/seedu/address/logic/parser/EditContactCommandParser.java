@@ -5,6 +5,8 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
@@ -16,6 +18,8 @@ import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkEditContactCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.EditContactCommand;
 import seedu.address.logic.commands.EditContactCommand.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,21 +27,31 @@ import seedu.address.model.contact.Note;
 import seedu.address.model.tag.Tag;
 
 /**
- * Parses input arguments and creates a new EditContactCommand object
+ * Parses input arguments and creates a new EditContactCommand object, or a BulkEditContactCommand object if
+ * they give a filter instead of an index.
  */
-public class EditContactCommandParser implements Parser<EditContactCommand> {
+public class EditContactCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditContactCommand
-     * and returns an EditContactCommand object for execution.
+     * and returns an EditContactCommand or BulkEditContactCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public EditContactCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         requireNonNull(args);
+        ArgumentMultimap filterArgMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+                        PREFIX_ADDRESS, PREFIX_TAG, PREFIX_NOTE, PREFIX_FILTER_NAME, PREFIX_FILTER_TAG);
+        // The filter prefixes are only looked for without an index, as the fields edited after an index may
+        // contain them
+        if (filterArgMultimap.getPreamble().isEmpty() && ParserUtil.hasContactFilter(filterArgMultimap)) {
+            return new BulkEditContactCommand(ParserUtil.parseContactFilter(filterArgMultimap),
+                    parseEditPersonDescriptor(filterArgMultimap));
+        }
+
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                         PREFIX_ADDRESS, PREFIX_TAG, PREFIX_NOTE);
-
         Index index;
 
         try {
@@ -50,6 +64,14 @@ public class EditContactCommandParser implements Parser<EditContactCommand> {
                 EditContactCommand.MESSAGE_USAGE), pe);
         }
 
+        return new EditContactCommand(index, parseEditPersonDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses the fields to edit in {@code argMultimap} into an {@code EditPersonDescriptor}.
+     * @throws ParseException if a field is repeated or invalid, or no field is given
+     */
+    private EditPersonDescriptor parseEditPersonDescriptor(ArgumentMultimap argMultimap) throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
 
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
@@ -75,7 +97,7 @@ public class EditContactCommandParser implements Parser<EditContactCommand> {
             throw new ParseException(EditContactCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditContactCommand(index, editPersonDescriptor);
+        return editPersonDescriptor;
     }
 
     /**
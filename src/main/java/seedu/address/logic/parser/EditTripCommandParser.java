@@ -6,9 +6,12 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_TRIP_DISPLAYED_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ACCOMMODATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ITINERARY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -17,27 +20,41 @@ import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkEditTripCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.EditTripCommand;
+import seedu.address.logic.commands.EditTripCommand.EditTripDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.Name;
 import seedu.address.model.trip.Note;
 
 /**
- * Parses input arguments and creates a new EditTripCommand object
+ * Parses input arguments and creates a new EditTripCommand object, or a BulkEditTripCommand object if they give
+ * a filter instead of an index.
  */
-public class EditTripCommandParser implements Parser<EditTripCommand> {
+public class EditTripCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditTripCommand
-     * and returns an EditTripCommand object for execution.
+     * and returns an EditTripCommand or BulkEditTripCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public EditTripCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         requireNonNull(args);
+        ArgumentMultimap filterArgMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ACCOMMODATION, PREFIX_ITINERARY,
+                        PREFIX_DATE, PREFIX_CUSTOMER_NAME, PREFIX_NOTE, PREFIX_FILTER_NAME, PREFIX_FROM_DATE,
+                        PREFIX_TO_DATE);
+        // The filter prefixes are only looked for without an index, as the fields edited after an index may
+        // contain them, e.g. "nts/Transfer to/from airport"
+        if (filterArgMultimap.getPreamble().isEmpty() && ParserUtil.hasTripFilter(filterArgMultimap)) {
+            return new BulkEditTripCommand(ParserUtil.parseTripFilter(filterArgMultimap),
+                    parseEditTripDescriptor(filterArgMultimap));
+        }
+
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ACCOMMODATION, PREFIX_ITINERARY,
                         PREFIX_DATE, PREFIX_CUSTOMER_NAME, PREFIX_NOTE);
-
         Index index;
 
         try {
@@ -49,9 +66,17 @@ public class EditTripCommandParser implements Parser<EditTripCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditTripCommand.MESSAGE_USAGE), pe);
         }
 
+        return new EditTripCommand(index, parseEditTripDescriptor(argMultimap));
+    }
+
+    /**
+     * Parses the fields to edit in {@code argMultimap} into an {@code EditTripDescriptor}.
+     * @throws ParseException if a field is repeated or invalid, or no field is given
+     */
+    private EditTripDescriptor parseEditTripDescriptor(ArgumentMultimap argMultimap) throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_ACCOMMODATION,
                 PREFIX_ITINERARY, PREFIX_DATE, PREFIX_NOTE);
-        EditTripCommand.EditTripDescriptor editTripDescriptor = new EditTripCommand.EditTripDescriptor();
+        EditTripDescriptor editTripDescriptor = new EditTripDescriptor();
 
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             editTripDescriptor.setName(ParserUtil.parseTripName(argMultimap.getValue(PREFIX_NAME).get()));
@@ -80,7 +105,7 @@ public class EditTripCommandParser implements Parser<EditTripCommand> {
             throw new ParseException(EditTripCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditTripCommand(index, editTripDescriptor);
+        return editTripDescriptor;
     }
 
     /**
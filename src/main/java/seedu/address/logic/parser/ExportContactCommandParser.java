@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ExportContactCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportContactCommand object
+ */
+public class ExportContactCommandParser implements Parser<ExportContactCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportContactCommand
+     * and returns an ExportContactCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportContactCommand parse(String args) throws ParseException {
+        try {
+            return new ExportContactCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportContactCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ExportTripCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportTripCommand object
+ */
+public class ExportTripCommandParser implements Parser<ExportTripCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportTripCommand
+     * and returns an ExportTripCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportTripCommand parse(String args) throws ParseException {
+        try {
+            return new ExportTripCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportTripCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ImportContactCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportContactCommand object
+ */
+public class ImportContactCommandParser implements Parser<ImportContactCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportContactCommand
+     * and returns an ImportContactCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportContactCommand parse(String args) throws ParseException {
+        try {
+            return new ImportContactCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportContactCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
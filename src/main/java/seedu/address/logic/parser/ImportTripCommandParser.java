@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ImportTripCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportTripCommand object
+ */
+public class ImportTripCommandParser implements Parser<ImportTripCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportTripCommand
+     * and returns an ImportTripCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportTripCommand parse(String args) throws ParseException {
+        try {
+            return new ImportTripCommand(ParserUtil.parseFilePath(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportTripCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
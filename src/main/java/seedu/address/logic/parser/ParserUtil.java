@@ -3,15 +3,26 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_TRIP_DISPLAYED_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILTER_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.Address;
+import seedu.address.model.contact.ContactMatchesFilterPredicate;
 import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Phone;
@@ -20,6 +31,7 @@ import seedu.address.model.trip.Accommodation;
 import seedu.address.model.trip.Itinerary;
 import seedu.address.model.trip.Note;
 import seedu.address.model.trip.TripDate;
+import seedu.address.model.trip.TripMatchesFilterPredicate;
 import seedu.address.model.trip.TripName;
 
 /**
@@ -28,6 +40,11 @@ import seedu.address.model.trip.TripName;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_EMPTY_FILTER_NAME = "At least one name keyword must follow "
+            + PREFIX_FILTER_NAME + ".";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The " + PREFIX_FROM_DATE + " date must not be after the "
+            + PREFIX_TO_DATE + " date.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is missing or not valid.";
     private static final String SPECIAL_CHARACTERS = "!#$%&'*+/=?`{|}~^.-";
 
     /**
@@ -237,4 +254,90 @@ public class ParserUtil {
         requireNonNull(note);
         return new Note(note);
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
+    /**
+     * Returns true if any of the prefixes of a contact filter are present in {@code argMultimap}.
+     */
+    public static boolean hasContactFilter(ArgumentMultimap argMultimap) {
+        return argMultimap.getValue(PREFIX_FILTER_NAME).isPresent()
+                || argMultimap.getValue(PREFIX_FILTER_TAG).isPresent();
+    }
+
+    /**
+     * Parses the {@code fn/} and {@code ft/} values in {@code argMultimap} into a filter on contacts.
+     *
+     * @throws ParseException if either prefix is repeated, or a value is invalid.
+     */
+    public static ContactMatchesFilterPredicate parseContactFilter(ArgumentMultimap argMultimap)
+            throws ParseException {
+        assert hasContactFilter(argMultimap);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILTER_NAME, PREFIX_FILTER_TAG);
+
+        Optional<Tag> tag = argMultimap.getValue(PREFIX_FILTER_TAG).isPresent()
+                ? Optional.of(parseTag(argMultimap.getValue(PREFIX_FILTER_TAG).get()))
+                : Optional.empty();
+        return new ContactMatchesFilterPredicate(tag, parseFilterKeywords(argMultimap));
+    }
+
+    /**
+     * Returns true if any of the prefixes of a trip filter are present in {@code argMultimap}.
+     */
+    public static boolean hasTripFilter(ArgumentMultimap argMultimap) {
+        return argMultimap.getValue(PREFIX_FILTER_NAME).isPresent()
+                || argMultimap.getValue(PREFIX_FROM_DATE).isPresent()
+                || argMultimap.getValue(PREFIX_TO_DATE).isPresent();
+    }
+
+    /**
+     * Parses the {@code fn/}, {@code from/} and {@code to/} values in {@code argMultimap} into a filter on trips.
+     *
+     * @throws ParseException if any prefix is repeated, a value is invalid, or the dates are in the wrong order.
+     */
+    public static TripMatchesFilterPredicate parseTripFilter(ArgumentMultimap argMultimap) throws ParseException {
+        assert hasTripFilter(argMultimap);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILTER_NAME, PREFIX_FROM_DATE, PREFIX_TO_DATE);
+
+        Optional<LocalDate> fromDate = argMultimap.getValue(PREFIX_FROM_DATE).isPresent()
+                ? Optional.of(parseTripDate(argMultimap.getValue(PREFIX_FROM_DATE).get()).date)
+                : Optional.empty();
+        Optional<LocalDate> toDate = argMultimap.getValue(PREFIX_TO_DATE).isPresent()
+                ? Optional.of(parseTripDate(argMultimap.getValue(PREFIX_TO_DATE).get()).date)
+                : Optional.empty();
+        if (fromDate.isPresent() && toDate.isPresent() && fromDate.get().isAfter(toDate.get())) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new TripMatchesFilterPredicate(fromDate, toDate, parseFilterKeywords(argMultimap));
+    }
+
+    /**
+     * Splits the {@code fn/} value in {@code argMultimap}, if present, into keywords.
+     *
+     * @throws ParseException if the value is present but blank.
+     */
+    private static List<String> parseFilterKeywords(ArgumentMultimap argMultimap) throws ParseException {
+        Optional<String> keywords = argMultimap.getValue(PREFIX_FILTER_NAME);
+        if (keywords.isEmpty()) {
+            return List.of();
+        }
+        String trimmedKeywords = keywords.get().trim();
+        if (trimmedKeywords.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_FILTER_NAME);
+        }
+        return List.of(trimmedKeywords.split("\\s+"));
+    }
 }
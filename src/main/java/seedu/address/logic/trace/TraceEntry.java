@@ -0,0 +1,144 @@
+package seedu.address.logic.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.metrics.CommandPhase;
+import seedu.address.logic.metrics.CommandTimer;
+
+/**
+ * One command in a trace: what the user entered, when, what the app answered and how long each phase took.
+ * Stored as one JSON object per line in a trace file.
+ */
+public class TraceEntry {
+
+    private final String timestamp;
+    private final String command;
+    private final boolean isSuccessful;
+    private final String feedback;
+    private final long parseNanos;
+    private final long executeNanos;
+    private final long saveNanos;
+    private final long totalNanos;
+
+    /**
+     * Constructs a {@code TraceEntry} with the given details.
+     */
+    @JsonCreator
+    public TraceEntry(@JsonProperty("timestamp") String timestamp, @JsonProperty("command") String command,
+                      @JsonProperty("isSuccessful") boolean isSuccessful, @JsonProperty("feedback") String feedback,
+                      @JsonProperty("parseNanos") long parseNanos, @JsonProperty("executeNanos") long executeNanos,
+                      @JsonProperty("saveNanos") long saveNanos, @JsonProperty("totalNanos") long totalNanos) {
+        this.timestamp = timestamp;
+        this.command = command;
+        this.isSuccessful = isSuccessful;
+        this.feedback = feedback;
+        this.parseNanos = parseNanos;
+        this.executeNanos = executeNanos;
+        this.saveNanos = saveNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Creates an entry for {@code command}, issued at {@code issuedAt} and timed by {@code timer}.
+     * {@code feedback} is the message shown to the user, whether the command succeeded or not.
+     */
+    public static TraceEntry of(Instant issuedAt, String command, CommandTimer timer, boolean isSuccessful,
+                                String feedback) {
+        requireNonNull(issuedAt);
+        requireNonNull(command);
+        requireNonNull(timer);
+        return new TraceEntry(issuedAt.toString(), command, isSuccessful, feedback,
+                timer.getPhaseNanos(CommandPhase.PARSE), timer.getPhaseNanos(CommandPhase.EXECUTE),
+                timer.getPhaseNanos(CommandPhase.SAVE), timer.getTotalNanos());
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public boolean isSuccessful() {
+        return isSuccessful;
+    }
+
+    public String getFeedback() {
+        return feedback;
+    }
+
+    /**
+     * Returns the time spent in {@code phase}, or 0 if the command did not reach it.
+     */
+    public long getPhaseNanos(CommandPhase phase) {
+        switch (phase) {
+        case PARSE:
+            return parseNanos;
+        case EXECUTE:
+            return executeNanos;
+        case SAVE:
+            return saveNanos;
+        default:
+            throw new AssertionError("Unknown phase: " + phase);
+        }
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns true if both entries have the same outcome, ignoring when they ran and how long they took.
+     */
+    public boolean hasSameOutcome(TraceEntry other) {
+        return other != null
+                && Objects.equals(command, other.command)
+                && isSuccessful == other.isSuccessful
+                && Objects.equals(feedback, other.feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TraceEntry)) {
+            return false;
+        }
+
+        TraceEntry otherEntry = (TraceEntry) other;
+        return Objects.equals(timestamp, otherEntry.timestamp)
+                && hasSameOutcome(otherEntry)
+                && parseNanos == otherEntry.parseNanos
+                && executeNanos == otherEntry.executeNanos
+                && saveNanos == otherEntry.saveNanos
+                && totalNanos == otherEntry.totalNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timestamp, command, isSuccessful, feedback, parseNanos, executeNanos, saveNanos,
+                totalNanos);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("timestamp", timestamp)
+                .add("command", command)
+                .add("isSuccessful", isSuccessful)
+                .add("feedback", feedback)
+                .add("totalNanos", totalNanos)
+                .toString();
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.logic.trace;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.metrics.CommandTimer;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+
+/**
+ * Records every command executed by the app to a trace file, one {@link TraceEntry} per line.
+ * Together with a snapshot of the data at the start of the session, a trace can be replayed by
+ * {@link TraceReplayer} to reproduce the session.
+ *
+ * Recording never causes a command to fail: if the trace cannot be written, recording stops and a warning is logged.
+ */
+public class TraceRecorder {
+
+    private static final Logger logger = LogsCenter.getLogger(TraceRecorder.class);
+
+    private final Path traceFilePath;
+    private BufferedWriter writer;
+
+    private TraceRecorder(Path traceFilePath, BufferedWriter writer) {
+        this.traceFilePath = traceFilePath;
+        this.writer = writer;
+    }
+
+    /**
+     * Returns a recorder that records nothing.
+     */
+    public static TraceRecorder disabled() {
+        return new TraceRecorder(null, null);
+    }
+
+    /**
+     * Returns a recorder that writes to {@code traceFilePath}, replacing any trace already in that file.
+     */
+    public static TraceRecorder open(Path traceFilePath) throws IOException {
+        requireNonNull(traceFilePath);
+        FileUtil.createParentDirsOfFile(traceFilePath);
+        BufferedWriter writer = Files.newBufferedWriter(traceFilePath, StandardCharsets.UTF_8);
+        logger.info("Recording commands to " + traceFilePath);
+        return new TraceRecorder(traceFilePath, writer);
+    }
+
+    /**
+     * Returns true if commands are currently being recorded.
+     */
+    public synchronized boolean isEnabled() {
+        return writer != null;
+    }
+
+    public Path getTraceFilePath() {
+        return traceFilePath;
+    }
+
+    /**
+     * Appends a command to the trace. Each entry is flushed immediately so that the trace survives a crash.
+     */
+    public synchronized void record(Instant issuedAt, String commandText, CommandTimer timer, boolean isSuccessful,
+                                    String feedback) {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.write(JsonUtil.toCompactJsonString(
+                    TraceEntry.of(issuedAt, commandText, timer, isSuccessful, feedback)));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            logger.warning("Failed to record command, recording stopped : " + StringUtil.getDetails(e));
+            close();
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} and {@code tripBook} next to the trace file, as the data the trace starts from.
+     * Does nothing if this recorder is disabled.
+     */
+    public void saveSnapshot(ReadOnlyAddressBook addressBook, ReadOnlyTripBook tripBook) throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        new JsonAddressBookStorage(getAddressBookSnapshotPath(traceFilePath)).saveAddressBook(addressBook);
+        new JsonTripBookStorage(getTripBookSnapshotPath(traceFilePath)).saveTripBook(tripBook);
+    }
+
+    /**
+     * Stops recording and closes the trace file.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close trace file : " + StringUtil.getDetails(e));
+        }
+        writer = null;
+    }
+
+    /**
+     * Returns the path of the address book snapshot saved with the trace at {@code traceFilePath}.
+     */
+    public static Path getAddressBookSnapshotPath(Path traceFilePath) {
+        return traceFilePath.resolveSibling(traceFilePath.getFileName() + ".addressbook.json");
+    }
+
+    /**
+     * Returns the path of the trip book snapshot saved with the trace at {@code traceFilePath}.
+     */
+    public static Path getTripBookSnapshotPath(Path traceFilePath) {
+        return traceFilePath.resolveSibling(traceFilePath.getFileName() + ".tripbook.json");
+    }
+
+    /**
+     * Reads all entries of the trace at {@code traceFilePath}. Blank lines are skipped.
+     */
+    public static List<TraceEntry> read(Path traceFilePath) throws IOException {
+        requireNonNull(traceFilePath);
+        List<TraceEntry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(traceFilePath, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                entries.add(JsonUtil.fromJsonString(line, TraceEntry.class));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,343 @@
+package seedu.address.logic.trace;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.MetricsCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.LatencyHistogram;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a trace recorded by {@link TraceRecorder} against the current build, starting from the data snapshot
+ * saved with the trace, and compares the outcome and timing of every command with the recording.
+ */
+public class TraceReplayer {
+
+    public static final String MESSAGE_USAGE = "Usage: TraceReplayer --trace FILE [--addressbook FILE] "
+            + "[--tripbook FILE] [--tolerance RATIO] [--report FILE]";
+
+    /** How much slower the median of a command may be in the replay before it is reported as a regression. */
+    public static final double DEFAULT_TOLERANCE = 0.25;
+
+    /** Commands with fewer samples than this are too noisy to be reported as regressions. */
+    public static final int MIN_SAMPLES_FOR_REGRESSION = 5;
+
+    /** Commands whose output depends on when they ran, so only whether they succeeded is compared. */
+    private static final Set<String> TIME_DEPENDENT_COMMAND_WORDS = Set.of(MetricsCommand.COMMAND_WORD);
+
+    private final Path traceFilePath;
+    private final Path addressBookSnapshotPath;
+    private final Path tripBookSnapshotPath;
+
+    /**
+     * Creates a replayer for the trace at {@code traceFilePath}, using the snapshots saved next to it.
+     */
+    public TraceReplayer(Path traceFilePath) {
+        this(traceFilePath, TraceRecorder.getAddressBookSnapshotPath(traceFilePath),
+                TraceRecorder.getTripBookSnapshotPath(traceFilePath));
+    }
+
+    /**
+     * Creates a replayer for the trace at {@code traceFilePath} that starts from the given snapshots.
+     */
+    public TraceReplayer(Path traceFilePath, Path addressBookSnapshotPath, Path tripBookSnapshotPath) {
+        requireNonNull(traceFilePath);
+        requireNonNull(addressBookSnapshotPath);
+        requireNonNull(tripBookSnapshotPath);
+        this.traceFilePath = traceFilePath;
+        this.addressBookSnapshotPath = addressBookSnapshotPath;
+        this.tripBookSnapshotPath = tripBookSnapshotPath;
+    }
+
+    /**
+     * Replays the trace on copies of the snapshots in {@code workingDirectory}, leaving the snapshots untouched.
+     */
+    public Result replay(Path workingDirectory) throws IOException, DataLoadingException {
+        List<TraceEntry> recorded = TraceRecorder.read(traceFilePath);
+
+        Path addressBookFilePath = workingDirectory.resolve("addressbook.json");
+        Path tripBookFilePath = workingDirectory.resolve("tripbook.json");
+        copySnapshot(addressBookSnapshotPath, addressBookFilePath);
+        copySnapshot(tripBookSnapshotPath, tripBookFilePath);
+        Storage storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(workingDirectory.resolve("preferences.json")),
+                new JsonTripBookStorage(tripBookFilePath));
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        ReadOnlyTripBook tripBook = storage.readTripBook().get();
+
+        Path replayTraceFilePath = workingDirectory.resolve("replay.jsonl");
+        TraceRecorder replayRecorder = TraceRecorder.open(replayTraceFilePath);
+        CommandMetrics commandMetrics = new CommandMetrics();
+        commandMetrics.setSlowCommandThresholdMillis(Long.MAX_VALUE);
+        Logic logic = new LogicManager(new ModelManager(addressBook, tripBook, new UserPrefs()), storage,
+                commandMetrics, replayRecorder);
+        try {
+            for (TraceEntry entry : recorded) {
+                try {
+                    logic.execute(entry.getCommand());
+                } catch (CommandException | ParseException e) {
+                    // the outcome is in the replay trace and compared with the recording afterwards
+                }
+            }
+        } finally {
+            replayRecorder.close();
+        }
+
+        return new Result(recorded, TraceRecorder.read(replayTraceFilePath));
+    }
+
+    private static void copySnapshot(Path snapshotPath, Path target) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            throw new FileSystemException(snapshotPath.toString(), null, "Data snapshot for the trace not found");
+        }
+        Files.copy(snapshotPath, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * The recorded and replayed entries of a trace, paired up in order.
+     */
+    public static class Result {
+        private final List<TraceEntry> recorded;
+        private final List<TraceEntry> replayed;
+
+        /**
+         * Creates a result from the recorded entries and the entries recorded while replaying them.
+         */
+        public Result(List<TraceEntry> recorded, List<TraceEntry> replayed) {
+            checkArgument(recorded.size() == replayed.size(), "Every recorded command must be replayed once");
+            this.recorded = List.copyOf(recorded);
+            this.replayed = List.copyOf(replayed);
+        }
+
+        public List<TraceEntry> getRecorded() {
+            return recorded;
+        }
+
+        public List<TraceEntry> getReplayed() {
+            return replayed;
+        }
+
+        /**
+         * Returns the positions of commands whose replayed outcome differs from the recording.
+         */
+        public List<Integer> getDifferences() {
+            List<Integer> differences = new ArrayList<>();
+            for (int i = 0; i < recorded.size(); i++) {
+                if (!hasSameOutcome(recorded.get(i), replayed.get(i))) {
+                    differences.add(i);
+                }
+            }
+            return differences;
+        }
+
+        private static boolean hasSameOutcome(TraceEntry expected, TraceEntry actual) {
+            if (TIME_DEPENDENT_COMMAND_WORDS.contains(AddressBookParser.getCommandWord(expected.getCommand()))) {
+                return expected.isSuccessful() == actual.isSuccessful();
+            }
+            return expected.hasSameOutcome(actual);
+        }
+
+        /**
+         * Returns the command words whose median latency in the replay is more than {@code tolerance} times
+         * slower than in the recording, ignoring command words with too few samples.
+         */
+        public List<String> getRegressions(double tolerance) {
+            List<String> regressions = new ArrayList<>();
+            getLatenciesByCommandWord().forEach((commandWord, latencies) -> {
+                if (isRegression(latencies, tolerance)) {
+                    regressions.add(commandWord);
+                }
+            });
+            return regressions;
+        }
+
+        private static boolean isRegression(LatencyHistogram[] latencies, double tolerance) {
+            return latencies[0].getCount() >= MIN_SAMPLES_FOR_REGRESSION
+                    && latencies[1].getValueAtPercentile(50) > latencies[0].getValueAtPercentile(50) * (1 + tolerance);
+        }
+
+        /**
+         * Returns the recorded (index 0) and replayed (index 1) latencies of each command word,
+         * in the order the command words first appear in the trace.
+         */
+        private Map<String, LatencyHistogram[]> getLatenciesByCommandWord() {
+            Map<String, LatencyHistogram[]> latenciesByCommandWord = new LinkedHashMap<>();
+            for (int i = 0; i < recorded.size(); i++) {
+                String commandWord = AddressBookParser.getCommandWord(recorded.get(i).getCommand());
+                LatencyHistogram[] latencies = latenciesByCommandWord.computeIfAbsent(commandWord, unused ->
+                        new LatencyHistogram[] {new LatencyHistogram(), new LatencyHistogram()});
+                latencies[0].record(recorded.get(i).getTotalNanos());
+                latencies[1].record(replayed.get(i).getTotalNanos());
+            }
+            return latenciesByCommandWord;
+        }
+
+        /**
+         * Returns a report of the differences in outcome and the latency of each command word,
+         * marking regressions beyond {@code tolerance}.
+         */
+        public String formatReport(double tolerance) {
+            List<Integer> differences = getDifferences();
+            long recordedNanos = recorded.stream().mapToLong(TraceEntry::getTotalNanos).sum();
+            long replayedNanos = replayed.stream().mapToLong(TraceEntry::getTotalNanos).sum();
+
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("Replayed %d command(s): %d matched, %d differed%n", recorded.size(),
+                    recorded.size() - differences.size(), differences.size()));
+            report.append(String.format("Total time: recorded %s, replayed %s (%s)%n", formatMillis(recordedNanos),
+                    formatMillis(replayedNanos), formatRatio(recordedNanos, replayedNanos)));
+
+            for (int i : differences) {
+                TraceEntry expected = recorded.get(i);
+                TraceEntry actual = replayed.get(i);
+                report.append(String.format("%n#%d %s%n    expected: %s%n    actual:   %s%n", i + 1,
+                        expected.getCommand(), formatOutcome(expected), formatOutcome(actual)));
+            }
+
+            report.append(String.format("%nLatency by command (recorded -> replayed):%n"));
+            getLatenciesByCommandWord().forEach((commandWord, latencies) -> {
+                long recordedMedian = latencies[0].getValueAtPercentile(50);
+                long replayedMedian = latencies[1].getValueAtPercentile(50);
+                report.append(String.format("%s: count=%d p50=%s -> %s (%s) p99=%s -> %s%s%n", commandWord,
+                        latencies[0].getCount(), formatMillis(recordedMedian), formatMillis(replayedMedian),
+                        formatRatio(recordedMedian, replayedMedian),
+                        formatMillis(latencies[0].getValueAtPercentile(99)),
+                        formatMillis(latencies[1].getValueAtPercentile(99)),
+                        isRegression(latencies, tolerance) ? "  REGRESSION" : ""));
+            });
+            return report.toString();
+        }
+
+        private static String formatOutcome(TraceEntry entry) {
+            return (entry.isSuccessful() ? "[success] " : "[failure] ") + entry.getFeedback();
+        }
+
+        private static String formatMillis(long nanos) {
+            return String.format("%.2fms", nanos / 1_000_000.0);
+        }
+
+        private static String formatRatio(long before, long after) {
+            return before == 0 ? "n/a" : String.format("%.2fx", (double) after / before);
+        }
+    }
+
+    /**
+     * Replays a trace and prints the report. Exits with status 1 if any command's outcome differs from the
+     * recording or any command became slower than allowed. Run with {@code --help} to see the options.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int status = run(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the replay for the given command line arguments and returns the exit status.
+     */
+    static int run(String[] args) throws IOException, DataLoadingException {
+        Path traceFilePath = null;
+        Path addressBookSnapshotPath = null;
+        Path tripBookSnapshotPath = null;
+        double tolerance = DEFAULT_TOLERANCE;
+        Path reportFilePath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help") || i + 1 == args.length) {
+                System.out.println(MESSAGE_USAGE);
+                return 2;
+            }
+            String value = args[++i];
+            switch (option) {
+            case "--trace":
+                traceFilePath = Paths.get(value);
+                break;
+            case "--addressbook":
+                addressBookSnapshotPath = Paths.get(value);
+                break;
+            case "--tripbook":
+                tripBookSnapshotPath = Paths.get(value);
+                break;
+            case "--tolerance":
+                tolerance = Double.parseDouble(value);
+                break;
+            case "--report":
+                reportFilePath = Paths.get(value);
+                break;
+            default:
+                System.out.println(MESSAGE_USAGE);
+                return 2;
+            }
+        }
+        if (traceFilePath == null) {
+            System.out.println(MESSAGE_USAGE);
+            return 2;
+        }
+
+        // Logging every command would distort the timings
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        TraceReplayer replayer = new TraceReplayer(traceFilePath,
+                addressBookSnapshotPath != null
+                        ? addressBookSnapshotPath : TraceRecorder.getAddressBookSnapshotPath(traceFilePath),
+                tripBookSnapshotPath != null
+                        ? tripBookSnapshotPath : TraceRecorder.getTripBookSnapshotPath(traceFilePath));
+        Path workingDirectory = Files.createTempDirectory("travelhub-replay");
+        Result result;
+        try {
+            result = replayer.replay(workingDirectory);
+        } finally {
+            deleteRecursively(workingDirectory);
+        }
+
+        String report = result.formatReport(tolerance);
+        System.out.print(report);
+        if (reportFilePath != null) {
+            FileUtil.createIfMissing(reportFilePath);
+            FileUtil.writeToFile(reportFilePath, report);
+        }
+        return result.getDifferences().isEmpty() && result.getRegressions(tolerance).isEmpty() ? 0 : 1;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
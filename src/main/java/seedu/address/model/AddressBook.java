@@ -2,9 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.UniquePersonList;
@@ -76,6 +80,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code contacts} to the address book, as a single change to the contact list.
+     * None of them may already exist in the address book, nor appear twice in {@code contacts}.
+     */
+    public void addPersons(Collection<? extends Contact> contacts) {
+        persons.addAll(contacts);
+    }
+
     /**
      * Replaces the given contact {@code target} in the list with {@code editedContact}.
      * {@code target} must exist in the address book.
@@ -96,6 +108,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes every contact that matches {@code predicate} from this {@code AddressBook}.
+     *
+     * @return the contacts removed
+     */
+    public List<Contact> removeContacts(Predicate<? super Contact> predicate) {
+        return persons.removeIf(predicate);
+    }
+
+    /**
+     * Replaces every contact that matches {@code predicate} with the result of {@code editor}.
+     * The edited contacts must not have the same identity as each other or any other contact in the address book.
+     *
+     * @return the edited contacts
+     */
+    public List<Contact> editContacts(Predicate<? super Contact> predicate, UnaryOperator<Contact> editor) {
+        return persons.replaceIf(predicate, editor);
+    }
+
+    /**
+     * Runs {@code changes}, which may change this address book any number of times, and notifies the listeners of
+     * {@link #getPersonList()} of all of them as a single change once it returns. If {@code changes} throws, the
+     * address book is left as it was before.
+     */
+    public void batch(Runnable changes) {
+        persons.batch(changes);
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns the contacts currently in this address book, which later changes leave untouched. Takes O(1) time.
+     */
+    public PersistentList<Contact> getPersonSnapshot() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Replaces the contacts in this address book with {@code snapshot}, taken by {@link #getPersonSnapshot()}.
+     */
+    public void restorePersonSnapshot(PersistentList<Contact> snapshot) {
+        persons.restoreSnapshot(snapshot);
+    }
+
     //// util methods
 
     @Override
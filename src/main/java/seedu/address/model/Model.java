@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -86,6 +88,14 @@ public interface Model {
      */
     void addPerson(Contact contact);
 
+    /**
+     * Adds the given contacts, as a single change.
+     * None of {@code contacts} may already exist in the address book, or share an identity with one another.
+     *
+     * @throws seedu.address.model.contact.exceptions.DuplicatePersonException if the contacts would not be unique
+     */
+    void addContacts(List<Contact> contacts);
+
     /**
      * Replaces the given contact {@code target} with {@code editedContact}.
      * {@code target} must exist in the address book.
@@ -94,9 +104,32 @@ public interface Model {
      */
     void setPerson(Contact target, Contact editedContact);
 
+    /**
+     * Deletes every contact in the address book that matches {@code predicate}, as a single change.
+     *
+     * @return the contacts deleted
+     */
+    List<Contact> deleteContacts(Predicate<Contact> predicate);
+
+    /**
+     * Replaces every contact in the address book that matches {@code predicate} with the result of {@code editor},
+     * as a single change. Nothing is replaced if the edited contacts would not be unique.
+     *
+     * @return the edited contacts
+     * @throws seedu.address.model.contact.exceptions.DuplicatePersonException if the edited contacts would not be
+     *     unique
+     */
+    List<Contact> editContacts(Predicate<Contact> predicate, UnaryOperator<Contact> editor);
+
     /** Returns an unmodifiable view of the filtered contact list */
     ObservableList<Contact> getFilteredPersonList();
 
+    /**
+     * Returns the contacts in the filtered contact list as it is now, in order. Later changes to the model do not
+     * affect it, so it can be read on another thread. Taking it costs O(1), as the filter is applied while iterating.
+     */
+    Iterable<Contact> getFilteredPersonSnapshot();
+
     /**
      * Updates the filter of the filtered contact list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -128,6 +161,14 @@ public interface Model {
      */
     void addTrip(Trip trip);
 
+    /**
+     * Adds the given trips, as a single change.
+     * None of {@code trips} may already exist in the trip book, or share an identity with one another.
+     *
+     * @throws seedu.address.model.trip.exceptions.DuplicateTripException if the trips would not be unique
+     */
+    void addTrips(List<Trip> trips);
+
     /**
      * Replaces the given trip {@code target} with {@code editedTrip}.
      * {@code target} must exist in the trip book.
@@ -135,12 +176,74 @@ public interface Model {
      */
     void setTrip(Trip target, Trip editedTrip);
 
+    /**
+     * Deletes every trip in the trip book that matches {@code predicate}, as a single change.
+     *
+     * @return the trips deleted
+     */
+    List<Trip> deleteTrips(Predicate<Trip> predicate);
+
+    /**
+     * Replaces every trip in the trip book that matches {@code predicate} with the result of {@code editor},
+     * as a single change. Nothing is replaced if the edited trips would not be unique.
+     *
+     * @return the edited trips
+     * @throws seedu.address.model.trip.exceptions.DuplicateTripException if the edited trips would not be unique
+     */
+    List<Trip> editTrips(Predicate<Trip> predicate, UnaryOperator<Trip> editor);
+
     /** Returns an unmodifiable view of the filtered trip list */
     ObservableList<Trip> getFilteredTripList();
 
+    /**
+     * Returns the trips in the filtered trip list as it is now, in order. Later changes to the model do not affect
+     * it, so it can be read on another thread. Taking it costs O(1), as the filter is applied while iterating.
+     */
+    Iterable<Trip> getFilteredTripSnapshot();
+
     /**
      * Updates the filter of the filtered trip list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTripList(Predicate<Trip> predicate);
+
+    /**
+     * Records the current address book and trip book as a state that can be undone to, if they changed since the
+     * last recorded state. {@code description} names the change, e.g. the command that made it.
+     */
+    void commit(String description);
+
+    /**
+     * Discards the changes to the address book and trip book made since the last {@link #commit}, e.g. by part of
+     * a command that then failed.
+     */
+    void rollback();
+
+    /** Returns true if there is a recorded change to undo. */
+    boolean canUndo();
+
+    /**
+     * Restores the address book and trip book to the state before the last recorded change.
+     * There must be a change to undo.
+     *
+     * @return the description of the change undone
+     */
+    String undo();
+
+    /** Returns true if there is an undone change to redo. */
+    boolean canRedo();
+
+    /**
+     * Restores the address book and trip book to the state after the last undone change.
+     * There must be a change to redo.
+     *
+     * @return the description of the change redone
+     */
+    String redo();
+
+    /**
+     * Forgets all recorded changes, so that the current address book and trip book are the earliest state that can
+     * be undone to.
+     */
+    void clearHistory();
 }
@@ -0,0 +1,139 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.trip.Trip;
+
+/**
+ * The states of the address book and trip book that changes can be undone to or redone to.
+ *
+ * A state holds snapshots of both books' lists. A snapshot shares all but O(log n) of its memory with the snapshot
+ * before it, so the history costs little memory even for large books. At most {@code maxDepth} changes are kept;
+ * the oldest one is forgotten once the history is full.
+ */
+class ModelHistory {
+
+    private final int maxDepth;
+    private final List<State> states = new ArrayList<>();
+    private int currentIndex;
+
+    /**
+     * Creates a history that starts at {@code initialState} and keeps at most {@code maxDepth} changes.
+     */
+    ModelHistory(int maxDepth, State initialState) {
+        requireNonNull(initialState);
+        this.maxDepth = Math.max(0, maxDepth);
+        states.add(initialState);
+        currentIndex = 0;
+    }
+
+    /**
+     * Records {@code state} as the state after the current one, and forgets the states that could have been redone.
+     * Does nothing if {@code state} holds the same snapshots as the current state.
+     *
+     * @return true if {@code state} was recorded
+     */
+    boolean commit(State state) {
+        requireNonNull(state);
+        if (state.hasSameSnapshots(getCurrentState())) {
+            return false;
+        }
+
+        states.subList(currentIndex + 1, states.size()).clear();
+        states.add(state);
+        if (states.size() > maxDepth + 1) {
+            states.remove(0);
+        }
+        currentIndex = states.size() - 1;
+        return true;
+    }
+
+    State getCurrentState() {
+        return states.get(currentIndex);
+    }
+
+    boolean canUndo() {
+        return currentIndex > 0;
+    }
+
+    boolean canRedo() {
+        return currentIndex < states.size() - 1;
+    }
+
+    /**
+     * Moves back to the previous state. There must be one.
+     *
+     * @return the description of the change undone
+     */
+    String undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("Nothing to undo");
+        }
+        String description = getCurrentState().getDescription();
+        currentIndex--;
+        return description;
+    }
+
+    /**
+     * Moves forward to the state that was last undone. There must be one.
+     *
+     * @return the description of the change redone
+     */
+    String redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("Nothing to redo");
+        }
+        currentIndex++;
+        return getCurrentState().getDescription();
+    }
+
+    /**
+     * Forgets every state except the current one.
+     */
+    void clear() {
+        State currentState = getCurrentState();
+        states.clear();
+        states.add(currentState);
+        currentIndex = 0;
+    }
+
+    /**
+     * Snapshots of both books, and a description of the change that led to them.
+     */
+    static class State {
+        private final PersistentList<Contact> persons;
+        private final PersistentList<Trip> trips;
+        private final String description;
+
+        State(PersistentList<Contact> persons, PersistentList<Trip> trips, String description) {
+            this.persons = requireNonNull(persons);
+            this.trips = requireNonNull(trips);
+            this.description = requireNonNull(description);
+        }
+
+        PersistentList<Contact> getPersons() {
+            return persons;
+        }
+
+        PersistentList<Trip> getTrips() {
+            return trips;
+        }
+
+        String getDescription() {
+            return description;
+        }
+
+        /**
+         * Returns true if both states hold the very same snapshots. Snapshots are only replaced when a book changes,
+         * so this tells in O(1) time whether anything changed between the states.
+         */
+        boolean hasSameSnapshots(State other) {
+            return persons == other.persons && trips == other.trips;
+        }
+    }
+}
@@ -4,13 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.trip.Trip;
 
@@ -25,6 +28,7 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Contact> filteredContacts;
     private final FilteredList<Trip> filteredTrips;
+    private final ModelHistory history;
 
     /**
      * Initializes a ModelManager with the given addressBook, tripBook and userPrefs.
@@ -38,8 +42,9 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.tripBook = new TripBook(tripBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredContacts = new FilteredList<>(this.addressBook.getPersonList());
-        filteredTrips = new FilteredList<>(this.tripBook.getTripList());
+        filteredContacts = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
+        filteredTrips = new FilteredList<>(this.tripBook.getTripList(), PREDICATE_SHOW_ALL_TRIPS);
+        history = new ModelHistory(this.userPrefs.getUndoHistoryDepth(), getCurrentState(""));
         logger.info("ModelManager initialized successfully");
     }
 
@@ -137,6 +142,14 @@ public class ModelManager implements Model {
         logger.info("Added new contact: " + contact.getName());
     }
 
+    @Override
+    public void addContacts(List<Contact> contacts) {
+        requireNonNull(contacts);
+        addressBook.addPersons(contacts);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        logger.info("Added " + contacts.size() + " new contact(s)");
+    }
+
     @Override
     public void setPerson(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
@@ -144,6 +157,22 @@ public class ModelManager implements Model {
         logger.info("Updated contact: " + target.getName() + " to: " + editedContact.getName());
     }
 
+    @Override
+    public List<Contact> deleteContacts(Predicate<Contact> predicate) {
+        requireNonNull(predicate);
+        List<Contact> deleted = addressBook.removeContacts(predicate);
+        logger.info("Deleted " + deleted.size() + " contact(s)");
+        return deleted;
+    }
+
+    @Override
+    public List<Contact> editContacts(Predicate<Contact> predicate, UnaryOperator<Contact> editor) {
+        requireAllNonNull(predicate, editor);
+        List<Contact> edited = addressBook.editContacts(predicate, editor);
+        logger.info("Updated " + edited.size() + " contact(s)");
+        return edited;
+    }
+
     //=========== TripBook ================================================================================
 
     @Override
@@ -178,6 +207,14 @@ public class ModelManager implements Model {
         logger.info("Added new trip: " + trip.getName());
     }
 
+    @Override
+    public void addTrips(List<Trip> trips) {
+        requireNonNull(trips);
+        tripBook.addTrips(trips);
+        updateFilteredTripList(PREDICATE_SHOW_ALL_TRIPS);
+        logger.info("Added " + trips.size() + " new trip(s)");
+    }
+
     @Override
     public void setTrip(Trip target, Trip editedTrip) {
         requireAllNonNull(target, editedTrip);
@@ -185,6 +222,22 @@ public class ModelManager implements Model {
         logger.info("Updated trip: " + target.getName() + " to: " + editedTrip.getName());
     }
 
+    @Override
+    public List<Trip> deleteTrips(Predicate<Trip> predicate) {
+        requireNonNull(predicate);
+        List<Trip> deleted = tripBook.removeTrips(predicate);
+        logger.info("Deleted " + deleted.size() + " trip(s)");
+        return deleted;
+    }
+
+    @Override
+    public List<Trip> editTrips(Predicate<Trip> predicate, UnaryOperator<Trip> editor) {
+        requireAllNonNull(predicate, editor);
+        List<Trip> edited = tripBook.editTrips(predicate, editor);
+        logger.info("Updated " + edited.size() + " trip(s)");
+        return edited;
+    }
+
     //=========== Filtered Contact List Accessors =============================================================
 
     /**
@@ -197,9 +250,19 @@ public class ModelManager implements Model {
         return filteredContacts;
     }
 
+    @Override
+    public Iterable<Contact> getFilteredPersonSnapshot() {
+        return filter(addressBook.getPersonSnapshot(), filteredContacts.getPredicate());
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
+        // Setting a predicate filters the whole list again and reports it all as replaced, which is needless when
+        // the list is already filtered by it, as after every edit
+        if (predicate == filteredContacts.getPredicate()) {
+            return;
+        }
         logger.info("Updating filtered person list with new predicate");
         filteredContacts.setPredicate(predicate);
     }
@@ -216,13 +279,88 @@ public class ModelManager implements Model {
         return filteredTrips;
     }
 
+    @Override
+    public Iterable<Trip> getFilteredTripSnapshot() {
+        return filter(tripBook.getTripSnapshot(), filteredTrips.getPredicate());
+    }
+
     @Override
     public void updateFilteredTripList(Predicate<Trip> predicate) {
         requireNonNull(predicate);
+        if (predicate == filteredTrips.getPredicate()) {
+            return;
+        }
         logger.info("Updating filtered trip list with new predicate");
         filteredTrips.setPredicate(predicate);
     }
 
+    /**
+     * Returns the items of {@code snapshot} that match {@code predicate}, or all of them if it is null, as the
+     * filtered lists treat it.
+     */
+    private static <T> Iterable<T> filter(PersistentList<T> snapshot, Predicate<? super T> predicate) {
+        if (predicate == null) {
+            return snapshot;
+        }
+        return () -> snapshot.stream().filter(predicate).iterator();
+    }
+
+    //=========== Undo/Redo ================================================================================
+
+    @Override
+    public void commit(String description) {
+        requireNonNull(description);
+        if (history.commit(getCurrentState(description))) {
+            logger.fine("Recorded change for undo: " + description);
+        }
+    }
+
+    @Override
+    public void rollback() {
+        restore(history.getCurrentState());
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    @Override
+    public String undo() {
+        String description = history.undo();
+        restore(history.getCurrentState());
+        logger.info("Undid: " + description);
+        return description;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    @Override
+    public String redo() {
+        String description = history.redo();
+        restore(history.getCurrentState());
+        logger.info("Redid: " + description);
+        return description;
+    }
+
+    @Override
+    public void clearHistory() {
+        history.commit(getCurrentState(""));
+        history.clear();
+    }
+
+    private ModelHistory.State getCurrentState(String description) {
+        return new ModelHistory.State(addressBook.getPersonSnapshot(), tripBook.getTripSnapshot(), description);
+    }
+
+    private void restore(ModelHistory.State state) {
+        addressBook.restorePersonSnapshot(state.getPersons());
+        tripBook.restoreTripSnapshot(state.getTrips());
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == this) {
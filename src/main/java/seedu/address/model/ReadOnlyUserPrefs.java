@@ -15,4 +15,7 @@ public interface ReadOnlyUserPrefs {
 
     Path getTripBookFilePath();
 
+    /** Returns the number of changes that can be undone. */
+    int getUndoHistoryDepth();
+
 }
@@ -2,9 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.trip.Trip;
 import seedu.address.model.trip.UniqueTripList;
@@ -75,6 +79,14 @@ public class TripBook implements ReadOnlyTripBook {
         trips.add(p);
     }
 
+    /**
+     * Adds {@code trips} to the trip book, as a single change to the trip list.
+     * None of them may already exist in the trip book, nor appear twice in {@code trips}.
+     */
+    public void addTrips(Collection<? extends Trip> trips) {
+        this.trips.addAll(trips);
+    }
+
     /**
      * Replaces the given trip {@code target} in the list with {@code editedTrip}.
      * {@code target} must exist in the trip book.
@@ -94,6 +106,50 @@ public class TripBook implements ReadOnlyTripBook {
         trips.remove(key);
     }
 
+    /**
+     * Removes every trip that matches {@code predicate} from this {@code TripBook}.
+     *
+     * @return the trips removed
+     */
+    public List<Trip> removeTrips(Predicate<? super Trip> predicate) {
+        return trips.removeIf(predicate);
+    }
+
+    /**
+     * Replaces every trip that matches {@code predicate} with the result of {@code editor}.
+     * The edited trips must not have the same identity as each other or any other trip in the trip book.
+     *
+     * @return the edited trips
+     */
+    public List<Trip> editTrips(Predicate<? super Trip> predicate, UnaryOperator<Trip> editor) {
+        return trips.replaceIf(predicate, editor);
+    }
+
+    /**
+     * Runs {@code changes}, which may change this trip book any number of times, and notifies the listeners of
+     * {@link #getTripList()} of all of them as a single change once it returns. If {@code changes} throws, the trip
+     * book is left as it was before.
+     */
+    public void batch(Runnable changes) {
+        trips.batch(changes);
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns the trips currently in this trip book, which later changes leave untouched. Takes O(1) time.
+     */
+    public PersistentList<Trip> getTripSnapshot() {
+        return trips.getSnapshot();
+    }
+
+    /**
+     * Replaces the trips in this trip book with {@code snapshot}, taken by {@link #getTripSnapshot()}.
+     */
+    public void restoreTripSnapshot(PersistentList<Trip> snapshot) {
+        trips.restoreSnapshot(snapshot);
+    }
+
     //// util methods
 
     @Override
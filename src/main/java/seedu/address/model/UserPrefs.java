@@ -13,9 +13,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 50;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path tripBookFilePath = Paths.get("data" , "tripbook.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setTripBookFilePath(newUserPrefs.getTripBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -70,6 +74,21 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.tripBookFilePath = tripBookFilePath;
     }
 
+    @Override
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of changes that can be undone. 0 turns undo off.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        if (undoHistoryDepth < 0) {
+            throw new IllegalArgumentException("Undo history depth cannot be negative: " + undoHistoryDepth);
+        }
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -84,12 +103,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && tripBookFilePath.equals(otherUserPrefs.tripBookFilePath);
+                && tripBookFilePath.equals(otherUserPrefs.tripBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, tripBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, tripBookFilePath, undoHistoryDepth);
     }
 
     @Override
@@ -98,6 +118,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal address book data file location : " + addressBookFilePath);
         sb.append("\nLocal trip book data file location : " + tripBookFilePath);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
@@ -104,12 +105,22 @@ public class Contact {
         if (otherContact == this) {
             return true;
         }
-        String otherEmail = otherContact.getEmail().toString().toLowerCase();
-        String thisEmail = getEmail().toString().toLowerCase();
+        String otherEmail = otherContact.getEmail().toString().toLowerCase(Locale.ROOT);
+        String thisEmail = getEmail().toString().toLowerCase(Locale.ROOT);
 
         return otherEmail.equals(thisEmail);
     }
 
+    /**
+     * Returns a key that is equal for two contacts if and only if they are the same person,
+     * so that contacts can be checked for duplicates with a hash-based collection.
+     *
+     * @see #isSamePerson(Contact)
+     */
+    public String getIdentityKey() {
+        return getEmail().toString().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
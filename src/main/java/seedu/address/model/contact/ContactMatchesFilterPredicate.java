@@ -0,0 +1,65 @@
+package seedu.address.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Contact} has the given tag, if any, and that its {@code Name} matches any of the given
+ * keywords, if any.
+ */
+public class ContactMatchesFilterPredicate implements Predicate<Contact> {
+    private final Optional<Tag> tag;
+    private final List<String> nameKeywords;
+
+    /**
+     * Creates a predicate for contacts with {@code tag}, if present, whose name contains any of
+     * {@code nameKeywords}, if there are any. At least one of them must be given.
+     */
+    public ContactMatchesFilterPredicate(Optional<Tag> tag, List<String> nameKeywords) {
+        requireNonNull(tag);
+        requireNonNull(nameKeywords);
+        assert tag.isPresent() || !nameKeywords.isEmpty() : "A filter must restrict something";
+        this.tag = tag;
+        this.nameKeywords = List.copyOf(nameKeywords);
+    }
+
+    @Override
+    public boolean test(Contact contact) {
+        return tag.map(contact.getTags()::contains).orElse(true)
+                && (nameKeywords.isEmpty() || nameKeywords.stream()
+                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(contact.getName().fullName, keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ContactMatchesFilterPredicate)) {
+            return false;
+        }
+
+        ContactMatchesFilterPredicate otherPredicate = (ContactMatchesFilterPredicate) other;
+        return tag.equals(otherPredicate.tag) && nameKeywords.equals(otherPredicate.nameKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tag, nameKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tag", tag).add("nameKeywords", nameKeywords).toString();
+    }
+}
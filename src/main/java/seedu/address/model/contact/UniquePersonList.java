@@ -3,11 +3,19 @@ package seedu.address.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentObservableList;
 import seedu.address.model.contact.exceptions.DuplicatePersonException;
 import seedu.address.model.contact.exceptions.PersonNotFoundException;
 
@@ -24,7 +32,7 @@ import seedu.address.model.contact.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Contact> {
 
-    private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Contact> internalList = new PersistentObservableList<>();
     private final ObservableList<Contact> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -33,7 +41,7 @@ public class UniquePersonList implements Iterable<Contact> {
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return internalList.getSnapshot().stream().anyMatch(toCheck::isSamePerson);
     }
 
     /**
@@ -48,6 +56,28 @@ public class UniquePersonList implements Iterable<Contact> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, as a single change. None of them may already exist in the list, nor
+     * appear twice in {@code toAdd}. Duplicates are found by hashing, so this takes O(n + k log n) time for k contacts
+     * rather than the O(nk) of adding them one by one.
+     *
+     * @throws DuplicatePersonException if any of {@code toAdd} is a duplicate, in which case none of them are added
+     */
+    public void addAll(Collection<? extends Contact> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<String> identityKeys = new HashSet<>();
+        for (Contact contact : internalList.getSnapshot()) {
+            identityKeys.add(contact.getIdentityKey());
+        }
+        for (Contact contact : toAdd) {
+            if (!identityKeys.add(contact.getIdentityKey())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the contact {@code target} in the list with {@code editedContact}.
      * {@code target} must exist in the list.
@@ -79,9 +109,59 @@ public class UniquePersonList implements Iterable<Contact> {
         }
     }
 
+    /**
+     * Removes every contact that matches {@code predicate}, in one pass and as a single change to the list.
+     *
+     * @return the contacts removed, in list order
+     */
+    public List<Contact> removeIf(Predicate<? super Contact> predicate) {
+        requireNonNull(predicate);
+        List<Contact> remaining = new ArrayList<>(internalList.size());
+        List<Contact> removed = new ArrayList<>();
+        for (Contact contact : internalList.getSnapshot()) {
+            if (predicate.test(contact)) {
+                removed.add(contact);
+            } else {
+                remaining.add(contact);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.setAll(remaining);
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces every contact that matches {@code predicate} with the result of {@code editor}, in one pass and as a
+     * single change to the list. Nothing is replaced if the edited contacts would not be unique.
+     *
+     * @return the edited contacts, in list order
+     * @throws DuplicatePersonException if the edited contacts would not be unique
+     */
+    public List<Contact> replaceIf(Predicate<? super Contact> predicate, UnaryOperator<Contact> editor) {
+        requireAllNonNull(predicate, editor);
+        List<Contact> contacts = new ArrayList<>(internalList.size());
+        List<Contact> edited = new ArrayList<>();
+        for (Contact contact : internalList.getSnapshot()) {
+            if (predicate.test(contact)) {
+                Contact editedContact = editor.apply(contact);
+                edited.add(editedContact);
+                contacts.add(editedContact);
+            } else {
+                contacts.add(contact);
+            }
+        }
+
+        if (!edited.isEmpty()) {
+            setPersons(contacts);
+        }
+        return edited;
+    }
+
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.restore(replacement.getSnapshot());
     }
 
     /**
@@ -97,6 +177,30 @@ public class UniquePersonList implements Iterable<Contact> {
         internalList.setAll(contacts);
     }
 
+    /**
+     * Runs {@code changes}, which may change this list any number of times, and notifies listeners of all of them as
+     * a single change once it returns. If {@code changes} throws, the list is left as it was before.
+     */
+    public void batch(Runnable changes) {
+        internalList.batch(changes);
+    }
+
+    /**
+     * Returns the current contacts of this list, which later changes to the list leave untouched. Takes O(1) time.
+     */
+    public PersistentList<Contact> getSnapshot() {
+        return internalList.getSnapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken by {@link #getSnapshot()}
+     * of a {@code UniquePersonList}, so that it holds no duplicates.
+     */
+    public void restoreSnapshot(PersistentList<Contact> snapshot) {
+        requireNonNull(snapshot);
+        internalList.restore(snapshot);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -106,7 +210,7 @@ public class UniquePersonList implements Iterable<Contact> {
 
     @Override
     public Iterator<Contact> iterator() {
-        return internalList.iterator();
+        return internalList.getSnapshot().iterator();
     }
 
     @Override
@@ -138,11 +242,10 @@ public class UniquePersonList implements Iterable<Contact> {
      * Returns true if {@code contacts} contains only unique contacts.
      */
     private boolean personsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSamePerson(contacts.get(j))) {
-                    return false;
-                }
+        Set<String> identityKeys = new HashSet<>();
+        for (Contact contact : contacts) {
+            if (!identityKeys.add(contact.getIdentityKey())) {
+                return false;
             }
         }
         return true;
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
@@ -73,6 +74,16 @@ public class Trip {
                 && otherTrip.getName().name.equalsIgnoreCase(getName().name);
     }
 
+    /**
+     * Returns a key that is equal for two trips if and only if they are the same trip,
+     * so that trips can be checked for duplicates with a hash-based collection.
+     *
+     * @see #isSameTrip(Trip)
+     */
+    public String getIdentityKey() {
+        return getName().name.toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) {
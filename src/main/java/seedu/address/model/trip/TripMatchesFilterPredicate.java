@@ -0,0 +1,77 @@
+package seedu.address.model.trip;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Trip}'s date is within the given range, whose ends are optional and inclusive, and that its
+ * {@code TripName} matches any of the given keywords, if any.
+ */
+public class TripMatchesFilterPredicate implements Predicate<Trip> {
+    private final Optional<LocalDate> fromDate;
+    private final Optional<LocalDate> toDate;
+    private final List<String> nameKeywords;
+
+    /**
+     * Creates a predicate for trips on or after {@code fromDate} and on or before {@code toDate}, where present,
+     * whose name contains any of {@code nameKeywords}, if there are any. At least one of them must be given.
+     */
+    public TripMatchesFilterPredicate(Optional<LocalDate> fromDate, Optional<LocalDate> toDate,
+            List<String> nameKeywords) {
+        requireNonNull(fromDate);
+        requireNonNull(toDate);
+        requireNonNull(nameKeywords);
+        assert fromDate.isPresent() || toDate.isPresent() || !nameKeywords.isEmpty()
+                : "A filter must restrict something";
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.nameKeywords = List.copyOf(nameKeywords);
+    }
+
+    @Override
+    public boolean test(Trip trip) {
+        LocalDate date = trip.getDate().date;
+        return fromDate.map(from -> !date.isBefore(from)).orElse(true)
+                && toDate.map(to -> !date.isAfter(to)).orElse(true)
+                && (nameKeywords.isEmpty() || nameKeywords.stream()
+                        .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(trip.getName().name, keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TripMatchesFilterPredicate)) {
+            return false;
+        }
+
+        TripMatchesFilterPredicate otherPredicate = (TripMatchesFilterPredicate) other;
+        return fromDate.equals(otherPredicate.fromDate) && toDate.equals(otherPredicate.toDate)
+                && nameKeywords.equals(otherPredicate.nameKeywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fromDate, toDate, nameKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("fromDate", fromDate)
+                .add("toDate", toDate)
+                .add("nameKeywords", nameKeywords)
+                .toString();
+    }
+}
@@ -3,11 +3,19 @@ package seedu.address.model.trip;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.PersistentObservableList;
 import seedu.address.model.trip.exceptions.DuplicateTripException;
 import seedu.address.model.trip.exceptions.TripNotFoundException;
 
@@ -24,7 +32,7 @@ import seedu.address.model.trip.exceptions.TripNotFoundException;
  */
 public class UniqueTripList implements Iterable<Trip> {
 
-    private final ObservableList<Trip> internalList = FXCollections.observableArrayList();
+    private final PersistentObservableList<Trip> internalList = new PersistentObservableList<>();
     private final ObservableList<Trip> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -33,7 +41,7 @@ public class UniqueTripList implements Iterable<Trip> {
      */
     public boolean contains(Trip toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTrip);
+        return internalList.getSnapshot().stream().anyMatch(toCheck::isSameTrip);
     }
 
     /**
@@ -48,6 +56,28 @@ public class UniqueTripList implements Iterable<Trip> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, as a single change. None of them may already exist in the list, nor
+     * appear twice in {@code toAdd}. Duplicates are found by hashing, so this takes O(n + k log n) time for k trips
+     * rather than the O(nk) of adding them one by one.
+     *
+     * @throws DuplicateTripException if any of {@code toAdd} is a duplicate, in which case none of them are added
+     */
+    public void addAll(Collection<? extends Trip> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<String> identityKeys = new HashSet<>();
+        for (Trip trip : internalList.getSnapshot()) {
+            identityKeys.add(trip.getIdentityKey());
+        }
+        for (Trip trip : toAdd) {
+            if (!identityKeys.add(trip.getIdentityKey())) {
+                throw new DuplicateTripException();
+            }
+        }
+
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the trip {@code target} in the list with {@code editedTrip}.
      * {@code target} must exist in the list.
@@ -79,9 +109,59 @@ public class UniqueTripList implements Iterable<Trip> {
         }
     }
 
+    /**
+     * Removes every trip that matches {@code predicate}, in one pass and as a single change to the list.
+     *
+     * @return the trips removed, in list order
+     */
+    public List<Trip> removeIf(Predicate<? super Trip> predicate) {
+        requireNonNull(predicate);
+        List<Trip> remaining = new ArrayList<>(internalList.size());
+        List<Trip> removed = new ArrayList<>();
+        for (Trip trip : internalList.getSnapshot()) {
+            if (predicate.test(trip)) {
+                removed.add(trip);
+            } else {
+                remaining.add(trip);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.setAll(remaining);
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces every trip that matches {@code predicate} with the result of {@code editor}, in one pass and as a
+     * single change to the list. Nothing is replaced if the edited trips would not be unique.
+     *
+     * @return the edited trips, in list order
+     * @throws DuplicateTripException if the edited trips would not be unique
+     */
+    public List<Trip> replaceIf(Predicate<? super Trip> predicate, UnaryOperator<Trip> editor) {
+        requireAllNonNull(predicate, editor);
+        List<Trip> trips = new ArrayList<>(internalList.size());
+        List<Trip> edited = new ArrayList<>();
+        for (Trip trip : internalList.getSnapshot()) {
+            if (predicate.test(trip)) {
+                Trip editedTrip = editor.apply(trip);
+                edited.add(editedTrip);
+                trips.add(editedTrip);
+            } else {
+                trips.add(trip);
+            }
+        }
+
+        if (!edited.isEmpty()) {
+            setTrips(trips);
+        }
+        return edited;
+    }
+
     public void setTrips(UniqueTripList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.restore(replacement.getSnapshot());
     }
 
     /**
@@ -97,6 +177,30 @@ public class UniqueTripList implements Iterable<Trip> {
         internalList.setAll(trips);
     }
 
+    /**
+     * Runs {@code changes}, which may change this list any number of times, and notifies listeners of all of them as
+     * a single change once it returns. If {@code changes} throws, the list is left as it was before.
+     */
+    public void batch(Runnable changes) {
+        internalList.batch(changes);
+    }
+
+    /**
+     * Returns the current trips of this list, which later changes to the list leave untouched. Takes O(1) time.
+     */
+    public PersistentList<Trip> getSnapshot() {
+        return internalList.getSnapshot();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken by {@link #getSnapshot()}
+     * of a {@code UniqueTripList}, so that it holds no duplicates.
+     */
+    public void restoreSnapshot(PersistentList<Trip> snapshot) {
+        requireNonNull(snapshot);
+        internalList.restore(snapshot);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -106,7 +210,7 @@ public class UniqueTripList implements Iterable<Trip> {
 
     @Override
     public Iterator<Trip> iterator() {
-        return internalList.iterator();
+        return internalList.getSnapshot().iterator();
     }
 
     @Override
@@ -133,11 +237,10 @@ public class UniqueTripList implements Iterable<Trip> {
      * Returns true if {@code trips} contains only unique trips.
      */
     private boolean tripsAreUnique(List<Trip> trips) {
-        for (int i = 0; i < trips.size() - 1; i++) {
-            for (int j = i + 1; j < trips.size(); j++) {
-                if (trips.get(i).isSameTrip(trips.get(j))) {
-                    return false;
-                }
+        Set<String> identityKeys = new HashSet<>();
+        for (Trip trip : trips) {
+            if (!identityKeys.add(trip.getIdentityKey())) {
+                return false;
             }
         }
         return true;
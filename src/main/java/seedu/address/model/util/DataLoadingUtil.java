@@ -1,10 +1,12 @@
 package seedu.address.model.util;
 
+import java.time.YearMonth;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.jfr.DataLoadEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTripBook;
@@ -25,13 +27,22 @@ public class DataLoadingUtil {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
-            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            ReadOnlyAddressBook addressBook = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            if (loadEvent.shouldCommit()) {
+                loadEvent.setBook("addressbook");
+                loadEvent.setPath(String.valueOf(storage.getAddressBookFilePath()));
+                loadEvent.setRecordCount(addressBook.getPersonList().size());
+                loadEvent.commit();
+            }
+            return addressBook;
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
@@ -39,19 +50,41 @@ public class DataLoadingUtil {
         }
     }
 
+    /**
+     * Loads the trips dated in {@code month} or later from storage, if it can read them on their own. Returns
+     * {@code Optional.empty()} if it cannot, or if there is an error, which loading the whole trip book then reports.
+     */
+    public static Optional<ReadOnlyTripBook> loadTripsSince(Storage storage, YearMonth month) {
+        try {
+            return storage.readTripsSince(month);
+        } catch (DataLoadingException e) {
+            logger.info("The trips since " + month + " could not be loaded on their own: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Loads the trip book from storage.
      * If the file doesn't exist or there's an error, returns an empty trip book.
      */
     public static ReadOnlyTripBook loadTripBook(Storage storage) {
         Optional<ReadOnlyTripBook> tripBookOptional;
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
         try {
             tripBookOptional = storage.readTripBook();
             if (!tripBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getTripBookFilePath()
                         + " for TripBook.");
             }
-            return tripBookOptional.orElseGet(SampleDataUtil::getSampleTripBook);
+            ReadOnlyTripBook tripBook = tripBookOptional.orElseGet(SampleDataUtil::getSampleTripBook);
+            if (loadEvent.shouldCommit()) {
+                loadEvent.setBook("tripbook");
+                loadEvent.setPath(String.valueOf(storage.getTripBookFilePath()));
+                loadEvent.setRecordCount(tripBook.getTripList().size());
+                loadEvent.commit();
+            }
+            return tripBook;
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getTripBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty TripBook.");
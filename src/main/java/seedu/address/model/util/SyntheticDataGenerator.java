@@ -0,0 +1,315 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.contact.Address;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Note;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.trip.Accommodation;
+import seedu.address.model.trip.Itinerary;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.TripDate;
+import seedu.address.model.trip.TripName;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+
+/**
+ * Generates large, realistic address and trip books for load testing and benchmarking.
+ * The same seed always produces the same data.
+ *
+ * Compared to {@link SampleDataUtil}, the generated data has the shape of a real travel agency's books:
+ * most contacts are customers, a few hotels are shared by many trips, itineraries repeat, most trips have one or
+ * two customers while a few have large groups, dates span several years and notes vary from empty to long.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 2103L;
+    public static final int FIRST_YEAR = 2015;
+    public static final int LAST_YEAR = 2030;
+    public static final int MAX_CUSTOMERS_PER_TRIP = 40;
+
+    public static final String MESSAGE_USAGE = "Usage: SyntheticDataGenerator [--contacts N] [--trips M] "
+            + "[--seed SEED] [--output DIRECTORY]";
+
+    private static final Logger logger = LogsCenter.getLogger(SyntheticDataGenerator.class);
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ming", "Siti", "Priya", "Jun Jie",
+        "Hui Min", "Muhammad", "Nur", "Rajesh", "Mei Ling", "John", "Jane", "Kumar", "Aisha", "Daniel"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Ng", "Wong",
+        "Lee", "Chua", "Goh", "Koh", "Rahman", "Singh", "Teo", "O'Brien", "Chen", "Pillai"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street", "Serangoon Gardens Street", "Ang Mo Kio Street", "Tampines Street", "Jurong West Street",
+        "Bedok North Avenue", "Yishun Ring Road", "Clementi Avenue", "Toa Payoh Lorong", "Bukit Batok Street"
+    };
+    private static final String[] SERVICE_KINDS = {"Hotel", "Tours", "Travel", "Transport", "Cruises", "Catering"};
+    private static final String[] DESTINATIONS = {
+        "Paris", "Tokyo", "Seoul", "Bali", "Bangkok", "London", "Sydney", "New York", "Rome", "Hokkaido",
+        "Taipei", "Hanoi", "Phuket", "Melbourne", "Zurich", "Istanbul", "Cairo", "Perth", "Osaka", "Kyoto"
+    };
+    private static final String[] HOTEL_CHAINS = {"Hotel 81", "Grand Hyatt", "Marriott", "Hilton", "Ibis",
+        "Holiday Inn", "Shangri-La", "Novotel", "Four Seasons", "Airbnb"};
+    private static final String[] ACTIVITIES = {
+        "City walking tour", "Museum visit", "Food street tasting", "Beach day", "Temple visit", "Shopping",
+        "Hiking", "River cruise", "Theme park", "Cooking class", "Night market", "Hot spring"
+    };
+    private static final String[] NOTE_SENTENCES = {
+        "Prefers window seats.", "Allergic to peanuts.", "Travels with a wheelchair.", "Vegetarian meals only.",
+        "Frequent customer, offer the loyalty discount.", "Call before 6pm on weekdays.",
+        "Needs an invoice for company reimbursement.", "Prefers non-smoking rooms on a high floor.",
+        "Fully booked during the school holidays.", "Requires a visa letter two months before departure."
+    };
+
+    private final Random random;
+
+    /**
+     * Creates a generator whose output is fully determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /**
+     * Returns {@code count} contacts with distinct emails.
+     * About 80% are customers, 15% are service providers and the rest are both.
+     */
+    public List<Contact> generateContacts(int count) {
+        checkArgument(count >= 0, "Number of contacts must not be negative");
+        List<Contact> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contacts.add(generateContact(i));
+        }
+        return contacts;
+    }
+
+    private Contact generateContact(int index) {
+        double kind = random.nextDouble();
+        boolean isCustomer = kind < 0.85;
+        boolean isService = kind >= 0.80;
+
+        String name;
+        String emailLocalPart;
+        if (isCustomer && !isService) {
+            String firstName = pick(FIRST_NAMES);
+            String lastName = pick(LAST_NAMES);
+            name = firstName + " " + lastName;
+            emailLocalPart = (firstName + "." + lastName).toLowerCase().replaceAll("[^a-z.]", "");
+        } else {
+            String brand = pick(LAST_NAMES) + " " + pick(SERVICE_KINDS);
+            name = brand;
+            emailLocalPart = brand.toLowerCase().replaceAll("[^a-z]", "");
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        if (isCustomer) {
+            tags.add(new Tag("customer"));
+        }
+        if (isService) {
+            tags.add(new Tag("service"));
+        }
+
+        String phone = pick(new String[] {"8", "9", "6"}) + String.format("%07d", random.nextInt(10_000_000));
+        String address = "Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS) + " " + (1 + random.nextInt(99))
+                + ", #" + String.format("%02d-%02d", 1 + random.nextInt(25), 1 + random.nextInt(99));
+
+        return new Contact(new Name(name), new Phone(phone), new Email(emailLocalPart + index + "@example.com"),
+                new Address(address), tags, new Note(generateNoteText()));
+    }
+
+    /**
+     * Returns {@code count} trips with distinct names.
+     * Customers of each trip are drawn from the customers in {@code contacts}; a trip has no customers if there are
+     * none to draw from.
+     */
+    public List<Trip> generateTrips(int count, List<Contact> contacts) {
+        checkArgument(count >= 0, "Number of trips must not be negative");
+        // Different contacts may share a name, so the names are deduplicated for groups to be drawn without repeats
+        Set<Name> distinctCustomerNames = new LinkedHashSet<>();
+        for (Contact contact : contacts) {
+            if (contact.isCustomer()) {
+                distinctCustomerNames.add(contact.getName());
+            }
+        }
+        List<Name> customerNames = new ArrayList<>(distinctCustomerNames);
+
+        List<String> accommodations = generateAccommodations(Math.max(5, count / 20));
+        List<String> itineraries = generateItineraries(Math.max(5, count / 10));
+
+        List<Trip> trips = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            trips.add(generateTrip(i, accommodations, itineraries, customerNames));
+        }
+        return trips;
+    }
+
+    private Trip generateTrip(int index, List<String> accommodations, List<String> itineraries,
+                              List<Name> customerNames) {
+        int year = FIRST_YEAR + random.nextInt(LAST_YEAR - FIRST_YEAR + 1);
+        String date = (1 + random.nextInt(28)) + "/" + (1 + random.nextInt(12)) + "/" + year;
+        String name = pick(DESTINATIONS) + " " + year + " " + (index + 1);
+
+        Set<Name> customers = new HashSet<>();
+        if (!customerNames.isEmpty()) {
+            int groupSize = Math.min(1 + skewedIndex(MAX_CUSTOMERS_PER_TRIP, 6), customerNames.size());
+            while (customers.size() < groupSize) {
+                customers.add(customerNames.get(random.nextInt(customerNames.size())));
+            }
+        }
+
+        String accommodation = accommodations.get(skewedIndex(accommodations.size(), 2));
+        String itinerary = itineraries.get(skewedIndex(itineraries.size(), 2));
+        return new Trip(new TripName(name), new Accommodation(accommodation), new Itinerary(itinerary),
+                new TripDate(date), customers, new seedu.address.model.trip.Note(generateNoteText()));
+    }
+
+    private List<String> generateAccommodations(int count) {
+        List<String> accommodations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            accommodations.add(pick(HOTEL_CHAINS) + " " + pick(DESTINATIONS) + " " + (i + 1));
+        }
+        return accommodations;
+    }
+
+    private List<String> generateItineraries(int count) {
+        List<String> itineraries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int days = 2 + random.nextInt(9);
+            StringBuilder itinerary = new StringBuilder();
+            for (int day = 1; day <= days; day++) {
+                if (day > 1) {
+                    itinerary.append(", ");
+                }
+                itinerary.append("Day ").append(day).append(' ').append(pick(ACTIVITIES));
+            }
+            itineraries.add(itinerary.toString());
+        }
+        return itineraries;
+    }
+
+    /**
+     * Returns an empty note half of the time, and otherwise a note of one to a dozen sentences, mostly short.
+     */
+    private String generateNoteText() {
+        double length = random.nextDouble();
+        int sentences;
+        if (length < 0.5) {
+            return "";
+        } else if (length < 0.8) {
+            sentences = 1;
+        } else if (length < 0.95) {
+            sentences = 2 + random.nextInt(3);
+        } else {
+            sentences = 5 + random.nextInt(8);
+        }
+
+        StringBuilder note = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                note.append(' ');
+            }
+            note.append(pick(NOTE_SENTENCES));
+        }
+        return note.toString();
+    }
+
+    /**
+     * Returns an index in [0, {@code bound}) where small indexes are much more likely than large ones.
+     * The larger {@code skew} is, the more the result is concentrated near zero.
+     */
+    private int skewedIndex(int bound, double skew) {
+        return Math.min(bound - 1, (int) (bound * Math.pow(random.nextDouble(), skew)));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns an address book of {@code contactCount} generated contacts.
+     */
+    public ReadOnlyAddressBook generateAddressBook(int contactCount) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generateContacts(contactCount));
+        return addressBook;
+    }
+
+    /**
+     * Returns a trip book of {@code tripCount} generated trips whose customers are taken from {@code addressBook}.
+     */
+    public ReadOnlyTripBook generateTripBook(int tripCount, ReadOnlyAddressBook addressBook) {
+        TripBook tripBook = new TripBook();
+        tripBook.setTrips(generateTrips(tripCount, addressBook.getPersonList()));
+        return tripBook;
+    }
+
+    /**
+     * Writes a generated {@code addressbook.json} and {@code tripbook.json} into a directory.
+     * Run with {@code --help} to see the options.
+     */
+    public static void main(String[] args) throws IOException {
+        int contactCount = 1000;
+        int tripCount = 200;
+        long seed = DEFAULT_SEED;
+        Path outputDirectory = Paths.get("data");
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help") || i + 1 == args.length) {
+                System.out.println(MESSAGE_USAGE);
+                return;
+            }
+            String value = args[++i];
+            switch (option) {
+            case "--contacts":
+                contactCount = Integer.parseInt(value);
+                break;
+            case "--trips":
+                tripCount = Integer.parseInt(value);
+                break;
+            case "--seed":
+                seed = Long.parseLong(value);
+                break;
+            case "--output":
+                outputDirectory = Paths.get(value);
+                break;
+            default:
+                System.out.println(MESSAGE_USAGE);
+                return;
+            }
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        ReadOnlyAddressBook addressBook = generator.generateAddressBook(contactCount);
+        ReadOnlyTripBook tripBook = generator.generateTripBook(tripCount, addressBook);
+
+        Path addressBookFilePath = outputDirectory.resolve("addressbook.json");
+        Path tripBookFilePath = outputDirectory.resolve("tripbook.json");
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(addressBook);
+        new JsonTripBookStorage(tripBookFilePath).saveTripBook(tripBook);
+        logger.info(String.format("Wrote %d contacts to %s and %d trips to %s (seed %d)", contactCount,
+                addressBookFilePath, tripCount, tripBookFilePath, seed));
+    }
+}
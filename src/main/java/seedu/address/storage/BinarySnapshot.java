@@ -0,0 +1,319 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A compact binary copy of a JSON data file, kept next to it so that the data loads without parsing the JSON.
+ *
+ * A snapshot is made of records, each prefixed by its length, whose fields are numbers or indices into a table of
+ * the distinct strings in the book. Strings that many records share, such as accommodations and tags, are stored
+ * and decoded once. A snapshot that is read is memory-mapped and decoded straight from the mapping. Nothing else is
+ * mapped, as a mapped file cannot be replaced on Windows until the mapping is garbage collected.
+ *
+ * The JSON file stays the source of truth. A snapshot records the size and the CRC-32 of the contents of the JSON
+ * file it was made from, and is only read while the JSON file still has them, so a JSON file edited by hand is read
+ * instead of an out-of-date snapshot. The contents are compared rather than the last-modified time, which two saves
+ * in quick succession often share. A checksum guards against a snapshot that was damaged or partly written.
+ *
+ * Layout, in big-endian order: magic number, format version, kind of book, JSON size, JSON CRC-32,
+ * string count, strings (each a byte length and UTF-8 bytes), record count, records (each a byte length and the
+ * fields as ints), and the CRC-32 of everything before it.
+ */
+class BinarySnapshot {
+
+    /** Appended to the name of a JSON data file to name its snapshot. */
+    public static final String FILE_SUFFIX = ".snapshot";
+
+    /** The kind of book held in a snapshot, so that one book's snapshot is never read as the other. */
+    public static final byte KIND_ADDRESS_BOOK = 1;
+    public static final byte KIND_TRIP_BOOK = 2;
+
+    private static final int MAGIC = 0x54485342;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + 1 + Long.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private BinarySnapshot() {}
+
+    /**
+     * Returns the snapshot file of the JSON data file {@code sourceFile}.
+     */
+    public static Path getFile(Path sourceFile) {
+        return sourceFile.resolveSibling(sourceFile.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if there is a snapshot of {@code kind} made from {@code sourceFile} as it is now. Only the header
+     * of the snapshot is read.
+     */
+    public static boolean isFresh(Path sourceFile, byte kind) throws IOException {
+        Path file = getFile(sourceFile);
+        if (!Files.isRegularFile(file) || !Files.isRegularFile(sourceFile)) {
+            return false;
+        }
+        byte[] header;
+        try (InputStream in = Files.newInputStream(file)) {
+            header = in.readNBytes(HEADER_SIZE);
+        }
+        return header.length == HEADER_SIZE && isHeaderFresh(ByteBuffer.wrap(header), sourceFile, kind);
+    }
+
+    private static boolean isHeaderFresh(ByteBuffer header, Path sourceFile, byte kind) throws IOException {
+        // The contents are only read if the size matches
+        return header.getInt() == MAGIC
+                && header.getInt() == VERSION
+                && header.get() == kind
+                && header.getLong() == Files.size(sourceFile)
+                && header.getInt() == checksumOf(sourceFile);
+    }
+
+    /**
+     * Returns the CRC-32 of the contents of {@code file}, which is streamed rather than mapped so that the next save
+     * can still write it.
+     */
+    private static int checksumOf(Path file) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // Reading updates the checksum
+            }
+            return (int) in.getChecksum().getValue();
+        }
+    }
+
+    /**
+     * Opens the snapshot of {@code kind} made from {@code sourceFile}, or returns an empty {@code Optional} if there
+     * is none or {@code sourceFile} has changed since it was made.
+     *
+     * @throws IOException if the snapshot cannot be read or is damaged.
+     */
+    public static Optional<Reader> open(Path sourceFile, byte kind) throws IOException {
+        // A stale snapshot is not mapped, so that it can still be replaced by the next save
+        if (!isFresh(sourceFile, kind)) {
+            return Optional.empty();
+        }
+
+        Path file = getFile(sourceFile);
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < HEADER_SIZE + CHECKSUM_SIZE) {
+            throw new IOException("The snapshot " + file + " is too short");
+        }
+        buffer.position(HEADER_SIZE);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(buffer.limit() - CHECKSUM_SIZE));
+        if ((int) checksum.getValue() != buffer.getInt(buffer.limit() - CHECKSUM_SIZE)) {
+            throw new IOException("The snapshot " + file + " is damaged");
+        }
+        buffer.limit(buffer.limit() - CHECKSUM_SIZE);
+        return Optional.of(new Reader(buffer));
+    }
+
+    /**
+     * Decodes the strings and records of a snapshot from its memory mapping.
+     */
+    public static class Reader {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+        private final int recordCount;
+        private final int end;
+        private int nextRecordStart;
+
+        private Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+            strings = new String[buffer.getInt()];
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < strings.length; i++) {
+                int length = buffer.getInt();
+                if (length > scratch.length) {
+                    scratch = new byte[Math.max(length, scratch.length * 2)];
+                }
+                buffer.get(scratch, 0, length);
+                strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            recordCount = buffer.getInt();
+            nextRecordStart = buffer.position();
+            end = buffer.limit();
+        }
+
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * Moves to the start of the next record, skipping any fields of the current one that were not read.
+         */
+        public void nextRecord() {
+            buffer.limit(end).position(nextRecordStart);
+            int length = buffer.getInt();
+            nextRecordStart = buffer.position() + length;
+            buffer.limit(nextRecordStart);
+        }
+
+        public int readInt() {
+            return buffer.getInt();
+        }
+
+        public String readString() {
+            return strings[buffer.getInt()];
+        }
+
+        /**
+         * Returns values made from the strings of this snapshot by {@code create}, which is called once for each
+         * distinct string.
+         */
+        public <T> SharedValues<T> share(Function<String, T> create) {
+            return new SharedValues<>(strings, create);
+        }
+
+        public <T> T read(SharedValues<T> values) {
+            return values.get(buffer.getInt());
+        }
+    }
+
+    /**
+     * Values made from the strings of a snapshot, each made once however many records share it.
+     */
+    public static class SharedValues<T> {
+        private final String[] strings;
+        private final Function<String, T> create;
+        private final Object[] values;
+
+        private SharedValues(String[] strings, Function<String, T> create) {
+            this.strings = strings;
+            this.create = create;
+            this.values = new Object[strings.length];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int index) {
+            if (values[index] == null) {
+                values[index] = create.apply(strings[index]);
+            }
+            return (T) values[index];
+        }
+    }
+
+    /**
+     * Builds a snapshot one record at a time, and writes it once every record is added.
+     */
+    public static class Writer {
+        private final byte kind;
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        private final DataOutputStream stringsOut = new DataOutputStream(strings);
+        private final DataOutputStream recordsOut = new DataOutputStream(records);
+        private int[] fields = new int[16];
+        private int fieldCount;
+        private int recordCount;
+
+        /**
+         * Creates a writer of a snapshot of {@code kind}.
+         */
+        public Writer(byte kind) {
+            this.kind = kind;
+        }
+
+        public void writeInt(int value) {
+            if (fieldCount == fields.length) {
+                fields = Arrays.copyOf(fields, fields.length * 2);
+            }
+            fields[fieldCount++] = value;
+        }
+
+        /**
+         * Adds {@code value} to the current record as an index into the string table.
+         */
+        public void writeString(String value) throws IOException {
+            requireNonNull(value);
+            Integer index = stringIndices.get(value);
+            if (index == null) {
+                index = stringIndices.size();
+                stringIndices.put(value, index);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                stringsOut.writeInt(bytes.length);
+                stringsOut.write(bytes);
+            }
+            writeInt(index);
+        }
+
+        /**
+         * Ends the current record, so that the fields written next start another.
+         */
+        public void endRecord() throws IOException {
+            recordsOut.writeInt(fieldCount * Integer.BYTES);
+            for (int i = 0; i < fieldCount; i++) {
+                recordsOut.writeInt(fields[i]);
+            }
+            fieldCount = 0;
+            recordCount++;
+        }
+
+        /**
+         * Writes the snapshot of {@code sourceFile}, which must already hold the same data, replacing any earlier
+         * snapshot. The snapshot is written to a temporary file first, so a failure leaves the earlier one intact.
+         */
+        public void save(Path sourceFile) throws IOException {
+            long sourceSize = Files.size(sourceFile);
+            int sourceChecksum = checksumOf(sourceFile);
+            Path file = getFile(sourceFile);
+            Path partialFile = file.resolveSibling(file.getFileName() + PARTIAL_SUFFIX);
+            FileUtil.createParentDirsOfFile(file);
+
+            CRC32 checksum = new CRC32();
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(partialFile)), checksum))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeByte(kind);
+                out.writeLong(sourceSize);
+                out.writeInt(sourceChecksum);
+                out.writeInt(stringIndices.size());
+                strings.writeTo(out);
+                out.writeInt(recordCount);
+                records.writeTo(out);
+                out.writeInt((int) checksum.getValue());
+            } catch (IOException e) {
+                Files.deleteIfExists(partialFile);
+                throw e;
+            }
+
+            try {
+                Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses data files with GZIP, and opens data files whether they are compressed or not.
+ *
+ * A compressed data file keeps its name, and is told apart from plain JSON by the two bytes that start every GZIP
+ * stream, which cannot start a JSON document. So the compression level can be changed, or compression turned off,
+ * without converting the existing files: they are read as they are and written in the new form on the next save.
+ */
+class DataCompression {
+
+    /** The compression level at which data files are stored as plain JSON. */
+    public static final int NONE = Deflater.NO_COMPRESSION;
+
+    public static final String MESSAGE_CONSTRAINTS = "The compression level must be from 0 (no compression) to 9.";
+
+    private static final int GZIP_MAGIC = 0x1f8b;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private DataCompression() {}
+
+    /**
+     * Returns true if {@code level} is a valid compression level.
+     */
+    public static boolean isValidLevel(int level) {
+        return level >= NONE && level <= Deflater.BEST_COMPRESSION;
+    }
+
+    /**
+     * Returns {@code data} compressed at {@code level}, or {@code data} itself if {@code level} is {@link #NONE}.
+     */
+    public static byte[] compress(byte[] data, int level) throws IOException {
+        checkArgument(isValidLevel(level), MESSAGE_CONSTRAINTS);
+        if (level == NONE) {
+            return data;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Opens {@code file} for reading, decompressing it if it is compressed.
+     */
+    public static InputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() << 8 | in.read();
+            in.reset();
+            return magic == GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+}
@@ -69,9 +69,24 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted contact.
      */
     public Contact toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
+        final List<String> tagNames = new ArrayList<>(tags.size());
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            tagNames.add(tag.getTagName());
+        }
+        return toModelType(name, phone, email, address, tagNames, note);
+    }
+
+    /**
+     * Converts the fields of a contact, as stored in a JSON file, into the model's {@code Contact} object. Any field
+     * but {@code tagNames} may be null if it is missing from the file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the fields.
+     */
+    static Contact toModelType(String name, String phone, String email, String address, List<String> tagNames,
+            String note) throws IllegalValueException {
+        final List<Tag> personTags = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            personTags.add(JsonAdaptedTag.toModelType(tagName));
         }
 
         if (name == null) {
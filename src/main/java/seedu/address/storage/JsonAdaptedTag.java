@@ -39,7 +39,16 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        return toModelType(tagName);
+    }
+
+    /**
+     * Converts {@code tagName}, as stored in a JSON file, into the model's {@code Tag} object.
+     *
+     * @throws IllegalValueException if {@code tagName} is not a valid tag name.
+     */
+    static Tag toModelType(String tagName) throws IllegalValueException {
+        if (tagName == null || !Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
         return new Tag(tagName);
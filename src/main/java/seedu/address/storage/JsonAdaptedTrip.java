@@ -70,8 +70,22 @@ class JsonAdaptedTrip {
      * @throws IllegalValueException if there were any data constraints violated in the adapted trip.
      */
     public Trip toModelType() throws IllegalValueException {
+        return toModelType(name, accommodation, itinerary, date, customerNames, note);
+    }
+
+    /**
+     * Converts the fields of a trip, as stored in a JSON file, into the model's {@code Trip} object. Any field but
+     * {@code customerNames} may be null if it is missing from the file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the fields.
+     */
+    static Trip toModelType(String name, String accommodation, String itinerary, String date,
+            List<String> customerNames, String note) throws IllegalValueException {
         final Set<Name> modelCustomerNames = new HashSet<>();
         for (String customerName : customerNames) {
+            if (customerName == null) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
             try {
                 modelCustomerNames.add(ParserUtil.parseName(customerName));
             } catch (IllegalValueException e) {
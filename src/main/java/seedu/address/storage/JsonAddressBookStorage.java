@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,21 +13,35 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.SerializeEvent;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written through {@link JsonContactCodec}, without Jackson's data binding, and may be
+ * compressed with GZIP (see {@link DataCompression}).
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    private static final JsonContactCodec CODEC = new JsonContactCodec();
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int compressionLevel;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DataCompression.NONE);
+    }
+
+    /**
+     * Creates a storage that saves to {@code filePath} compressed at {@code compressionLevel}, from 1 to 9, or as
+     * plain JSON if it is 0. Files are read whether they are compressed or not.
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
+        checkArgument(DataCompression.isValidLevel(compressionLevel), DataCompression.MESSAGE_CONSTRAINTS);
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +62,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = DataCompression.open(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.toModelType(CODEC.readList(in)));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +92,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        SerializeEvent serializeEvent = new SerializeEvent();
+        serializeEvent.begin();
+        byte[] json = CODEC.writeList(addressBook.getPersonList());
+        if (serializeEvent.shouldCommit()) {
+            serializeEvent.setBook("addressbook");
+            serializeEvent.setRecordCount(addressBook.getPersonList().size());
+            serializeEvent.setSize(json.length);
+            serializeEvent.commit();
+        }
+
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileIfChanged(filePath, DataCompression.compress(json, compressionLevel));
     }
 
 }
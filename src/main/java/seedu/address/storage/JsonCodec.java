@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads and writes one kind of model object as a JSON object, straight between the streaming {@code JsonParser} or
+ * {@code JsonGenerator} and the model, without the reflection and intermediate objects of Jackson's data binding.
+ *
+ * A book is stored as an object with one field, an array of the objects in the book. What a codec writes is exactly
+ * what {@code JsonUtil.toJsonString} writes for the matching {@code JsonSerializable} class, and it reads anything
+ * that class reads, with the same error messages, so those classes remain the reference for the file format. A
+ * book can also carry a number for each of its objects in an array field before them, which those classes skip.
+ */
+abstract class JsonCodec<T> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final String listFieldName;
+
+    /**
+     * Creates a codec of books whose objects are in the array field {@code listFieldName}.
+     */
+    protected JsonCodec(String listFieldName) {
+        this.listFieldName = listFieldName;
+    }
+
+    /**
+     * Writes {@code value} as a JSON object.
+     */
+    abstract void write(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Reads the JSON object that starts at the current token of {@code parser}, leaving the parser at its end.
+     * Fields that are not known are skipped.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the object.
+     */
+    abstract T read(JsonParser parser) throws IOException, IllegalValueException;
+
+    /**
+     * Returns the pretty-printed JSON, in UTF-8, of a book holding {@code values}.
+     */
+    byte[] writeList(Collection<? extends T> values) throws IOException {
+        return writeList(values, null, null);
+    }
+
+    /**
+     * Returns the pretty-printed JSON, in UTF-8, of a book holding {@code values}, preceded by {@code keys} in the
+     * array field {@code keysFieldName} if that is not null.
+     */
+    byte[] writeList(Collection<? extends T> values, String keysFieldName, long[] keys) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Jackson's generator of bytes escapes characters outside the Basic Multilingual Plane, such as emoji,
+        // while its generator of chars, which the data binding uses, does not
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            generator.writeStartObject();
+            if (keysFieldName != null) {
+                generator.writeArrayFieldStart(keysFieldName);
+                for (long key : keys) {
+                    generator.writeNumber(key);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeArrayFieldStart(listFieldName);
+            for (T value : values) {
+                write(generator, value);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the values of the book in the JSON read from {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read or is not the JSON of a book.
+     * @throws IllegalValueException if there were any data constraints violated in the values.
+     */
+    List<T> readList(InputStream in) throws IOException, IllegalValueException {
+        return readList(in, null, null);
+    }
+
+    /**
+     * Similar to {@link #readList(InputStream)}, and also passes the numbers in the array field
+     * {@code keysFieldName}, if there is one, to {@code keys}.
+     */
+    List<T> readList(InputStream in, String keysFieldName, LongConsumer keys) throws IOException,
+            IllegalValueException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the JSON of a book to be an object");
+            }
+            List<T> values = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (fieldName.equals(keysFieldName)) {
+                    readLongList(parser, keys);
+                    continue;
+                }
+                if (!fieldName.equals(listFieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (token != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected the field " + listFieldName + " to be an array");
+                }
+                values = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "Expected the items of " + listFieldName
+                                + " to be objects");
+                    }
+                    values.add(read(parser));
+                }
+            }
+            if (values == null) {
+                throw new JsonParseException(parser, "Missing the field " + listFieldName);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Passes the numbers in the array that {@code parser} is at the start of to {@code numbers}, leaving the parser
+     * at its end.
+     */
+    private static void readLongList(JsonParser parser, LongConsumer numbers) throws IOException {
+        String fieldName = parser.getCurrentName();
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected the field " + fieldName + " to be an array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+                throw new JsonParseException(parser, "Expected the items of " + fieldName + " to be integers");
+            }
+            numbers.accept(parser.getLongValue());
+        }
+    }
+
+    /**
+     * Moves {@code parser} to the value of the current field and returns it as a string, or null if it is null.
+     */
+    static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected the field " + parser.getCurrentName()
+                    + " to be a string");
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Moves {@code parser} to the end of the value of the current field and returns it as a list of strings, which
+     * is empty if the value is null.
+     */
+    static List<String> readStringList(JsonParser parser) throws IOException {
+        String fieldName = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        List<String> strings = new ArrayList<>();
+        if (token == JsonToken.VALUE_NULL) {
+            return strings;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected the field " + fieldName + " to be an array");
+        }
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                strings.add(null);
+            } else if (token.isScalarValue()) {
+                strings.add(parser.getText());
+            } else {
+                throw new JsonParseException(parser, "Expected the items of " + fieldName + " to be strings");
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Moves {@code parser} past the value of the current field.
+     */
+    static void skipValue(JsonParser parser) throws IOException {
+        parser.nextToken();
+        parser.skipChildren();
+    }
+}
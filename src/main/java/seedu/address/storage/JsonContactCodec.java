@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes a {@link Contact} in the JSON form of {@link JsonAdaptedPerson}.
+ */
+class JsonContactCodec extends JsonCodec<Contact> {
+
+    JsonContactCodec() {
+        super("persons");
+    }
+
+    @Override
+    void write(JsonGenerator generator, Contact contact) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", contact.getName().fullName);
+        generator.writeStringField("phone", contact.getPhone().value);
+        generator.writeStringField("email", contact.getEmail().value);
+        generator.writeStringField("address", contact.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : contact.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("note", contact.getNote().getNote());
+        generator.writeEndObject();
+    }
+
+    @Override
+    Contact read(JsonParser parser) throws IOException, IllegalValueException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<String> tagNames = List.of();
+        String note = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            switch (parser.getCurrentName()) {
+            case "name":
+                name = readString(parser);
+                break;
+            case "phone":
+                phone = readString(parser);
+                break;
+            case "email":
+                email = readString(parser);
+                break;
+            case "address":
+                address = readString(parser);
+                break;
+            case "tags":
+                tagNames = readStringList(parser);
+                break;
+            case "note":
+                note = readString(parser);
+                break;
+            default:
+                skipValue(parser);
+            }
+        }
+        return JsonAdaptedPerson.toModelType(name, phone, email, address, tagNames, note);
+    }
+}
@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -46,13 +47,25 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Contact> contacts = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Contact contact = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasContact(contact)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(contact);
+            contacts.add(jsonAdaptedPerson.toModelType());
+        }
+        return toModelType(contacts);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code contacts}.
+     *
+     * @throws IllegalValueException if {@code contacts} holds the same contact twice.
+     */
+    static AddressBook toModelType(List<Contact> contacts) throws IllegalValueException {
+        // Checking all contacts at once is linear, while checking each contact as it is added is quadratic
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(contacts);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
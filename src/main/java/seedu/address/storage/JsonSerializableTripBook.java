@@ -12,6 +12,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTripBook;
 import seedu.address.model.TripBook;
 import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.exceptions.DuplicateTripException;
 
 /**
  * An Immutable TripBook that is serializable to JSON format.
@@ -46,13 +47,25 @@ class JsonSerializableTripBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TripBook toModelType() throws IllegalValueException {
-        TripBook tripBook = new TripBook();
+        List<Trip> modelTrips = new ArrayList<>(trips.size());
         for (JsonAdaptedTrip jsonAdaptedTrip : trips) {
-            Trip trip = jsonAdaptedTrip.toModelType();
-            if (tripBook.hasTrip(trip)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TRIP);
-            }
-            tripBook.addTrip(trip);
+            modelTrips.add(jsonAdaptedTrip.toModelType());
+        }
+        return toModelType(modelTrips);
+    }
+
+    /**
+     * Returns a {@code TripBook} holding {@code modelTrips}.
+     *
+     * @throws IllegalValueException if {@code modelTrips} holds the same trip twice.
+     */
+    static TripBook toModelType(List<Trip> modelTrips) throws IllegalValueException {
+        // Checking all trips at once is linear, while checking each trip as it is added is quadratic
+        TripBook tripBook = new TripBook();
+        try {
+            tripBook.setTrips(modelTrips);
+        } catch (DuplicateTripException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TRIP);
         }
         return tripBook;
     }
@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,21 +13,37 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.SerializeEvent;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTripBook;
 
 /**
  * A class to access TripBook data stored as a json file on the hard disk.
+ * The file is read and written through {@link JsonTripCodec}, without Jackson's data binding, and may be
+ * compressed with GZIP (see {@link DataCompression}).
+ * If the file is missing but the trips were last saved in the partitions of a {@link PartitionedTripBookStorage},
+ * the partitions are read instead, and deleted once the trips are saved to the file.
  */
 public class JsonTripBookStorage implements TripBookStorage {
 
+    private static final JsonTripCodec CODEC = new JsonTripCodec();
     private static final Logger logger = LogsCenter.getLogger(JsonTripBookStorage.class);
 
     private Path filePath;
+    private final int compressionLevel;
 
     public JsonTripBookStorage(Path filePath) {
+        this(filePath, DataCompression.NONE);
+    }
+
+    /**
+     * Creates a storage that saves to {@code filePath} compressed at {@code compressionLevel}, from 1 to 9, or as
+     * plain JSON if it is 0. Files are read whether they are compressed or not.
+     */
+    public JsonTripBookStorage(Path filePath, int compressionLevel) {
+        checkArgument(DataCompression.isValidLevel(compressionLevel), DataCompression.MESSAGE_CONSTRAINTS);
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getTripBookFilePath() {
@@ -45,14 +64,16 @@ public class JsonTripBookStorage implements TripBookStorage {
     public Optional<ReadOnlyTripBook> readTripBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTripBook> jsonTripBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTripBook.class);
-        if (!jsonTripBook.isPresent()) {
-            return Optional.empty();
+        if (!Files.exists(filePath)) {
+            return readPartitions(filePath);
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonTripBook.get().toModelType());
+        try (InputStream in = DataCompression.open(filePath)) {
+            return Optional.of(JsonSerializableTripBook.toModelType(CODEC.readList(in)));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,7 +94,31 @@ public class JsonTripBookStorage implements TripBookStorage {
         requireNonNull(tripBook);
         requireNonNull(filePath);
 
+        SerializeEvent serializeEvent = new SerializeEvent();
+        serializeEvent.begin();
+        byte[] json = CODEC.writeList(tripBook.getTripList());
+        if (serializeEvent.shouldCommit()) {
+            serializeEvent.setBook("tripbook");
+            serializeEvent.setRecordCount(tripBook.getTripList().size());
+            serializeEvent.setSize(json.length);
+            serializeEvent.commit();
+        }
+
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTripBook(tripBook), filePath);
+        FileUtil.writeToFileIfChanged(filePath, DataCompression.compress(json, compressionLevel));
+        PartitionedTripBookStorage.deletePartitions(filePath);
+    }
+
+    /**
+     * Reads the trips of {@code filePath} from the partitions of a {@link PartitionedTripBookStorage}, if they were
+     * last saved there, so that turning partitioning off keeps the trips saved while it was on.
+     */
+    private static Optional<ReadOnlyTripBook> readPartitions(Path filePath) throws DataLoadingException {
+        if (!Files.exists(PartitionedTripBookStorage.getManifestFile(filePath))) {
+            return Optional.empty();
+        }
+        logger.info("No JSON file " + filePath + ", reading its trip partitions instead. The trips will be saved to "
+                + filePath + " when they are next saved.");
+        return new PartitionedTripBookStorage(filePath, DataCompression.NONE).readTripBook();
     }
 }
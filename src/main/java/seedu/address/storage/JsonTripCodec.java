@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.contact.Name;
+import seedu.address.model.trip.Trip;
+
+/**
+ * Reads and writes a {@link Trip} in the JSON form of {@link JsonAdaptedTrip}.
+ */
+class JsonTripCodec extends JsonCodec<Trip> {
+
+    JsonTripCodec() {
+        super("trips");
+    }
+
+    @Override
+    void write(JsonGenerator generator, Trip trip) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", trip.getName().toString());
+        generator.writeStringField("accommodation", trip.getAccommodation().toString());
+        generator.writeStringField("itinerary", trip.getItinerary().toString());
+        generator.writeStringField("date", trip.getDate().toString());
+        generator.writeArrayFieldStart("customerNames");
+        for (Name customerName : trip.getCustomerNames()) {
+            generator.writeString(customerName.fullName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField("note", trip.getNote().toString());
+        generator.writeEndObject();
+    }
+
+    @Override
+    Trip read(JsonParser parser) throws IOException, IllegalValueException {
+        String name = null;
+        String accommodation = null;
+        String itinerary = null;
+        String date = null;
+        List<String> customerNames = List.of();
+        String note = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            switch (parser.getCurrentName()) {
+            case "name":
+                name = readString(parser);
+                break;
+            case "accommodation":
+                accommodation = readString(parser);
+                break;
+            case "itinerary":
+                itinerary = readString(parser);
+                break;
+            case "date":
+                date = readString(parser);
+                break;
+            case "customerNames":
+                customerNames = readStringList(parser);
+                break;
+            case "note":
+                note = readString(parser);
+                break;
+            default:
+                skipValue(parser);
+            }
+        }
+        return JsonAdaptedTrip.toModelType(name, accommodation, itinerary, date, customerNames, note);
+    }
+}
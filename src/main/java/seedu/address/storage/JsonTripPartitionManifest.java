@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link PartitionedTripBookStorage}, which lists the months that have
+ * a partition.
+ */
+class JsonTripPartitionManifest {
+
+    public static final String MESSAGE_INVALID_MONTH = "Partition month %s is not of the form yyyy-MM.";
+    public static final String MESSAGE_DUPLICATE_MONTH = "Partition month %s is listed more than once.";
+
+    private final List<String> months = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonTripPartitionManifest} with the given months.
+     */
+    @JsonCreator
+    public JsonTripPartitionManifest(@JsonProperty("months") List<String> months) {
+        if (months != null) {
+            this.months.addAll(months);
+        }
+    }
+
+    /**
+     * Converts the months of the partitions in {@code source} into this class for Jackson use.
+     */
+    public JsonTripPartitionManifest(Collection<YearMonth> source) {
+        for (YearMonth month : source) {
+            months.add(month.toString());
+        }
+    }
+
+    /**
+     * Returns the months that have a partition.
+     *
+     * @throws IllegalValueException if a month is missing, invalid or listed twice.
+     */
+    public SortedSet<YearMonth> toModelType() throws IllegalValueException {
+        SortedSet<YearMonth> modelMonths = new TreeSet<>();
+        for (String month : months) {
+            if (month == null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, "(missing)"));
+            }
+            YearMonth modelMonth;
+            try {
+                modelMonth = YearMonth.parse(month);
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_MONTH, month));
+            }
+            if (!modelMonths.add(modelMonth)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_MONTH, month));
+            }
+        }
+        return modelMonths;
+    }
+}
@@ -0,0 +1,563 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.trip.Trip;
+
+/**
+ * Stores the trips of each month in a file of their own, so that saving a change rewrites only the months it
+ * touched instead of every trip ever made.
+ *
+ * The partitions are kept in a directory next to the trip book file, named after it without its extension, e.g.
+ * {@code data/tripbook/} for {@code data/tripbook.json}. Each partition is named after its month, e.g.
+ * {@code 2025-03.json}, and holds its trips in the JSON form of {@link JsonTripBookStorage}, compressed or not,
+ * preceded by a sequence number for each trip. The book is read back in the order of the sequence numbers, which is
+ * the order it was saved in. A manifest, {@code manifest.json}, lists the months that have a partition. It is the path
+ * of the storage.
+ *
+ * A trip keeps its sequence number from save to save, and a trip that is added or edited is numbered between its
+ * neighbours, so adding, editing or deleting a trip anywhere in the book changes only the partition it is in. The
+ * storage remembers the trips of each partition as it last read or saved them, and a save only writes the partitions
+ * whose trips have changed since, and the manifest only if a month gained its first trip or lost its last. Each file
+ * is replaced whole, and the manifest is written after the partitions and before the partitions of months that no
+ * longer have trips are deleted, so the manifest never lists a partition that is missing.
+ *
+ * As a partition can be read on its own, {@link #readTripsSince} reads the trips of recent months without reading
+ * the older ones, so that they can be shown while the rest of the book loads.
+ *
+ * Until the partitions are first saved, the trip book file itself is read, and it is deleted once they are saved.
+ * {@link JsonTripBookStorage} does the same the other way round, so the trips can be partitioned and put back in a
+ * single file by turning the option on and off, without either form being read after it is out of date.
+ */
+public class PartitionedTripBookStorage implements TripBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    public static final String MESSAGE_SEQUENCE_SIZE_MISMATCH =
+            "The partition of %s holds %d trips, but %d sequence numbers.";
+    public static final String MESSAGE_SEQUENCE_NOT_INCREASING =
+            "The sequence numbers of the partition of %s are not in increasing order.";
+    public static final String MESSAGE_DUPLICATE_SEQUENCE = "Sequence number %d is used by more than one trip.";
+
+    /** The gap left between the sequence numbers of trips that are numbered in a row. */
+    static final long SEQUENCE_GAP = 1L << 16;
+
+    private static final String SEQUENCE_FIELD_NAME = "sequence";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String DIRECTORY_SUFFIX = ".d";
+    private static final String PARTITION_FILE_GLOB = "[0-9][0-9][0-9][0-9]-[0-9][0-9]" + JSON_EXTENSION;
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final JsonTripCodec CODEC = new JsonTripCodec();
+    private static final Logger logger = LogsCenter.getLogger(PartitionedTripBookStorage.class);
+
+    private final Path manifestFile;
+    private final Path unpartitionedFile;
+    private final int compressionLevel;
+
+    // The partitions of manifestFile as last read or saved, to tell which files a save has to write, and their
+    // trips in the order of the book with their sequence numbers, which unedited trips keep
+    private SortedMap<YearMonth, Partition> savedPartitions = Collections.emptySortedMap();
+    private NumberedTrips savedTrips = new NumberedTrips(new Trip[0], new long[0]);
+
+    /**
+     * Creates a storage of the trip book at {@code tripBookFile} in partitions, compressed at
+     * {@code compressionLevel} as in {@link JsonTripBookStorage}. Until the partitions are first saved, the trip
+     * book is read from {@code tripBookFile} itself.
+     */
+    public PartitionedTripBookStorage(Path tripBookFile, int compressionLevel) {
+        requireNonNull(tripBookFile);
+        checkArgument(DataCompression.isValidLevel(compressionLevel), DataCompression.MESSAGE_CONSTRAINTS);
+        this.manifestFile = getManifestFile(tripBookFile);
+        this.unpartitionedFile = tripBookFile;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Returns the manifest of the partitions of the trip book at {@code tripBookFile}.
+     */
+    public static Path getManifestFile(Path tripBookFile) {
+        String fileName = tripBookFile.getFileName().toString();
+        String directoryName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName + DIRECTORY_SUFFIX;
+        return tripBookFile.resolveSibling(directoryName).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the name of the partition file of the trips in {@code month}.
+     */
+    public static String getPartitionFileName(YearMonth month) {
+        return month + JSON_EXTENSION;
+    }
+
+    /**
+     * Deletes the partitions of the trip book at {@code tripBookFile}, if there are any, once the trip book has
+     * been saved to {@code tripBookFile} itself. The manifest is deleted first, so that partitions left behind by a
+     * failure are never read.
+     */
+    static void deletePartitions(Path tripBookFile) throws IOException {
+        Path manifestFile = getManifestFile(tripBookFile);
+        if (!Files.exists(manifestFile)) {
+            return;
+        }
+        logger.info("Deleting the trip partitions of " + tripBookFile + ", which now holds all the trips.");
+        Files.delete(manifestFile);
+        Path directory = manifestFile.toAbsolutePath().getParent();
+        deletePartitionsNotIn(directory, Collections.emptySet());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            if (!files.iterator().hasNext()) {
+                Files.delete(directory);
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the manifest, which lists the partitions.
+     */
+    @Override
+    public Path getTripBookFilePath() {
+        return manifestFile;
+    }
+
+    @Override
+    public Optional<ReadOnlyTripBook> readTripBook() throws DataLoadingException {
+        return readTripBook(manifestFile);
+    }
+
+    /**
+     * Similar to {@link #readTripBook()}.
+     *
+     * @param manifestFile the manifest of the partitions. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyTripBook> readTripBook(Path manifestFile) throws DataLoadingException {
+        requireNonNull(manifestFile);
+        boolean isOwnManifest = manifestFile.equals(this.manifestFile);
+        if (!Files.exists(manifestFile)) {
+            if (isOwnManifest && Files.exists(unpartitionedFile)) {
+                logger.info("No partitions at " + manifestFile + " yet, reading " + unpartitionedFile
+                        + " instead. The trips will be partitioned when they are next saved.");
+                return new JsonTripBookStorage(unpartitionedFile).readTripBook();
+            }
+            return Optional.empty();
+        }
+
+        SortedMap<YearMonth, Partition> partitions = readPartitions(manifestFile, readManifest(manifestFile));
+        NumberedTrips trips = inBookOrder(manifestFile, partitions);
+        TripBook tripBook = toTripBook(manifestFile, trips);
+        if (isOwnManifest) {
+            savedPartitions = partitions;
+            savedTrips = trips;
+        }
+        return Optional.of(tripBook);
+    }
+
+    /**
+     * Returns the trips dated in {@code month} or later, in the order of the book, reading only their partitions.
+     * Returns {@code Optional.empty()} if the trips have not been partitioned yet.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyTripBook> readTripsSince(YearMonth month) throws DataLoadingException {
+        requireNonNull(month);
+        if (!Files.exists(manifestFile)) {
+            return Optional.empty();
+        }
+        SortedSet<YearMonth> recentMonths = readManifest(manifestFile).tailSet(month);
+        return Optional.of(toTripBook(manifestFile,
+                inBookOrder(manifestFile, readPartitions(manifestFile, recentMonths))));
+    }
+
+    private static SortedSet<YearMonth> readManifest(Path manifestFile) throws DataLoadingException {
+        try {
+            return JsonUtil.readJsonFile(manifestFile, JsonTripPartitionManifest.class)
+                    .orElseThrow(() -> new DataLoadingException(new IOException(manifestFile + " is missing")))
+                    .toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestFile + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static SortedMap<YearMonth, Partition> readPartitions(Path manifestFile, Set<YearMonth> months)
+            throws DataLoadingException {
+        SortedMap<YearMonth, Partition> partitions = new TreeMap<>();
+        for (YearMonth month : months) {
+            partitions.put(month, readPartition(manifestFile.resolveSibling(getPartitionFileName(month))));
+        }
+        return partitions;
+    }
+
+    private static Partition readPartition(Path file) throws DataLoadingException {
+        Partition partition = new Partition();
+        try (InputStream in = DataCompression.open(file)) {
+            partition.trips.addAll(CODEC.readList(in, SEQUENCE_FIELD_NAME, partition::addSequenceNumber));
+            return partition;
+        } catch (IOException e) {
+            logger.warning("Error reading from partition file " + file + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the trips of {@code partitions} in the order of their sequence numbers, along with the numbers.
+     *
+     * @throws DataLoadingException if the trips of a partition do not each have a sequence number, in increasing
+     *     order, or a sequence number is used twice.
+     */
+    private static NumberedTrips inBookOrder(Path manifestFile, SortedMap<YearMonth, Partition> partitions)
+            throws DataLoadingException {
+        List<Partition> sources = new ArrayList<>(partitions.values());
+        int tripCount = 0;
+        try {
+            for (Map.Entry<YearMonth, Partition> entry : partitions.entrySet()) {
+                entry.getValue().checkSequenceNumbers(entry.getKey());
+                tripCount += entry.getValue().trips.size();
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the partitions of " + manifestFile + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        // Each partition is in order already, so they are merged by taking the lowest of their next numbers
+        int[] next = new int[sources.size()];
+        PriorityQueue<Integer> queue = new PriorityQueue<>(
+                Comparator.comparingLong(source -> sources.get(source).sequenceNumbers[next[source]]));
+        for (int source = 0; source < sources.size(); source++) {
+            if (!sources.get(source).trips.isEmpty()) {
+                queue.add(source);
+            }
+        }
+        Trip[] trips = new Trip[tripCount];
+        long[] sequenceNumbers = new long[tripCount];
+        for (int i = 0; i < tripCount; i++) {
+            int source = queue.remove();
+            Partition partition = sources.get(source);
+            trips[i] = partition.trips.get(next[source]);
+            sequenceNumbers[i] = partition.sequenceNumbers[next[source]];
+            if (i > 0 && sequenceNumbers[i] == sequenceNumbers[i - 1]) {
+                String message = String.format(MESSAGE_DUPLICATE_SEQUENCE, sequenceNumbers[i]);
+                logger.info("Illegal values found in the partitions of " + manifestFile + ": " + message);
+                throw new DataLoadingException(new IllegalValueException(message));
+            }
+            if (++next[source] < partition.trips.size()) {
+                queue.add(source);
+            }
+        }
+        return new NumberedTrips(trips, sequenceNumbers);
+    }
+
+    private static TripBook toTripBook(Path manifestFile, NumberedTrips trips) throws DataLoadingException {
+        try {
+            return JsonSerializableTripBook.toModelType(Arrays.asList(trips.trips));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the partitions of " + manifestFile + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveTripBook(ReadOnlyTripBook tripBook) throws IOException {
+        saveTripBook(tripBook, manifestFile);
+    }
+
+    /**
+     * Similar to {@link #saveTripBook(ReadOnlyTripBook)}.
+     *
+     * @param manifestFile the manifest of the partitions. Cannot be null.
+     */
+    @Override
+    public void saveTripBook(ReadOnlyTripBook tripBook, Path manifestFile) throws IOException {
+        requireNonNull(tripBook);
+        requireNonNull(manifestFile);
+        boolean isOwnManifest = manifestFile.equals(this.manifestFile);
+        Map<YearMonth, Partition> previousPartitions = isOwnManifest ? savedPartitions : Collections.emptyMap();
+        Trip[] trips = tripBook.getTripList().toArray(new Trip[0]);
+        long[] sequenceNumbers = assignSequenceNumbers(trips,
+                isOwnManifest ? savedTrips : new NumberedTrips(new Trip[0], new long[0]));
+        SortedMap<YearMonth, Partition> partitions = partition(trips, sequenceNumbers);
+
+        Path directory = manifestFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        int writtenCount = 0;
+        for (Map.Entry<YearMonth, Partition> entry : partitions.entrySet()) {
+            Partition partition = entry.getValue();
+            Path file = directory.resolve(getPartitionFileName(entry.getKey()));
+            if (!partition.isSameAs(previousPartitions.get(entry.getKey())) || !Files.exists(file)) {
+                replace(file, DataCompression.compress(CODEC.writeList(partition.trips, SEQUENCE_FIELD_NAME,
+                        partition.getSequenceNumbers()), compressionLevel));
+                writtenCount++;
+            }
+        }
+
+        if (!partitions.keySet().equals(previousPartitions.keySet()) || !Files.exists(manifestFile)) {
+            replace(manifestFile, JsonUtil.toJsonString(new JsonTripPartitionManifest(partitions.keySet()))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        deletePartitionsNotIn(directory, partitions.keySet());
+        if (isOwnManifest) {
+            savedPartitions = partitions;
+            savedTrips = new NumberedTrips(trips, sequenceNumbers);
+            deleteUnpartitionedFile();
+        }
+        logger.fine("Wrote " + writtenCount + " of " + partitions.size() + " trip partitions to " + directory);
+    }
+
+    /**
+     * Returns increasing sequence numbers for {@code trips}. A trip that is in {@code previous}, in the same order
+     * relative to the other trips kept, keeps its number. The trips in between are numbered evenly between the kept
+     * numbers around them, or {@link #SEQUENCE_GAP} apart after the last. If there is no room left between two kept
+     * numbers, every trip is numbered afresh.
+     */
+    private static long[] assignSequenceNumbers(Trip[] trips, NumberedTrips previous) {
+        long[] sequenceNumbers = new long[trips.length];
+        boolean[] isKept = new boolean[trips.length];
+        Trip[] previousTrips = previous.trips;
+        Map<Trip, Integer> previousIndices = null;
+        int next = 0;
+        for (int i = 0; i < trips.length && next < previousTrips.length; i++) {
+            // Most saves follow an edit, addition or deletion, which the next previous trip or the one after tells
+            // apart without looking the trip up
+            int match = -1;
+            if (previousTrips[next] == trips[i]) {
+                match = next;
+            } else if (next + 1 < previousTrips.length && previousTrips[next + 1] == trips[i]) {
+                match = next + 1;
+            } else if (next + 1 < previousTrips.length && i + 1 < trips.length
+                    && previousTrips[next + 1] == trips[i + 1]) {
+                next++;
+            } else {
+                if (previousIndices == null) {
+                    previousIndices = indexByIdentity(previousTrips);
+                }
+                Integer index = previousIndices.get(trips[i]);
+                match = index != null && index >= next ? index : -1;
+            }
+            if (match >= 0) {
+                sequenceNumbers[i] = previous.sequenceNumbers[match];
+                isKept[i] = true;
+                next = match + 1;
+            }
+        }
+
+        int start = 0;
+        while (start < trips.length) {
+            if (isKept[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < trips.length && !isKept[end]) {
+                end++;
+            }
+            if (!numberBetween(sequenceNumbers, start, end)) {
+                for (int i = 0; i < trips.length; i++) {
+                    sequenceNumbers[i] = i * SEQUENCE_GAP;
+                }
+                return sequenceNumbers;
+            }
+            start = end;
+        }
+        return sequenceNumbers;
+    }
+
+    private static Map<Trip, Integer> indexByIdentity(Trip[] trips) {
+        Map<Trip, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < trips.length; i++) {
+            indices.put(trips[i], i);
+        }
+        return indices;
+    }
+
+    /**
+     * Numbers the trips from {@code start} to {@code end}, exclusive, between the kept numbers around them. Returns
+     * false if there is no room for them.
+     */
+    private static boolean numberBetween(long[] sequenceNumbers, int start, int end) {
+        int count = end - start;
+        boolean hasLow = start > 0;
+        boolean hasHigh = end < sequenceNumbers.length;
+        try {
+            long step;
+            long low;
+            if (hasHigh) {
+                long high = sequenceNumbers[end];
+                low = hasLow
+                        ? sequenceNumbers[start - 1]
+                        : Math.subtractExact(high, Math.multiplyExact(SEQUENCE_GAP, count + 1L));
+                step = Math.subtractExact(high, low) / (count + 1);
+            } else {
+                low = hasLow ? sequenceNumbers[start - 1] : -SEQUENCE_GAP;
+                step = SEQUENCE_GAP;
+                Math.addExact(low, Math.multiplyExact(step, count));
+            }
+            if (step == 0) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                sequenceNumbers[start + i] = low + step * (i + 1);
+            }
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Groups {@code trips} by the month of their date, in the order of {@code trips} within each month, along with
+     * their sequence numbers.
+     */
+    private static SortedMap<YearMonth, Partition> partition(Trip[] trips, long[] sequenceNumbers) {
+        SortedMap<YearMonth, Partition> partitions = new TreeMap<>();
+        for (int i = 0; i < trips.length; i++) {
+            Partition partition = partitions.computeIfAbsent(YearMonth.from(trips[i].getDate().date),
+                    unused -> new Partition());
+            partition.trips.add(trips[i]);
+            partition.addSequenceNumber(sequenceNumbers[i]);
+        }
+        return partitions;
+    }
+
+    /**
+     * Deletes the trip book file that the partitions were first read from, and its snapshot, which are out of date
+     * once the partitions are saved.
+     */
+    private void deleteUnpartitionedFile() throws IOException {
+        if (Files.deleteIfExists(unpartitionedFile)) {
+            logger.info("Deleted " + unpartitionedFile + ", as its trips are now saved in " + manifestFile);
+        }
+        Files.deleteIfExists(BinarySnapshot.getFile(unpartitionedFile));
+    }
+
+    private static void deletePartitionsNotIn(Path directory, Set<YearMonth> months) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PARTITION_FILE_GLOB)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String month = fileName.substring(0, fileName.length() - JSON_EXTENSION.length());
+                if (!months.contains(YearMonth.parse(month))) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code bytes}, so that the file holds either its old contents or
+     * the new ones, even if writing fails.
+     */
+    private static void replace(Path file, byte[] bytes) throws IOException {
+        Path partialFile = file.resolveSibling(file.getFileName() + PARTIAL_SUFFIX);
+        try {
+            Files.write(partialFile, bytes);
+            Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partialFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(partialFile);
+        }
+    }
+
+    /**
+     * The trips of one month, in the order of the book, and their sequence numbers.
+     */
+    private static class Partition {
+        private final List<Trip> trips = new ArrayList<>();
+        private long[] sequenceNumbers = new long[4];
+        private int sequenceNumberCount;
+
+        void addSequenceNumber(long sequenceNumber) {
+            if (sequenceNumberCount == sequenceNumbers.length) {
+                sequenceNumbers = Arrays.copyOf(sequenceNumbers, sequenceNumbers.length * 2);
+            }
+            sequenceNumbers[sequenceNumberCount++] = sequenceNumber;
+        }
+
+        long[] getSequenceNumbers() {
+            return Arrays.copyOf(sequenceNumbers, sequenceNumberCount);
+        }
+
+        /**
+         * Checks that each trip has a sequence number, and that they are in increasing order.
+         *
+         * @throws IllegalValueException if not, naming the partition of {@code month}.
+         */
+        void checkSequenceNumbers(YearMonth month) throws IllegalValueException {
+            if (sequenceNumberCount != trips.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_SEQUENCE_SIZE_MISMATCH, month, trips.size(),
+                        sequenceNumberCount));
+            }
+            for (int i = 1; i < sequenceNumberCount; i++) {
+                if (sequenceNumbers[i] <= sequenceNumbers[i - 1]) {
+                    throw new IllegalValueException(String.format(MESSAGE_SEQUENCE_NOT_INCREASING, month));
+                }
+            }
+        }
+
+        /**
+         * Returns true if {@code other} holds the same trips, in the same order and with the same sequence numbers.
+         * Trips that have not been edited are the same objects, so most are told apart without comparing their
+         * fields.
+         */
+        boolean isSameAs(Partition other) {
+            if (other == null || other.trips.size() != trips.size() || !Arrays.equals(
+                    other.sequenceNumbers, 0, other.sequenceNumberCount, sequenceNumbers, 0, sequenceNumberCount)) {
+                return false;
+            }
+            for (int i = 0; i < trips.size(); i++) {
+                if (other.trips.get(i) != trips.get(i) && !other.trips.get(i).equals(trips.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Trips in the order of the book, and their sequence numbers.
+     */
+    private static class NumberedTrips {
+        private final Trip[] trips;
+        private final long[] sequenceNumbers;
+
+        NumberedTrips(Trip[] trips, long[] sequenceNumbers) {
+            this.trips = trips;
+            this.sequenceNumbers = sequenceNumbers;
+        }
+    }
+}
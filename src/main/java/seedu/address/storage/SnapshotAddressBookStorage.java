@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.contact.Address;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Note;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps a {@link BinarySnapshot} of the JSON file of another {@code AddressBookStorage}, and reads the snapshot
+ * instead of the JSON file while it is up to date.
+ *
+ * The JSON file is still written on every save, and is read if the snapshot is missing, out of date or damaged, in
+ * which case the snapshot is made again from what was read. Failing to write the snapshot is logged but does not
+ * fail the save.
+ */
+public class SnapshotAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotAddressBookStorage.class);
+
+    private final AddressBookStorage jsonStorage;
+
+    /**
+     * Creates a storage that keeps a snapshot of the files of {@code jsonStorage}.
+     */
+    public SnapshotAddressBookStorage(AddressBookStorage jsonStorage) {
+        requireNonNull(jsonStorage);
+        this.jsonStorage = jsonStorage;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return jsonStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            Optional<BinarySnapshot.Reader> reader = BinarySnapshot.open(filePath, BinarySnapshot.KIND_ADDRESS_BOOK);
+            if (reader.isPresent()) {
+                return Optional.of(decode(reader.get()));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Whatever is wrong with the snapshot, the JSON file still holds the data
+            logger.warning("Could not read the snapshot of " + filePath + ", reading the file instead: " + e);
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = jsonStorage.readAddressBook(filePath);
+        if (addressBook.isPresent()) {
+            saveSnapshot(addressBook.get(), filePath);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        jsonStorage.saveAddressBook(addressBook, filePath);
+        // The JSON file is left untouched if it already held this data, and then so is a snapshot made from it
+        if (!BinarySnapshot.isFresh(filePath, BinarySnapshot.KIND_ADDRESS_BOOK)) {
+            saveSnapshot(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Writes the snapshot of {@code filePath}, which holds {@code addressBook}, logging any failure.
+     */
+    private static void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) {
+        try {
+            BinarySnapshot.Writer writer = new BinarySnapshot.Writer(BinarySnapshot.KIND_ADDRESS_BOOK);
+            for (Contact contact : addressBook.getPersonList()) {
+                writer.writeString(contact.getName().fullName);
+                writer.writeString(contact.getPhone().value);
+                writer.writeString(contact.getEmail().value);
+                writer.writeString(contact.getAddress().value);
+                writer.writeString(contact.getNote().getNote());
+                writer.writeInt(contact.getTags().size());
+                for (Tag tag : contact.getTags()) {
+                    writer.writeString(tag.tagName);
+                }
+                writer.endRecord();
+            }
+            writer.save(filePath);
+        } catch (IOException e) {
+            logger.warning("Could not write the snapshot of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Decodes the contacts of a snapshot. The fields are checked by the constructors of the model, as a damaged
+     * snapshot may still hold invalid values.
+     */
+    private static AddressBook decode(BinarySnapshot.Reader reader) {
+        BinarySnapshot.SharedValues<Tag> tags = reader.share(Tag::new);
+        BinarySnapshot.SharedValues<Note> notes = reader.share(Note::new);
+        List<Contact> contacts = new ArrayList<>(reader.getRecordCount());
+        for (int i = 0; i < reader.getRecordCount(); i++) {
+            reader.nextRecord();
+            Name name = new Name(reader.readString());
+            Phone phone = new Phone(reader.readString());
+            Email email = new Email(reader.readString());
+            Address address = new Address(reader.readString());
+            Note note = reader.read(notes);
+            int tagCount = reader.readInt();
+            Set<Tag> contactTags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                contactTags.add(reader.read(tags));
+            }
+            contacts.add(new Contact(name, phone, email, address, contactTags, note));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(contacts);
+        return addressBook;
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.contact.Name;
+import seedu.address.model.trip.Accommodation;
+import seedu.address.model.trip.Itinerary;
+import seedu.address.model.trip.Note;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.TripDate;
+import seedu.address.model.trip.TripName;
+
+/**
+ * Keeps a {@link BinarySnapshot} of the JSON file of another {@code TripBookStorage}, and reads the snapshot
+ * instead of the JSON file while it is up to date.
+ *
+ * @see SnapshotAddressBookStorage
+ */
+public class SnapshotTripBookStorage implements TripBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotTripBookStorage.class);
+
+    private final TripBookStorage jsonStorage;
+
+    /**
+     * Creates a storage that keeps a snapshot of the files of {@code jsonStorage}.
+     */
+    public SnapshotTripBookStorage(TripBookStorage jsonStorage) {
+        requireNonNull(jsonStorage);
+        this.jsonStorage = jsonStorage;
+    }
+
+    @Override
+    public Path getTripBookFilePath() {
+        return jsonStorage.getTripBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTripBook> readTripBook() throws DataLoadingException {
+        return readTripBook(getTripBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyTripBook> readTripBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        try {
+            Optional<BinarySnapshot.Reader> reader = BinarySnapshot.open(filePath, BinarySnapshot.KIND_TRIP_BOOK);
+            if (reader.isPresent()) {
+                return Optional.of(decode(reader.get()));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Whatever is wrong with the snapshot, the JSON file still holds the data
+            logger.warning("Could not read the snapshot of " + filePath + ", reading the file instead: " + e);
+        }
+
+        Optional<ReadOnlyTripBook> tripBook = jsonStorage.readTripBook(filePath);
+        if (tripBook.isPresent()) {
+            saveSnapshot(tripBook.get(), filePath);
+        }
+        return tripBook;
+    }
+
+    @Override
+    public void saveTripBook(ReadOnlyTripBook tripBook) throws IOException {
+        saveTripBook(tripBook, getTripBookFilePath());
+    }
+
+    @Override
+    public void saveTripBook(ReadOnlyTripBook tripBook, Path filePath) throws IOException {
+        requireNonNull(tripBook);
+        requireNonNull(filePath);
+        jsonStorage.saveTripBook(tripBook, filePath);
+        if (!BinarySnapshot.isFresh(filePath, BinarySnapshot.KIND_TRIP_BOOK)) {
+            saveSnapshot(tripBook, filePath);
+        }
+    }
+
+    /**
+     * Writes the snapshot of {@code filePath}, which holds {@code tripBook}, logging any failure.
+     */
+    private static void saveSnapshot(ReadOnlyTripBook tripBook, Path filePath) {
+        try {
+            BinarySnapshot.Writer writer = new BinarySnapshot.Writer(BinarySnapshot.KIND_TRIP_BOOK);
+            for (Trip trip : tripBook.getTripList()) {
+                writer.writeString(trip.getName().name);
+                writer.writeString(trip.getAccommodation().accommodation);
+                writer.writeString(trip.getItinerary().itinerary);
+                writer.writeString(trip.getDate().date.format(TripDate.DATE_FORMATTER));
+                writer.writeString(trip.getNote().note);
+                writer.writeInt(trip.getCustomerNames().size());
+                for (Name customerName : trip.getCustomerNames()) {
+                    writer.writeString(customerName.fullName);
+                }
+                writer.endRecord();
+            }
+            writer.save(filePath);
+        } catch (IOException e) {
+            logger.warning("Could not write the snapshot of " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Decodes the trips of a snapshot. The fields are checked by the constructors of the model, once for each
+     * distinct value, as a damaged snapshot may still hold invalid values.
+     */
+    private static TripBook decode(BinarySnapshot.Reader reader) {
+        BinarySnapshot.SharedValues<Accommodation> accommodations = reader.share(Accommodation::new);
+        BinarySnapshot.SharedValues<Itinerary> itineraries = reader.share(Itinerary::new);
+        BinarySnapshot.SharedValues<TripDate> dates = reader.share(TripDate::new);
+        BinarySnapshot.SharedValues<Note> notes = reader.share(Note::new);
+        BinarySnapshot.SharedValues<Name> customerNames = reader.share(Name::new);
+        List<Trip> trips = new ArrayList<>(reader.getRecordCount());
+        for (int i = 0; i < reader.getRecordCount(); i++) {
+            reader.nextRecord();
+            TripName name = new TripName(reader.readString());
+            Accommodation accommodation = reader.read(accommodations);
+            Itinerary itinerary = reader.read(itineraries);
+            TripDate date = reader.read(dates);
+            Note note = reader.read(notes);
+            int customerCount = reader.readInt();
+            Set<Name> customers = new HashSet<>();
+            for (int j = 0; j < customerCount; j++) {
+                customers.add(reader.read(customerNames));
+            }
+            trips.add(new Trip(name, accommodation, itinerary, date, customers, note));
+        }
+
+        TripBook tripBook = new TripBook();
+        tripBook.setTrips(trips);
+        return tripBook;
+    }
+}
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -34,6 +36,32 @@ public class StorageManager implements Storage {
         this.tripBookStorage = tripBookStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} for the data files named in {@code userPrefs}, stored in the formats that
+     * {@code config} asks for.
+     */
+    public static StorageManager create(Config config, UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        int compressionLevel = config.getDataCompressionLevel();
+        if (!DataCompression.isValidLevel(compressionLevel)) {
+            logger.warning("Invalid dataCompressionLevel " + compressionLevel + " in the config. "
+                    + DataCompression.MESSAGE_CONSTRAINTS + " Saving data files uncompressed.");
+            compressionLevel = DataCompression.NONE;
+        }
+        AddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), compressionLevel);
+        TripBookStorage tripBookStorage = config.isTripPartitioningEnabled()
+                ? new PartitionedTripBookStorage(userPrefs.getTripBookFilePath(), compressionLevel)
+                : new JsonTripBookStorage(userPrefs.getTripBookFilePath(), compressionLevel);
+        if (config.isBinarySnapshotEnabled()) {
+            addressBookStorage = new SnapshotAddressBookStorage(addressBookStorage);
+            // A snapshot of the partitioned trips would be rewritten whole on every save, which partitioning avoids
+            if (!config.isTripPartitioningEnabled()) {
+                tripBookStorage = new SnapshotTripBookStorage(tripBookStorage);
+            }
+        }
+        return new StorageManager(addressBookStorage, userPrefsStorage, tripBookStorage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -98,6 +126,12 @@ public class StorageManager implements Storage {
         return tripBookStorage.readTripBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyTripBook> readTripsSince(YearMonth month) throws DataLoadingException {
+        logger.fine("Attempting to read the trips since " + month + " from: " + getTripBookFilePath());
+        return tripBookStorage.readTripsSince(month);
+    }
+
     @Override
     public void saveTripBook(ReadOnlyTripBook tripBook) throws IOException {
         saveTripBook(tripBook, tripBookStorage.getTripBookFilePath());
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -30,6 +31,16 @@ public interface TripBookStorage {
      */
     Optional<ReadOnlyTripBook> readTripBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the trips dated in {@code month} or later, in the order of the book, if this storage can read them
+     * without reading the rest of the book. Returns {@code Optional.empty()} if it cannot, or if there is no data.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<ReadOnlyTripBook> readTripsSince(YearMonth month) throws DataLoadingException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyTripBook} to the storage.
      * @param tripBook cannot be null.
@@ -0,0 +1,292 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentObservableList;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.trip.Trip;
+
+/**
+ * Runs commands on a single background thread, so that the JavaFX application thread stays responsive while a
+ * command is parsed, changes the model and saves both books to disk.
+ *
+ * Once the UI has started, the command executor thread is the only thread that reads or changes the model. The UI
+ * therefore shows copies of the filtered lists rather than the model's own lists. The executor records the changes
+ * each command makes to the filtered lists, and the UI thread makes the same changes to its copies, so an edit costs
+ * the UI what it costs the model rather than a copy of the whole list. The changes are handed to the UI thread in a
+ * single {@code Platform.runLater} task, together with the results of every command completed since the previous
+ * task, so a burst of commands does not flood the UI thread with updates, and the changes to each list are shown as
+ * a single change. Results are delivered on the UI thread, in the order the commands were submitted.
+ */
+public class CommandPipeline {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ExecutorService commandExecutor;
+
+    // Only accessed on the UI thread
+    private final PersistentObservableList<Contact> personList = new PersistentObservableList<>();
+    private final PersistentObservableList<Trip> tripList = new PersistentObservableList<>();
+    private final IntegerProperty pendingCommandCount = new SimpleIntegerProperty(0);
+    private final BooleanBinding busy = pendingCommandCount.greaterThan(0);
+
+    // Record changes on the command executor thread and hand them to the UI thread
+    private final ChangeRecorder<Contact> personChanges = new ChangeRecorder<>();
+    private final ChangeRecorder<Trip> tripChanges = new ChangeRecorder<>();
+    private final Queue<Runnable> pendingCompletions = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isPublishScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a {@code CommandPipeline} that runs commands with {@code logic}. Must be called on the JavaFX
+     * application thread, before any command is run.
+     */
+    public CommandPipeline(Logic logic) {
+        this(logic, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandPipeline} that hands results to the UI by running tasks on {@code uiExecutor}.
+     */
+    CommandPipeline(Logic logic, Executor uiExecutor) {
+        requireNonNull(logic);
+        requireNonNull(uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        personList.setAll(logic.getFilteredPersonList());
+        tripList.setAll(logic.getFilteredTripList());
+        // Called on the command executor thread, as that is where the model changes
+        logic.getFilteredPersonList().addListener(personChanges);
+        logic.getFilteredTripList().addListener(tripChanges);
+    }
+
+    /**
+     * Returns the filtered list of persons as of the last command whose result was delivered.
+     * Only changes on the UI thread.
+     */
+    public ObservableList<Contact> getFilteredPersonList() {
+        return FXCollections.unmodifiableObservableList(personList);
+    }
+
+    /**
+     * Returns the filtered list of trips as of the last command whose result was delivered.
+     * Only changes on the UI thread.
+     */
+    public ObservableList<Trip> getFilteredTripList() {
+        return FXCollections.unmodifiableObservableList(tripList);
+    }
+
+    /**
+     * Returns a value that is true while commands are waiting to run or running. Only changes on the UI thread.
+     */
+    public ObservableBooleanValue busyProperty() {
+        return busy;
+    }
+
+    public boolean isBusy() {
+        return busy.get();
+    }
+
+    /**
+     * Queues {@code commandText} to run after the commands already submitted. Must be called on the UI thread.
+     *
+     * @return the result of the command, completed on the UI thread. Completed exceptionally with a
+     *     {@code CommandException} or {@code ParseException} if the command is invalid.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        return submitWork(commandText, () -> logic.execute(commandText));
+    }
+
+    /**
+     * Queues {@code task} to run on the command executor thread after the commands already submitted, as if it were
+     * a command. Commands submitted afterwards wait for it, so a task can prepare the model before the user's first
+     * command. Must be called on the UI thread.
+     *
+     * @return completed on the UI thread once the task has run and its changes to the filtered lists are shown.
+     */
+    public CompletableFuture<Void> submitTask(String description, Runnable task) {
+        requireNonNull(description);
+        requireNonNull(task);
+        return submitWork(description, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> submitWork(String description, Callable<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        pendingCommandCount.set(pendingCommandCount.get() + 1);
+        try {
+            commandExecutor.execute(() -> run(work, result));
+        } catch (RejectedExecutionException e) {
+            logger.warning("Command rejected as the app is shutting down: " + description);
+            pendingCommandCount.set(pendingCommandCount.get() - 1);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * Stops accepting commands, and waits for the commands already submitted to finish so that none of them is
+     * interrupted while saving.
+     */
+    public void shutdown() {
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands were still running after " + SHUTDOWN_TIMEOUT_SECONDS + "s at shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs a command or task on the command executor thread and queues its result for the UI thread.
+     */
+    private <T> void run(Callable<T> work, CompletableFuture<T> result) {
+        T value = null;
+        Throwable error = null;
+        try {
+            value = work.call();
+        } catch (Throwable e) {
+            // Includes unexpected exceptions and errors, such as a failed assertion, which would otherwise leave the
+            // command pending and the UI busy forever
+            error = e;
+        }
+
+        // Handed over whole, so the UI never shows part of what a command did
+        personChanges.handOver();
+        tripChanges.handOver();
+
+        T finalValue = value;
+        Throwable finalError = error;
+        pendingCompletions.add(() -> {
+            pendingCommandCount.set(pendingCommandCount.get() - 1);
+            if (finalError == null) {
+                result.complete(finalValue);
+            } else {
+                result.completeExceptionally(finalError);
+            }
+        });
+
+        if (isPublishScheduled.compareAndSet(false, true)) {
+            uiExecutor.execute(this::publish);
+        }
+    }
+
+    /**
+     * Makes the pending changes to the copies of the filtered lists and delivers the pending results, on the UI
+     * thread.
+     */
+    private void publish() {
+        // Cleared first, so that anything queued from here on schedules another task
+        isPublishScheduled.set(false);
+
+        personChanges.applyTo(personList);
+        tripChanges.applyTo(tripList);
+
+        Runnable completion;
+        while ((completion = pendingCompletions.poll()) != null) {
+            completion.run();
+        }
+    }
+
+    /**
+     * Records the changes to a list on the command executor thread, so that the UI thread can make the same changes
+     * to its copy of the list. The changes are replayed in order, each at the indices it was reported at, as
+     * JavaFX's own content bindings do.
+     */
+    private static class ChangeRecorder<E> implements ListChangeListener<E> {
+        // Only accessed on the command executor thread
+        private List<Consumer<List<E>>> recorded = new ArrayList<>();
+
+        private final Queue<List<Consumer<List<E>>>> handedOver = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void onChanged(Change<? extends E> change) {
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<E> permuted = List.copyOf(change.getList().subList(from, change.getTo()));
+                    recorded.add(list -> replace(list, from, permuted.size(), permuted));
+                } else if (change.wasAdded() || change.wasRemoved()) {
+                    int removedSize = change.getRemovedSize();
+                    List<E> added = List.copyOf(change.getAddedSubList());
+                    recorded.add(list -> replace(list, from, removedSize, added));
+                }
+                // Updates leave the same elements in place, so there is nothing to copy
+            }
+        }
+
+        private static <E> void replace(List<E> list, int from, int removedSize, List<E> added) {
+            // Setting in place keeps an edit a single replacement rather than a removal and an addition
+            int setSize = Math.min(removedSize, added.size());
+            for (int i = 0; i < setSize; i++) {
+                list.set(from + i, added.get(i));
+            }
+            list.subList(from + setSize, from + removedSize).clear();
+            list.addAll(from + setSize, added.subList(setSize, added.size()));
+        }
+
+        /**
+         * Hands the changes recorded since the last call to the UI thread. Called on the command executor thread.
+         */
+        void handOver() {
+            if (!recorded.isEmpty()) {
+                handedOver.add(recorded);
+                recorded = new ArrayList<>();
+            }
+        }
+
+        /**
+         * Makes the changes handed over so far to {@code list}, as a single change. Called on the UI thread.
+         */
+        void applyTo(PersistentObservableList<E> list) {
+            if (handedOver.isEmpty()) {
+                return;
+            }
+            list.batch(() -> {
+                List<Consumer<List<E>>> changes;
+                while ((changes = handedOver.poll()) != null) {
+                    changes.forEach(change -> change.accept(list));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of display models, so that a model is computed once per entity rather than every time the entity
+ * is scrolled into view.
+ *
+ * Entries are keyed by the identity of the entity. As entities are immutable, editing one replaces it with a new
+ * object, which gets a fresh display model; the model of the old object is eventually evicted as the least recently
+ * used. Not thread-safe; meant to be used on the JavaFX application thread only.
+ *
+ * @param <T> type of the entities.
+ * @param <M> type of the display models.
+ */
+public class DisplayModelCache<T, M> {
+
+    private final Function<T, M> modelFactory;
+    private final Map<IdentityKey<T>, M> models;
+
+    /**
+     * Creates a cache that holds the models of at most {@code capacity} entities, computing missing models with
+     * {@code modelFactory}.
+     */
+    public DisplayModelCache(int capacity, Function<T, M> modelFactory) {
+        requireNonNull(modelFactory);
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.modelFactory = modelFactory;
+        this.models = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdentityKey<T>, M> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the display model of {@code entity}, computing it if it is not cached.
+     */
+    public M get(T entity) {
+        requireNonNull(entity);
+        return models.computeIfAbsent(new IdentityKey<>(entity), key -> modelFactory.apply(entity));
+    }
+
+    /**
+     * Returns the number of cached models.
+     */
+    public int size() {
+        return models.size();
+    }
+
+    /**
+     * Wraps an entity so that it is compared by identity rather than by {@code equals}.
+     */
+    private static class IdentityKey<T> {
+        private final T entity;
+
+        IdentityKey(T entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey<?>) other).entity == entity;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(entity);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -13,10 +17,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.export.ExportTask;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -25,17 +31,22 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    static final String MESSAGE_LOADING = "Loading contacts and trips...";
+    static final String MESSAGE_LOADED = "Loaded %1$d contacts and %2$d trips.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandPipeline commandPipeline;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private TripListPanel tripListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -65,6 +76,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandPipeline = new CommandPipeline(logic);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -118,11 +130,11 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         logger.info("Filling inner parts of MainWindow");
 
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandPipeline.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
         logger.fine("Person list panel initialized");
 
-        tripListPanel = new TripListPanel(logic.getFilteredTripList());
+        tripListPanel = new TripListPanel(commandPipeline.getFilteredTripList());
         tripListPanelPlaceholder.getChildren().add(tripListPanel.getRoot());
         logger.fine("Trip list panel initialized");
 
@@ -130,15 +142,36 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
         logger.fine("Result display initialized");
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
         logger.fine("Status bar footer initialized");
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandPipeline.busyProperty().addListener((unused, wasBusy, isBusy) -> commandBox.setBusy(isBusy));
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
         logger.fine("Command box initialized");
     }
 
+    /**
+     * Shows this window in a loading state while {@code loaders} fill the model on the command thread, one after the
+     * other. What each loader puts in the model is shown as soon as it finishes, so the first ones can show part of
+     * the data while the rest loads. Commands entered in the meantime are run once all the data has loaded.
+     *
+     * @return completed on the JavaFX application thread once the loaded data is shown.
+     */
+    CompletableFuture<Void> loadInitialData(List<Runnable> loaders) {
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        CompletableFuture<?>[] loads = loaders.stream()
+                .map(loader -> commandPipeline.submitTask("load initial data", loader))
+                .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(loads).whenComplete((unused, error) -> {
+            if (error == null) {
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADED,
+                        commandPipeline.getFilteredPersonList().size(), commandPipeline.getFilteredTripList().size()));
+            }
+        });
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -187,18 +220,30 @@ public class MainWindow extends UiPart<Stage> {
         logger.info("Application exit completed");
     }
 
+    /**
+     * Waits for the commands already entered to finish. No more commands can be entered afterwards.
+     */
+    void stop() {
+        commandPipeline.shutdown();
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background and returns its result, which is also shown to the user once
+     * the command is done.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandPipeline#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandPipeline.submit(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                handleCommandFailure(commandText, error);
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -214,12 +259,36 @@ public class MainWindow extends UiPart<Stage> {
                 handleConfirmation(commandResult);
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+            commandResult.getExportTask().ifPresent(this::showExportProgress);
+        });
+    }
+
+    /**
+     * Shows the progress of {@code task} in the status bar until it finishes, and then whether it succeeded.
+     */
+    private void showExportProgress(ExportTask task) {
+        statusBarFooter.setExportStatus(task.formatProgress());
+        task.setProgressListener(() -> Platform.runLater(() -> statusBarFooter.setExportStatus(task.formatProgress())));
+        task.getCompletion().whenComplete((message, error) -> Platform.runLater(() -> {
+            // Progress reports queued before the export finished have run by now, so this is shown last
+            String status = error == null ? message : error.getMessage();
+            logger.info(status);
+            statusBarFooter.setExportStatus(status);
+        }));
+    }
+
+    /**
+     * Shows the user why {@code commandText} failed.
+     */
+    private void handleCommandFailure(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        } else {
+            logger.severe("Unexpected error while executing command: " + commandText + "\n"
+                    + StringUtil.getDetails(error));
         }
+        // Errors such as a failed assertion may have no message
+        resultDisplay.setFeedbackToUser(Objects.toString(error.getMessage(), error.toString()));
     }
 
     /**
@@ -237,17 +306,11 @@ public class MainWindow extends UiPart<Stage> {
         // Handle the user's response
         alert.showAndWait().ifPresent(response -> {
             if (response == javafx.scene.control.ButtonType.OK) {
-                try {
-                    // Check if this is related to the clear command based on confirmation text
-                    if (commandResult.getConfirmationText().equals(ClearCommand.MESSAGE_CONFIRMATION)) {
-                        logger.info("User confirmed clear command");
-                        // Execute the confirmed clear command
-                        CommandResult result = logic.execute("clear confirmed");
-                        resultDisplay.setFeedbackToUser(result.getFeedbackToUser());
-                    }
-                } catch (CommandException | ParseException e) {
-                    logger.warning("Error executing confirmed command: " + e.getMessage());
-                    resultDisplay.setFeedbackToUser(e.getMessage());
+                // Check if this is related to the clear command based on confirmation text
+                if (commandResult.getConfirmationText().equals(ClearCommand.MESSAGE_CONFIRMATION)) {
+                    logger.info("User confirmed clear command");
+                    // Execute the confirmed clear command
+                    executeCommand("clear confirmed");
                 }
             } else {
                 logger.info("User canceled the operation");
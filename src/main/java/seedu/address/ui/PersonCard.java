@@ -1,13 +1,11 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.contact.Contact;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Contact}.
@@ -24,8 +22,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Contact contact;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -44,23 +40,29 @@ public class PersonCard extends UiPart<Region> {
     private Label note;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Contact} and index to display.
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setContact(PersonDisplayModel, int)}.
      */
-    public PersonCard(Contact contact, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.contact = contact;
+    }
+
+    /**
+     * Displays the contact described by {@code displayModel} at {@code displayedIndex} in place of the contact
+     * currently shown. This lets a list cell reuse one card for every contact scrolled through it, instead of
+     * loading a new card from FXML each time.
+     */
+    public void setContact(PersonDisplayModel displayModel, int displayedIndex) {
         id.setText(displayedIndex + ". ");
-        name.setText(contact.getName().fullName);
-        phone.setText(contact.getPhone().value);
-        address.setText(contact.getAddress().value);
-        email.setText(contact.getEmail().value);
-        note.setText(contact.getNote().toString());
-        contact.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> {
-                    Label label = new Label(tag.tagName);
-                    label.getStyleClass().add(tag.getStyleClass());
-                    tags.getChildren().add(label);
-                });
+        name.setText(displayModel.getName());
+        phone.setText(displayModel.getPhone());
+        address.setText(displayModel.getAddress());
+        email.setText(displayModel.getEmail());
+        note.setText(displayModel.getNote());
+        tags.getChildren().clear();
+        for (Tag tag : displayModel.getTags()) {
+            Label label = new Label(tag.tagName);
+            label.getStyleClass().add(tag.getStyleClass());
+            tags.getChildren().add(label);
+        }
     }
 }
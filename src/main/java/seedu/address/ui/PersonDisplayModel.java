@@ -0,0 +1,74 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The text shown by a {@code PersonCard} for a {@code Contact}, formatted once so that scrolling past the contact
+ * does not format it again.
+ * Guarantees: immutable.
+ */
+public class PersonDisplayModel {
+
+    private final String name;
+    private final String phone;
+    private final String address;
+    private final String email;
+    private final String note;
+    private final List<Tag> tags;
+
+    private PersonDisplayModel(String name, String phone, String address, String email, String note,
+                               List<Tag> tags) {
+        this.name = name;
+        this.phone = phone;
+        this.address = address;
+        this.email = email;
+        this.note = note;
+        this.tags = tags;
+    }
+
+    /**
+     * Returns the display model of {@code contact}.
+     */
+    public static PersonDisplayModel of(Contact contact) {
+        requireNonNull(contact);
+        List<Tag> sortedTags = contact.getTags().stream()
+                .sorted(Comparator.comparing(tag -> tag.tagName))
+                .collect(Collectors.toUnmodifiableList());
+        return new PersonDisplayModel(contact.getName().fullName, contact.getPhone().value,
+                contact.getAddress().value, contact.getEmail().value, contact.getNote().toString(), sortedTags);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    /**
+     * Returns the tags of the contact, sorted by name.
+     */
+    public List<Tag> getTags() {
+        return tags;
+    }
+}
@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CellRenderEvent;
 import seedu.address.model.contact.Contact;
 
 /**
@@ -15,7 +16,13 @@ import seedu.address.model.contact.Contact;
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+
+    /** Enough display models for every item shown in a long scroll, without keeping those of a huge list. */
+    private static final int DISPLAY_MODEL_CACHE_CAPACITY = 2000;
+
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final DisplayModelCache<Contact, PersonDisplayModel> displayModels =
+            new DisplayModelCache<>(DISPLAY_MODEL_CACHE_CAPACITY, PersonDisplayModel::of);
 
     @FXML
     private ListView<Contact> personListView;
@@ -33,15 +40,31 @@ public class PersonListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Contact} using a {@code PersonCard}.
      */
     class PersonListViewCell extends ListCell<Contact> {
+        // Created on first use and then rebound to each item, as loading a card from FXML is too slow to do
+        // for every cell update while scrolling
+        private PersonCard card;
+
         @Override
         protected void updateItem(Contact contact, boolean empty) {
+            CellRenderEvent renderEvent = new CellRenderEvent();
+            renderEvent.begin();
             super.updateItem(contact, empty);
 
             if (empty || contact == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(contact, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setContact(displayModels.get(contact), getIndex() + 1);
+                setGraphic(card.getRoot());
+            }
+
+            if (renderEvent.shouldCommit()) {
+                renderEvent.setList("contacts");
+                renderEvent.setIndex(getIndex());
+                renderEvent.commit();
             }
         }
     }
@@ -1,12 +1,9 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.trip.Trip;
 
 /**
  * An UI component that displays information of a {@code Trip}.
@@ -23,8 +20,6 @@ public class TripCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Trip trip;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -43,23 +38,23 @@ public class TripCard extends UiPart<Region> {
     private Label note;
 
     /**
-     * Creates a {@code TripCard} with the given {@code Trip} and index to display.
+     * Creates an empty {@code TripCard}, to be filled in with {@link #setTrip(TripDisplayModel, int)}.
      */
-    public TripCard(Trip trip, int displayedIndex) {
+    public TripCard() {
         super(FXML);
-        this.trip = trip;
-        id.setText(displayedIndex + ". ");
-        name.setText(trip.getName().name);
-        date.setText("(" + trip.getDate().toString() + ")");
-        itinerary.setText("Itinerary: " + trip.getItinerary().itinerary);
-        accommodation.setText("Accomodation: " + trip.getAccommodation().accommodation);
-        note.setText("Note: " + trip.getNote().note);
+    }
 
-        String customerNamesStr = trip.getCustomerNames().stream()
-                .sorted(Comparator.comparing(customerName -> customerName.fullName.toLowerCase()))
-                .map(customerName -> customerName.fullName)
-                .reduce((a, b) -> a + ", " + b)
-                .orElse("");
-        customerNames.setText("Customers: " + customerNamesStr);
+    /**
+     * Displays the trip described by {@code displayModel} at {@code displayedIndex} in place of the trip currently
+     * shown. This lets a list cell reuse one card for every trip scrolled through it.
+     */
+    public void setTrip(TripDisplayModel displayModel, int displayedIndex) {
+        id.setText(displayedIndex + ". ");
+        name.setText(displayModel.getName());
+        date.setText(displayModel.getDate());
+        itinerary.setText(displayModel.getItinerary());
+        accommodation.setText(displayModel.getAccommodation());
+        note.setText(displayModel.getNote());
+        customerNames.setText(displayModel.getCustomerNames());
     }
 }
@@ -0,0 +1,74 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+import seedu.address.model.trip.Trip;
+
+/**
+ * The text shown by a {@code TripCard} for a {@code Trip}, formatted once so that scrolling past the trip does not
+ * sort and join its customer names again.
+ * Guarantees: immutable.
+ */
+public class TripDisplayModel {
+
+    private final String name;
+    private final String date;
+    private final String itinerary;
+    private final String accommodation;
+    private final String note;
+    private final String customerNames;
+
+    private TripDisplayModel(String name, String date, String itinerary, String accommodation, String note,
+                             String customerNames) {
+        this.name = name;
+        this.date = date;
+        this.itinerary = itinerary;
+        this.accommodation = accommodation;
+        this.note = note;
+        this.customerNames = customerNames;
+    }
+
+    /**
+     * Returns the display model of {@code trip}.
+     */
+    public static TripDisplayModel of(Trip trip) {
+        requireNonNull(trip);
+        String customerNames = trip.getCustomerNames().stream()
+                .map(customerName -> customerName.fullName)
+                .sorted(Comparator.comparing(String::toLowerCase))
+                .collect(Collectors.joining(", "));
+        return new TripDisplayModel(trip.getName().name,
+                "(" + trip.getDate().toString() + ")",
+                "Itinerary: " + trip.getItinerary().itinerary,
+                "Accomodation: " + trip.getAccommodation().accommodation,
+                "Note: " + trip.getNote().note,
+                "Customers: " + customerNames);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getItinerary() {
+        return itinerary;
+    }
+
+    public String getAccommodation() {
+        return accommodation;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public String getCustomerNames() {
+        return customerNames;
+    }
+}
@@ -8,6 +8,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CellRenderEvent;
 import seedu.address.model.trip.Trip;
 
 /**
@@ -15,7 +16,13 @@ import seedu.address.model.trip.Trip;
  */
 public class TripListPanel extends UiPart<Region> {
     private static final String FXML = "TripListPanel.fxml";
+
+    /** Enough display models for every item shown in a long scroll, without keeping those of a huge list. */
+    private static final int DISPLAY_MODEL_CACHE_CAPACITY = 2000;
+
     private final Logger logger = LogsCenter.getLogger(TripListPanel.class);
+    private final DisplayModelCache<Trip, TripDisplayModel> displayModels =
+            new DisplayModelCache<>(DISPLAY_MODEL_CACHE_CAPACITY, TripDisplayModel::of);
 
     @FXML
     private ListView<Trip> tripListView;
@@ -33,15 +40,31 @@ public class TripListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Trip} using a {@code TripCard}.
      */
     class TripListViewCell extends ListCell<Trip> {
+        // Created on first use and then rebound to each item, as loading a card from FXML is too slow to do
+        // for every cell update while scrolling
+        private TripCard card;
+
         @Override
         protected void updateItem(Trip trip, boolean empty) {
+            CellRenderEvent renderEvent = new CellRenderEvent();
+            renderEvent.begin();
             super.updateItem(trip, empty);
 
             if (empty || trip == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TripCard(trip, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TripCard();
+                }
+                card.setTrip(displayModels.get(trip), getIndex() + 1);
+                setGraphic(card.getRoot());
+            }
+
+            if (renderEvent.shouldCommit()) {
+                renderEvent.setList("trips");
+                renderEvent.setIndex(getIndex());
+                renderEvent.commit();
             }
         }
     }
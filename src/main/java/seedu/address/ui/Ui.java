@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
 
 /**
@@ -10,4 +12,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Stops the UI, after the commands already entered are done. */
+    void stop();
+
+    /** Runs {@code commands} in order, as if the user had entered them. Must be called on the UI thread. */
+    void runCommands(List<String> commands);
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -23,13 +24,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private List<Runnable> initialDataLoaders;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}. The main window is shown before the data is loaded;
+     * {@code initialDataLoaders} are then run in order on the command thread, before any command, to fill the model.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, List<Runnable> initialDataLoaders) {
         this.logic = logic;
+        this.initialDataLoaders = List.copyOf(initialDataLoaders);
     }
 
     @Override
@@ -43,6 +47,12 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            mainWindow.loadInitialData(initialDataLoaders).whenComplete((unused, error) -> {
+                if (error != null) {
+                    // Keep the user from saving the empty model over data that failed to load
+                    showFatalErrorDialogAndShutdown("Fatal error while loading data", error);
+                }
+            });
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +60,18 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
+    @Override
+    public void runCommands(List<String> commands) {
+        commands.forEach(mainWindow::executeCommand);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
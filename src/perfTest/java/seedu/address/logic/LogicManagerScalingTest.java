@@ -0,0 +1,70 @@
+package seedu.address.logic;
+
+import static seedu.address.perf.ScalingAssert.assertScaling;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.perf.ComplexityClass;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Times whole commands, including saving both books, against books of increasing size.
+ */
+public class LogicManagerScalingTest {
+
+    private static final int[] SIZES = {1000, 4000, 16000};
+
+    /** Commands against 16000 contacts and trips take about 0.1s on a typical laptop, mostly to save both books. */
+    private static final long BUDGET_MILLIS = 500;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_find_linear() {
+        assertScaling("find", ComplexityClass.LINEAR, BUDGET_MILLIS, SIZES,
+                size -> setUpCommand(size, "find alex tan"));
+    }
+
+    @Test
+    public void execute_listTrip_linear() {
+        assertScaling("listTrip", ComplexityClass.LINEAR, BUDGET_MILLIS, SIZES,
+                size -> setUpCommand(size, "listTrip"));
+    }
+
+    private Runnable setUpCommand(int bookSize, String commandText) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(bookSize);
+        ReadOnlyAddressBook addressBook = generator.generateAddressBook(bookSize);
+        ReadOnlyTripBook tripBook = generator.generateTripBook(bookSize, addressBook);
+        Path dataFolder = testFolder.resolve(String.valueOf(bookSize));
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(dataFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(dataFolder.resolve("preferences.json")),
+                new JsonTripBookStorage(dataFolder.resolve("tripbook.json")));
+        CommandMetrics commandMetrics = new CommandMetrics();
+        commandMetrics.setSlowCommandThresholdMillis(Long.MAX_VALUE);
+        Logic logic = new LogicManager(new ModelManager(addressBook, tripBook, new UserPrefs()), storage,
+                commandMetrics);
+        return () -> {
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                throw new AssertionError(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.model.contact;
+
+import static seedu.address.perf.ScalingAssert.assertScaling;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.perf.ComplexityClass;
+
+public class UniquePersonListScalingTest {
+
+    private static final int[] SIZES = {50000, 100000, 400000};
+
+    @Test
+    public void setPersons_linear() {
+        assertScaling("UniquePersonList#setPersons", ComplexityClass.LINEAR, 200, SIZES, size -> {
+            List<Contact> contacts = new SyntheticDataGenerator(size).generateContacts(size);
+            UniquePersonList uniquePersonList = new UniquePersonList();
+            return () -> uniquePersonList.setPersons(contacts);
+        });
+    }
+
+    @Test
+    public void contains_linear() {
+        assertScaling("UniquePersonList#contains", ComplexityClass.LINEAR, 50, SIZES, size -> {
+            List<Contact> contacts = new SyntheticDataGenerator(size).generateContacts(size + 1);
+            UniquePersonList uniquePersonList = new UniquePersonList();
+            uniquePersonList.setPersons(contacts.subList(0, size));
+            Contact absentContact = contacts.get(size);
+            return () -> uniquePersonList.contains(absentContact);
+        });
+    }
+}
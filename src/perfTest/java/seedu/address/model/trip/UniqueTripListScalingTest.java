@@ -0,0 +1,35 @@
+package seedu.address.model.trip;
+
+import static seedu.address.perf.ScalingAssert.assertScaling;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.perf.ComplexityClass;
+
+public class UniqueTripListScalingTest {
+
+    private static final int[] SIZES = {50000, 100000, 400000};
+
+    @Test
+    public void setTrips_linear() {
+        assertScaling("UniqueTripList#setTrips", ComplexityClass.LINEAR, 200, SIZES, size -> {
+            List<Trip> trips = new SyntheticDataGenerator(size).generateTrips(size, List.of());
+            UniqueTripList uniqueTripList = new UniqueTripList();
+            return () -> uniqueTripList.setTrips(trips);
+        });
+    }
+
+    @Test
+    public void contains_linear() {
+        assertScaling("UniqueTripList#contains", ComplexityClass.LINEAR, 50, SIZES, size -> {
+            List<Trip> trips = new SyntheticDataGenerator(size).generateTrips(size + 1, List.of());
+            UniqueTripList uniqueTripList = new UniqueTripList();
+            uniqueTripList.setTrips(trips.subList(0, size));
+            Trip absentTrip = trips.get(size);
+            return () -> uniqueTripList.contains(absentTrip);
+        });
+    }
+}
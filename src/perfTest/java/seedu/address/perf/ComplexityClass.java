@@ -0,0 +1,39 @@
+package seedu.address.perf;
+
+/**
+ * How the running time of an operation is expected to grow with the size of its input.
+ */
+public enum ComplexityClass {
+    CONSTANT,
+    LOGARITHMIC,
+    LINEAR,
+    LINEARITHMIC,
+    QUADRATIC;
+
+    /**
+     * Returns how many times longer the operation is expected to take on an input of {@code largerSize}
+     * than on an input of {@code smallerSize}.
+     */
+    public double getExpectedGrowth(int smallerSize, int largerSize) {
+        double sizeRatio = (double) largerSize / smallerSize;
+        switch (this) {
+        case CONSTANT:
+            return 1;
+        case LOGARITHMIC:
+            return log(largerSize) / log(smallerSize);
+        case LINEAR:
+            return sizeRatio;
+        case LINEARITHMIC:
+            return sizeRatio * log(largerSize) / log(smallerSize);
+        case QUADRATIC:
+            return sizeRatio * sizeRatio;
+        default:
+            throw new AssertionError("Unknown complexity class: " + this);
+        }
+    }
+
+    private static double log(int size) {
+        // Avoids dividing by log(1) = 0 for tiny inputs
+        return Math.log(Math.max(size, 2));
+    }
+}
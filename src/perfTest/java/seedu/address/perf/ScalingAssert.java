@@ -0,0 +1,112 @@
+package seedu.address.perf;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Asserts that the running time of an operation grows with the size of its input no faster than declared.
+ *
+ * The operation is timed at each input size. The time at each size is compared with the time at the smallest size,
+ * and the assertion fails if it grew more than {@link ComplexityClass#getExpectedGrowth} allows, times a tolerance
+ * for noise. The tolerance defaults to {@value #DEFAULT_TOLERANCE} and can be changed with the
+ * {@value #TOLERANCE_PROPERTY} system property on a noisy machine.
+ */
+public class ScalingAssert {
+
+    public static final String TOLERANCE_PROPERTY = "perfTest.tolerance";
+    public static final double DEFAULT_TOLERANCE = 3;
+
+    private static final int SAMPLES = 7;
+    private static final long WARMUP_NANOS = TimeUnit.MILLISECONDS.toNanos(300);
+    private static final long MIN_SAMPLE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    /**
+     * Asserts that {@code operation} scales as {@code complexity} over {@code sizes}, and that a single run at the
+     * largest size takes at most {@code budgetMillis}.
+     *
+     * @param description name of the operation, used in failure messages.
+     * @param sizes input sizes in increasing order; the largest should be at least 8 times the smallest so that a
+     *              higher complexity class stands out from noise. The smallest should be too large for the CPU
+     *              caches: a baseline that fits in them runs several times faster per element than the larger
+     *              sizes, and a linear operation then fails as if it were worse.
+     * @param setUp returns the operation to time on an input of the given size. The operation is run many times,
+     *              so it must leave its input as it found it. Setting up is not timed.
+     */
+    public static void assertScaling(String description, ComplexityClass complexity, long budgetMillis, int[] sizes,
+                                     IntFunction<Runnable> setUp) {
+        if (sizes.length < 2) {
+            throw new IllegalArgumentException("At least two sizes are needed to measure scaling");
+        }
+        double tolerance = Double.parseDouble(System.getProperty(TOLERANCE_PROPERTY,
+                String.valueOf(DEFAULT_TOLERANCE)));
+
+        StringBuilder measurements = new StringBuilder(String.format("%10s %12s%n", "size", "time"));
+        long[] nanos = new long[sizes.length];
+        for (int i = 0; i < sizes.length; i++) {
+            Runnable operation = setUp.apply(sizes[i]);
+            // The JIT compiler only needs time to optimise the operation at the first size
+            int iterationsPerSample = warmUp(operation, i == 0 ? WARMUP_NANOS : MIN_SAMPLE_NANOS);
+            nanos[i] = measure(operation, iterationsPerSample);
+            measurements.append(String.format("%10d %12s%n", sizes[i], formatMillis(nanos[i])));
+
+            // Fail as soon as the growth is too high, as the larger sizes would take even longer
+            double growth = (double) nanos[i] / Math.max(nanos[0], 1);
+            double allowedGrowth = complexity.getExpectedGrowth(sizes[0], sizes[i]) * tolerance;
+            if (i > 0 && growth > allowedGrowth) {
+                fail(String.format("%s grew faster than %s: %.1fx the input took %.1fx as long "
+                        + "(at most %.1fx allowed)%n%s", description, complexity, (double) sizes[i] / sizes[0],
+                        growth, allowedGrowth, measurements));
+            }
+        }
+
+        long largestNanos = nanos[sizes.length - 1];
+        if (largestNanos > TimeUnit.MILLISECONDS.toNanos(budgetMillis)) {
+            fail(String.format("%s took %s at size %d, over its budget of %dms%n%s", description,
+                    formatMillis(largestNanos), sizes[sizes.length - 1], budgetMillis, measurements));
+        }
+    }
+
+    /**
+     * Runs {@code operation} repeatedly for at least {@code warmUpNanos}, and returns how many times it must be run
+     * per sample for each sample to be long enough to time accurately.
+     */
+    private static int warmUp(Runnable operation, long warmUpNanos) {
+        long startNanos = System.nanoTime();
+        int runs = 0;
+        long elapsedNanos;
+        do {
+            operation.run();
+            runs++;
+            elapsedNanos = System.nanoTime() - startNanos;
+        } while (elapsedNanos < warmUpNanos);
+        long nanosPerRun = Math.max(elapsedNanos / runs, 1);
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, MIN_SAMPLE_NANOS / nanosPerRun + 1));
+    }
+
+    /**
+     * Returns the shortest time taken by one run of {@code operation}, over several samples.
+     * The shortest time is the one least affected by garbage collection and other processes.
+     */
+    private static long measure(Runnable operation, int iterationsPerSample) {
+        System.gc();
+        long bestNanos = Long.MAX_VALUE;
+        for (int sample = 0; sample < SAMPLES; sample++) {
+            bestNanos = Math.min(bestNanos, runSample(operation, iterationsPerSample) / iterationsPerSample);
+        }
+        return bestNanos;
+    }
+
+    private static long runSample(Runnable operation, int iterations) {
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.3fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.perf.ScalingAssert.assertScaling;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+public class ScalingAssertTest {
+
+    private static final int[] SIZES = {1000, 4000, 16000};
+
+    @Test
+    public void getExpectedGrowth() {
+        assertEquals(1, ComplexityClass.CONSTANT.getExpectedGrowth(1000, 16000));
+        assertEquals(16, ComplexityClass.LINEAR.getExpectedGrowth(1000, 16000));
+        assertEquals(256, ComplexityClass.QUADRATIC.getExpectedGrowth(1000, 16000));
+        assertEquals(2, ComplexityClass.LOGARITHMIC.getExpectedGrowth(16, 256), 1e-9);
+        assertEquals(32, ComplexityClass.LINEARITHMIC.getExpectedGrowth(16, 256), 1e-9);
+    }
+
+    @Test
+    public void assertScaling_quadraticOperationDeclaredLinear_fails() {
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () ->
+                assertScaling("pairwise check", ComplexityClass.LINEAR, 10_000, SIZES,
+                        ScalingAssertTest::pairwiseDuplicateCheck));
+        assertTrue(error.getMessage().startsWith("pairwise check grew faster than LINEAR"));
+    }
+
+    @Test
+    public void assertScaling_quadraticOperationDeclaredQuadratic_passes() {
+        assertScaling("pairwise check", ComplexityClass.QUADRATIC, 10_000, SIZES,
+                ScalingAssertTest::pairwiseDuplicateCheck);
+    }
+
+    @Test
+    public void assertScaling_overBudget_fails() {
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () ->
+                assertScaling("pairwise check", ComplexityClass.QUADRATIC, 0, SIZES,
+                        ScalingAssertTest::pairwiseDuplicateCheck));
+        assertTrue(error.getMessage().contains("over its budget of 0ms"));
+    }
+
+    /**
+     * Returns a quadratic duplicate check over {@code size} distinct values, like the one that was once used
+     * to check that a list of contacts is unique.
+     */
+    private static Runnable pairwiseDuplicateCheck(int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return () -> {
+            for (int i = 0; i < values.length - 1; i++) {
+                for (int j = i + 1; j < values.length; j++) {
+                    if (values[i] == values[j]) {
+                        throw new AssertionError("Values should be distinct");
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static seedu.address.perf.ScalingAssert.assertScaling;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.perf.ComplexityClass;
+
+public class JsonStorageScalingTest {
+
+    private static final int[] SIZES = {1000, 4000, 16000};
+
+    /** Loading and saving 16000 entries of generated data takes about 0.5s on a typical laptop. */
+    private static final long BUDGET_MILLIS = 1500;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_linear() {
+        assertScaling("JsonAddressBookStorage#saveAddressBook", ComplexityClass.LINEAR, BUDGET_MILLIS, SIZES, size -> {
+            ReadOnlyAddressBook addressBook = new SyntheticDataGenerator(size).generateAddressBook(size);
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("save" + size + ".json"));
+            return () -> {
+                try {
+                    storage.saveAddressBook(addressBook);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+        });
+    }
+
+    @Test
+    public void readAddressBook_linear() {
+        assertScaling("JsonAddressBookStorage#readAddressBook", ComplexityClass.LINEAR, BUDGET_MILLIS, SIZES, size -> {
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("read" + size + ".json"));
+            try {
+                storage.saveAddressBook(new SyntheticDataGenerator(size).generateAddressBook(size));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return () -> {
+                try {
+                    storage.readAddressBook();
+                } catch (DataLoadingException e) {
+                    throw new AssertionError(e);
+                }
+            };
+        });
+    }
+
+    @Test
+    public void saveTripBook_linear() {
+        assertScaling("JsonTripBookStorage#saveTripBook", ComplexityClass.LINEAR, BUDGET_MILLIS, SIZES, size -> {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(size);
+            ReadOnlyTripBook tripBook = generator.generateTripBook(size, generator.generateAddressBook(size));
+            JsonTripBookStorage storage = new JsonTripBookStorage(testFolder.resolve("save" + size + ".json"));
+            return () -> {
+                try {
+                    storage.saveTripBook(tripBook);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+        });
+    }
+
+    @Test
+    public void readTripBook_linear() {
+        assertScaling("JsonTripBookStorage#readTripBook", ComplexityClass.LINEAR, BUDGET_MILLIS, SIZES, size -> {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(size);
+            JsonTripBookStorage storage = new JsonTripBookStorage(testFolder.resolve("read" + size + ".json"));
+            try {
+                storage.saveTripBook(generator.generateTripBook(size, generator.generateAddressBook(size)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return () -> {
+                try {
+                    storage.readTripBook();
+                } catch (DataLoadingException e) {
+                    throw new AssertionError(e);
+                }
+            };
+        });
+    }
+}
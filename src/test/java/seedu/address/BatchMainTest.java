@@ -0,0 +1,50 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchMainTest {
+
+    private final StringWriter output = new StringWriter();
+
+    @Test
+    public void run_help_printsUsage() throws Exception {
+        assertUsagePrinted("--help");
+    }
+
+    @Test
+    public void run_unknownOption_printsUsage() throws Exception {
+        assertUsagePrinted("--save-often", "10");
+    }
+
+    @Test
+    public void run_optionWithoutValue_printsUsage() throws Exception {
+        assertUsagePrinted("--save-every");
+    }
+
+    @Test
+    public void run_saveEveryNotANumber_printsUsage() throws Exception {
+        assertUsagePrinted("--save-every", "ten");
+        assertUsagePrinted("--save-every", "99999999999");
+    }
+
+    @Test
+    public void run_saveEveryNegative_printsUsage() throws Exception {
+        assertUsagePrinted("--save-every", "-1");
+    }
+
+    /**
+     * Asserts that running with {@code args} prints the usage and returns exit status 2 without running anything.
+     */
+    private void assertUsagePrinted(String... args) throws Exception {
+        output.getBuffer().setLength(0);
+        PrintWriter writer = new PrintWriter(output);
+        assertEquals(2, BatchMain.run(args, writer));
+        writer.flush();
+        assertEquals(BatchMain.MESSAGE_USAGE + System.lineSeparator(), output.toString());
+    }
+}
@@ -17,7 +17,13 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", slowCommandThresholdMillis=" + config.getSlowCommandThresholdMillis()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", traceFilePath=" + config.getTraceFilePath()
+                + ", binarySnapshotEnabled=" + config.isBinarySnapshotEnabled()
+                + ", dataCompressionLevel=" + config.getDataCompressionLevel()
+                + ", tripPartitioningEnabled=" + config.isTripPartitioningEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -46,6 +52,21 @@ public class ConfigTest {
         differentConfig = new Config();
         differentConfig.setUserPrefsFilePath(Paths.get("different/path"));
         assertFalse(defaultConfig.equals(differentConfig));
+
+        // different slow command threshold -> returns false
+        differentConfig = new Config();
+        differentConfig.setSlowCommandThresholdMillis(1);
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        // different metrics file path -> returns false
+        differentConfig = new Config();
+        differentConfig.setMetricsFilePath(Paths.get("metrics.txt"));
+        assertFalse(defaultConfig.equals(differentConfig));
+
+        // different trace file path -> returns false
+        differentConfig = new Config();
+        differentConfig.setTraceFilePath(Paths.get("trace.jsonl"));
+        assertFalse(defaultConfig.equals(differentConfig));
     }
 
     @Test
@@ -0,0 +1,78 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimelineTest {
+
+    private final StartupTimeline timeline = new StartupTimeline();
+
+    @Test
+    public void call_returnsResultAndRecordsStage() {
+        assertEquals("config", timeline.call("read config", () -> "config"));
+
+        List<StartupTimeline.Stage> stages = timeline.getStages();
+        assertEquals(1, stages.size());
+        assertEquals("read config", stages.get(0).getName());
+        assertEquals(Thread.currentThread().getName(), stages.get(0).getThreadName());
+        assertTrue(stages.get(0).getStartNanos() >= 0);
+        assertTrue(stages.get(0).getDurationNanos() >= 0);
+    }
+
+    @Test
+    public void run_workThrows_stageStillRecorded() {
+        assertThrows(IllegalStateException.class, () -> timeline.run("failing stage", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("failing stage", timeline.getStages().get(0).getName());
+    }
+
+    @Test
+    public void getStages_stagesOnSeveralThreads_overlapAndSortedByStart() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable waitForOtherStage = () -> {
+            bothStarted.countDown();
+            try {
+                assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        };
+
+        timeline.run("first", () -> { });
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> timeline.run("load trips", waitForOtherStage));
+        timeline.run("load contacts", waitForOtherStage);
+        other.get(5, TimeUnit.SECONDS);
+
+        List<StartupTimeline.Stage> stages = timeline.getStages();
+        assertEquals(3, stages.size());
+        assertEquals("first", stages.get(0).getName());
+        StartupTimeline.Stage contacts = stages.stream().filter(stage -> stage.getName().equals("load contacts"))
+                .findFirst().get();
+        StartupTimeline.Stage trips = stages.stream().filter(stage -> stage.getName().equals("load trips"))
+                .findFirst().get();
+        assertTrue(contacts.getStartNanos() < trips.getEndNanos());
+        assertTrue(trips.getStartNanos() < contacts.getEndNanos());
+        assertNotEquals(contacts.getThreadName(), trips.getThreadName());
+    }
+
+    @Test
+    public void format_listsEveryStage() {
+        timeline.run("read config", () -> { });
+        timeline.run("load trip book", () -> { });
+
+        String formatted = timeline.format();
+        assertTrue(formatted.contains("read config"));
+        assertTrue(formatted.contains("load trip book"));
+        assertTrue(formatted.contains("Startup took"));
+    }
+}
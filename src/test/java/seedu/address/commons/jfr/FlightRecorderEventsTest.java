@@ -0,0 +1,90 @@
+package seedu.address.commons.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListTripCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.DataLoadingUtil;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.TypicalPersons;
+import seedu.address.testutil.TypicalTrips;
+
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_recordingEnabled_emitsEvents() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonTripBookStorage(testFolder.resolve("trips.json")));
+        LogicManager logic = new LogicManager(new ModelManager(TypicalPersons.getTypicalAddressBook(),
+                TypicalTrips.getTypicalTripBook(), new UserPrefs()), storage);
+        Path recordingFile = testFolder.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandParseEvent.class);
+            recording.enable(CommandExecuteEvent.class);
+            recording.enable(SerializeEvent.class);
+            recording.enable(DiskWriteEvent.class);
+            recording.enable(DataLoadEvent.class);
+            recording.start();
+            logic.execute(ListTripCommand.COMMAND_WORD);
+            DataLoadingUtil.loadTripBook(storage);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        List<String> eventNames = events.stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toList());
+        assertTrue(eventNames.contains("seedu.address.CommandParse"));
+        assertTrue(eventNames.contains("seedu.address.CommandExecute"));
+        assertTrue(eventNames.contains("seedu.address.DiskWrite"));
+        assertTrue(eventNames.contains("seedu.address.DataLoad"));
+
+        RecordedEvent parseEvent = findEvent(events, "seedu.address.CommandParse");
+        assertEquals(ListTripCommand.COMMAND_WORD, parseEvent.getString("commandWord"));
+
+        List<RecordedEvent> serializeEvents = events.stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.Serialize"))
+                .collect(Collectors.toList());
+        assertEquals(2, serializeEvents.size());
+        for (RecordedEvent serializeEvent : serializeEvents) {
+            int expectedCount = serializeEvent.getString("book").equals("addressbook")
+                    ? TypicalPersons.getTypicalPersons().size()
+                    : TypicalTrips.getTypicalTrips().size();
+            assertEquals(expectedCount, serializeEvent.getInt("recordCount"));
+            assertTrue(serializeEvent.getLong("size") > 0);
+        }
+
+        RecordedEvent loadEvent = findEvent(events, "seedu.address.DataLoad");
+        assertEquals("tripbook", loadEvent.getString("book"));
+        assertEquals(TypicalTrips.getTypicalTrips().size(), loadEvent.getInt("recordCount"));
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
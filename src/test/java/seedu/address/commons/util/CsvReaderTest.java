@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws IOException {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_unquotedFields_splitAtCommas() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\n,,\nlast"));
+        assertEquals(List.of("a", "b", "c"), reader.readRecord());
+        assertEquals(List.of("", "", ""), reader.readRecord());
+        assertEquals(List.of("last"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepSeparatorsAndQuotes() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\"\nnext\n"));
+        assertEquals(List.of("a, b", "say \"hi\"", "two\nlines"), reader.readRecord());
+        assertEquals(1, reader.getRecordLineNumber());
+        assertEquals(List.of("next"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quoteInsideUnquotedField_keptAsIs() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("5\" screen,x"));
+        assertEquals(List.of("5\" screen", "x"), reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_windowsLineEndingsAndByteOrderMark_handled() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,note\r\n\r\nAmy,hi\r\n"));
+        assertEquals(List.of("name", "note"), reader.readRecord());
+        assertEquals(List.of(""), reader.readRecord());
+        assertEquals(List.of("Amy", "hi"), reader.readRecord());
+        assertEquals(3, reader.getRecordLineNumber());
+        assertNull(reader.readRecord());
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvWriter(null));
+    }
+
+    @Test
+    public void writeRecord_plainFields_notQuoted() throws IOException {
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRecord(List.of("Amy Bee", "", "amy@example.com"));
+        assertEquals("Amy Bee,,amy@example.com\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRecord_specialFields_quoted() throws IOException {
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRecord(List.of("a, b", "say \"hi\"", "two\nlines", " padded"));
+        assertEquals("\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\",\" padded\"\r\n", output.toString());
+    }
+
+    @Test
+    public void writeRecord_readBack_sameFields() throws IOException {
+        List<String> fields = List.of("Block 312, Amy Street 1", "\"quoted\"", "line\r\nbreak", "", "plain");
+        StringWriter output = new StringWriter();
+        new CsvWriter(output).writeRecord(fields);
+        assertEquals(fields, new CsvReader(new StringReader(output.toString())).readRecord());
+    }
+}
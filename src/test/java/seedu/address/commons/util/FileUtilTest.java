@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    private static final FileTime OLD_TIME = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,34 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileIfChanged_missingFile_written() throws IOException {
+        Path file = temporaryFolder.resolve("file.txt");
+        assertTrue(FileUtil.writeToFileIfChanged(file, "content"));
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileIfChanged_sameContent_fileUntouched() throws IOException {
+        Path file = temporaryFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+        Files.setLastModifiedTime(file, OLD_TIME);
+
+        assertFalse(FileUtil.writeToFileIfChanged(file, "content"));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(file));
+    }
+
+    @Test
+    public void writeToFileIfChanged_differentContent_written() throws IOException {
+        Path file = temporaryFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+
+        // same length, so the contents have to be compared
+        assertTrue(FileUtil.writeToFileIfChanged(file, "CONTENT"));
+        assertEquals("CONTENT", FileUtil.readFromFile(file));
+
+        assertTrue(FileUtil.writeToFileIfChanged(file, "longer content"));
+        assertEquals("longer content", FileUtil.readFromFile(file));
+    }
+
 }
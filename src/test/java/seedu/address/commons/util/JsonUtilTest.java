@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -27,6 +29,17 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void saveJsonFile_sameObjectTwice_secondSaveSkipped() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        FileUtil.writeToFile(SERIALIZATION_FILE, "");
+
+        assertTrue(JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE));
+        assertFalse(JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -52,6 +65,20 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), copy.getMapOfIntegerToString());
     }
 
+    @Test
+    public void toCompactJsonString_singleLineThatReadsBack() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        String json = JsonUtil.toCompactJsonString(serializableTestClass);
+        assertFalse(json.contains("\n"));
+
+        SerializableTestClass copy = JsonUtil.fromJsonString(json, SerializableTestClass.class);
+        assertEquals(serializableTestClass.getName(), copy.getName());
+        assertEquals(serializableTestClass.getListOfLocalDateTimes(), copy.getListOfLocalDateTimes());
+        assertEquals(serializableTestClass.getMapOfIntegerToString(), copy.getMapOfIntegerToString());
+    }
+
     @Test
     public void jsonUtil_writeThenReadObjectToJson_correctObject() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
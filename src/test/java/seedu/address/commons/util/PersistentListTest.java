@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameOrder() {
+        List<Integer> elements = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list);
+        assertEquals(elements, new ArrayList<>(list));
+        assertSame(PersistentList.empty(), PersistentList.of(List.of()));
+        assertSame(list, PersistentList.of(list));
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void changes_leaveOriginalUntouched() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x"));
+        assertEquals(List.of("a", "b", "x", "c"), original.plus(2, "x"));
+        assertEquals(List.of("a", "b", "c", "x"), original.plus("x"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.<String>empty().minus(0));
+    }
+
+    @Test
+    public void listMutators_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void randomChanges_matchArrayListAndStayBalanced() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertTrue(actual.height() <= 1.45 * Math.log(actual.size() + 2) / Math.log(2),
+                "height " + actual.height() + " for size " + actual.size());
+        // earlier versions are unaffected by the changes made after them
+        assertEquals(expectedVersions, versions);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class PersistentObservableListTest {
+
+    private final PersistentObservableList<String> list = new PersistentObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+    private int notificationCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.addListener((ListChangeListener<String>) change -> {
+            notificationCount++;
+            while (change.next()) {
+                changes.add(change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void changes_notifyListeners() {
+        list.add("a");
+        list.add("b");
+        list.set(0, "c");
+        list.remove("b");
+        assertEquals(List.of("c"), list);
+        assertEquals(List.of("[]->[a]", "[]->[b]", "[a]->[c]", "[b]->[]"), changes);
+    }
+
+    @Test
+    public void batch_manyChanges_singleNotification() {
+        list.setAll(List.of("a", "b", "c"));
+        changes.clear();
+        notificationCount = 0;
+
+        list.batch(() -> {
+            list.add("d");
+            list.add("e");
+            list.remove("a");
+            list.batch(() -> list.add(0, "z"));
+        });
+        assertEquals(List.of("z", "b", "c", "d", "e"), list);
+        assertEquals(1, notificationCount);
+        assertEquals(List.of("[a]->[z]", "[]->[d, e]"), changes);
+    }
+
+    @Test
+    public void batch_noChanges_noNotification() {
+        list.batch(() -> { });
+        assertEquals(0, notificationCount);
+    }
+
+    @Test
+    public void batch_changesThrow_listUnchanged() {
+        list.setAll(List.of("a", "b"));
+        notificationCount = 0;
+
+        assertThrows(IllegalStateException.class, () -> list.batch(() -> {
+            list.add("c");
+            list.remove("a");
+            throw new IllegalStateException();
+        }));
+        assertEquals(List.of("a", "b"), list);
+        assertTrue(notificationCount <= 1);
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUntouched() {
+        list.setAll(List.of("a", "b"));
+        PersistentList<String> snapshot = list.getSnapshot();
+        list.add("c");
+        list.remove(0);
+        assertEquals(List.of("a", "b"), snapshot);
+        assertEquals(List.of("b", "c"), list);
+    }
+
+    @Test
+    public void restore_snapshot_singleReplacement() {
+        list.setAll(List.of("a", "b"));
+        PersistentList<String> snapshot = list.getSnapshot();
+        list.add("c");
+        changes.clear();
+
+        list.restore(snapshot);
+        assertEquals(List.of("a", "b"), list);
+        assertEquals(List.of("[a, b, c]->[a, b]"), changes);
+
+        // restoring the current contents changes nothing
+        changes.clear();
+        list.restore(snapshot);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setAll_emptyToEmpty_noChange() {
+        assertTrue(list.setAll(List.of()));
+        assertFalse(list.iterator().hasNext());
+        assertTrue(changes.isEmpty());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -14,6 +16,7 @@ import static seedu.address.testutil.TypicalTrips.getTypicalTrips;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,8 +26,14 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.commands.AddContactCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListContactCommand;
+import seedu.address.logic.commands.SequenceCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandPhase;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.trace.TraceEntry;
+import seedu.address.logic.trace.TraceRecorder;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -45,6 +54,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private CommandMetrics commandMetrics = new CommandMetrics();
     private Logic logic;
 
     @BeforeEach
@@ -55,7 +65,7 @@ public class LogicManagerTest {
         JsonTripBookStorage tripBookStorage =
                 new JsonTripBookStorage(temporaryFolder.resolve("tripBook.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, tripBookStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, commandMetrics);
     }
 
     @Test
@@ -77,6 +87,91 @@ public class LogicManagerTest {
             "There are currently no %scontacts in the addressbook.", ""), model);
     }
 
+    @Test
+    public void execute_validCommand_recordsAllPhases() throws Exception {
+        logic.execute(ListContactCommand.COMMAND_WORD);
+        assertEquals(1, commandMetrics.getCount(ListContactCommand.COMMAND_WORD));
+        for (CommandPhase phase : CommandPhase.values()) {
+            assertEquals(1, commandMetrics.getPhaseLatency(ListContactCommand.COMMAND_WORD, phase).getCount());
+        }
+    }
+
+    @Test
+    public void execute_invalidCommand_recordedAsUnparseable() {
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+        assertEquals(1, commandMetrics.getCount(CommandMetrics.UNPARSEABLE_COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_withTraceRecorder_recordsEveryCommand() throws Exception {
+        Path traceFilePath = temporaryFolder.resolve("trace.jsonl");
+        TraceRecorder traceRecorder = TraceRecorder.open(traceFilePath);
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")),
+                new JsonTripBookStorage(temporaryFolder.resolve("tb.json")));
+        Logic tracedLogic = new LogicManager(model, storage, commandMetrics, traceRecorder);
+
+        CommandResult result = tracedLogic.execute(ListContactCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> tracedLogic.execute("uicfhmowqewca"));
+        traceRecorder.close();
+
+        List<TraceEntry> entries = TraceRecorder.read(traceFilePath);
+        assertEquals(2, entries.size());
+        assertEquals(ListContactCommand.COMMAND_WORD, entries.get(0).getCommand());
+        assertTrue(entries.get(0).isSuccessful());
+        assertEquals(result.getFeedbackToUser(), entries.get(0).getFeedback());
+        assertEquals("uicfhmowqewca", entries.get(1).getCommand());
+        assertFalse(entries.get(1).isSuccessful());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, entries.get(1).getFeedback());
+    }
+
+    @Test
+    public void execute_undoAfterChange_restoresAndSaves() throws Exception {
+        String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        // commands that change nothing are not undone
+        logic.execute(ListContactCommand.COMMAND_WORD);
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, String.format(UndoCommand.MESSAGE_SUCCESS, addCommand),
+                new ModelManager());
+        assertTrue(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).readAddressBook().get()
+                .getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_sequence_undoneAsOneCommand() throws Exception {
+        String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String sequence = addCommand + " && " + ListContactCommand.COMMAND_WORD + " && deleteContact 1";
+        logic.execute(sequence);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertTrue(model.canUndo());
+
+        assertCommandException(addCommand + " && deleteContact 2", String.format(SequenceCommand.MESSAGE_FAILURE, 2,
+                2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, String.format(UndoCommand.MESSAGE_SUCCESS, sequence),
+                new ModelManager());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void executeWithoutSaving_changesModelOnly() throws Exception {
+        String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        LogicManager logicManager = (LogicManager) logic;
+        JsonAddressBookStorage savedAddressBook =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+
+        logicManager.executeWithoutSaving(addCommand);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertFalse(savedAddressBook.readAddressBook().isPresent());
+
+        logicManager.saveData();
+        assertEquals(1, savedAddressBook.readAddressBook().get().getPersonList().size());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -0,0 +1,200 @@
+package seedu.address.logic.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.export.ExportTask;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_ALICE = "addContact n/Alice p/91234567 e/alice@example.com a/1 Alice Street";
+    private static final String ADD_BOB = "addContact n/Bob p/92345678 e/bob@example.com a/2 Bob Street";
+    private static final String ADD_CARL = "addContact n/Carl p/93456789 e/carl@example.com a/3 Carl Street";
+    /** A command on which the logic fails with an unexpected error. */
+    private static final String BROKEN_COMMAND = "broken";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager();
+    private final StringWriter output = new StringWriter();
+    private LogicManager logic;
+    private int saveCount;
+    private IOException saveException;
+    private String outputBeforeBrokenCommand;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveException != null) {
+                    throw saveException;
+                }
+                saveCount++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonTripBookStorage(testFolder.resolve("tb.json")));
+        logic = new LogicManager(model, storage, new CommandMetrics()) {
+            @Override
+            public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
+                if (commandText.equals(BROKEN_COMMAND)) {
+                    outputBeforeBrokenCommand = output.toString();
+                    throw new AssertionError();
+                }
+                return super.executeWithoutSaving(commandText);
+            }
+        };
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(logic, -1, false));
+    }
+
+    @Test
+    public void run_noSaveInterval_savesOnceAtEnd() throws Exception {
+        BatchRunner.Result result = run(new BatchRunner(logic, 0, false),
+                "# contacts", ADD_ALICE, "", ADD_BOB, "unknownCommand", ADD_CARL);
+
+        assertEquals(3, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(1, result.getSaveCount());
+        assertEquals(1, saveCount);
+        assertFalse(result.isSuccessful());
+        assertTrue(result.getThroughput() > 0);
+        assertEquals(3, new JsonAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().get()
+                .getPersonList().size());
+
+        List<String> lines = output.toString().lines().toList();
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("2 ok: "));
+        assertEquals(String.format(BatchRunner.MESSAGE_FAILURE, 5, MESSAGE_UNKNOWN_COMMAND), lines.get(2));
+        assertTrue(lines.get(3).startsWith("6 ok: "));
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        BatchRunner.Result result = run(new BatchRunner(logic, 2, false), ADD_ALICE, ADD_BOB, ADD_CARL);
+
+        assertTrue(result.isSuccessful());
+        assertEquals(2, result.getSaveCount());
+        assertEquals(2, saveCount);
+    }
+
+    @Test
+    public void run_stopOnError_stopsAtFailure() throws Exception {
+        BatchRunner.Result result = run(new BatchRunner(logic, 0, true), ADD_ALICE, "deleteContact 9", ADD_BOB);
+
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        // the commands that succeeded before the failure are still saved
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_unexpectedError_reportedAsFailedLineAndRestSaved() throws Exception {
+        BatchRunner.Result result = run(new BatchRunner(logic, 0, false), ADD_ALICE, BROKEN_COMMAND, ADD_BOB);
+
+        assertEquals(2, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(1, saveCount);
+        assertEquals(2, new JsonAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().get()
+                .getPersonList().size());
+        assertEquals(String.format(BatchRunner.MESSAGE_FAILURE, 2, new AssertionError()),
+                output.toString().lines().toList().get(1));
+    }
+
+    @Test
+    public void run_stopOnUnexpectedError_commandsBeforeSaved() throws Exception {
+        BatchRunner.Result result = run(new BatchRunner(logic, 0, true), ADD_ALICE, BROKEN_COMMAND, ADD_BOB);
+
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_bufferedOutput_eachLineFlushedAsItRuns() throws Exception {
+        PrintWriter bufferedOutput = new PrintWriter(new BufferedWriter(output));
+        new BatchRunner(logic, 0, false).run(new BufferedReader(new StringReader(ADD_ALICE + "\n" + BROKEN_COMMAND)),
+                bufferedOutput);
+
+        assertTrue(outputBeforeBrokenCommand.startsWith("1 ok: "));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        BatchRunner.Result result = run(new BatchRunner(logic, 0, false), ADD_ALICE, "exit", ADD_BOB);
+
+        assertEquals(2, result.getSucceededCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_saveFails_stopsAndReportsFailure() throws Exception {
+        saveException = new IOException("disk full");
+        BatchRunner.Result result = run(new BatchRunner(logic, 1, false), ADD_ALICE, ADD_BOB);
+
+        assertTrue(result.isSaveFailed());
+        assertFalse(result.isSuccessful());
+        assertEquals(1, result.getSucceededCount());
+        assertEquals(0, result.getSaveCount());
+        assertTrue(output.toString().contains("Stopped after line 1"));
+    }
+
+    @Test
+    public void run_exports_waitsForExportsAndReportsOutcome() throws Exception {
+        Path file = testFolder.resolve("contacts.csv");
+        Path unwritableFile = Files.createFile(testFolder.resolve("not-a-folder")).resolve("contacts.csv");
+
+        BatchRunner.Result result = run(new BatchRunner(logic, 0, false), ADD_ALICE,
+                "exportContact " + file, ADD_BOB, "exportContact " + unwritableFile);
+
+        // the first export holds only the contact added before it
+        assertEquals(2, Files.readAllLines(file).size());
+        assertTrue(output.toString().contains(String.format(BatchRunner.MESSAGE_SUCCESS, 2,
+                String.format(ExportTask.MESSAGE_SUCCESS, 1, "contacts", file))));
+        assertTrue(output.toString().contains("4 error: Could not export contacts to " + unwritableFile));
+        assertEquals(3, result.getSucceededCount());
+        assertEquals(1, result.getFailedCount());
+        assertFalse(result.isSuccessful());
+    }
+
+    private BatchRunner.Result run(BatchRunner runner, String... lines) throws IOException {
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))), new PrintWriter(output));
+    }
+}
@@ -10,7 +10,9 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +129,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addContacts(List<Contact> contacts) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -147,6 +154,16 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Contact> deleteContacts(Predicate<Contact> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Contact> editContacts(Predicate<Contact> predicate, UnaryOperator<Contact> editor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Contact target, Contact editedContact) {
             throw new AssertionError("This method should not be called.");
@@ -157,6 +174,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Iterable<Contact> getFilteredPersonSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Contact> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -172,6 +194,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addTrips(List<Trip> trips) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getTripBookFilePath() {
             throw new AssertionError("This method should not be called.");
@@ -197,6 +224,16 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Trip> deleteTrips(Predicate<Trip> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Trip> editTrips(Predicate<Trip> predicate, UnaryOperator<Trip> editor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTrip(Trip target, Trip editedTrip) {
             throw new AssertionError("This method should not be called.");
@@ -207,10 +244,50 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Iterable<Trip> getFilteredTripSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTripList(Predicate<Trip> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void commit(String description) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollback() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public String redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
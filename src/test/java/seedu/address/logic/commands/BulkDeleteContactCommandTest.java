@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.ContactMatchesFilterPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for BulkDeleteContactCommand.
+ */
+public class BulkDeleteContactCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_tagFilter_deletesMatchingContacts() {
+        BulkDeleteContactCommand command = new BulkDeleteContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("service")), List.of()));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getTripBook(), new UserPrefs());
+        expectedModel.deleteContact(ALICE);
+        expectedModel.deleteContact(BENSON);
+        String expectedMessage = String.format(BulkDeleteContactCommand.MESSAGE_SUCCESS, 2,
+                Messages.formatNames(List.of(ALICE.getName(), BENSON.getName())));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tagAndNameFilter_deletesContactsMatchingBoth() {
+        BulkDeleteContactCommand command = new BulkDeleteContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of("Meier")));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getTripBook(), new UserPrefs());
+        expectedModel.deleteContact(BENSON);
+        expectedModel.deleteContact(DANIEL);
+        String expectedMessage = String.format(BulkDeleteContactCommand.MESSAGE_SUCCESS, 2,
+                Messages.formatNames(List.of(BENSON.getName(), DANIEL.getName())));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatch_throwsCommandException() {
+        BulkDeleteContactCommand command = new BulkDeleteContactCommand(
+                new ContactMatchesFilterPredicate(Optional.empty(), List.of("Nobody")));
+
+        assertCommandFailure(command, model, BulkDeleteContactCommand.MESSAGE_NO_MATCH);
+    }
+
+    @Test
+    public void equals() {
+        ContactMatchesFilterPredicate servicePredicate =
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("service")), List.of());
+        BulkDeleteContactCommand deleteServiceCommand = new BulkDeleteContactCommand(servicePredicate);
+
+        assertTrue(deleteServiceCommand.equals(deleteServiceCommand));
+        assertTrue(deleteServiceCommand.equals(new BulkDeleteContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("service")), List.of()))));
+        assertFalse(deleteServiceCommand.equals(null));
+        assertFalse(deleteServiceCommand.equals(new BulkDeleteContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of()))));
+    }
+}
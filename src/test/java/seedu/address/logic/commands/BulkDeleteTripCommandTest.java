@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.PARIS;
+import static seedu.address.testutil.TypicalTrips.TOKYO;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.trip.TripMatchesFilterPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for BulkDeleteTripCommand.
+ */
+public class BulkDeleteTripCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_dateRange_deletesTripsWithinRangeInclusive() {
+        BulkDeleteTripCommand command = new BulkDeleteTripCommand(new TripMatchesFilterPredicate(
+                Optional.of(LocalDate.of(2024, 6, 15)), Optional.of(LocalDate.of(2024, 7, 20)), List.of()));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getTripBook(), new UserPrefs());
+        expectedModel.deleteTrip(PARIS);
+        expectedModel.deleteTrip(TOKYO);
+        String expectedMessage = String.format(BulkDeleteTripCommand.MESSAGE_SUCCESS, 2,
+                Messages.formatNames(List.of(PARIS.getName(), TOKYO.getName())));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noMatch_throwsCommandException() {
+        BulkDeleteTripCommand command = new BulkDeleteTripCommand(new TripMatchesFilterPredicate(
+                Optional.empty(), Optional.of(LocalDate.of(2000, 1, 1)), List.of()));
+
+        assertCommandFailure(command, model, BulkDeleteTripCommand.MESSAGE_NO_MATCH);
+    }
+
+    @Test
+    public void equals() {
+        TripMatchesFilterPredicate parisPredicate =
+                new TripMatchesFilterPredicate(Optional.empty(), Optional.empty(), List.of("Paris"));
+        BulkDeleteTripCommand deleteParisCommand = new BulkDeleteTripCommand(parisPredicate);
+
+        assertTrue(deleteParisCommand.equals(deleteParisCommand));
+        assertTrue(deleteParisCommand.equals(new BulkDeleteTripCommand(
+                new TripMatchesFilterPredicate(Optional.empty(), Optional.empty(), List.of("Paris")))));
+        assertFalse(deleteParisCommand.equals(null));
+        assertFalse(deleteParisCommand.equals(new BulkDeleteTripCommand(
+                new TripMatchesFilterPredicate(Optional.empty(), Optional.empty(), List.of("Tokyo")))));
+    }
+}
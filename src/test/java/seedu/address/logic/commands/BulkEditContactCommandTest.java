@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditContactCommand.EditPersonDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.ContactMatchesFilterPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for BulkEditContactCommand.
+ */
+public class BulkEditContactCommandTest {
+
+    private static final ContactMatchesFilterPredicate SERVICE_PREDICATE =
+            new ContactMatchesFilterPredicate(Optional.of(new Tag("service")), List.of());
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_matchingContacts_editsAllAndShowsAllContacts() {
+        showPersonAtIndex(model, INDEX_THIRD_PERSON);
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withAddress(VALID_ADDRESS_BOB).build();
+        BulkEditContactCommand command = new BulkEditContactCommand(SERVICE_PREDICATE, descriptor);
+
+        Contact editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Contact editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, editedAlice);
+        expectedModel.setPerson(BENSON, editedBenson);
+        String expectedMessage = String.format(BulkEditContactCommand.MESSAGE_SUCCESS, 2,
+                Messages.formatNames(List.of(ALICE.getName(), BENSON.getName())));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_editsMakeDuplicates_throwsCommandException() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withEmail(VALID_EMAIL_BOB).build();
+        BulkEditContactCommand command = new BulkEditContactCommand(SERVICE_PREDICATE, descriptor);
+
+        assertCommandFailure(command, model, BulkEditContactCommand.MESSAGE_DUPLICATE_PERSONS);
+    }
+
+    @Test
+    public void execute_noMatch_throwsCommandException() {
+        BulkEditContactCommand command = new BulkEditContactCommand(
+                new ContactMatchesFilterPredicate(Optional.empty(), List.of("Nobody")), DESC_AMY);
+
+        assertCommandFailure(command, model, BulkEditContactCommand.MESSAGE_NO_MATCH);
+    }
+
+    @Test
+    public void equals() {
+        BulkEditContactCommand command = new BulkEditContactCommand(SERVICE_PREDICATE, DESC_AMY);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BulkEditContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("service")), List.of()),
+                new EditPersonDescriptor(DESC_AMY))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new BulkEditContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of()), DESC_AMY)));
+        assertFalse(command.equals(new BulkEditContactCommand(SERVICE_PREDICATE,
+                new EditPersonDescriptorBuilder().withAddress(VALID_ADDRESS_BOB).build())));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.DESC_PARIS_2025;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ACCOMMODATION_HOTEL_81;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TRIP_NAME_TOKYO_2026;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.BALI;
+import static seedu.address.testutil.TypicalTrips.SEOUL;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.EditTripCommand.EditTripDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.TripMatchesFilterPredicate;
+import seedu.address.testutil.EditTripDescriptorBuilder;
+import seedu.address.testutil.TripBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for BulkEditTripCommand.
+ */
+public class BulkEditTripCommandTest {
+
+    private static final TripMatchesFilterPredicate FROM_SEPTEMBER_PREDICATE = new TripMatchesFilterPredicate(
+            Optional.of(LocalDate.of(2024, 9, 1)), Optional.empty(), List.of());
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_matchingTrips_editsAll() {
+        EditTripDescriptor descriptor =
+                new EditTripDescriptorBuilder().withAccommodation(VALID_ACCOMMODATION_HOTEL_81).build();
+        BulkEditTripCommand command = new BulkEditTripCommand(FROM_SEPTEMBER_PREDICATE, descriptor);
+
+        Trip editedBali = new TripBuilder(BALI).withAccommodation(VALID_ACCOMMODATION_HOTEL_81).build();
+        Trip editedSeoul = new TripBuilder(SEOUL).withAccommodation(VALID_ACCOMMODATION_HOTEL_81).build();
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getTripBook(), new UserPrefs());
+        expectedModel.setTrip(BALI, editedBali);
+        expectedModel.setTrip(SEOUL, editedSeoul);
+        String expectedMessage = String.format(BulkEditTripCommand.MESSAGE_SUCCESS, 2,
+                Messages.formatNames(List.of(BALI.getName(), SEOUL.getName())));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_editsMakeDuplicates_throwsCommandException() {
+        EditTripDescriptor descriptor = new EditTripDescriptorBuilder().withName(VALID_TRIP_NAME_TOKYO_2026).build();
+        BulkEditTripCommand command = new BulkEditTripCommand(FROM_SEPTEMBER_PREDICATE, descriptor);
+
+        assertCommandFailure(command, model, BulkEditTripCommand.MESSAGE_DUPLICATE_TRIPS);
+    }
+
+    @Test
+    public void execute_noMatch_throwsCommandException() {
+        BulkEditTripCommand command = new BulkEditTripCommand(new TripMatchesFilterPredicate(
+                Optional.empty(), Optional.empty(), List.of("Nowhere")), DESC_PARIS_2025);
+
+        assertCommandFailure(command, model, BulkEditTripCommand.MESSAGE_NO_MATCH);
+    }
+
+    @Test
+    public void equals() {
+        BulkEditTripCommand command = new BulkEditTripCommand(FROM_SEPTEMBER_PREDICATE, DESC_PARIS_2025);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new BulkEditTripCommand(FROM_SEPTEMBER_PREDICATE,
+                new EditTripDescriptor(DESC_PARIS_2025))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new BulkEditTripCommand(new TripMatchesFilterPredicate(
+                Optional.empty(), Optional.empty(), List.of("Paris")), DESC_PARIS_2025)));
+    }
+}
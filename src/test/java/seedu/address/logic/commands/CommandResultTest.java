@@ -71,7 +71,8 @@ public class CommandResultTest {
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
                 + ", exit=" + commandResult.isExit() + ", showConfirmation=" + commandResult.isShowConfirmation()
-                + ", confirmationText=" + commandResult.getConfirmationText() + "}";
+                + ", confirmationText=" + commandResult.getConfirmationText()
+                + ", exportTask=" + commandResult.getExportTask().orElse(null) + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.ContactCsvFormat;
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.logic.export.ExportTask;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.NameContainsKeywordsPredicate;
+
+public class ExportContactCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_filteredList_filteredContactsExported() throws Exception {
+        Path file = testFolder.resolve("contacts.csv");
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Benson")));
+
+        CommandResult result = new ExportContactCommand(file).execute(model);
+        // Changes after the command are not exported
+        model.deleteContact(ALICE);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 2, "contacts", file), result.getFeedbackToUser());
+        ExportTask task = result.getExportTask().orElseThrow();
+        assertEquals(String.format(ExportTask.MESSAGE_SUCCESS, 2, "contacts", file),
+                task.getCompletion().get(10, TimeUnit.SECONDS));
+        CsvImporter.Result<Contact> imported = new CsvImporter<>(new ContactCsvFormat(), List.of())
+                .importFrom(file, testFolder.resolve("contacts.rejects.csv"));
+        assertEquals(List.of(ALICE, BENSON), imported.getImported());
+    }
+
+    @Test
+    public void execute_emptyList_throwsCommandException() {
+        model.updateFilteredPersonList(unused -> false);
+        assertCommandFailure(new ExportContactCommand(testFolder.resolve("contacts.csv")), model,
+                String.format(ExportCommand.MESSAGE_EMPTY_LIST, "contacts"));
+    }
+
+    @Test
+    public void execute_folder_throwsCommandException() {
+        assertCommandFailure(new ExportContactCommand(testFolder), model,
+                String.format(ExportCommand.MESSAGE_IS_DIRECTORY, testFolder));
+    }
+
+    @Test
+    public void equals() {
+        ExportContactCommand exportCommand = new ExportContactCommand(Paths.get("contacts.csv"));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportContactCommand(Paths.get("contacts.csv"))));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportContactCommand(Paths.get("other.csv"))));
+
+        // different kind of items -> returns false
+        assertFalse(exportCommand.equals(new ExportTripCommand(Paths.get("contacts.csv"))));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTrips;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.logic.csv.TripCsvFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.trip.Trip;
+
+public class ExportTripCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_csvFile_tripsExportedAsCsv() throws Exception {
+        Path file = testFolder.resolve("trips.csv");
+
+        CommandResult result = new ExportTripCommand(file).execute(model);
+
+        result.getExportTask().orElseThrow().getCompletion().get(10, TimeUnit.SECONDS);
+        CsvImporter.Result<Trip> imported = new CsvImporter<>(new TripCsvFormat(), List.of())
+                .importFrom(file, testFolder.resolve("trips.rejects.csv"));
+        assertEquals(getTypicalTrips(), imported.getImported());
+    }
+
+    @Test
+    public void execute_calendarFile_oneEventPerTrip() throws Exception {
+        Path file = testFolder.resolve("trips.ICS");
+
+        CommandResult result = new ExportTripCommand(file).execute(model);
+
+        int tripCount = getTypicalTrips().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, tripCount, "trips", file),
+                result.getFeedbackToUser());
+        result.getExportTask().orElseThrow().getCompletion().get(10, TimeUnit.SECONDS);
+        String calendar = Files.readString(file, StandardCharsets.UTF_8);
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertEquals(tripCount, calendar.split("BEGIN:VEVENT", -1).length - 1);
+        assertTrue(calendar.contains("\r\nDTSTART;VALUE=DATE:20240615\r\n"));
+    }
+
+    @Test
+    public void execute_emptyList_throwsCommandException() {
+        model.updateFilteredTripList(unused -> false);
+        assertCommandFailure(new ExportTripCommand(testFolder.resolve("trips.ics")), model,
+                String.format(ExportCommand.MESSAGE_EMPTY_LIST, "trips"));
+    }
+}
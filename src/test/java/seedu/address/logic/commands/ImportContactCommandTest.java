@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.ContactCsvFormat;
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ImportContactCommandTest {
+
+    private static final String HEADER = String.join(",", ContactCsvFormat.HEADER);
+    private static final String AMY_ROW = "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",service,";
+    private static final String BOB_ROW =
+            "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\",customer;service,";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportContactCommand(null));
+    }
+
+    @Test
+    public void execute_validRows_contactsAdded() throws IOException {
+        Path file = write("contacts.csv", HEADER, AMY_ROW, BOB_ROW);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+        expectedModel.addContacts(List.of(AMY, BOB));
+        assertCommandSuccess(new ImportContactCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, "contacts", file), expectedModel);
+        assertFalse(Files.exists(ImportCommand.getRejectsFile(file)));
+    }
+
+    @Test
+    public void execute_someRowsRejected_validContactsAddedAndRejectsWritten() throws IOException {
+        Path file = write("contacts.csv", HEADER, AMY_ROW, "Alice Pauline,94351253,alice@example.com,Jurong,,",
+                "Amy Again,12345678,amy@example.com,Amy Street,,");
+        Path rejectsFile = testFolder.resolve("contacts" + ImportCommand.REJECTS_SUFFIX);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        assertCommandSuccess(new ImportContactCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, "contacts", file)
+                        + String.format(ImportCommand.MESSAGE_REJECTED, 2, rejectsFile), expectedModel);
+        assertEquals(3, Files.readAllLines(rejectsFile, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportContactCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void execute_wrongHeader_throwsCommandException() throws IOException {
+        Path file = write("contacts.csv", "name,email", AMY_ROW);
+        assertCommandFailure(new ImportContactCommand(file), model, String.format(ImportCommand.MESSAGE_INVALID_FILE,
+                file, String.format(CsvImporter.MESSAGE_WRONG_HEADER, HEADER)));
+    }
+
+    @Test
+    public void getRejectsFile() {
+        assertEquals(Paths.get("data", "in.rejects.csv"), ImportCommand.getRejectsFile(Paths.get("data", "in.CSV")));
+        assertEquals(Paths.get("in.txt.rejects.csv"), ImportCommand.getRejectsFile(Paths.get("in.txt")));
+    }
+
+    @Test
+    public void equals() {
+        ImportContactCommand importCommand = new ImportContactCommand(Paths.get("a.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportContactCommand(Paths.get("a.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(new ImportContactCommand(Paths.get("b.csv"))));
+        assertFalse(importCommand.equals(new ImportTripCommand(Paths.get("a.csv"))));
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
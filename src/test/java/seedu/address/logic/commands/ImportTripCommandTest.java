@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.logic.csv.TripCsvFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.trip.Trip;
+import seedu.address.testutil.TripBuilder;
+
+public class ImportTripCommandTest {
+
+    private static final String HEADER = String.join(",", TripCsvFormat.HEADER);
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_validAndDuplicateRows_newTripsAdded() throws IOException {
+        Path file = write("trips.csv", HEADER,
+                "Rome Getaway,Hotel Roma,Colosseum,3/3/2030,Alice Pauline,",
+                "paris adventure,Hotel,Louvre,1/1/2030,,");
+        Path rejectsFile = testFolder.resolve("trips" + ImportCommand.REJECTS_SUFFIX);
+
+        Trip rome = new TripBuilder().withName("Rome Getaway").withAccommodation("Hotel Roma")
+                .withItinerary("Colosseum").withDate("3/3/2030").withCustomerNames("Alice Pauline").build();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+        expectedModel.addTrips(List.of(rome));
+        assertCommandSuccess(new ImportTripCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, "trips", file)
+                        + String.format(ImportCommand.MESSAGE_REJECTED, 1, rejectsFile), expectedModel);
+        assertTrue(Files.exists(rejectsFile));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws IOException {
+        Path file = write("trips.csv");
+        assertCommandFailure(new ImportTripCommand(file), model, String.format(ImportCommand.MESSAGE_INVALID_FILE,
+                file, String.format(CsvImporter.MESSAGE_EMPTY_FILE, HEADER)));
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
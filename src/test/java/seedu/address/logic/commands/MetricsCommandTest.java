@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandPhase;
+import seedu.address.logic.metrics.CommandTimer;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class MetricsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommandsRecorded_showsNoCommandsMessage() {
+        assertCommandSuccess(new MetricsCommand(new CommandMetrics()), model,
+                CommandMetrics.MESSAGE_NO_COMMANDS_RECORDED, expectedModel);
+    }
+
+    @Test
+    public void execute_commandsRecorded_showsSummary() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        commandMetrics.record("find", "find alex", timer, true);
+
+        CommandResult result = new MetricsCommand(commandMetrics).execute(model);
+        assertTrue(result.getFeedbackToUser().contains("find: count=1 failed=0"));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        MetricsCommand metricsCommand = new MetricsCommand(commandMetrics);
+
+        assertTrue(metricsCommand.equals(metricsCommand));
+        assertTrue(metricsCommand.equals(new MetricsCommand(commandMetrics)));
+        assertTrue(new MetricsCommand().equals(new MetricsCommand()));
+        assertFalse(metricsCommand.equals(new MetricsCommand(new CommandMetrics())));
+        assertFalse(metricsCommand.equals(null));
+        assertFalse(metricsCommand.equals(1));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class SequenceCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void constructor_singleCommand_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SequenceCommand(List.of(new ExitCommand())));
+    }
+
+    @Test
+    public void execute_allSucceed_appliesInOrder() {
+        SequenceCommand command = new SequenceCommand(List.of(new AddContactCommand(AMY),
+                new DeleteContactCommand(INDEX_FIRST_PERSON), new ExitCommand()));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.deleteContact(ALICE);
+        String expectedMessage = String.join("\n",
+                String.format(AddContactCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                String.format(DeleteContactCommand.MESSAGE_DELETE_CONTACT_SUCCESS, Messages.format(ALICE)),
+                ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT);
+        assertCommandSuccess(command, model, new CommandResult(expectedMessage, false, true, false, null),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_laterCommandFails_nothingChanged() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 2);
+        SequenceCommand command = new SequenceCommand(List.of(new AddContactCommand(AMY),
+                new DeleteContactCommand(INDEX_FIRST_PERSON), new DeleteContactCommand(outOfBoundIndex)));
+
+        assertCommandFailure(command, model,
+                String.format(SequenceCommand.MESSAGE_FAILURE, 3, 3, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertFalse(model.hasContact(AMY));
+        assertTrue(model.hasContact(ALICE));
+    }
+
+    @Test
+    public void execute_commandNeedsConfirmation_nothingChanged() {
+        SequenceCommand command = new SequenceCommand(List.of(new AddContactCommand(AMY), new ClearCommand()));
+
+        assertCommandFailure(command, model,
+                String.format(SequenceCommand.MESSAGE_FAILURE, 2, 2, SequenceCommand.MESSAGE_CONFIRMATION_NOT_ALLOWED));
+        assertFalse(model.hasContact(AMY));
+    }
+
+    @Test
+    public void equals() {
+        SequenceCommand sequenceCommand = new SequenceCommand(List.of(new AddContactCommand(AMY),
+                new DeleteContactCommand(INDEX_FIRST_PERSON)));
+
+        assertTrue(sequenceCommand.equals(sequenceCommand));
+        assertTrue(sequenceCommand.equals(new SequenceCommand(List.of(new AddContactCommand(AMY),
+                new DeleteContactCommand(INDEX_FIRST_PERSON)))));
+        assertFalse(sequenceCommand.equals(null));
+        assertFalse(sequenceCommand.equals(new SequenceCommand(List.of(
+                new DeleteContactCommand(INDEX_FIRST_PERSON), new AddContactCommand(AMY)))));
+    }
+}
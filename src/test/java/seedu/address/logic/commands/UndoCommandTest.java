@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.PARIS;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+    private final Model expectedModel =
+            new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_changesToUndo_restoresEarlierStates() {
+        model.deleteContact(ALICE);
+        model.commit("deleteContact 1");
+        model.deleteTrip(PARIS);
+        model.commit("deleteTrip 1");
+        model.updateFilteredPersonList(unused -> false);
+
+        expectedModel.deleteContact(ALICE);
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, "deleteTrip 1"), expectedModel);
+        assertTrue(model.canRedo());
+
+        assertCommandSuccess(new UndoCommand(), model,
+                String.format(UndoCommand.MESSAGE_SUCCESS, "deleteContact 1"),
+                new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs()));
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void equals() {
+        UndoCommand undoCommand = new UndoCommand();
+        assertTrue(undoCommand.equals(undoCommand));
+        assertTrue(undoCommand.equals(new UndoCommand()));
+        assertFalse(undoCommand.equals(null));
+        assertFalse(undoCommand.equals(new RedoCommand()));
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.logic.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalTrips.PARIS;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Email;
+import seedu.address.model.trip.Trip;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TripBuilder;
+
+public class CsvImporterTest {
+
+    private static final String CONTACT_HEADER = "name,phone,email,address,tags,note";
+    private static final String TRIP_HEADER = "name,accommodation,itinerary,date,customers,note";
+    private static final String AMY_ROW = "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",service,";
+    private static final Contact AMY = new PersonBuilder().withName("Amy Bee").withPhone("11111111")
+            .withEmail("amy@example.com").withAddress("Block 312, Amy Street 1").withTags("service").build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvImporter<>(null, List.of()));
+        assertThrows(NullPointerException.class, () -> new CsvImporter<>(new ContactCsvFormat(), null));
+    }
+
+    @Test
+    public void importFrom_validRows_allImportedWithoutRejectsFile() throws Exception {
+        Path source = write("contacts.csv", CONTACT_HEADER,
+                AMY_ROW,
+                "",
+                "Bob Choo,22222222,bob@example.com,Bobby Street 3,customer;service,Likes \"window\" seats");
+        Path rejects = testFolder.resolve("contacts.rejects.csv");
+
+        CsvImporter.Result<Contact> result = new CsvImporter<>(new ContactCsvFormat(), List.of(ALICE))
+                .importFrom(source, rejects);
+
+        Contact bob = new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                .withAddress("Bobby Street 3").withTags("customer", "service")
+                .withNote("Likes \"window\" seats").build();
+        assertEquals(List.of(AMY, bob), result.getImported());
+        assertEquals(0, result.getRejectedCount());
+        assertFalse(Files.exists(rejects));
+    }
+
+    @Test
+    public void importFrom_invalidAndDuplicateRows_rejectedWithReasons() throws Exception {
+        Path source = write("contacts.csv", CONTACT_HEADER,
+                AMY_ROW,
+                "Carl Kurz,95352563,not-an-email,wall street,,",
+                "Too Few,12345678",
+                "Alice Again,94351253,ALICE@example.com,Jurong,,",
+                "Amy Twin,33333333,AMY@EXAMPLE.COM,Amy Street,,");
+        Path rejects = testFolder.resolve("contacts.rejects.csv");
+
+        CsvImporter.Result<Contact> result = new CsvImporter<>(new ContactCsvFormat(), List.of(ALICE))
+                .importFrom(source, rejects);
+
+        assertEquals(List.of(AMY), result.getImported());
+        assertEquals(4, result.getRejectedCount());
+        assertEquals(List.of(List.of("line", "reason", "name", "phone", "email", "address", "tags", "note"),
+                List.of("3", Email.MESSAGE_CONSTRAINTS.replaceAll("\\s*\\n\\s*", " "), "Carl Kurz", "95352563",
+                        "not-an-email", "wall street", "", ""),
+                List.of("4", "Expected 6 fields but found 2.", "Too Few", "12345678"),
+                List.of("5", CsvImporter.MESSAGE_DUPLICATE_IN_BOOK, "Alice Again", "94351253", "ALICE@example.com",
+                        "Jurong", "", ""),
+                List.of("6", String.format(CsvImporter.MESSAGE_DUPLICATE_IN_FILE, 2), "Amy Twin", "33333333",
+                        "AMY@EXAMPLE.COM", "Amy Street", "", "")),
+                readRecords(rejects));
+    }
+
+    @Test
+    public void importFrom_noRowsRejectedAfterEarlierRejects_rejectsFileDeleted() throws Exception {
+        Path rejects = testFolder.resolve("contacts.rejects.csv");
+        CsvImporter<Contact> importer = new CsvImporter<>(new ContactCsvFormat(), List.of());
+        importer.importFrom(write("contacts.csv", CONTACT_HEADER, AMY_ROW, "Too Few,12345678"), rejects);
+        assertTrue(Files.exists(rejects));
+
+        CsvImporter.Result<Contact> result = importer.importFrom(write("contacts.csv", CONTACT_HEADER, AMY_ROW),
+                rejects);
+
+        assertEquals(0, result.getRejectedCount());
+        assertFalse(Files.exists(rejects));
+    }
+
+    @Test
+    public void importFrom_moreRowsThanChunk_duplicatesFoundAcrossChunks() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(TRIP_HEADER);
+        int tripCount = CsvImporter.CHUNK_SIZE + 10;
+        for (int i = 0; i < tripCount; i++) {
+            lines.add("Trip " + i + ",Hotel,Sightseeing,1/1/2030,,");
+        }
+        lines.add("TRIP 0,Another hotel,Shopping,2/1/2030,,");
+        lines.add("Paris Adventure,Hotel,Sightseeing,1/1/2030,,");
+        Path source = write("trips.csv", lines.toArray(String[]::new));
+        Path rejects = testFolder.resolve("trips.rejects.csv");
+
+        CsvImporter.Result<Trip> result = new CsvImporter<>(new TripCsvFormat(), List.of(PARIS))
+                .importFrom(source, rejects);
+
+        assertEquals(tripCount, result.getImported().size());
+        assertEquals(new TripBuilder().withName("Trip " + (tripCount - 1)).withAccommodation("Hotel")
+                .withItinerary("Sightseeing").withDate("1/1/2030").build(), result.getImported().get(tripCount - 1));
+        assertEquals(2, result.getRejectedCount());
+        List<String> rejectedLines = Files.readAllLines(rejects, StandardCharsets.UTF_8);
+        assertEquals((tripCount + 2) + ",The same item is already on line 2.,TRIP 0,Another hotel,Shopping,"
+                + "2/1/2030,,", rejectedLines.get(1));
+        assertEquals((tripCount + 3) + ",The same item is already in the book.,Paris Adventure,Hotel,Sightseeing,"
+                + "1/1/2030,,", rejectedLines.get(2));
+    }
+
+    @Test
+    public void importFrom_tripWithCustomers_customersParsed() throws Exception {
+        Path source = write("trips.csv", " Name , Accommodation,itinerary,DATE,customers,note",
+                "Bali Retreat,Villa,\"Surf, then yoga\",5/9/2030,Amy Bee;Bob Choo,Bring sunscreen");
+
+        CsvImporter.Result<Trip> result = new CsvImporter<>(new TripCsvFormat(), List.of())
+                .importFrom(source, testFolder.resolve("trips.rejects.csv"));
+
+        assertEquals(List.of(new TripBuilder().withName("Bali Retreat").withAccommodation("Villa")
+                .withItinerary("Surf, then yoga").withDate("5/9/2030").withCustomerNames("Amy Bee", "Bob Choo")
+                .withNote("Bring sunscreen").build()), result.getImported());
+    }
+
+    @Test
+    public void importFrom_wrongHeader_throwsParseException() throws IOException {
+        Path source = write("contacts.csv", TRIP_HEADER, AMY_ROW);
+        CsvImporter<Contact> importer = new CsvImporter<>(new ContactCsvFormat(), List.of());
+        assertThrows(ParseException.class, String.format(CsvImporter.MESSAGE_WRONG_HEADER, CONTACT_HEADER), () ->
+                importer.importFrom(source, testFolder.resolve("contacts.rejects.csv")));
+    }
+
+    @Test
+    public void importFrom_emptyFile_throwsParseException() throws IOException {
+        Path source = write("contacts.csv");
+        CsvImporter<Contact> importer = new CsvImporter<>(new ContactCsvFormat(), List.of());
+        assertThrows(ParseException.class, String.format(CsvImporter.MESSAGE_EMPTY_FILE, CONTACT_HEADER), () ->
+                importer.importFrom(source, testFolder.resolve("contacts.rejects.csv")));
+    }
+
+    private static List<List<String>> readRecords(Path file) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private Path write(String fileName, String... lines) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTrips.getTypicalTrips;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.csv.CsvImporter;
+import seedu.address.logic.csv.TripCsvFormat;
+import seedu.address.model.trip.Trip;
+import seedu.address.testutil.TripBuilder;
+
+public class ExportTaskTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void start_csvFormat_fileReadBackBySameFormat() throws Exception {
+        List<Trip> trips = getTypicalTrips();
+        Path file = testFolder.resolve("out").resolve("trips.csv");
+
+        ExportTask task = ExportTask.start(trips, trips.size(), new CsvExportFormat<>(new TripCsvFormat()), file,
+                "trips");
+
+        assertEquals(String.format(ExportTask.MESSAGE_SUCCESS, trips.size(), "trips", file),
+                task.getCompletion().get(10, TimeUnit.SECONDS));
+        CsvImporter.Result<Trip> result = new CsvImporter<>(new TripCsvFormat(), List.of())
+                .importFrom(file, testFolder.resolve("trips.rejects.csv"));
+        assertEquals(trips, result.getImported());
+        assertEquals(0, result.getRejectedCount());
+        assertEquals(trips.size(), task.getWrittenCount());
+        assertFalse(Files.exists(testFolder.resolve("out").resolve("trips.csv.part")));
+    }
+
+    @Test
+    public void start_manyItems_progressReported() throws Exception {
+        int tripCount = ExportTask.PROGRESS_INTERVAL * 2 + 1;
+        List<Trip> trips = IntStream.range(0, tripCount)
+                .mapToObj(i -> new TripBuilder().withName("Trip " + i).build())
+                .collect(Collectors.toList());
+        List<Integer> reportedCounts = new ArrayList<>();
+
+        // Holds up the export thread until the listener is set
+        CountDownLatch gate = new CountDownLatch(1);
+        Iterable<Trip> waitForGate = () -> {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.emptyIterator();
+        };
+        ExportTask.start(waitForGate, 0, new CsvExportFormat<>(new TripCsvFormat()), testFolder.resolve("none.csv"),
+                "trips");
+        Path file = testFolder.resolve("trips.csv");
+        ExportTask task = ExportTask.start(trips, tripCount, new CsvExportFormat<>(new TripCsvFormat()), file,
+                "trips");
+        task.setProgressListener(() -> reportedCounts.add(task.getWrittenCount()));
+        assertEquals(String.format(ExportTask.MESSAGE_PROGRESS, "trips", file, 0, tripCount, 0),
+                task.formatProgress());
+        gate.countDown();
+        task.getCompletion().get(30, TimeUnit.SECONDS);
+
+        assertEquals(List.of(ExportTask.PROGRESS_INTERVAL, ExportTask.PROGRESS_INTERVAL * 2), reportedCounts);
+        assertEquals(tripCount, task.getWrittenCount());
+        assertEquals(String.format(ExportTask.MESSAGE_PROGRESS, "trips", file, tripCount, tripCount, 100),
+                task.formatProgress());
+        assertEquals(tripCount + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void start_unwritableFile_completesExceptionallyWithoutPartialFile() throws Exception {
+        Path notAFolder = Files.createFile(testFolder.resolve("not-a-folder"));
+        Path file = notAFolder.resolve("trips.csv");
+
+        ExportTask task = ExportTask.start(getTypicalTrips(), 1, new CsvExportFormat<>(new TripCsvFormat()), file,
+                "trips");
+
+        assertTrue(ExportTask.awaitAll(10, TimeUnit.SECONDS));
+        Throwable error = task.getCompletion().handle((message, e) -> e).join();
+        assertTrue(error instanceof IOException);
+        assertTrue(error.getMessage().startsWith("Could not export trips to " + file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(notAFolder), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void start_failingItem_existingFileKept() throws Exception {
+        Path file = Files.writeString(testFolder.resolve("trips.csv"), "previous export");
+        ExportFormat<Trip> failingFormat = new CsvExportFormat<>(new TripCsvFormat()) {
+            @Override
+            public void writeItem(Writer out, Trip trip) {
+                throw new IllegalStateException("broken");
+            }
+        };
+
+        ExportTask task = ExportTask.start(getTypicalTrips(), 1, failingFormat, file, "trips");
+
+        assertTrue(ExportTask.awaitAll(10, TimeUnit.SECONDS));
+        assertTrue(task.getCompletion().isCompletedExceptionally());
+        assertEquals("previous export", Files.readString(file));
+        assertFalse(Files.exists(testFolder.resolve("trips.csv.part")));
+    }
+}
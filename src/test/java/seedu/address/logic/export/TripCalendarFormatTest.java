@@ -0,0 +1,75 @@
+package seedu.address.logic.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.trip.Trip;
+import seedu.address.testutil.TripBuilder;
+
+public class TripCalendarFormatTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2030-01-02T03:04:05Z");
+
+    private final TripCalendarFormat format = new TripCalendarFormat(TIMESTAMP);
+
+    @Test
+    public void write_trip_allDayEventWithEscapedText() throws IOException {
+        Trip trip = new TripBuilder().withName("Paris Adventure").withAccommodation("Hotel; de Paris")
+                .withItinerary("Eiffel Tower, Louvre\\Orsay").withDate("31/12/2030")
+                .withCustomerNames("Bob Chen", "Alice Pauline").withNote("First time").build();
+        String uid = UUID.nameUUIDFromBytes("paris adventure".getBytes(StandardCharsets.UTF_8)) + "@travelhub";
+
+        assertEquals("BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "PRODID:" + TripCalendarFormat.PRODUCT_ID + "\r\n"
+                + "CALSCALE:GREGORIAN\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "UID:" + uid + "\r\n"
+                + "DTSTAMP:20300102T030405Z\r\n"
+                + "DTSTART;VALUE=DATE:20301231\r\n"
+                + "DTEND;VALUE=DATE:20310101\r\n"
+                + "SUMMARY:Paris Adventure\r\n"
+                + "LOCATION:Hotel\\; de Paris\r\n"
+                + "DESCRIPTION:Itinerary: Eiffel Tower\\, Louvre\\\\Orsay\\nCustomers: Alice Pauli\r\n"
+                + " ne\\, Bob Chen\\nNote: First time\r\n"
+                + "END:VEVENT\r\n"
+                + "END:VCALENDAR\r\n", write(trip));
+    }
+
+    @Test
+    public void write_tripWithoutCustomersOrNote_descriptionIsItinerary() throws IOException {
+        Trip trip = new TripBuilder().withName("Day Trip").withItinerary("Beach").withCustomerNames().withNote("")
+                .build();
+        assertTrue(write(trip).contains("\r\nDESCRIPTION:Itinerary: Beach\r\nEND:VEVENT\r\n"));
+    }
+
+    @Test
+    public void write_longMultiByteLine_foldedAtCharacterBoundaries() throws IOException {
+        Trip trip = new TripBuilder().withItinerary("\u00e9".repeat(40)).withCustomerNames().withNote("").build();
+
+        String output = write(trip);
+
+        // 23 octets of prefix and 26 two-octet characters fill the first line, the rest go on the next
+        assertTrue(output.contains("\r\nDESCRIPTION:Itinerary: " + "\u00e9".repeat(26) + "\r\n "
+                + "\u00e9".repeat(14) + "\r\n"));
+        for (String line : output.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+    }
+
+    private String write(Trip trip) throws IOException {
+        StringWriter out = new StringWriter();
+        format.writeStart(out);
+        format.writeItem(out, trip);
+        format.writeEnd(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.logic.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandMixTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+
+    @Test
+    public void parse_validMix_success() {
+        CommandMix mix = CommandMix.parse(" find=3 , addTrip=1", 1);
+        assertEquals(Map.of("find", 3, "addTrip", 1), mix.getWeights());
+    }
+
+    @Test
+    public void parse_invalidMix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("", 1));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("find", 1));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("find=many", 1));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("find=0", 1));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("clear=1", 1));
+    }
+
+    @Test
+    public void nextCommand_sameSeed_sameCommands() {
+        assertEquals(nextCommands(CommandMix.parse(CommandMix.DEFAULT_MIX, 5), 50),
+                nextCommands(CommandMix.parse(CommandMix.DEFAULT_MIX, 5), 50));
+    }
+
+    @Test
+    public void nextCommand_followsWeights() {
+        List<String> commands = nextCommands(CommandMix.parse("find=9,listContact=1", 1), 1000);
+        long findCount = commands.stream().filter(command -> command.startsWith("find ")).count();
+        assertTrue(findCount > 850 && findCount < 950);
+    }
+
+    @Test
+    public void nextCommand_defaultMix_allCommandsParseAndMostSucceed() throws Exception {
+        CommandMix mix = CommandMix.parse(CommandMix.DEFAULT_MIX, 1);
+        AddressBookParser parser = new AddressBookParser();
+        int failedCount = 0;
+        for (int i = 0; i < 200; i++) {
+            try {
+                parser.parseCommand(mix.nextCommand(model)).execute(model);
+            } catch (CommandException e) {
+                failedCount++;
+            } catch (ParseException e) {
+                throw new AssertionError("Generated command could not be parsed", e);
+            }
+        }
+        assertTrue(failedCount < 40);
+    }
+
+    private List<String> nextCommands(CommandMix mix, int count) {
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            commands.add(mix.nextCommand(model));
+        }
+        return commands;
+    }
+
+    @Test
+    public void constructor_nullWeights_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandMix(null, 1));
+        Map<String, Integer> weights = new HashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> new CommandMix(weights, 1));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.LatencyHistogram;
+
+public class LoadTestRunnerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new LoadTestRunner(CommandMix.DEFAULT_MIX, 1, 0, 0, testFolder));
+        assertThrows(IllegalArgumentException.class, () ->
+                new LoadTestRunner(CommandMix.DEFAULT_MIX, 1, 10, -1, testFolder));
+        assertThrows(IllegalArgumentException.class, () -> new LoadTestRunner("clear=1", 1, 10, 0, testFolder));
+    }
+
+    @Test
+    public void run_recordsEveryCommandAndCleansUp() throws Exception {
+        LoadTestRunner runner = new LoadTestRunner(CommandMix.DEFAULT_MIX, 1, 40, 0, testFolder);
+        LoadTestRunner.Result result = runner.run(30);
+
+        assertEquals(30, result.getBookSize());
+        assertEquals(40, result.getCommandCount());
+        assertEquals(40, result.getLatency().getCount());
+        assertTrue(result.getFailedCount() < 40);
+        assertTrue(result.getThroughput() > 0);
+
+        CommandMetrics commandMetrics = result.getCommandMetrics();
+        long recorded = CommandMix.parse(CommandMix.DEFAULT_MIX, 1).getWeights().keySet().stream()
+                .mapToLong(commandMetrics::getCount).sum();
+        assertEquals(40, recorded);
+
+        try (var files = Files.list(testFolder)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void run_targetRate_pacesCommands() throws Exception {
+        LoadTestRunner runner = new LoadTestRunner("find=1", 1, 20, 500, testFolder);
+        LoadTestRunner.Result result = runner.run(10);
+
+        // 20 commands at 500 per second cannot finish faster than 19 intervals of 2ms
+        assertTrue(result.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(38));
+    }
+
+    @Test
+    public void formatReport_marksResultsOverBudget() {
+        LatencyHistogram fast = new LatencyHistogram();
+        fast.record(TimeUnit.MILLISECONDS.toNanos(1));
+        LatencyHistogram slow = new LatencyHistogram();
+        slow.record(TimeUnit.MILLISECONDS.toNanos(500));
+
+        String report = LoadTestRunner.formatReport(List.of(
+                new LoadTestRunner.Result(100, 1, 0, TimeUnit.MILLISECONDS.toNanos(1), fast, new CommandMetrics()),
+                new LoadTestRunner.Result(1000, 1, 1, TimeUnit.MILLISECONDS.toNanos(500), slow,
+                        new CommandMetrics())), 100);
+
+        String[] lines = report.split(System.lineSeparator());
+        assertTrue(lines[0].contains("book size"));
+        assertTrue(lines[1].trim().startsWith("100 "));
+        assertFalse(lines[1].contains("OVER BUDGET"));
+        assertTrue(lines[2].trim().startsWith("1000 "));
+        assertTrue(lines[2].contains("OVER BUDGET"));
+        assertTrue(report.contains("Book size 1000"));
+    }
+}
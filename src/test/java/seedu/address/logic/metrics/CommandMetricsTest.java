@@ -0,0 +1,86 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void record_completedPhases_recordedPerCommandWord() {
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        timer.mark(CommandPhase.EXECUTE);
+        timer.mark(CommandPhase.SAVE);
+        commandMetrics.record("listTrip", "listTrip", timer, true);
+        commandMetrics.record("listTrip", "listTrip", timer, true);
+
+        assertEquals(2, commandMetrics.getCount("listTrip"));
+        assertEquals(0, commandMetrics.getCount("find"));
+        for (CommandPhase phase : CommandPhase.values()) {
+            assertEquals(2, commandMetrics.getPhaseLatency("listTrip", phase).getCount());
+        }
+    }
+
+    @Test
+    public void record_failedCommand_onlyCompletedPhasesRecorded() {
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        commandMetrics.record("deleteTrip", "deleteTrip 99", timer, false);
+
+        assertEquals(1, commandMetrics.getPhaseLatency("deleteTrip", CommandPhase.PARSE).getCount());
+        assertEquals(0, commandMetrics.getPhaseLatency("deleteTrip", CommandPhase.EXECUTE).getCount());
+        assertTrue(commandMetrics.getSummary().contains("deleteTrip: count=1 failed=1"));
+    }
+
+    @Test
+    public void record_trackedAllocations_recordedPerPhase() {
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        timer.mark(CommandPhase.EXECUTE);
+        commandMetrics.record("find", "find alex", timer, true);
+
+        long expectedCount = timer.isTrackingAllocations() ? 1 : 0;
+        assertEquals(expectedCount, commandMetrics.getPhaseAllocation("find", CommandPhase.PARSE).getCount());
+        assertEquals(expectedCount, commandMetrics.getPhaseAllocation("find", CommandPhase.EXECUTE).getCount());
+        assertEquals(0, commandMetrics.getPhaseAllocation("find", CommandPhase.SAVE).getCount());
+        assertEquals(timer.isTrackingAllocations(), commandMetrics.getSummary().contains("alloc[mean="));
+    }
+
+    @Test
+    public void getSummary_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS_RECORDED, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_withCommands_listsEveryCommandWord() {
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        commandMetrics.record("find", "find alex", timer, true);
+        commandMetrics.record("addTrip", "addTrip n/Bali", timer, true);
+
+        String summary = commandMetrics.getSummary();
+        assertTrue(summary.startsWith("2 command(s)"));
+        assertTrue(summary.contains("find: count=1"));
+        assertTrue(summary.contains("addTrip: count=1"));
+        assertTrue(summary.contains("parse[p50="));
+    }
+
+    @Test
+    public void clear_removesRecordedCommands() {
+        commandMetrics.record("find", "find alex", CommandTimer.start(), true);
+        commandMetrics.clear();
+        assertEquals(0, commandMetrics.getCount("find"));
+    }
+
+    @Test
+    public void setSlowCommandThresholdMillis_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> commandMetrics.setSlowCommandThresholdMillis(-1));
+        commandMetrics.setSlowCommandThresholdMillis(20);
+        assertEquals(20, commandMetrics.getSlowCommandThresholdMillis());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandTimerTest {
+
+    @Test
+    public void mark_nullPhase_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CommandTimer.start().mark(null));
+    }
+
+    @Test
+    public void mark_phases_totalIsSumOfPhases() {
+        CommandTimer timer = CommandTimer.start();
+        assertFalse(timer.hasCompleted(CommandPhase.PARSE));
+
+        timer.mark(CommandPhase.PARSE);
+        timer.mark(CommandPhase.EXECUTE);
+
+        assertTrue(timer.hasCompleted(CommandPhase.PARSE));
+        assertTrue(timer.hasCompleted(CommandPhase.EXECUTE));
+        assertFalse(timer.hasCompleted(CommandPhase.SAVE));
+        assertEquals(timer.getTotalNanos(),
+                timer.getPhaseNanos(CommandPhase.PARSE) + timer.getPhaseNanos(CommandPhase.EXECUTE));
+    }
+
+    @Test
+    public void mark_allocatingPhase_allocationsAttributedToPhase() {
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        List<long[]> garbage = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            garbage.add(new long[1024]);
+        }
+        timer.mark(CommandPhase.EXECUTE);
+
+        assertEquals(AllocationCounter.isSupported(), timer.isTrackingAllocations());
+        if (timer.isTrackingAllocations()) {
+            assertTrue(timer.getPhaseAllocatedBytes(CommandPhase.EXECUTE) >= 100 * 1024 * Long.BYTES);
+            assertEquals(timer.getTotalAllocatedBytes(), timer.getPhaseAllocatedBytes(CommandPhase.PARSE)
+                    + timer.getPhaseAllocatedBytes(CommandPhase.EXECUTE));
+        } else {
+            assertEquals(0, timer.getTotalAllocatedBytes());
+        }
+        assertEquals(100, garbage.size());
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,8 +20,16 @@ import seedu.address.logic.commands.DeleteContactCommand;
 import seedu.address.logic.commands.EditContactCommand;
 import seedu.address.logic.commands.EditContactCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportContactCommand;
+import seedu.address.logic.commands.ExportTripCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportContactCommand;
+import seedu.address.logic.commands.ImportTripCommand;
+import seedu.address.logic.commands.MetricsCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SequenceCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.NameContainsKeywordsPredicate;
@@ -75,6 +84,77 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportContactCommand(Paths.get("data", "customers.csv")),
+                parser.parseCommand(ImportContactCommand.COMMAND_WORD + " data/customers.csv "));
+        assertEquals(new ImportTripCommand(Paths.get("my trips.csv")),
+                parser.parseCommand(ImportTripCommand.COMMAND_WORD + " my trips.csv"));
+        assertThrows(ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportContactCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(ImportContactCommand.COMMAND_WORD + "  "));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportContactCommand(Paths.get("data", "customers.csv")),
+                parser.parseCommand(ExportContactCommand.COMMAND_WORD + " data/customers.csv"));
+        assertEquals(new ExportTripCommand(Paths.get("trips.ics")),
+                parser.parseCommand(ExportTripCommand.COMMAND_WORD + " trips.ics"));
+        assertThrows(ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportTripCommand.MESSAGE_USAGE), ()
+                -> parser.parseCommand(ExportTripCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_metrics() throws Exception {
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD) instanceof MetricsCommand);
+        assertTrue(parser.parseCommand(MetricsCommand.COMMAND_WORD + " 3") instanceof MetricsCommand);
+    }
+
+    @Test
+    public void parseCommand_sequence() throws Exception {
+        Contact contact = new PersonBuilder().build();
+        SequenceCommand command = (SequenceCommand) parser.parseCommand(PersonUtil.getAddCommand(contact) + " && "
+                + DeleteContactCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new SequenceCommand(List.of(new AddContactCommand(contact),
+                new DeleteContactCommand(INDEX_FIRST_PERSON))), command);
+    }
+
+    @Test
+    public void parseCommand_invalidSequence_throwsParseException() {
+        assertThrows(ParseException.class, AddressBookParser.MESSAGE_EMPTY_COMMAND_IN_SEQUENCE, ()
+            -> parser.parseCommand("listContact && "));
+        assertThrows(ParseException.class, AddressBookParser.MESSAGE_HISTORY_COMMAND_IN_SEQUENCE, ()
+            -> parser.parseCommand("listContact && undo"));
+        assertThrows(ParseException.class, AddressBookParser.MESSAGE_EXPORT_COMMAND_IN_SEQUENCE, ()
+            -> parser.parseCommand("exportContact data/customers.csv && deleteContact 1"));
+        assertThrows(ParseException.class, AddressBookParser.MESSAGE_EXPORT_COMMAND_IN_SEQUENCE, ()
+            -> parser.parseCommand("listTrip && exportTrip data/trips.ics"));
+        assertThrows(ParseException.class, String.format(SequenceCommand.MESSAGE_FAILURE, 2, 3,
+                MESSAGE_UNKNOWN_COMMAND), () -> parser.parseCommand("listContact && unknownCommand && listTrip"));
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("find", AddressBookParser.getCommandWord("  find alex bob"));
+        assertEquals("listTrip", AddressBookParser.getCommandWord("listTrip"));
+        assertEquals("", AddressBookParser.getCommandWord("   "));
+        assertEquals(SequenceCommand.COMMAND_WORD, AddressBookParser.getCommandWord("listContact && listTrip"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
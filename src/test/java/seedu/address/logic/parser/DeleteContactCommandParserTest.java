@@ -5,9 +5,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.BulkDeleteContactCommand;
 import seedu.address.logic.commands.DeleteContactCommand;
+import seedu.address.model.contact.ContactMatchesFilterPredicate;
+import seedu.address.model.tag.Tag;
 
 
 /**
@@ -31,4 +37,21 @@ public class DeleteContactCommandParserTest {
         assertParseFailure(parser, "a",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteContactCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_filter_returnsBulkDeleteCommand() {
+        assertParseSuccess(parser, " fn/Alice Bob ft/customer", new BulkDeleteContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of("Alice", "Bob"))));
+    }
+
+    @Test
+    public void parse_filterWithIndex_throwsParseException() {
+        assertParseFailure(parser, "1 ft/customer",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteContactCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_blankNameFilter_throwsParseException() {
+        assertParseFailure(parser, " fn/ ", ParserUtil.MESSAGE_EMPTY_FILTER_NAME);
+    }
 }
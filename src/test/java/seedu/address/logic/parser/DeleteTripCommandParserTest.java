@@ -6,9 +6,16 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TRIP;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.BulkDeleteTripCommand;
 import seedu.address.logic.commands.DeleteTripCommand;
+import seedu.address.model.trip.TripDate;
+import seedu.address.model.trip.TripMatchesFilterPredicate;
 
 /**
  * Unit tests for {@code DeleteTripCommandParser}.
@@ -33,4 +40,21 @@ public class DeleteTripCommandParserTest {
         assertParseFailure(parser, "-5",
                 String.format(MESSAGE_INVALID_TRIP_DISPLAYED_INDEX, DeleteTripCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_dateFilter_returnsBulkDeleteCommand() {
+        assertParseSuccess(parser, " from/1/1/2024 to/31/12/2024", new BulkDeleteTripCommand(
+                new TripMatchesFilterPredicate(Optional.of(LocalDate.of(2024, 1, 1)),
+                        Optional.of(LocalDate.of(2024, 12, 31)), List.of())));
+    }
+
+    @Test
+    public void parse_fromDateAfterToDate_throwsParseException() {
+        assertParseFailure(parser, " from/2/1/2024 to/1/1/2024", ParserUtil.MESSAGE_INVALID_DATE_RANGE);
+    }
+
+    @Test
+    public void parse_invalidFilterDate_throwsParseException() {
+        assertParseFailure(parser, " to/31/2/2024", TripDate.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -34,13 +34,18 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.BulkEditContactCommand;
 import seedu.address.logic.commands.EditContactCommand;
 import seedu.address.logic.commands.EditContactCommand.EditPersonDescriptor;
 import seedu.address.model.contact.Address;
+import seedu.address.model.contact.ContactMatchesFilterPredicate;
 import seedu.address.model.contact.Email;
 import seedu.address.model.contact.Name;
 import seedu.address.model.contact.Note;
@@ -214,4 +219,28 @@ public class EditContactCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_filter_returnsBulkEditCommand() {
+        String userInput = " ft/" + VALID_TAG_SERVICE + PHONE_DESC_AMY;
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_AMY).build();
+        BulkEditContactCommand expectedCommand = new BulkEditContactCommand(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag(VALID_TAG_SERVICE)), List.of()), descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_indexAndFieldsContainingFilterPrefixes_returnsEditCommand() {
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder()
+                .withNote(new Note("Sends fn/ and ft/ codes")).withAddress("Blk 5 fn/2, Jurong").build();
+        assertParseSuccess(parser, "1 " + PREFIX_NOTE + "Sends fn/ and ft/ codes " + PREFIX_ADDRESS
+                + "Blk 5 fn/2, Jurong", new EditContactCommand(INDEX_FIRST_PERSON, descriptor));
+    }
+
+    @Test
+    public void parse_filterWithoutFieldsToEdit_failure() {
+        assertParseFailure(parser, " fn/Amy", EditContactCommand.MESSAGE_NOT_EDITED);
+    }
 }
@@ -28,15 +28,21 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TRIP;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_TRIP;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_TRIP;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.BulkEditTripCommand;
 import seedu.address.logic.commands.EditTripCommand;
 import seedu.address.logic.commands.EditTripCommand.EditTripDescriptor;
 import seedu.address.model.trip.Accommodation;
 import seedu.address.model.trip.Itinerary;
 import seedu.address.model.trip.TripDate;
+import seedu.address.model.trip.TripMatchesFilterPredicate;
 import seedu.address.model.trip.TripName;
 import seedu.address.testutil.EditTripDescriptorBuilder;
 
@@ -202,4 +208,35 @@ public class EditTripCommandParserTest {
         EditTripCommand expectedCommand = new EditTripCommand(targetIndex, descriptor);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_filter_returnsBulkEditCommand() {
+        String userInput = " fn/Paris from/1/6/2024" + ACCOMMODATION_DESC_HOTEL_81;
+
+        EditTripDescriptor descriptor = new EditTripDescriptorBuilder()
+                .withAccommodation(VALID_ACCOMMODATION_HOTEL_81).build();
+        BulkEditTripCommand expectedCommand = new BulkEditTripCommand(new TripMatchesFilterPredicate(
+                Optional.of(LocalDate.of(2024, 6, 1)), Optional.empty(), List.of("Paris")), descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_indexAndFieldsContainingFilterPrefixes_returnsEditCommand() {
+        EditTripDescriptor noteDescriptor = new EditTripDescriptorBuilder()
+                .withNote("Transfer to/from airport").build();
+        assertParseSuccess(parser, "1 " + PREFIX_NOTE + "Transfer to/from airport",
+                new EditTripCommand(INDEX_FIRST_TRIP, noteDescriptor));
+
+        EditTripDescriptor itineraryDescriptor = new EditTripDescriptorBuilder()
+                .withItinerary("Ferry from/to Sentosa, then fn/ feedback").build();
+        assertParseSuccess(parser, "2 " + PREFIX_ITINERARY + "Ferry from/to Sentosa, then fn/ feedback",
+                new EditTripCommand(INDEX_SECOND_TRIP, itineraryDescriptor));
+    }
+
+    @Test
+    public void parse_filterWithIndex_failure() {
+        assertParseFailure(parser, "1 fn/Paris" + ACCOMMODATION_DESC_HOTEL_81,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditTripCommand.MESSAGE_USAGE));
+    }
 }
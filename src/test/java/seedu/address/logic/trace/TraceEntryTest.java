@@ -0,0 +1,73 @@
+package seedu.address.logic.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.metrics.CommandPhase;
+import seedu.address.logic.metrics.CommandTimer;
+
+public class TraceEntryTest {
+
+    private static final TraceEntry ENTRY = new TraceEntry("2025-04-01T10:15:30Z", "find alex", true,
+            "1 contacts listed!", 10, 20, 30, 60);
+
+    @Test
+    public void of_timer_copiesPhaseTimings() {
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        timer.mark(CommandPhase.EXECUTE);
+        Instant issuedAt = Instant.parse("2025-04-01T10:15:30Z");
+
+        TraceEntry entry = TraceEntry.of(issuedAt, "find alex", timer, false, "error");
+        assertEquals("2025-04-01T10:15:30Z", entry.getTimestamp());
+        assertEquals("find alex", entry.getCommand());
+        assertFalse(entry.isSuccessful());
+        assertEquals("error", entry.getFeedback());
+        assertEquals(timer.getPhaseNanos(CommandPhase.PARSE), entry.getPhaseNanos(CommandPhase.PARSE));
+        assertEquals(timer.getPhaseNanos(CommandPhase.EXECUTE), entry.getPhaseNanos(CommandPhase.EXECUTE));
+        assertEquals(0, entry.getPhaseNanos(CommandPhase.SAVE));
+        assertEquals(timer.getTotalNanos(), entry.getTotalNanos());
+    }
+
+    @Test
+    public void json_roundTrip_sameEntry() throws Exception {
+        String json = JsonUtil.toCompactJsonString(ENTRY);
+        assertFalse(json.contains("\n"));
+        assertEquals(ENTRY, JsonUtil.fromJsonString(json, TraceEntry.class));
+    }
+
+    @Test
+    public void hasSameOutcome() {
+        // different timings -> returns true
+        assertTrue(ENTRY.hasSameOutcome(new TraceEntry("2026-01-01T00:00:00Z", "find alex", true,
+                "1 contacts listed!", 1, 2, 3, 6)));
+
+        // different feedback -> returns false
+        assertFalse(ENTRY.hasSameOutcome(new TraceEntry("2025-04-01T10:15:30Z", "find alex", true,
+                "2 contacts listed!", 10, 20, 30, 60)));
+
+        // different success -> returns false
+        assertFalse(ENTRY.hasSameOutcome(new TraceEntry("2025-04-01T10:15:30Z", "find alex", false,
+                "1 contacts listed!", 10, 20, 30, 60)));
+
+        // null -> returns false
+        assertFalse(ENTRY.hasSameOutcome(null));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(ENTRY.equals(ENTRY));
+        assertTrue(ENTRY.equals(new TraceEntry("2025-04-01T10:15:30Z", "find alex", true,
+                "1 contacts listed!", 10, 20, 30, 60)));
+        assertFalse(ENTRY.equals(null));
+        assertFalse(ENTRY.equals(5));
+        assertFalse(ENTRY.equals(new TraceEntry("2025-04-01T10:15:30Z", "find alex", true,
+                "1 contacts listed!", 10, 20, 30, 61)));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.metrics.CommandPhase;
+import seedu.address.logic.metrics.CommandTimer;
+import seedu.address.model.AddressBook;
+import seedu.address.model.TripBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+
+public class TraceRecorderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void disabled_recordsNothing() throws Exception {
+        TraceRecorder traceRecorder = TraceRecorder.disabled();
+        assertFalse(traceRecorder.isEnabled());
+        traceRecorder.record(Instant.now(), "help", CommandTimer.start(), true, "help");
+        traceRecorder.saveSnapshot(new AddressBook(), new TripBook());
+        traceRecorder.close();
+        try (var files = Files.list(testFolder)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void record_thenRead_sameEntriesInOrder() throws Exception {
+        Path traceFilePath = testFolder.resolve("traces").resolve("trace.jsonl");
+        TraceRecorder traceRecorder = TraceRecorder.open(traceFilePath);
+        assertTrue(traceRecorder.isEnabled());
+
+        CommandTimer timer = CommandTimer.start();
+        timer.mark(CommandPhase.PARSE);
+        Instant issuedAt = Instant.parse("2025-04-01T10:15:30Z");
+        traceRecorder.record(issuedAt, "find alex", timer, true, "1 contacts listed!");
+        traceRecorder.record(issuedAt, "unknown", timer, false, "Unknown command");
+
+        // entries are readable before the recorder is closed
+        List<TraceEntry> entries = TraceRecorder.read(traceFilePath);
+        assertEquals(List.of(TraceEntry.of(issuedAt, "find alex", timer, true, "1 contacts listed!"),
+                TraceEntry.of(issuedAt, "unknown", timer, false, "Unknown command")), entries);
+
+        traceRecorder.close();
+        assertFalse(traceRecorder.isEnabled());
+        traceRecorder.record(issuedAt, "help", timer, true, "help");
+        assertEquals(2, TraceRecorder.read(traceFilePath).size());
+    }
+
+    @Test
+    public void open_existingTrace_replaced() throws Exception {
+        Path traceFilePath = testFolder.resolve("trace.jsonl");
+        TraceRecorder traceRecorder = TraceRecorder.open(traceFilePath);
+        traceRecorder.record(Instant.now(), "help", CommandTimer.start(), true, "help");
+        traceRecorder.close();
+
+        TraceRecorder.open(traceFilePath).close();
+        assertEquals(0, TraceRecorder.read(traceFilePath).size());
+    }
+
+    @Test
+    public void saveSnapshot_writesBooksNextToTrace() throws Exception {
+        Path traceFilePath = testFolder.resolve("trace.jsonl");
+        TraceRecorder traceRecorder = TraceRecorder.open(traceFilePath);
+        traceRecorder.saveSnapshot(getTypicalAddressBook(), getTypicalTripBook());
+        traceRecorder.close();
+
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(
+                TraceRecorder.getAddressBookSnapshotPath(traceFilePath)).readAddressBook().get());
+        assertEquals(getTypicalTripBook(), new JsonTripBookStorage(
+                TraceRecorder.getTripBookSnapshotPath(traceFilePath)).readTripBook().get());
+    }
+
+    @Test
+    public void getSnapshotPaths() {
+        Path traceFilePath = Paths.get("data", "trace.jsonl");
+        assertEquals(Paths.get("data", "trace.jsonl.addressbook.json"),
+                TraceRecorder.getAddressBookSnapshotPath(traceFilePath));
+        assertEquals(Paths.get("data", "trace.jsonl.tripbook.json"),
+                TraceRecorder.getTripBookSnapshotPath(traceFilePath));
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.logic.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class TraceReplayerTest {
+
+    private static final List<String> SESSION = List.of("find alice", "deleteContact 1", "listContact",
+            "addTrip n/Tokyo 2026 acc/Hotel 81 i/Sightseeing d/1/5/2026", "editTrip 1 acc/Grand Hyatt",
+            "deleteTrip 99", "metrics", "unknownCommand");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path traceFilePath;
+    private Path recordingFolder;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        recordingFolder = Files.createDirectory(testFolder.resolve("recording"));
+        traceFilePath = testFolder.resolve("session.jsonl");
+        TraceRecorder traceRecorder = TraceRecorder.open(traceFilePath);
+        traceRecorder.saveSnapshot(getTypicalAddressBook(), getTypicalTripBook());
+
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(recordingFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(recordingFolder.resolve("preferences.json")),
+                new JsonTripBookStorage(recordingFolder.resolve("tripbook.json")));
+        Logic logic = new LogicManager(new ModelManager(getTypicalAddressBook(), getTypicalTripBook(),
+                new UserPrefs()), storage, new CommandMetrics(), traceRecorder);
+        for (String command : SESSION) {
+            try {
+                logic.execute(command);
+            } catch (Exception e) {
+                // failed commands are part of the session
+            }
+        }
+        traceRecorder.close();
+    }
+
+    @Test
+    public void replay_unchangedBuild_noDifferences() throws Exception {
+        TraceReplayer.Result result = new TraceReplayer(traceFilePath).replay(
+                Files.createDirectory(testFolder.resolve("replay")));
+
+        assertEquals(SESSION.size(), result.getRecorded().size());
+        assertEquals(SESSION.size(), result.getReplayed().size());
+        assertEquals(List.of(), result.getDifferences());
+        assertTrue(result.formatReport(TraceReplayer.DEFAULT_TOLERANCE)
+                .startsWith("Replayed 8 command(s): 8 matched, 0 differed"));
+
+        // the snapshots are left untouched
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(
+                TraceRecorder.getAddressBookSnapshotPath(traceFilePath)).readAddressBook().get());
+    }
+
+    @Test
+    public void replay_changedOutcome_reportsDifference() throws Exception {
+        List<TraceEntry> entries = new ArrayList<>(TraceRecorder.read(traceFilePath));
+        TraceEntry original = entries.get(2);
+        entries.set(2, new TraceEntry(original.getTimestamp(), original.getCommand(), true, "Something else",
+                0, 0, 0, original.getTotalNanos()));
+        rewriteTrace(entries);
+
+        TraceReplayer.Result result = new TraceReplayer(traceFilePath).replay(
+                Files.createDirectory(testFolder.resolve("replay")));
+        assertEquals(List.of(2), result.getDifferences());
+        String report = result.formatReport(TraceReplayer.DEFAULT_TOLERANCE);
+        assertTrue(report.contains("#3 listContact"));
+        assertTrue(report.contains("expected: [success] Something else"));
+    }
+
+    @Test
+    public void replay_missingSnapshot_throwsFileSystemException() throws Exception {
+        Files.delete(TraceRecorder.getTripBookSnapshotPath(traceFilePath));
+        TraceReplayer replayer = new TraceReplayer(traceFilePath);
+        Path workingDirectory = Files.createDirectory(testFolder.resolve("replay"));
+        assertThrows(FileSystemException.class, () -> replayer.replay(workingDirectory));
+    }
+
+    @Test
+    public void getRegressions_slowerBeyondTolerance_reported() {
+        List<TraceEntry> recorded = new ArrayList<>();
+        List<TraceEntry> replayed = new ArrayList<>();
+        for (int i = 0; i < TraceReplayer.MIN_SAMPLES_FOR_REGRESSION; i++) {
+            recorded.add(new TraceEntry("t", "find alex", true, "ok", 0, 0, 0, 1_000_000));
+            replayed.add(new TraceEntry("t", "find alex", true, "ok", 0, 0, 0, 2_000_000));
+            recorded.add(new TraceEntry("t", "listContact", true, "ok", 0, 0, 0, 1_000_000));
+            replayed.add(new TraceEntry("t", "listContact", true, "ok", 0, 0, 0, 1_000_000));
+        }
+        // too few samples to be reported
+        recorded.add(new TraceEntry("t", "help", true, "ok", 0, 0, 0, 1_000_000));
+        replayed.add(new TraceEntry("t", "help", true, "ok", 0, 0, 0, 9_000_000));
+
+        TraceReplayer.Result result = new TraceReplayer.Result(recorded, replayed);
+        assertEquals(List.of("find"), result.getRegressions(0.25));
+        assertEquals(List.of(), result.getRegressions(2));
+        assertTrue(result.formatReport(0.25).contains("REGRESSION"));
+    }
+
+    @Test
+    public void run_invalidArguments_returnsUsageStatus() throws Exception {
+        assertEquals(2, TraceReplayer.run(new String[] {"--help"}));
+        assertEquals(2, TraceReplayer.run(new String[] {"--tolerance", "1"}));
+        assertEquals(2, TraceReplayer.run(new String[] {"--unknown", "1"}));
+    }
+
+    @Test
+    public void run_unchangedBuild_returnsZeroAndWritesReport() throws Exception {
+        Path reportFilePath = testFolder.resolve("report.txt");
+        // timings of a session this short are too noisy to compare, so any slowdown is tolerated
+        assertEquals(0, TraceReplayer.run(new String[] {"--trace", traceFilePath.toString(), "--tolerance", "1000",
+            "--report", reportFilePath.toString()}));
+        assertTrue(Files.readString(reportFilePath).contains("0 differed"));
+    }
+
+    private void rewriteTrace(List<TraceEntry> entries) throws Exception {
+        StringBuilder trace = new StringBuilder();
+        for (TraceEntry entry : entries) {
+            trace.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+        Files.writeString(traceFilePath, trace);
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CUSTOMER;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -17,6 +19,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.exceptions.DuplicatePersonException;
@@ -78,6 +81,31 @@ public class AddressBookTest {
         assertTrue(addressBook.hasContact(editedAlice));
     }
 
+    @Test
+    public void batch_manyChanges_singleNotification() {
+        addressBook.addPerson(ALICE);
+        int[] notificationCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Contact>) c -> notificationCount[0]++);
+
+        addressBook.batch(() -> {
+            addressBook.addPerson(BOB);
+            addressBook.addPerson(CARL);
+            addressBook.removeContact(ALICE);
+        });
+        assertEquals(List.of(BOB, CARL), addressBook.getPersonList());
+        assertEquals(1, notificationCount[0]);
+    }
+
+    @Test
+    public void batch_duplicateAdded_addressBookUnchanged() {
+        addressBook.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> addressBook.batch(() -> {
+            addressBook.addPerson(BOB);
+            addressBook.addPerson(ALICE);
+        }));
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.trip.Trip;
+
+public class ModelHistoryTest {
+
+    private static final PersistentList<Trip> NO_TRIPS = PersistentList.empty();
+
+    private final ModelHistory.State initial = state(PersistentList.of(List.of(ALICE)), "");
+    private final ModelHistory.State withBenson = state(initial.getPersons().plus(BENSON), "add Benson");
+    private final ModelHistory.State withCarl = state(withBenson.getPersons().plus(CARL), "add Carl");
+
+    @Test
+    public void commit_sameSnapshots_notRecorded() {
+        ModelHistory history = new ModelHistory(10, initial);
+        assertFalse(history.commit(state(initial.getPersons(), "find")));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_movesBetweenStates() {
+        ModelHistory history = new ModelHistory(10, initial);
+        history.commit(withBenson);
+        history.commit(withCarl);
+
+        assertEquals("add Carl", history.undo());
+        assertSame(withBenson, history.getCurrentState());
+        assertEquals("add Benson", history.undo());
+        assertSame(initial, history.getCurrentState());
+        assertFalse(history.canUndo());
+
+        assertEquals("add Benson", history.redo());
+        assertSame(withBenson, history.getCurrentState());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsRedo() {
+        ModelHistory history = new ModelHistory(10, initial);
+        history.commit(withBenson);
+        history.undo();
+        history.commit(withCarl);
+
+        assertFalse(history.canRedo());
+        assertEquals("add Carl", history.undo());
+        assertSame(initial, history.getCurrentState());
+    }
+
+    @Test
+    public void commit_historyFull_forgetsOldestChange() {
+        ModelHistory history = new ModelHistory(1, initial);
+        history.commit(withBenson);
+        history.commit(withCarl);
+
+        history.undo();
+        assertSame(withBenson, history.getCurrentState());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void zeroDepth_nothingToUndo() {
+        ModelHistory history = new ModelHistory(0, initial);
+        history.commit(withBenson);
+        assertSame(withBenson, history.getCurrentState());
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void clear_keepsCurrentStateOnly() {
+        ModelHistory history = new ModelHistory(10, initial);
+        history.commit(withBenson);
+        history.commit(withCarl);
+        history.undo();
+        history.clear();
+
+        assertSame(withBenson, history.getCurrentState());
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    private static ModelHistory.State state(PersistentList<Contact> persons, String description) {
+        return new ModelHistory.State(persons, NO_TRIPS, description);
+    }
+}
@@ -11,12 +11,16 @@ import static seedu.address.testutil.TypicalTrips.PARIS;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.contact.Contact;
 import seedu.address.model.contact.NameContainsKeywordsPredicate;
+import seedu.address.model.trip.Trip;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.TripBookBuilder;
 
@@ -125,11 +129,40 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredPersonSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+
+        Iterable<Contact> snapshot = modelManager.getFilteredPersonSnapshot();
+        modelManager.deleteContact(ALICE);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        assertEquals(List.of(ALICE), toList(snapshot));
+        assertEquals(List.of(BENSON), toList(modelManager.getFilteredPersonSnapshot()));
+    }
+
+    @Test
+    public void getFilteredTripSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addTrip(PARIS);
+        Iterable<Trip> snapshot = modelManager.getFilteredTripSnapshot();
+        modelManager.deleteTrip(PARIS);
+        assertEquals(List.of(PARIS), toList(snapshot));
+        assertEquals(List.of(), toList(modelManager.getFilteredTripSnapshot()));
+    }
+
     @Test
     public void getFilteredTripList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTripList().remove(0));
     }
 
+    private static <T> List<T> toList(Iterable<T> items) {
+        List<T> list = new ArrayList<>();
+        items.forEach(list::add);
+        return list;
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTrips.BALI;
 import static seedu.address.testutil.TypicalTrips.PARIS;
 import static seedu.address.testutil.TypicalTrips.TOKYO;
 import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
@@ -16,6 +17,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.trip.Trip;
 import seedu.address.model.trip.exceptions.DuplicateTripException;
@@ -73,6 +75,31 @@ public class TripBookTest {
         assertTrue(tripBook.hasTrip(editedParis));
     }
 
+    @Test
+    public void batch_manyChanges_singleNotification() {
+        tripBook.addTrip(PARIS);
+        int[] notificationCount = {0};
+        tripBook.getTripList().addListener((ListChangeListener<Trip>) c -> notificationCount[0]++);
+
+        tripBook.batch(() -> {
+            tripBook.addTrip(TOKYO);
+            tripBook.addTrip(BALI);
+            tripBook.removeTrip(PARIS);
+        });
+        assertEquals(List.of(TOKYO, BALI), tripBook.getTripList());
+        assertEquals(1, notificationCount[0]);
+    }
+
+    @Test
+    public void batch_duplicateAdded_tripBookUnchanged() {
+        tripBook.addTrip(PARIS);
+        assertThrows(DuplicateTripException.class, () -> tripBook.batch(() -> {
+            tripBook.addTrip(TOKYO);
+            tripBook.addTrip(PARIS);
+        }));
+        assertEquals(List.of(PARIS), tripBook.getTripList());
+    }
+
     @Test
     public void getTrips_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> tripBook.getTripList().remove(0));
@@ -25,6 +25,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryDepth_negative_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryDepth(-1));
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs();
@@ -52,6 +58,11 @@ public class UserPrefsTest {
         GuiSettings guiSettings = new GuiSettings(10, 20, 30, 40);
         differentUserPrefs.setGuiSettings(guiSettings);
         assertFalse(userPrefs.equals(differentUserPrefs));
+
+        // different undoHistoryDepth -> returns false
+        differentUserPrefs = new UserPrefs();
+        differentUserPrefs.setUndoHistoryDepth(3);
+        assertFalse(userPrefs.equals(differentUserPrefs));
     }
 
     @Test
@@ -0,0 +1,59 @@
+package seedu.address.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class ContactMatchesFilterPredicateTest {
+
+    @Test
+    public void equals() {
+        ContactMatchesFilterPredicate firstPredicate =
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of("Alice"));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of("Alice"))));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("service")), List.of("Alice"))));
+        assertFalse(firstPredicate.equals(new ContactMatchesFilterPredicate(Optional.empty(), List.of("Alice"))));
+    }
+
+    @Test
+    public void test_tagOnly() {
+        ContactMatchesFilterPredicate predicate =
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of());
+
+        assertTrue(predicate.test(new PersonBuilder().withTags("customer", "service").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("service").build()));
+    }
+
+    @Test
+    public void test_nameKeywordsOnly_matchesAnyKeywordIgnoringCase() {
+        ContactMatchesFilterPredicate predicate =
+                new ContactMatchesFilterPredicate(Optional.empty(), List.of("alice", "Carol"));
+
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol Tan").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alicia Bob").build()));
+    }
+
+    @Test
+    public void test_tagAndNameKeywords_mustMatchBoth() {
+        ContactMatchesFilterPredicate predicate =
+                new ContactMatchesFilterPredicate(Optional.of(new Tag("customer")), List.of("Alice"));
+
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").withTags("customer").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").withTags("service").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carol Tan").withTags("customer").build()));
+    }
+}
@@ -12,6 +12,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.tag.Tag;
@@ -48,6 +50,19 @@ public class ContactTest {
         assertTrue(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getIdentityKey_turkishDefaultLocale_sameAsInRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            Contact contact = new PersonBuilder().withEmail("IRIS@EXAMPLE.COM").build();
+            assertEquals("iris@example.com", contact.getIdentityKey());
+            assertTrue(contact.isSamePerson(new PersonBuilder().withEmail("iris@example.com").build()));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void sampleDataTest() {
         Contact[] contacts = SampleDataUtil.getSamplePersons();
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CUSTOMER;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +17,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.contact.exceptions.DuplicatePersonException;
 import seedu.address.model.contact.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,6 +165,86 @@ public class UniqueContactListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateContacts));
     }
 
+    @Test
+    public void setPersons_listWithSameEmailInDifferentCase_throwsDuplicatePersonException() {
+        Contact aliceWithUpperCaseEmail = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().toString().toUpperCase())
+                .build();
+        List<Contact> listWithDuplicateContacts = Arrays.asList(ALICE, BOB, aliceWithUpperCaseEmail);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicateContacts));
+    }
+
+    @Test
+    public void addAll_newPersons_addsThemInOneChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Contact>) c -> changeCount[0]++);
+
+        uniquePersonList.addAll(List.of(BOB, CARL));
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Contact aliceWithUpperCaseEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().toString().toUpperCase())
+                .build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(
+                List.of(CARL, aliceWithUpperCaseEmail)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatesWithinPersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, CARL, BOB)));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void removeIf_matchingPersons_removesThemInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Contact>) c -> changeCount[0]++);
+
+        assertEquals(List.of(ALICE, CARL), uniquePersonList.removeIf(contact -> !contact.equals(BOB)));
+        assertEquals(List.of(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void removeIf_noMatch_changesNothing() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Contact>) c -> changeCount[0]++);
+
+        assertTrue(uniquePersonList.removeIf(contact -> false).isEmpty());
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void replaceIf_matchingPersons_replacesThemInOneChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Contact editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Contact>) c -> changeCount[0]++);
+
+        assertEquals(List.of(editedAlice), uniquePersonList.replaceIf(ALICE::equals, contact -> editedAlice));
+        assertEquals(List.of(editedAlice, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void replaceIf_editsMakeDuplicates_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceIf(contact -> true,
+                contact -> new PersonBuilder(contact).withEmail(VALID_EMAIL_AMY).build()));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,57 @@
+package seedu.address.model.trip;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TripBuilder;
+
+public class TripMatchesFilterPredicateTest {
+
+    private static final Optional<LocalDate> JUNE_1 = Optional.of(LocalDate.of(2024, 6, 1));
+    private static final Optional<LocalDate> JUNE_30 = Optional.of(LocalDate.of(2024, 6, 30));
+
+    @Test
+    public void equals() {
+        TripMatchesFilterPredicate firstPredicate = new TripMatchesFilterPredicate(JUNE_1, JUNE_30, List.of("Paris"));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new TripMatchesFilterPredicate(JUNE_1, JUNE_30, List.of("Paris"))));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(new TripMatchesFilterPredicate(JUNE_1, Optional.empty(), List.of("Paris"))));
+        assertFalse(firstPredicate.equals(new TripMatchesFilterPredicate(JUNE_1, JUNE_30, List.of("Tokyo"))));
+    }
+
+    @Test
+    public void test_dateRange_endsAreInclusive() {
+        TripMatchesFilterPredicate predicate = new TripMatchesFilterPredicate(JUNE_1, JUNE_30, List.of());
+
+        assertTrue(predicate.test(new TripBuilder().withDate("1/6/2024").build()));
+        assertTrue(predicate.test(new TripBuilder().withDate("30/6/2024").build()));
+        assertFalse(predicate.test(new TripBuilder().withDate("31/5/2024").build()));
+        assertFalse(predicate.test(new TripBuilder().withDate("1/7/2024").build()));
+    }
+
+    @Test
+    public void test_openEndedRange() {
+        assertTrue(new TripMatchesFilterPredicate(Optional.empty(), JUNE_30, List.of())
+                .test(new TripBuilder().withDate("1/1/1990").build()));
+        assertTrue(new TripMatchesFilterPredicate(JUNE_1, Optional.empty(), List.of())
+                .test(new TripBuilder().withDate("1/1/2099").build()));
+    }
+
+    @Test
+    public void test_nameKeywordsAndDate_mustMatchBoth() {
+        TripMatchesFilterPredicate predicate = new TripMatchesFilterPredicate(JUNE_1, JUNE_30, List.of("paris"));
+
+        assertTrue(predicate.test(new TripBuilder().withName("Paris Trip").withDate("15/6/2024").build()));
+        assertFalse(predicate.test(new TripBuilder().withName("Paris Trip").withDate("15/7/2024").build()));
+        assertFalse(predicate.test(new TripBuilder().withName("Tokyo Trip").withDate("15/6/2024").build()));
+    }
+}
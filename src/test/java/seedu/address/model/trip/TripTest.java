@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.contact.Name;
@@ -73,6 +75,17 @@ public class TripTest {
         assertFalse(TOKYO.isSameTrip(editedTokyo));
     }
 
+    @Test
+    public void getIdentityKey_turkishDefaultLocale_sameAsInRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertEquals("istanbul 2025", new TripBuilder().withName("ISTANBUL 2025").build().getIdentityKey());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTrips.BALI;
 import static seedu.address.testutil.TypicalTrips.PARIS;
 import static seedu.address.testutil.TypicalTrips.TOKYO;
 
@@ -13,6 +14,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.trip.exceptions.DuplicateTripException;
 import seedu.address.model.trip.exceptions.TripNotFoundException;
 import seedu.address.testutil.TripBuilder;
@@ -145,6 +147,64 @@ public class UniqueTripListTest {
         assertThrows(DuplicateTripException.class, () -> uniqueTripList.setTrips(listWithDuplicateTrips));
     }
 
+    @Test
+    public void setTrips_listWithSameNameInDifferentCase_throwsDuplicateTripException() {
+        Trip parisInLowerCase = new TripBuilder(PARIS).withName(PARIS.getName().name.toLowerCase()).build();
+        List<Trip> listWithDuplicateTrips = Arrays.asList(PARIS, TOKYO, parisInLowerCase);
+        assertThrows(DuplicateTripException.class, () -> uniqueTripList.setTrips(listWithDuplicateTrips));
+    }
+
+    @Test
+    public void addAll_newTrips_addsThemInOneChange() {
+        uniqueTripList.add(PARIS);
+        int[] changeCount = {0};
+        uniqueTripList.asUnmodifiableObservableList().addListener((ListChangeListener<Trip>) c -> changeCount[0]++);
+
+        uniqueTripList.addAll(List.of(TOKYO, BALI));
+        assertEquals(List.of(PARIS, TOKYO, BALI), uniqueTripList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void addAll_duplicateTrip_throwsDuplicateTripException() {
+        uniqueTripList.add(PARIS);
+        Trip parisInLowerCase = new TripBuilder(TOKYO).withName(PARIS.getName().name.toLowerCase()).build();
+        assertThrows(DuplicateTripException.class, () -> uniqueTripList.addAll(List.of(BALI, parisInLowerCase)));
+        assertThrows(DuplicateTripException.class, () -> uniqueTripList.addAll(List.of(BALI, TOKYO, BALI)));
+        assertEquals(List.of(PARIS), uniqueTripList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeIf_matchingTrips_removesThemInOneChange() {
+        uniqueTripList.setTrips(Arrays.asList(PARIS, TOKYO, BALI));
+        int[] changeCount = {0};
+        uniqueTripList.asUnmodifiableObservableList().addListener((ListChangeListener<Trip>) c -> changeCount[0]++);
+
+        assertEquals(List.of(PARIS, BALI), uniqueTripList.removeIf(trip -> !trip.equals(TOKYO)));
+        assertEquals(List.of(TOKYO), uniqueTripList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void replaceIf_matchingTrips_replacesThemInOneChange() {
+        uniqueTripList.setTrips(Arrays.asList(PARIS, TOKYO));
+        Trip editedParis = new TripBuilder(PARIS).withAccommodation("Hotel Lumiere").build();
+        int[] changeCount = {0};
+        uniqueTripList.asUnmodifiableObservableList().addListener((ListChangeListener<Trip>) c -> changeCount[0]++);
+
+        assertEquals(List.of(editedParis), uniqueTripList.replaceIf(PARIS::equals, trip -> editedParis));
+        assertEquals(List.of(editedParis, TOKYO), uniqueTripList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void replaceIf_editsMakeDuplicates_throwsDuplicateTripException() {
+        uniqueTripList.setTrips(Arrays.asList(PARIS, TOKYO));
+        assertThrows(DuplicateTripException.class, () -> uniqueTripList.replaceIf(trip -> true,
+                trip -> new TripBuilder(trip).withName("Same Trip").build()));
+        assertEquals(List.of(PARIS, TOKYO), uniqueTripList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () ->
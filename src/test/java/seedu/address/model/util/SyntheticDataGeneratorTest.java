@@ -0,0 +1,116 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Name;
+import seedu.address.model.trip.Trip;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generateContacts_sameSeed_sameContacts() {
+        assertEquals(new SyntheticDataGenerator(1).generateContacts(200),
+                new SyntheticDataGenerator(1).generateContacts(200));
+    }
+
+    @Test
+    public void generateContacts_differentSeed_differentContacts() {
+        assertNotEquals(new SyntheticDataGenerator(1).generateContacts(200),
+                new SyntheticDataGenerator(2).generateContacts(200));
+    }
+
+    @Test
+    public void generateContacts_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1).generateContacts(-1));
+    }
+
+    @Test
+    public void generateContacts_mostlyCustomersWithSomeServices() {
+        List<Contact> contacts = new SyntheticDataGenerator(1).generateContacts(1000);
+        assertEquals(1000, contacts.size());
+
+        long customers = contacts.stream().filter(Contact::isCustomer).count();
+        long services = contacts.stream().filter(Contact::isService).count();
+        assertTrue(customers > 700 && customers < 950);
+        assertTrue(services > 100 && services < 300);
+    }
+
+    @Test
+    public void generateTrips_realisticDistributions() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+        List<Contact> contacts = generator.generateContacts(500);
+        List<Trip> trips = generator.generateTrips(1000, contacts);
+        assertEquals(1000, trips.size());
+
+        // accommodations and itineraries are shared between trips
+        assertTrue(trips.stream().map(Trip::getAccommodation).distinct().count() <= 50);
+        assertTrue(trips.stream().map(Trip::getItinerary).distinct().count() <= 100);
+
+        // group sizes are skewed: most trips are small, a few are large
+        long smallTrips = trips.stream().filter(trip -> trip.getCustomerNames().size() <= 2).count();
+        int largestTrip = trips.stream().mapToInt(trip -> trip.getCustomerNames().size()).max().getAsInt();
+        assertTrue(smallTrips > 500);
+        assertTrue(largestTrip > 10);
+
+        // dates span the configured years
+        Set<Integer> years = trips.stream().map(trip -> trip.getDate().date.getYear()).collect(Collectors.toSet());
+        assertEquals(SyntheticDataGenerator.LAST_YEAR - SyntheticDataGenerator.FIRST_YEAR + 1, years.size());
+
+        // customers are taken from the customers in the address book
+        Set<Name> customerNames = contacts.stream().filter(Contact::isCustomer).map(Contact::getName)
+                .collect(Collectors.toSet());
+        Set<Name> tripCustomerNames = new HashSet<>();
+        trips.forEach(trip -> tripCustomerNames.addAll(trip.getCustomerNames()));
+        assertTrue(customerNames.containsAll(tripCustomerNames));
+    }
+
+    @Test
+    public void generateTrips_contactsSharingName_groupsDrawnFromDistinctNames() {
+        Contact customer = new SyntheticDataGenerator(1).generateContacts(20).stream().filter(Contact::isCustomer)
+                .findFirst().get();
+        List<Trip> trips = new SyntheticDataGenerator(1).generateTrips(200, List.of(customer, customer));
+        assertTrue(trips.stream().allMatch(trip -> trip.getCustomerNames().size() <= 1));
+    }
+
+    @Test
+    public void generateTrips_noContacts_tripsWithoutCustomers() {
+        List<Trip> trips = new SyntheticDataGenerator(1).generateTrips(20, List.of());
+        assertTrue(trips.stream().allMatch(trip -> trip.getCustomerNames().isEmpty()));
+    }
+
+    @Test
+    public void main_writesFilesThatCanBeRead() throws Exception {
+        SyntheticDataGenerator.main(new String[] {"--contacts", "300", "--trips", "100", "--seed", "7",
+            "--output", testFolder.toString()});
+
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"))
+                .readAddressBook().get();
+        ReadOnlyTripBook tripBook = new JsonTripBookStorage(testFolder.resolve("tripbook.json"))
+                .readTripBook().get();
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        ReadOnlyAddressBook expectedAddressBook = generator.generateAddressBook(300);
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(generator.generateTripBook(100, expectedAddressBook), tripBook);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataCompressionTest {
+
+    private static final byte[] DATA = "{ \"trips\" : [ ] }".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isValidLevel() {
+        assertTrue(DataCompression.isValidLevel(0));
+        assertTrue(DataCompression.isValidLevel(9));
+        assertFalse(DataCompression.isValidLevel(-1));
+        assertFalse(DataCompression.isValidLevel(10));
+    }
+
+    @Test
+    public void compress_noCompression_sameData() throws Exception {
+        assertSame(DATA, DataCompression.compress(DATA, DataCompression.NONE));
+    }
+
+    @Test
+    public void compress_invalidLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, DataCompression.MESSAGE_CONSTRAINTS, () ->
+                DataCompression.compress(DATA, 10));
+    }
+
+    @Test
+    public void open_compressedAtEachLevel_readsOriginalData() throws Exception {
+        for (int level = 1; level <= 9; level++) {
+            byte[] compressed = DataCompression.compress(DATA, level);
+            assertTrue(compressed.length < DATA.length);
+            assertArrayEquals(DATA, readAll(write("level" + level, compressed)));
+        }
+    }
+
+    @Test
+    public void open_plainOrShortFiles_readsAsIs() throws Exception {
+        assertArrayEquals(DATA, readAll(write("plain", DATA)));
+        assertArrayEquals(new byte[0], readAll(write("empty", new byte[0])));
+        assertArrayEquals(new byte[] {0x1f}, readAll(write("short", new byte[] {0x1f})));
+    }
+
+    @Test
+    public void compress_sameData_sameBytes() throws Exception {
+        // Lets a save skip writing a compressed file whose data is unchanged
+        assertArrayEquals(DataCompression.compress(DATA, 6), DataCompression.compress(DATA, 6));
+    }
+
+    private Path write(String fileName, byte[] content) throws IOException {
+        return Files.write(testFolder.resolve(fileName), content);
+    }
+
+    private static byte[] readAll(Path file) throws IOException {
+        try (InputStream in = DataCompression.open(file)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -107,6 +109,24 @@ public class JsonAddressBookStorageTest {
         assertEquals(addressBook, new AddressBook(readBack));
     }
 
+    @Test
+    public void saveAddressBook_compressed_smallerAndReadWithoutCompression() throws Exception {
+        Path plainFile = testFolder.resolve("plain.json");
+        Path compressedFile = testFolder.resolve("compressed.json");
+        new JsonAddressBookStorage(plainFile).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(compressedFile, 6).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(compressedFile) < Files.size(plainFile));
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(compressedFile).readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(plainFile, 6).readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, DataCompression.MESSAGE_CONSTRAINTS, () ->
+                new JsonAddressBookStorage(testFolder.resolve("book.json"), -1));
+    }
+
     private void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) {
         try {
             new JsonAddressBookStorage(addToTestDataPathIfNotNull(filePath))
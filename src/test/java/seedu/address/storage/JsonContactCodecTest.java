@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.contact.Contact;
+import seedu.address.model.contact.Name;
+import seedu.address.model.contact.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonContactCodecTest {
+
+    private static final Contact UNUSUAL = new PersonBuilder().withName("Zoe Quote")
+            .withAddress("12 \"Rue\" \\ Caf\u00e9 \ud83d\ude00\tStreet").withTags()
+            .withNote("Line one\nline two / \u0001").build();
+
+    private final JsonContactCodec codec = new JsonContactCodec();
+
+    @Test
+    public void writeList_typicalContacts_sameAsDataBinding() throws Exception {
+        assertWritesAsDataBinding(TypicalPersons.getTypicalAddressBook());
+    }
+
+    @Test
+    public void writeList_emptyBook_sameAsDataBinding() throws Exception {
+        assertWritesAsDataBinding(new AddressBook());
+    }
+
+    @Test
+    public void writeList_charactersToEscape_sameAsDataBinding() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(UNUSUAL);
+        assertWritesAsDataBinding(addressBook);
+    }
+
+    @Test
+    public void readList_dataBindingJson_sameContacts() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addPerson(UNUSUAL);
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(addressBook.getPersonList(), read(json));
+    }
+
+    @Test
+    public void readList_unknownAndNullFields_ignoredOrDefaulted() throws Exception {
+        String json = "{\"version\": {\"major\": 2}, \"persons\": [{\"name\": \"Amy Bee\", \"phone\": 11111111,"
+                + " \"email\": \"amy@example.com\", \"address\": \"Amy Street\", \"tags\": null, \"note\": null,"
+                + " \"extra\": [1, [2], {\"three\": 3}]}], \"trips\": []}";
+        Contact amy = new PersonBuilder().withName("Amy Bee").withPhone("11111111").withEmail("amy@example.com")
+                .withAddress("Amy Street").withTags().withNote("").build();
+        assertEquals(List.of(amy), read(json));
+    }
+
+    @Test
+    public void readList_missingField_throwsIllegalValueException() {
+        String json = "{\"persons\": [{\"name\": \"Amy Bee\", \"email\": \"amy@example.com\","
+                + " \"address\": \"Amy Street\"}]}";
+        assertThrows(IllegalValueException.class,
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()), () -> read(json));
+    }
+
+    @Test
+    public void readList_invalidFields_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> read(
+                "{\"persons\": [{\"name\": \"R@chel\", \"phone\": \"11111111\", \"email\": \"amy@example.com\","
+                + " \"address\": \"Amy Street\"}]}"));
+        assertThrows(IllegalValueException.class, Tag.MESSAGE_CONSTRAINTS, () -> read(
+                "{\"persons\": [{\"name\": \"Amy Bee\", \"phone\": \"11111111\", \"email\": \"amy@example.com\","
+                + " \"address\": \"Amy Street\", \"tags\": [\"#friend\"]}]}"));
+        assertThrows(IllegalValueException.class, Tag.MESSAGE_CONSTRAINTS, () -> read(
+                "{\"persons\": [{\"name\": \"Amy Bee\", \"phone\": \"11111111\", \"email\": \"amy@example.com\","
+                + " \"address\": \"Amy Street\", \"tags\": [null]}]}"));
+    }
+
+    @Test
+    public void readList_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> read(""));
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": {}}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [1]}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [{\"name\": {\"first\": \"Amy\"}}]}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [{\"tags\": \"friends\"}]}"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [{\"name\": \"Amy Bee\""));
+    }
+
+    private void assertWritesAsDataBinding(AddressBook addressBook) throws IOException {
+        String expected = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        String actual = new String(codec.writeList(addressBook.getPersonList()), StandardCharsets.UTF_8);
+        assertEquals(expected, actual);
+    }
+
+    private List<Contact> read(String json) throws IOException, IllegalValueException {
+        return codec.readList(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
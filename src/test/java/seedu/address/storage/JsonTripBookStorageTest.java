@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTrips.PARIS;
 import static seedu.address.testutil.TypicalTrips.TOKYO;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -135,9 +137,40 @@ public class JsonTripBookStorageTest {
         assertEquals(original, new TripBook(readBackAgain));
     }
 
+    @Test
+    public void saveTripBook_compressed_readWithoutCompression() throws Exception {
+        TripBook original = getTypicalTripBook();
+        original.addTrip(TOKYO);
+        Path filePath = testFolder.resolve("TempTripBook.json");
+
+        new JsonTripBookStorage(filePath, 1).saveTripBook(original);
+        assertEquals(original, new TripBook(new JsonTripBookStorage(filePath).readTripBook().get()));
+
+        // Turning compression off writes plain JSON again
+        new JsonTripBookStorage(filePath).saveTripBook(original);
+        assertEquals('{', Files.readAllBytes(filePath)[0]);
+    }
+
     private TripBook getTypicalTripBook() {
         TripBook ab = new TripBook();
         ab.addTrip(PARIS);
         return ab;
     }
+
+    @Test
+    public void readTripBook_onlyPartitions_readsPartitionsThenDeletesThem() throws Exception {
+        Path filePath = testFolder.resolve("tripbook.json");
+        TripBook original = new TripBook();
+        original.addTrip(TOKYO);
+        original.addTrip(PARIS);
+        new PartitionedTripBookStorage(filePath, DataCompression.NONE).saveTripBook(original);
+        JsonTripBookStorage storage = new JsonTripBookStorage(filePath);
+
+        assertEquals(original, storage.readTripBook().get());
+
+        storage.saveTripBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(PartitionedTripBookStorage.getManifestFile(filePath).getParent()));
+        assertEquals(original, storage.readTripBook().get());
+    }
 }
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.JsonAdaptedTrip.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TripBook;
+import seedu.address.model.contact.Name;
+import seedu.address.model.trip.Note;
+import seedu.address.model.trip.Trip;
+import seedu.address.model.trip.TripDate;
+import seedu.address.testutil.TripBuilder;
+import seedu.address.testutil.TypicalTrips;
+
+public class JsonTripCodecTest {
+
+    private static final Trip UNUSUAL = new TripBuilder().withName("Cafe Crawl")
+            .withAccommodation("\"Le\" H\u00f4tel \\ \ud83c\udfe8").withItinerary("Walk\tand\neat")
+            .withCustomerNames("Amy Bee", "Bob Choo").withNote("Bring \u20ac").build();
+
+    private final JsonTripCodec codec = new JsonTripCodec();
+
+    @Test
+    public void writeList_typicalTrips_sameAsDataBinding() throws Exception {
+        assertWritesAsDataBinding(TypicalTrips.getTypicalTripBook());
+    }
+
+    @Test
+    public void writeList_emptyBook_sameAsDataBinding() throws Exception {
+        assertWritesAsDataBinding(new TripBook());
+    }
+
+    @Test
+    public void writeList_charactersToEscape_sameAsDataBinding() throws Exception {
+        TripBook tripBook = new TripBook();
+        tripBook.addTrip(UNUSUAL);
+        assertWritesAsDataBinding(tripBook);
+    }
+
+    @Test
+    public void readList_dataBindingJson_sameTrips() throws Exception {
+        TripBook tripBook = TypicalTrips.getTypicalTripBook();
+        tripBook.addTrip(UNUSUAL);
+        String json = JsonUtil.toJsonString(new JsonSerializableTripBook(tripBook));
+        assertEquals(tripBook.getTripList(), read(json));
+    }
+
+    @Test
+    public void readList_unknownAndNullFields_ignoredOrDefaulted() throws Exception {
+        String json = "{\"trips\": [{\"note\": \"\", \"date\": \"1/1/2030\", \"itinerary\": \"Sightseeing\","
+                + " \"accommodation\": \"Hotel\", \"name\": \"Trip\", \"customerNames\": null,"
+                + " \"extra\": {\"nested\": [true]}}]}";
+        Trip trip = new TripBuilder().withName("Trip").withAccommodation("Hotel").withItinerary("Sightseeing")
+                .withDate("1/1/2030").withNote("").build();
+        assertEquals(List.of(trip), read(json));
+    }
+
+    @Test
+    public void readList_missingField_throwsIllegalValueException() {
+        String json = "{\"trips\": [{\"name\": \"Trip\", \"accommodation\": \"Hotel\","
+                + " \"itinerary\": \"Sightseeing\", \"date\": \"1/1/2030\"}]}";
+        assertThrows(IllegalValueException.class,
+                String.format(MISSING_FIELD_MESSAGE_FORMAT, Note.class.getSimpleName()), () -> read(json));
+    }
+
+    @Test
+    public void readList_invalidFields_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, TripDate.MESSAGE_CONSTRAINTS, () -> read(
+                "{\"trips\": [{\"name\": \"Trip\", \"accommodation\": \"Hotel\", \"itinerary\": \"Sightseeing\","
+                + " \"date\": \"32/13/2030\", \"note\": \"\"}]}"));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> read(
+                "{\"trips\": [{\"name\": \"Trip\", \"accommodation\": \"Hotel\", \"itinerary\": \"Sightseeing\","
+                + " \"date\": \"1/1/2030\", \"customerNames\": [null], \"note\": \"\"}]}"));
+    }
+
+    @Test
+    public void readList_notATripBook_throwsIoException() {
+        assertThrows(IOException.class, () -> read("{\"persons\": []}"));
+        assertThrows(IOException.class, () -> read("{\"trips\": null}"));
+        assertThrows(IOException.class, () -> read("{\"trips\": [{\"customerNames\": [[\"Amy\"]]}]}"));
+    }
+
+    private void assertWritesAsDataBinding(TripBook tripBook) throws IOException {
+        String expected = JsonUtil.toJsonString(new JsonSerializableTripBook(tripBook));
+        String actual = new String(codec.writeList(tripBook.getTripList()), StandardCharsets.UTF_8);
+        assertEquals(expected, actual);
+    }
+
+    private List<Trip> read(String json) throws IOException, IllegalValueException {
+        return codec.readList(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTrips.BALI;
+import static seedu.address.testutil.TypicalTrips.PARIS;
+import static seedu.address.testutil.TypicalTrips.SEOUL;
+import static seedu.address.testutil.TypicalTrips.SINGAPORE;
+import static seedu.address.testutil.TypicalTrips.TOKYO;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.trip.Trip;
+import seedu.address.testutil.TripBuilder;
+
+public class PartitionedTripBookStorageTest {
+
+    private static final FileTime UNMODIFIED = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path tripBookFile;
+    private Path partitionFolder;
+    private PartitionedTripBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        tripBookFile = testFolder.resolve("tripbook.json");
+        partitionFolder = testFolder.resolve("tripbook");
+        storage = new PartitionedTripBookStorage(tripBookFile, DataCompression.NONE);
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedTripBookStorage(tripBookFile, 10));
+    }
+
+    @Test
+    public void getManifestFile() {
+        assertEquals(partitionFolder.resolve(PartitionedTripBookStorage.MANIFEST_FILE_NAME),
+                PartitionedTripBookStorage.getManifestFile(tripBookFile));
+        assertEquals(testFolder.resolve("trips.d").resolve(PartitionedTripBookStorage.MANIFEST_FILE_NAME),
+                PartitionedTripBookStorage.getManifestFile(testFolder.resolve("trips")));
+        assertEquals(PartitionedTripBookStorage.getManifestFile(tripBookFile), storage.getTripBookFilePath());
+    }
+
+    @Test
+    public void readTripBook_noFiles_emptyResult() throws Exception {
+        assertFalse(storage.readTripBook().isPresent());
+    }
+
+    @Test
+    public void saveTripBook_typicalTrips_oneFilePerMonth() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+
+        assertEquals(Arrays.asList("2024-06.json", "2024-07.json", "2024-08.json", "2024-09.json", "2024-10.json",
+                PartitionedTripBookStorage.MANIFEST_FILE_NAME), listPartitionFolder());
+        assertFalse(Files.exists(tripBookFile));
+    }
+
+    @Test
+    public void readAndSaveTripBook_tripsNotInMonthOrder_bookOrderKept() throws Exception {
+        TripBook original = getTypicalTripBook();
+        Trip lyon = new TripBuilder().withName("Lyon Day Trip").withDate("1/6/2024").build();
+        original.addTrip(lyon);
+
+        storage.saveTripBook(original);
+
+        // Read with a new storage, which has not seen what was saved
+        ReadOnlyTripBook readBack = new PartitionedTripBookStorage(tripBookFile, DataCompression.NONE)
+                .readTripBook().get();
+        assertEquals(Arrays.asList(PARIS, TOKYO, SINGAPORE, BALI, SEOUL, lyon), readBack.getTripList());
+    }
+
+    @Test
+    public void saveTripBook_oneTripEdited_onlyItsPartitionWritten() throws Exception {
+        TripBook tripBook = getTypicalTripBook();
+        storage.saveTripBook(tripBook);
+        resetModifiedTimes();
+
+        tripBook.setTrip(TOKYO, new TripBuilder(TOKYO).withNote("Bring a rail pass").build());
+        storage.saveTripBook(tripBook);
+
+        assertEquals(Arrays.asList("2024-07.json"), listModifiedFiles());
+        assertEquals(tripBook, storage.readTripBook().get());
+    }
+
+    @Test
+    public void saveTripBook_nothingChanged_nothingWritten() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        resetModifiedTimes();
+
+        storage.saveTripBook(getTypicalTripBook());
+
+        assertEquals(Arrays.asList(), listModifiedFiles());
+    }
+
+    @Test
+    public void saveTripBook_readBeforeSaving_onlyChangedPartitionWritten() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        resetModifiedTimes();
+        PartitionedTripBookStorage reopened = new PartitionedTripBookStorage(tripBookFile, DataCompression.NONE);
+        TripBook tripBook = new TripBook(reopened.readTripBook().get());
+
+        tripBook.removeTrip(BALI);
+        reopened.saveTripBook(tripBook);
+
+        assertFalse(Files.exists(partitionFolder.resolve("2024-09.json")));
+        assertEquals(Arrays.asList(PartitionedTripBookStorage.MANIFEST_FILE_NAME), listModifiedFiles());
+        assertEquals(tripBook, reopened.readTripBook().get());
+    }
+
+    @Test
+    public void saveTripBook_partitionFileDeleted_rewritten() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        Files.delete(partitionFolder.resolve("2024-10.json"));
+
+        storage.saveTripBook(getTypicalTripBook());
+
+        assertEquals(getTypicalTripBook(), storage.readTripBook().get());
+    }
+
+    @Test
+    public void readTripBook_partitionMissing_throwsDataLoadingException() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        Files.delete(partitionFolder.resolve("2024-08.json"));
+
+        assertThrows(DataLoadingException.class, () -> storage.readTripBook());
+    }
+
+    @Test
+    public void readTripBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        Files.write(storage.getTripBookFilePath(),
+                "{ \"months\": [ \"June\" ] }".getBytes());
+
+        assertThrows(DataLoadingException.class, () -> storage.readTripBook());
+    }
+
+    @Test
+    public void readTripBook_sequenceNumbersMissing_throwsDataLoadingException() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        Path partition = partitionFolder.resolve("2024-06.json");
+        Files.writeString(partition, Files.readString(partition).replaceFirst("\"sequence\" : \\[[^]]*]",
+                "\"sequence\" : [ ]"));
+
+        assertThrows(DataLoadingException.class, () -> storage.readTripBook());
+    }
+
+    @Test
+    public void readTripBook_sequenceNumberUsedTwice_throwsDataLoadingException() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        Path partition = partitionFolder.resolve("2024-06.json");
+        Files.writeString(partition, Files.readString(partition).replaceFirst("\"sequence\" : \\[[^]]*]",
+                "\"sequence\" : [ " + PartitionedTripBookStorage.SEQUENCE_GAP + " ]"));
+
+        assertThrows(DataLoadingException.class, () -> storage.readTripBook());
+    }
+
+    @Test
+    public void readTripBook_sequenceNumbersNotIncreasing_throwsDataLoadingException() throws Exception {
+        TripBook tripBook = getTypicalTripBook();
+        tripBook.addTrip(new TripBuilder().withName("Lyon Day Trip").withDate("1/6/2024").build());
+        storage.saveTripBook(tripBook);
+        Path partition = partitionFolder.resolve("2024-06.json");
+        Files.writeString(partition, Files.readString(partition).replaceFirst("\"sequence\" : \\[[^]]*]",
+                "\"sequence\" : [ 1, 0 ]"));
+
+        assertThrows(DataLoadingException.class, () -> storage.readTripBook());
+    }
+
+    @Test
+    public void saveTripBook_tripDeletedNearFront_onlyItsPartitionWritten() throws Exception {
+        TripBook tripBook = getTypicalTripBook();
+        Trip lyon = new TripBuilder().withName("Lyon Day Trip").withDate("1/6/2024").build();
+        tripBook.addTrip(lyon);
+        storage.saveTripBook(tripBook);
+        resetModifiedTimes();
+
+        tripBook.removeTrip(PARIS);
+        storage.saveTripBook(tripBook);
+
+        assertEquals(Arrays.asList("2024-06.json"), listModifiedFiles());
+        assertEquals(Arrays.asList(TOKYO, SINGAPORE, BALI, SEOUL, lyon),
+                new PartitionedTripBookStorage(tripBookFile, DataCompression.NONE).readTripBook().get()
+                        .getTripList());
+    }
+
+    @Test
+    public void saveTripBook_tripAddedToExistingMonth_onlyItsPartitionWritten() throws Exception {
+        TripBook tripBook = getTypicalTripBook();
+        storage.saveTripBook(tripBook);
+        resetModifiedTimes();
+
+        tripBook.addTrip(new TripBuilder().withName("Kyoto Temples").withDate("3/9/2024").build());
+        storage.saveTripBook(tripBook);
+
+        assertEquals(Arrays.asList("2024-09.json"), listModifiedFiles());
+    }
+
+    @Test
+    public void saveTripBook_tripsInsertedRepeatedlyAtSamePlace_bookOrderKept() throws Exception {
+        List<Trip> trips = new ArrayList<>(getTypicalTripBook().getTripList());
+        TripBook tripBook = new TripBook();
+        // Each insertion halves the room between the first trip and the one after it, until it runs out
+        for (int i = 0; i < 24; i++) {
+            trips.add(1, new TripBuilder().withName("Inserted Trip " + (char) ('a' + i)).withDate("1/6/2024").build());
+            tripBook.setTrips(trips);
+            storage.saveTripBook(tripBook);
+        }
+
+        assertEquals(trips, new PartitionedTripBookStorage(tripBookFile, DataCompression.NONE).readTripBook().get()
+                .getTripList());
+    }
+
+    @Test
+    public void readTripsSince_tripsNotInMonthOrder_recentTripsInBookOrder() throws Exception {
+        TripBook tripBook = getTypicalTripBook();
+        Trip kyoto = new TripBuilder().withName("Kyoto Temples").withDate("3/9/2024").build();
+        tripBook.addTrip(kyoto);
+        storage.saveTripBook(tripBook);
+        Files.delete(partitionFolder.resolve("2024-06.json"));
+
+        // Read with a new storage, which has not seen what was saved, and without the partitions before September
+        assertEquals(Arrays.asList(BALI, SEOUL, kyoto),
+                new PartitionedTripBookStorage(tripBookFile, DataCompression.NONE)
+                        .readTripsSince(YearMonth.of(2024, 9)).get().getTripList());
+        assertEquals(Arrays.asList(), storage.readTripsSince(YearMonth.of(2025, 1)).get().getTripList());
+    }
+
+    @Test
+    public void readTripsSince_notPartitionedYet_emptyResult() throws Exception {
+        new JsonTripBookStorage(tripBookFile).saveTripBook(getTypicalTripBook());
+
+        assertFalse(storage.readTripsSince(YearMonth.of(2024, 6)).isPresent());
+    }
+
+    @Test
+    public void readTripBook_onlySingleFile_readsSingleFileThenDeletesIt() throws Exception {
+        new JsonTripBookStorage(tripBookFile).saveTripBook(getTypicalTripBook());
+
+        assertEquals(getTypicalTripBook(), storage.readTripBook().get());
+        assertTrue(Files.exists(tripBookFile));
+
+        storage.saveTripBook(getTypicalTripBook());
+        assertTrue(Files.exists(storage.getTripBookFilePath()));
+        assertFalse(Files.exists(tripBookFile));
+        assertEquals(getTypicalTripBook(), storage.readTripBook().get());
+    }
+
+    @Test
+    public void saveTripBook_compressed_partitionsCompressed() throws Exception {
+        PartitionedTripBookStorage compressed = new PartitionedTripBookStorage(tripBookFile, 6);
+
+        compressed.saveTripBook(getTypicalTripBook());
+
+        assertEquals(0x1f, Files.readAllBytes(partitionFolder.resolve("2024-06.json"))[0]);
+        assertEquals(getTypicalTripBook(), storage.readTripBook().get());
+    }
+
+    private List<String> listPartitionFolder() throws Exception {
+        try (Stream<Path> files = Files.list(partitionFolder)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private void resetModifiedTimes() throws Exception {
+        for (String fileName : listPartitionFolder()) {
+            Files.setLastModifiedTime(partitionFolder.resolve(fileName), UNMODIFIED);
+        }
+    }
+
+    private List<String> listModifiedFiles() throws Exception {
+        List<String> modifiedFiles = new ArrayList<>();
+        for (String fileName : listPartitionFolder()) {
+            if (!Files.getLastModifiedTime(partitionFolder.resolve(fileName)).equals(UNMODIFIED)) {
+                modifiedFiles.add(fileName);
+            }
+        }
+        return modifiedFiles;
+    }
+}
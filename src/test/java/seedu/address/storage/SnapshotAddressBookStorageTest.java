@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SnapshotAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path snapshotFile;
+    private int jsonReadCount;
+    private SnapshotAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        snapshotFile = testFolder.resolve("addressbook.json" + BinarySnapshot.FILE_SUFFIX);
+        storage = new SnapshotAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+                jsonReadCount++;
+                return super.readAddressBook(filePath);
+            }
+        });
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SnapshotAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_afterSave_readFromSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertTrue(Files.exists(filePath));
+        assertTrue(Files.exists(snapshotFile));
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(0, jsonReadCount);
+    }
+
+    @Test
+    public void readAddressBook_fileChangedAfterSnapshot_fileReadAndSnapshotRebuilt() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook edited = new AddressBookBuilder().withPerson(ALICE).build();
+        new JsonAddressBookStorage(filePath).saveAddressBook(edited);
+
+        assertEquals(edited, storage.readAddressBook().get());
+        assertEquals(1, jsonReadCount);
+
+        // the rebuilt snapshot is read next time
+        assertEquals(edited, storage.readAddressBook().get());
+        assertEquals(1, jsonReadCount);
+    }
+
+    @Test
+    public void saveAddressBook_sameSizeSavedWithinTimestampResolution_snapshotRebuilt() throws Exception {
+        storage.saveAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+        FileTime firstSaveTime = Files.getLastModifiedTime(filePath);
+        long firstSaveSize = Files.size(filePath);
+        AddressBook edited = new AddressBookBuilder()
+                .withPerson(new PersonBuilder(ALICE).withPhone("98765432").build()).build();
+
+        storage.saveAddressBook(edited);
+        // as if both saves fell in the same tick of the file system's clock
+        Files.setLastModifiedTime(filePath, firstSaveTime);
+
+        assertEquals(firstSaveSize, Files.size(filePath));
+        assertEquals(edited, storage.readAddressBook().get());
+        assertEquals(0, jsonReadCount);
+    }
+
+    @Test
+    public void readAddressBook_damagedSnapshot_fileRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(snapshotFile);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshotFile, bytes);
+
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(1, jsonReadCount);
+    }
+
+    @Test
+    public void readAddressBook_invalidValueInSnapshot_fileRead() throws Exception {
+        AddressBook original = new AddressBookBuilder().withPerson(ALICE).build();
+        storage.saveAddressBook(original);
+        BinarySnapshot.Writer writer = new BinarySnapshot.Writer(BinarySnapshot.KIND_ADDRESS_BOOK);
+        for (String field : new String[] {"Alice Pauline", "94351253", "not an email", "Jurong", ""}) {
+            writer.writeString(field);
+        }
+        writer.writeInt(0);
+        writer.endRecord();
+        writer.save(filePath);
+
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(1, jsonReadCount);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    public void readAddressBook_snapshotOfOtherBook_fileRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        new BinarySnapshot.Writer(BinarySnapshot.KIND_TRIP_BOOK).save(filePath);
+
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(1, jsonReadCount);
+    }
+}
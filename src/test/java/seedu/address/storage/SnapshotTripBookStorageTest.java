@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalTrips.PARIS;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyTripBook;
+import seedu.address.model.TripBook;
+import seedu.address.model.trip.Trip;
+import seedu.address.testutil.TripBookBuilder;
+import seedu.address.testutil.TripBuilder;
+
+public class SnapshotTripBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private int jsonReadCount;
+    private SnapshotTripBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tripbook.json");
+        storage = new SnapshotTripBookStorage(new JsonTripBookStorage(filePath) {
+            @Override
+            public Optional<ReadOnlyTripBook> readTripBook(Path filePath) throws DataLoadingException {
+                jsonReadCount++;
+                return super.readTripBook(filePath);
+            }
+        });
+    }
+
+    @Test
+    public void readTripBook_afterSave_readFromSnapshotWithSharedValues() throws Exception {
+        Trip parisAgain = new TripBuilder(PARIS).withName("Paris Again").build();
+        TripBook original = new TripBookBuilder().withTrip(PARIS).withTrip(parisAgain).build();
+        storage.saveTripBook(original);
+
+        ReadOnlyTripBook read = storage.readTripBook().get();
+
+        assertEquals(original, read);
+        assertEquals(0, jsonReadCount);
+        assertSame(read.getTripList().get(0).getAccommodation(), read.getTripList().get(1).getAccommodation());
+    }
+
+    @Test
+    public void readTripBook_fileChangedAfterSnapshot_fileRead() throws Exception {
+        storage.saveTripBook(getTypicalTripBook());
+        TripBook edited = new TripBookBuilder().withTrip(PARIS).build();
+        new JsonTripBookStorage(filePath).saveTripBook(edited);
+
+        assertEquals(edited, storage.readTripBook().get());
+        assertEquals(1, jsonReadCount);
+    }
+
+    @Test
+    public void readTripBook_sameSizeFileWithSameTimestamp_fileRead() throws Exception {
+        storage.saveTripBook(new TripBookBuilder().withTrip(PARIS).build());
+        FileTime snapshotTime = Files.getLastModifiedTime(filePath);
+        TripBook edited = new TripBookBuilder()
+                .withTrip(new TripBuilder(PARIS).withName("Paris Adventurf").build()).build();
+        new JsonTripBookStorage(filePath).saveTripBook(edited);
+        Files.setLastModifiedTime(filePath, snapshotTime);
+
+        assertEquals(edited, storage.readTripBook().get());
+        assertEquals(1, jsonReadCount);
+    }
+
+    @Test
+    public void readTripBook_snapshotOfOtherBook_fileRead() throws Exception {
+        TripBook original = getTypicalTripBook();
+        storage.saveTripBook(original);
+        new BinarySnapshot.Writer(BinarySnapshot.KIND_ADDRESS_BOOK).save(filePath);
+
+        assertEquals(original, storage.readTripBook().get());
+        assertEquals(1, jsonReadCount);
+    }
+}
@@ -1,15 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -66,4 +71,76 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void create_binarySnapshotEnabled_snapshotsKept() throws Exception {
+        Config config = new Config();
+        config.setBinarySnapshotEnabled(true);
+        StorageManager storage = create(config);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveTripBook(getTypicalTripBook());
+
+        assertTrue(Files.exists(getTempFilePath("ab.json" + BinarySnapshot.FILE_SUFFIX)));
+        assertTrue(Files.exists(getTempFilePath("trips.json" + BinarySnapshot.FILE_SUFFIX)));
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void create_defaultConfig_onlyJsonFiles() throws Exception {
+        StorageManager storage = create(new Config());
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(getTempFilePath("ab.json"), storage.getAddressBookFilePath());
+        assertFalse(Files.exists(getTempFilePath("ab.json" + BinarySnapshot.FILE_SUFFIX)));
+    }
+
+    @Test
+    public void create_dataCompressionLevel_filesCompressed() throws Exception {
+        Config config = new Config();
+        config.setDataCompressionLevel(9);
+        StorageManager storage = create(config);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveTripBook(getTypicalTripBook());
+
+        assertEquals(0x1f, Files.readAllBytes(getTempFilePath("ab.json"))[0]);
+        assertEquals(0x1f, Files.readAllBytes(getTempFilePath("trips.json"))[0]);
+        assertEquals(getTypicalAddressBook(), create(new Config()).readAddressBook().get());
+        assertEquals(getTypicalTripBook(), create(new Config()).readTripBook().get());
+    }
+
+    @Test
+    public void create_invalidDataCompressionLevel_plainJson() throws Exception {
+        Config config = new Config();
+        config.setDataCompressionLevel(42);
+        StorageManager storage = create(config);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals('{', Files.readAllBytes(getTempFilePath("ab.json"))[0]);
+    }
+
+    @Test
+    public void create_tripPartitioningEnabled_tripsPartitioned() throws Exception {
+        Config config = new Config();
+        config.setTripPartitioningEnabled(true);
+        config.setBinarySnapshotEnabled(true);
+        StorageManager storage = create(config);
+
+        storage.saveTripBook(getTypicalTripBook());
+
+        assertEquals(getTempFilePath("trips").resolve(PartitionedTripBookStorage.MANIFEST_FILE_NAME),
+                storage.getTripBookFilePath());
+        assertFalse(Files.exists(getTempFilePath("trips.json")));
+        assertEquals(getTypicalTripBook(), create(config).readTripBook().get());
+    }
+
+    private StorageManager create(Config config) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getTempFilePath("ab.json"));
+        userPrefs.setTripBookFilePath(getTempFilePath("trips.json"));
+        return StorageManager.create(config, new JsonUserPrefsStorage(getTempFilePath("prefs")), userPrefs);
+    }
+
 }
@@ -0,0 +1,199 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTrips.getTypicalTripBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.contact.Contact;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTripBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandPipelineTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    /** Stands in for the JavaFX application thread: tasks only run when the test runs them. */
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private ModelManager model;
+    private CommandPipeline commandPipeline;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonTripBookStorage(temporaryFolder.resolve("tripBook.json")));
+        model = new ModelManager(getTypicalAddressBook(), getTypicalTripBook(), new UserPrefs());
+        commandPipeline = new CommandPipeline(new LogicManager(model, storage, new CommandMetrics()), uiTasks::add);
+    }
+
+    @Test
+    public void constructor_listsMatchModel() {
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getFilteredPersonList());
+        assertEquals(model.getFilteredTripList(), commandPipeline.getFilteredTripList());
+        assertFalse(commandPipeline.isBusy());
+    }
+
+    @Test
+    public void submit_validCommand_resultAndListsDeliveredOnUiThread() throws Exception {
+        int personCount = model.getFilteredPersonList().size();
+        CompletableFuture<CommandResult> result = commandPipeline.submit("deleteContact 1");
+        assertTrue(commandPipeline.isBusy());
+
+        Runnable uiTask = uiTasks.poll(5, TimeUnit.SECONDS);
+        // the command has run, but the UI does not see it until the task runs on the UI thread
+        assertFalse(result.isDone());
+        assertEquals(personCount, commandPipeline.getFilteredPersonList().size());
+
+        uiTask.run();
+        assertTrue(result.isDone());
+        assertTrue(result.get().getFeedbackToUser().startsWith("Deleted Contact"));
+        assertEquals(personCount - 1, commandPipeline.getFilteredPersonList().size());
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getFilteredPersonList());
+        assertFalse(commandPipeline.isBusy());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = commandPipeline.submit("unknownCommand");
+        uiTasks.poll(5, TimeUnit.SECONDS).run();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertTrue(thrown.getCause() instanceof ParseException);
+        assertFalse(commandPipeline.isBusy());
+    }
+
+    @Test
+    public void submit_severalCommands_runInOrderAndPublishedTogether() throws Exception {
+        CompletableFuture<CommandResult> find = commandPipeline.submit("find alice");
+        CompletableFuture<CommandResult> invalid = commandPipeline.submit("deleteTrip 99");
+        CompletableFuture<CommandResult> listTrip = commandPipeline.submit("listTrip");
+        commandPipeline.shutdown();
+
+        // all three results, and the list changes they made, arrive in one task
+        assertEquals(1, uiTasks.size());
+        uiTasks.poll().run();
+        assertEquals(List.of(true, true, true), List.of(find.isDone(), invalid.isDone(), listTrip.isDone()));
+        assertFalse(find.isCompletedExceptionally());
+        assertTrue(invalid.isCompletedExceptionally());
+        assertFalse(listTrip.isCompletedExceptionally());
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getFilteredPersonList());
+        assertTrue(commandPipeline.getFilteredPersonList().size() < getTypicalAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void submit_severalEdits_onlyChangedContactsReplacedInOneChange() throws Exception {
+        List<String> changes = new ArrayList<>();
+        commandPipeline.getFilteredPersonList().addListener((ListChangeListener<Contact>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ": -" + change.getRemovedSize() + " +" + change.getAddedSize());
+            }
+            changes.add("end");
+        });
+        commandPipeline.submit("editContact 2 p/91234567");
+        commandPipeline.submit("deleteContact 4");
+        commandPipeline.shutdown();
+
+        uiTasks.poll().run();
+        assertEquals(List.of("1: -1 +1", "3: -1 +0", "end"), changes);
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getFilteredPersonList());
+    }
+
+    @Test
+    public void submit_filterAndDelete_listsMatchModel() throws Exception {
+        commandPipeline.submit("find alice benson");
+        commandPipeline.submit("listContact");
+        commandPipeline.submit("deleteContact 1");
+        commandPipeline.submit("listTrip 1/1/2030");
+        commandPipeline.shutdown();
+
+        uiTasks.poll().run();
+        assertEquals(model.getFilteredPersonList(), commandPipeline.getFilteredPersonList());
+        assertEquals(model.getFilteredTripList(), commandPipeline.getFilteredTripList());
+    }
+
+    @Test
+    public void submitTask_commandSubmittedLater_runsAfterTask() throws Exception {
+        model.setAddressBook(new AddressBook());
+        CompletableFuture<Void> load = commandPipeline.submitTask("load", () ->
+                model.setAddressBook(getTypicalAddressBook()));
+        CompletableFuture<CommandResult> delete = commandPipeline.submit("deleteContact 1");
+        commandPipeline.shutdown();
+
+        uiTasks.poll().run();
+        assertTrue(load.isDone());
+        assertFalse(delete.isCompletedExceptionally());
+        assertEquals(getTypicalAddressBook().getPersonList().size() - 1,
+                commandPipeline.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void submitTask_taskThrows_completesExceptionally() throws Exception {
+        CompletableFuture<Void> task = commandPipeline.submitTask("failing", () -> {
+            throw new IllegalStateException("failed");
+        });
+        uiTasks.poll(5, TimeUnit.SECONDS).run();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, task::get);
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+        assertFalse(commandPipeline.isBusy());
+    }
+
+    @Test
+    public void submitTask_taskFailsAssertion_completesExceptionally() throws Exception {
+        CompletableFuture<Void> task = commandPipeline.submitTask("failing", () -> {
+            throw new AssertionError();
+        });
+        CompletableFuture<CommandResult> list = commandPipeline.submit("listContact");
+        commandPipeline.shutdown();
+        uiTasks.poll().run();
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, task::get);
+        assertTrue(thrown.getCause() instanceof AssertionError);
+        assertFalse(list.isCompletedExceptionally());
+        assertFalse(commandPipeline.isBusy());
+    }
+
+    @Test
+    public void submit_afterShutdown_rejected() {
+        commandPipeline.shutdown();
+        CompletableFuture<CommandResult> result = commandPipeline.submit("listContact");
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertTrue(thrown.getCause() instanceof RejectedExecutionException);
+        assertFalse(commandPipeline.isBusy());
+    }
+
+    @Test
+    public void getFilteredPersonList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> commandPipeline.getFilteredPersonList().remove(0));
+    }
+}
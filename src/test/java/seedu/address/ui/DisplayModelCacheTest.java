@@ -0,0 +1,63 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DisplayModelCacheTest {
+
+    private final List<String> computed = new ArrayList<>();
+    private final DisplayModelCache<String, StringBuilder> cache = new DisplayModelCache<>(2, entity -> {
+        computed.add(entity);
+        return new StringBuilder(entity);
+    });
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new DisplayModelCache<String, String>(0, s -> s));
+    }
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+    }
+
+    @Test
+    public void get_sameEntity_computedOnce() {
+        String entity = "alice";
+        StringBuilder model = cache.get(entity);
+        assertSame(model, cache.get(entity));
+        assertEquals(List.of("alice"), computed);
+    }
+
+    @Test
+    public void get_equalButDifferentEntity_computedAgain() {
+        String entity = "alice";
+        String editedEntity = new String(entity);
+        assertNotSame(cache.get(entity), cache.get(editedEntity));
+        assertEquals(List.of("alice", "alice"), computed);
+    }
+
+    @Test
+    public void get_overCapacity_evictsLeastRecentlyUsed() {
+        String alice = "alice";
+        String bob = "bob";
+        String carl = "carl";
+        cache.get(alice);
+        cache.get(bob);
+        cache.get(alice);
+        cache.get(carl);
+        assertEquals(2, cache.size());
+
+        // bob was evicted, alice was not
+        cache.get(alice);
+        cache.get(bob);
+        assertEquals(List.of("alice", "bob", "carl", "bob"), computed);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.contact.Contact;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonDisplayModelTest {
+
+    @Test
+    public void of_contact_formatsEveryField() {
+        Contact contact = new PersonBuilder().withName("Alice Pauline")
+                .withPhone("94351253")
+                .withEmail("alice@example.com")
+                .withAddress("123, Jurong West Ave 6, #08-111")
+                .withNote("Likes the sea")
+                .withTags("service", "customer")
+                .build();
+        PersonDisplayModel displayModel = PersonDisplayModel.of(contact);
+
+        assertEquals("Alice Pauline", displayModel.getName());
+        assertEquals("94351253", displayModel.getPhone());
+        assertEquals("alice@example.com", displayModel.getEmail());
+        assertEquals("123, Jurong West Ave 6, #08-111", displayModel.getAddress());
+        assertEquals("Likes the sea", displayModel.getNote());
+        // sorted by name
+        assertEquals(List.of(new Tag("customer"), new Tag("service")), displayModel.getTags());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.trip.Trip;
+import seedu.address.testutil.TripBuilder;
+
+public class TripDisplayModelTest {
+
+    @Test
+    public void of_trip_formatsEveryField() {
+        Trip trip = new TripBuilder().withName("Paris 2025")
+                .withAccommodation("Hotel 81")
+                .withItinerary("Eat baguettes")
+                .withDate("1/1/2100")
+                .withCustomerNames("john Doe", "Alice Pauline", "Bob Choo")
+                .withNote("Window seat")
+                .build();
+        TripDisplayModel displayModel = TripDisplayModel.of(trip);
+
+        assertEquals("Paris 2025", displayModel.getName());
+        assertEquals("(1/1/2100)", displayModel.getDate());
+        assertEquals("Itinerary: Eat baguettes", displayModel.getItinerary());
+        assertEquals("Accomodation: Hotel 81", displayModel.getAccommodation());
+        assertEquals("Note: Window seat", displayModel.getNote());
+        // sorted ignoring case
+        assertEquals("Customers: Alice Pauline, Bob Choo, john Doe", displayModel.getCustomerNames());
+    }
+
+    @Test
+    public void of_noCustomers_emptyCustomerNames() {
+        Trip trip = new TripBuilder().withCustomerNames().build();
+        assertEquals("Customers: ", TripDisplayModel.of(trip).getCustomerNames());
+    }
+}